@@ -1,12 +1,9 @@
 package com.yunbok.houseping.controller.web;
 
-import com.yunbok.houseping.infrastructure.api.ApplyhomeApiClient;
-import com.yunbok.houseping.core.domain.SubscriptionSource;
-import com.yunbok.houseping.entity.SubscriptionEntity;
-import com.yunbok.houseping.repository.SubscriptionPriceRepository;
-import com.yunbok.houseping.repository.SubscriptionRepository;
 import com.yunbok.houseping.core.service.realtransaction.RealTransactionCollectionService;
-import com.yunbok.houseping.support.util.ApiRateLimiter;
+import com.yunbok.houseping.core.service.subscription.PriceBadgeRefreshService;
+import com.yunbok.houseping.core.service.subscription.PriceCollectionService;
+import com.yunbok.houseping.support.dto.PriceCollectionResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
@@ -15,8 +12,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.time.LocalDate;
-import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 데이터 수집 컨트롤러 (MASTER 전용)
@@ -29,9 +24,8 @@ public class AdminDataCollectionController {
 
     private static final LocalDate PRICE_COLLECTION_START_DATE = LocalDate.of(2025, 1, 1);
 
-    private final SubscriptionRepository subscriptionRepository;
-    private final SubscriptionPriceRepository subscriptionPriceRepository;
-    private final ApplyhomeApiClient applyhomeApiAdapter;
+    private final PriceCollectionService priceCollectionService;
+    private final PriceBadgeRefreshService priceBadgeRefreshService;
     private final RealTransactionCollectionService realTransactionCollectionService;
 
     /**
@@ -42,10 +36,8 @@ public class AdminDataCollectionController {
         try {
             log.info("[데이터 수집] 분양가 데이터 수집 시작");
 
-            List<SubscriptionEntity> subscriptions = findPriceCollectionTargets();
-            log.info("[데이터 수집] 분양가 수집 대상: {}건", subscriptions.size());
-
-            CollectionResult result = collectPriceDetails(subscriptions);
+            PriceCollectionResult result = priceCollectionService.collectMissing(PRICE_COLLECTION_START_DATE);
+            priceBadgeRefreshService.refreshByHouseManageNos(result.collectedHouseManageNos());
 
             String message = String.format("분양가 수집 완료 - 성공: %d건, 실패: %d건",
                     result.successCount(), result.failCount());
@@ -74,37 +66,4 @@ public class AdminDataCollectionController {
         }
         return "redirect:/admin/system";
     }
-
-    private List<SubscriptionEntity> findPriceCollectionTargets() {
-        return subscriptionRepository.findAll().stream()
-                .filter(s -> SubscriptionSource.APPLYHOME.matches(s.getSource()))
-                .filter(s -> s.getHouseManageNo() != null && !s.getHouseManageNo().isEmpty())
-                .filter(s -> s.getReceiptStartDate() != null && !s.getReceiptStartDate().isBefore(PRICE_COLLECTION_START_DATE))
-                .filter(s -> !subscriptionPriceRepository.existsByHouseManageNo(s.getHouseManageNo()))
-                .toList();
-    }
-
-    private CollectionResult collectPriceDetails(List<SubscriptionEntity> subscriptions) {
-        AtomicInteger successCount = new AtomicInteger(0);
-        AtomicInteger failCount = new AtomicInteger(0);
-
-        for (SubscriptionEntity subscription : subscriptions) {
-            try {
-                applyhomeApiAdapter.fetchAndSavePriceDetails(
-                        subscription.getHouseManageNo(),
-                        subscription.getPblancNo(),
-                        subscription.getHouseType()
-                );
-                successCount.incrementAndGet();
-                ApiRateLimiter.delay(100);
-            } catch (Exception e) {
-                failCount.incrementAndGet();
-                log.warn("[분양가] {} 수집 실패: {}", subscription.getHouseName(), e.getMessage());
-            }
-        }
-
-        return new CollectionResult(successCount.get(), failCount.get());
-    }
-
-    private record CollectionResult(int successCount, int failCount) {}
 }
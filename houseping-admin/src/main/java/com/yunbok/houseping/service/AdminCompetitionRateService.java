@@ -1,5 +1,7 @@
 package com.yunbok.houseping.service;
 
+import com.yunbok.houseping.core.domain.PublicDataChangedEvent;
+import com.yunbok.houseping.core.service.competition.CompetitionRateRollupService;
 import com.yunbok.houseping.service.dto.AdminCompetitionRateDto;
 import com.yunbok.houseping.service.dto.AdminCompetitionRateSearchCriteria;
 import com.yunbok.houseping.support.util.AreaNormalizer;
@@ -10,6 +12,7 @@ import com.yunbok.houseping.entity.SubscriptionEntity;
 import com.yunbok.houseping.repository.SubscriptionRepository;
 import com.querydsl.core.BooleanBuilder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -25,6 +28,8 @@ public class AdminCompetitionRateService {
 
     private final CompetitionRateRepository competitionRateRepository;
     private final SubscriptionRepository subscriptionRepository;
+    private final CompetitionRateRollupService rollupService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final QCompetitionRateEntity competitionRate = QCompetitionRateEntity.competitionRateEntity;
 
@@ -109,5 +114,7 @@ public class AdminCompetitionRateService {
 
     public void deleteAll() {
         competitionRateRepository.deleteAll();
+        rollupService.reset();
+        eventPublisher.publishEvent(PublicDataChangedEvent.all(PublicDataChangedEvent.Kind.COMPETITION_RATE));
     }
 }
@@ -1,5 +1,7 @@
 package com.yunbok.houseping.service;
 
+import com.yunbok.houseping.core.domain.PublicDataChangedEvent;
+import com.yunbok.houseping.core.service.competition.CompetitionRateRollupService;
 import com.yunbok.houseping.service.dto.AdminCompetitionRateDto;
 import com.yunbok.houseping.service.dto.AdminCompetitionRateSearchCriteria;
 import com.yunbok.houseping.entity.CompetitionRateEntity;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -37,11 +40,17 @@ class AdminCompetitionRateServiceTest {
     @Mock
     private SubscriptionRepository subscriptionRepository;
 
+    @Mock
+    private CompetitionRateRollupService rollupService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private AdminCompetitionRateService service;
 
     @BeforeEach
     void setUp() {
-        service = new AdminCompetitionRateService(competitionRateRepository, subscriptionRepository);
+        service = new AdminCompetitionRateService(competitionRateRepository, subscriptionRepository, rollupService, eventPublisher);
     }
 
     @Nested
@@ -278,6 +287,8 @@ class AdminCompetitionRateServiceTest {
 
             // then
             verify(competitionRateRepository).deleteAll();
+            verify(rollupService).reset();
+            verify(eventPublisher).publishEvent(any(PublicDataChangedEvent.class));
         }
     }
 
@@ -1,9 +1,10 @@
 package com.yunbok.houseping.service;
 
+import com.yunbok.houseping.core.domain.CompetitionRate;
+import com.yunbok.houseping.core.domain.Subscription;
+import com.yunbok.houseping.core.service.competition.CompetitionRateRollupBuilder;
+import com.yunbok.houseping.core.service.competition.CompetitionRateRollupService;
 import com.yunbok.houseping.service.dto.DashboardStatisticsDto;
-import com.yunbok.houseping.entity.CompetitionRateEntity;
-import com.yunbok.houseping.repository.CompetitionRateRepository;
-import com.yunbok.houseping.entity.SubscriptionEntity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,8 +15,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
@@ -25,13 +29,13 @@ import static org.mockito.Mockito.when;
 class DashboardServiceTest {
 
     @Mock
-    private CompetitionRateRepository competitionRateRepository;
+    private CompetitionRateRollupService rollupService;
 
     private DashboardService service;
 
     @BeforeEach
     void setUp() {
-        service = new DashboardService(competitionRateRepository);
+        service = new DashboardService(rollupService);
     }
 
     @Nested
@@ -42,7 +46,7 @@ class DashboardServiceTest {
         @DisplayName("경쟁률 데이터가 없으면 빈 통계를 반환한다")
         void returnsEmptyStatisticsWhenNoData() {
             // given
-            when(competitionRateRepository.findAll()).thenReturn(List.of());
+            when(rollupService.cells()).thenReturn(List.of());
 
             // when
             DashboardStatisticsDto result = service.getStatistics();
@@ -61,21 +65,25 @@ class DashboardServiceTest {
         @DisplayName("경쟁률 데이터가 있으면 통계를 계산하여 반환한다")
         void returnsCalculatedStatistics() {
             // given
-            SubscriptionEntity sub1 = createSubscriptionEntity("H001", "서울", 2025);
-            SubscriptionEntity sub2 = createSubscriptionEntity("H002", "경기", 2025);
+            Subscription sub1 = createSubscription("H001", "서울", 2025);
+            Subscription sub2 = createSubscription("H002", "경기", 2025);
 
-            List<CompetitionRateEntity> rates = List.of(
-                    createRateEntity("H001", "084.9543T", "해당지역", new BigDecimal("15.5"), 100, sub1),
-                    createRateEntity("H001", "084.9543T", "기타지역", new BigDecimal("25.0"), 80, sub1),
-                    createRateEntity("H002", "059.9721A", "해당지역", new BigDecimal("8.0"), 50, sub2)
+            List<CompetitionRate> rates = List.of(
+                    createRate("H001", "084.9543T", "해당지역", new BigDecimal("15.5"), 100),
+                    createRate("H001", "084.9543T", "기타지역", new BigDecimal("25.0"), 80),
+                    createRate("H002", "059.9721A", "해당지역", new BigDecimal("8.0"), 50)
             );
-            when(competitionRateRepository.findAll()).thenReturn(rates);
+            givenRollup(rates, sub1, sub2);
 
             // when
             DashboardStatisticsDto result = service.getStatistics();
 
             // then
             assertThat(result.summary().totalCount()).isEqualTo(3);
+            assertThat(result.summary().areaCount()).isEqualTo(2);
+            assertThat(result.summary().maxRate()).isEqualByComparingTo("25.0");
+            assertThat(result.areaYearlyTrend().years()).containsExactly(2025);
+            assertThat(result.areaYearlyTrend().data()).hasSize(2);
             assertThat(result.byResidenceArea()).isNotEmpty();
         }
 
@@ -83,14 +91,14 @@ class DashboardServiceTest {
         @DisplayName("소규모 세대(20세대 미만)는 유효하지 않은 데이터로 처리한다")
         void excludesSmallSupplyFromValidRates() {
             // given
-            SubscriptionEntity sub1 = createSubscriptionEntity("H001", "서울", 2025);
-            SubscriptionEntity sub2 = createSubscriptionEntity("H002", "서울", 2025);
+            Subscription sub1 = createSubscription("H001", "서울", 2025);
+            Subscription sub2 = createSubscription("H002", "서울", 2025);
 
-            List<CompetitionRateEntity> rates = List.of(
-                    createRateEntity("H001", "084.9543T", "해당지역", new BigDecimal("100.0"), 10, sub1), // 10세대 - 제외
-                    createRateEntity("H002", "084.9543T", "해당지역", new BigDecimal("15.0"), 50, sub2)  // 50세대 - 포함
+            List<CompetitionRate> rates = List.of(
+                    createRate("H001", "084.9543T", "해당지역", new BigDecimal("100.0"), 10), // 10세대 - 제외
+                    createRate("H002", "084.9543T", "해당지역", new BigDecimal("15.0"), 50)  // 50세대 - 포함
             );
-            when(competitionRateRepository.findAll()).thenReturn(rates);
+            givenRollup(rates, sub1, sub2);
 
             // when
             DashboardStatisticsDto result = service.getStatistics();
@@ -98,22 +106,23 @@ class DashboardServiceTest {
             // then
             // Summary의 avgRate는 유효한 데이터(50세대)만 포함
             assertThat(result.summary().totalCount()).isEqualTo(2); // 전체 개수
+            assertThat(result.summary().avgRate()).isEqualByComparingTo("15.00");
         }
 
         @Test
         @DisplayName("경쟁률이 0 이하인 데이터는 제외한다")
         void excludesZeroOrNegativeRates() {
             // given
-            SubscriptionEntity sub1 = createSubscriptionEntity("H001", "서울", 2025);
-            SubscriptionEntity sub2 = createSubscriptionEntity("H002", "서울", 2025);
-            SubscriptionEntity sub3 = createSubscriptionEntity("H003", "서울", 2025);
-
-            List<CompetitionRateEntity> rates = List.of(
-                    createRateEntity("H001", "084.9543T", "해당지역", BigDecimal.ZERO, 50, sub1),
-                    createRateEntity("H002", "084.9543T", "해당지역", new BigDecimal("-1.0"), 50, sub2),
-                    createRateEntity("H003", "084.9543T", "해당지역", new BigDecimal("10.0"), 50, sub3)
+            Subscription sub1 = createSubscription("H001", "서울", 2025);
+            Subscription sub2 = createSubscription("H002", "서울", 2025);
+            Subscription sub3 = createSubscription("H003", "서울", 2025);
+
+            List<CompetitionRate> rates = List.of(
+                    createRate("H001", "084.9543T", "해당지역", BigDecimal.ZERO, 50),
+                    createRate("H002", "084.9543T", "해당지역", new BigDecimal("-1.0"), 50),
+                    createRate("H003", "084.9543T", "해당지역", new BigDecimal("10.0"), 50)
             );
-            when(competitionRateRepository.findAll()).thenReturn(rates);
+            givenRollup(rates, sub1, sub2, sub3);
 
             // when
             DashboardStatisticsDto result = service.getStatistics();
@@ -126,12 +135,12 @@ class DashboardServiceTest {
         @DisplayName("거주지역별 통계를 계산한다")
         void calculatesResidenceAreaStats() {
             // given
-            List<CompetitionRateEntity> rates = List.of(
-                    createRateEntity("H001", "084T", "해당지역", new BigDecimal("10.0"), 50, null),
-                    createRateEntity("H001", "084T", "해당지역", new BigDecimal("20.0"), 50, null),
-                    createRateEntity("H002", "084T", "기타지역", new BigDecimal("5.0"), 50, null)
+            List<CompetitionRate> rates = List.of(
+                    createRate("H001", "084T", "해당지역", new BigDecimal("10.0"), 50),
+                    createRate("H001", "084T", "해당지역", new BigDecimal("20.0"), 50),
+                    createRate("H002", "084T", "기타지역", new BigDecimal("5.0"), 50)
             );
-            when(competitionRateRepository.findAll()).thenReturn(rates);
+            givenRollup(rates);
 
             // when
             DashboardStatisticsDto result = service.getStatistics();
@@ -144,14 +153,14 @@ class DashboardServiceTest {
         @DisplayName("주택형별 통계를 계산한다 (100개 이상인 경우만 포함)")
         void calculatesHouseTypeStats() {
             // given - 100개 이상이어야 byHouseType에 포함됨
-            List<CompetitionRateEntity> rates = new java.util.ArrayList<>();
+            List<CompetitionRate> rates = new java.util.ArrayList<>();
             for (int i = 0; i < 100; i++) {
-                rates.add(createRateEntity("H" + i, "084.9543T", "해당지역", new BigDecimal("10.0"), 50, null));
+                rates.add(createRate("H" + i, "084.9543T", "해당지역", new BigDecimal("10.0"), 50));
             }
             for (int i = 100; i < 200; i++) {
-                rates.add(createRateEntity("H" + i, "059.9721A", "해당지역", new BigDecimal("20.0"), 50, null));
+                rates.add(createRate("H" + i, "059.9721A", "해당지역", new BigDecimal("20.0"), 50));
             }
-            when(competitionRateRepository.findAll()).thenReturn(rates);
+            givenRollup(rates);
 
             // when
             DashboardStatisticsDto result = service.getStatistics();
@@ -164,14 +173,14 @@ class DashboardServiceTest {
         @DisplayName("경쟁률 분포를 계산한다")
         void calculatesRateDistribution() {
             // given
-            List<CompetitionRateEntity> rates = List.of(
-                    createRateEntity("H001", "084T", "해당지역", new BigDecimal("3.0"), 50, null),   // under5
-                    createRateEntity("H002", "084T", "해당지역", new BigDecimal("7.0"), 50, null),   // 5-10
-                    createRateEntity("H003", "084T", "해당지역", new BigDecimal("15.0"), 50, null),  // 10-20
-                    createRateEntity("H004", "084T", "해당지역", new BigDecimal("30.0"), 50, null),  // 20-50
-                    createRateEntity("H005", "084T", "해당지역", new BigDecimal("60.0"), 50, null)   // over50
+            List<CompetitionRate> rates = List.of(
+                    createRate("H001", "084T", "해당지역", new BigDecimal("3.0"), 50),   // under5
+                    createRate("H002", "084T", "해당지역", new BigDecimal("7.0"), 50),   // 5-10
+                    createRate("H003", "084T", "해당지역", new BigDecimal("15.0"), 50),  // 10-20
+                    createRate("H004", "084T", "해당지역", new BigDecimal("30.0"), 50),  // 20-50
+                    createRate("H005", "084T", "해당지역", new BigDecimal("60.0"), 50)   // over50
             );
-            when(competitionRateRepository.findAll()).thenReturn(rates);
+            givenRollup(rates);
 
             // when
             DashboardStatisticsDto result = service.getStatistics();
@@ -186,10 +195,19 @@ class DashboardServiceTest {
         }
     }
 
-    private CompetitionRateEntity createRateEntity(String houseManageNo, String houseType,
-                                                    String residenceArea, BigDecimal rate, int supplyCount,
-                                                    SubscriptionEntity subscription) {
-        return CompetitionRateEntity.builder()
+    private void givenRollup(List<CompetitionRate> rates) {
+        when(rollupService.cells()).thenReturn(CompetitionRateRollupBuilder.build(rates, Map.of()));
+    }
+
+    private void givenRollup(List<CompetitionRate> rates, Subscription... subscriptions) {
+        Map<String, Subscription> byHouseManageNo = Stream.of(subscriptions)
+                .collect(Collectors.toMap(Subscription::getHouseManageNo, Function.identity()));
+        when(rollupService.cells()).thenReturn(CompetitionRateRollupBuilder.build(rates, byHouseManageNo));
+    }
+
+    private CompetitionRate createRate(String houseManageNo, String houseType,
+                                       String residenceArea, BigDecimal rate, int supplyCount) {
+        return CompetitionRate.builder()
                 .houseManageNo(houseManageNo)
                 .pblancNo("P001")
                 .houseType(houseType)
@@ -198,19 +216,16 @@ class DashboardServiceTest {
                 .supplyCount(supplyCount)
                 .requestCount((int) (supplyCount * rate.doubleValue()))
                 .rank(1)
-                .collectedAt(LocalDateTime.now())
-                .subscription(subscription)
                 .build();
     }
 
-    private SubscriptionEntity createSubscriptionEntity(String houseManageNo, String area, int year) {
-        return SubscriptionEntity.builder()
+    private Subscription createSubscription(String houseManageNo, String area, int year) {
+        return Subscription.builder()
                 .houseManageNo(houseManageNo)
                 .houseName("테스트 아파트")
                 .area(area)
                 .receiptStartDate(LocalDate.of(year, 6, 1))
                 .winnerAnnounceDate(LocalDate.of(year, 6, 15))
-                .collectedAt(LocalDateTime.now())
                 .build();
     }
 }
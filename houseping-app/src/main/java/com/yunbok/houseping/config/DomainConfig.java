@@ -1,6 +1,7 @@
 package com.yunbok.houseping.config;
 
 import com.yunbok.houseping.core.domain.SubscriptionConfig;
+import com.yunbok.houseping.core.service.subscription.ProviderChainPolicy;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -11,4 +12,14 @@ public class DomainConfig {
     public SubscriptionConfig subscriptionConfig(SubscriptionProperties properties) {
         return new SubscriptionConfig(properties.getTargetAreas());
     }
+
+    @Bean
+    public ProviderChainPolicy providerChainPolicy(SubscriptionProperties properties) {
+        SubscriptionProperties.ChainProperties chain = properties.getChain();
+        SubscriptionProperties.HedgeProperties hedge = chain.getHedge();
+        return new ProviderChainPolicy(chain.getWindowSize(), chain.getMinimumCalls(),
+                chain.getFailureRateThreshold(), chain.getOpenDuration(),
+                hedge.isEnabled(), hedge.getQuantile(), hedge.getMinDelay(), hedge.getMaxDelay(),
+                hedge.getMinSamples());
+    }
 }
@@ -0,0 +1,119 @@
+package com.yunbok.houseping.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 외부 API용 HTTP 클라이언트(reactor-netty) 연결 풀·타임아웃 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "http-client")
+@Getter
+@Setter
+public class HttpClientProperties {
+
+    /**
+     * 업스트림별 설정이 없을 때 사용하는 기본값
+     */
+    private Pool defaults = Pool.builtInDefaults();
+
+    /**
+     * 업스트림별 설정 (설정한 항목만 기본값을 덮어씀)
+     */
+    private Map<String, Pool> upstreams = new HashMap<>();
+
+    public Pool poolFor(String upstream) {
+        Pool override = upstreams.get(upstream);
+        return override != null ? override.withDefaults(defaults) : defaults;
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+        /**
+         * 최대 연결 수
+         */
+        private Integer maxConnections;
+
+        /**
+         * 연결을 얻기 위해 기다리는 최대 시간
+         */
+        private Duration pendingAcquireTimeout;
+
+        /**
+         * 유휴 연결 유지 시간
+         */
+        private Duration maxIdleTime;
+
+        /**
+         * 연결 최대 수명
+         */
+        private Duration maxLifeTime;
+
+        /**
+         * 유휴·만료 연결 백그라운드 정리 주기
+         */
+        private Duration evictionInterval;
+
+        /**
+         * 연결 타임아웃
+         */
+        private Duration connectTimeout;
+
+        /**
+         * 요청 전송 후 응답 헤더까지의 타임아웃
+         */
+        private Duration responseTimeout;
+
+        /**
+         * 데이터 수신 간격 타임아웃 (본문 수신 중 멈춤 감지)
+         */
+        private Duration readTimeout;
+
+        /**
+         * gzip 응답 협상
+         */
+        private Boolean compress;
+
+        /**
+         * HTTP/2 협상 (TLS ALPN, 미지원 시 HTTP/1.1)
+         */
+        private Boolean http2;
+
+        static Pool builtInDefaults() {
+            Pool pool = new Pool();
+            pool.maxConnections = 50;
+            pool.pendingAcquireTimeout = Duration.ofSeconds(10);
+            pool.maxIdleTime = Duration.ofSeconds(30);
+            pool.maxLifeTime = Duration.ofMinutes(5);
+            pool.evictionInterval = Duration.ofSeconds(30);
+            pool.connectTimeout = Duration.ofSeconds(5);
+            pool.responseTimeout = Duration.ofSeconds(30);
+            pool.readTimeout = Duration.ofSeconds(30);
+            pool.compress = true;
+            pool.http2 = false;
+            return pool;
+        }
+
+        Pool withDefaults(Pool defaults) {
+            Pool merged = new Pool();
+            merged.maxConnections = maxConnections != null ? maxConnections : defaults.maxConnections;
+            merged.pendingAcquireTimeout = pendingAcquireTimeout != null ? pendingAcquireTimeout : defaults.pendingAcquireTimeout;
+            merged.maxIdleTime = maxIdleTime != null ? maxIdleTime : defaults.maxIdleTime;
+            merged.maxLifeTime = maxLifeTime != null ? maxLifeTime : defaults.maxLifeTime;
+            merged.evictionInterval = evictionInterval != null ? evictionInterval : defaults.evictionInterval;
+            merged.connectTimeout = connectTimeout != null ? connectTimeout : defaults.connectTimeout;
+            merged.responseTimeout = responseTimeout != null ? responseTimeout : defaults.responseTimeout;
+            merged.readTimeout = readTimeout != null ? readTimeout : defaults.readTimeout;
+            merged.compress = compress != null ? compress : defaults.compress;
+            merged.http2 = http2 != null ? http2 : defaults.http2;
+            return merged;
+        }
+    }
+}
@@ -8,9 +8,11 @@ import com.yunbok.houseping.infrastructure.api.LhWebScraperClient;
 import com.yunbok.houseping.core.domain.SubscriptionSource;
 import com.yunbok.houseping.core.port.SubscriptionProvider;
 import com.yunbok.houseping.core.service.subscription.FallbackProviderChain;
+import com.yunbok.houseping.core.service.subscription.ProviderChainPolicy;
 import com.yunbok.houseping.core.service.subscription.SubscriptionProviderChain;
 import com.yunbok.houseping.support.annotation.ApplyhomeSource;
 import com.yunbok.houseping.support.annotation.LhSource;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -52,13 +54,15 @@ public class SubscriptionProviderChainConfig {
 
     @Bean
     @ConditionalOnProperty(name = "feature.subscription.lh-api-enabled", havingValue = "true")
-    public SubscriptionProviderChain lhChain(@LhSource List<SubscriptionProvider> providers) {
-        return new FallbackProviderChain(providers, SubscriptionSource.LH.getValue());
+    public SubscriptionProviderChain lhChain(@LhSource List<SubscriptionProvider> providers,
+                                             ProviderChainPolicy policy, MeterRegistry meterRegistry) {
+        return new FallbackProviderChain(providers, SubscriptionSource.LH.getValue(), policy, meterRegistry);
     }
 
     @Bean
     @ConditionalOnProperty(name = "feature.subscription.applyhome-api-enabled", havingValue = "true")
-    public SubscriptionProviderChain applyhomeChain(@ApplyhomeSource List<SubscriptionProvider> providers) {
-        return new FallbackProviderChain(providers, SubscriptionSource.APPLYHOME.getValue());
+    public SubscriptionProviderChain applyhomeChain(@ApplyhomeSource List<SubscriptionProvider> providers,
+                                                    ProviderChainPolicy policy, MeterRegistry meterRegistry) {
+        return new FallbackProviderChain(providers, SubscriptionSource.APPLYHOME.getValue(), policy, meterRegistry);
     }
 }
@@ -0,0 +1,87 @@
+package com.yunbok.houseping.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 업스트림 요청 지표 (houseping.upstream.requests)
+ * 응답 헤더를 받기까지의 시간을 업스트림·엔드포인트·상태별로 기록한다.
+ * - endpoint: 요청 경로의 마지막 구간 (쿼리스트링의 API 키·날짜는 태그에 넣지 않음)
+ * - status: HTTP 상태 코드, 응답 전 실패는 예외 이름, 호출 측에서 취소하면 CANCELLED
+ */
+class UpstreamRequestMetrics implements ExchangeFilterFunction {
+
+    static final String METRIC = "houseping.upstream.requests";
+
+    private final MeterRegistry meterRegistry;
+    private final String upstream;
+    /** 경로 자체가 비밀값인 업스트림(Slack Webhook)은 고정 이름을 쓴다 */
+    private final String fixedEndpoint;
+
+    UpstreamRequestMetrics(MeterRegistry meterRegistry, String upstream) {
+        this(meterRegistry, upstream, null);
+    }
+
+    UpstreamRequestMetrics(MeterRegistry meterRegistry, String upstream, String fixedEndpoint) {
+        this.meterRegistry = meterRegistry;
+        this.upstream = upstream;
+        this.fixedEndpoint = fixedEndpoint;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String endpoint = fixedEndpoint != null ? fixedEndpoint : endpointOf(request.url().getPath());
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            AtomicBoolean recorded = new AtomicBoolean();
+            return next.exchange(request)
+                    .doOnSuccess(response -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            record(endpoint, response != null ? String.valueOf(response.statusCode().value()) : "NONE", start);
+                        }
+                    })
+                    .doOnError(e -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            record(endpoint, errorName(e), start);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            record(endpoint, "CANCELLED", start);
+                        }
+                    });
+        });
+    }
+
+    private void record(String endpoint, String status, long startNanos) {
+        Timer.builder(METRIC)
+                .tag("upstream", upstream)
+                .tag("endpoint", endpoint)
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    static String endpointOf(String path) {
+        if (path == null || path.isBlank() || "/".equals(path)) {
+            return "root";
+        }
+        String trimmed = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+        return trimmed.substring(trimmed.lastIndexOf('/') + 1);
+    }
+
+    private static String errorName(Throwable e) {
+        Throwable cause = e instanceof WebClientRequestException && e.getCause() != null ? e.getCause() : e;
+        return cause.getClass().getSimpleName();
+    }
+}
@@ -1,23 +1,45 @@
 package com.yunbok.houseping.config;
 
-import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.MediaType;
-import org.springframework.http.codec.json.Jackson2JsonDecoder;
-import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * WebClient 설정
- * ⭐ LH API용 WebClient 추가 (기존 청약Home WebClient는 그대로 유지)
+ * 업스트림마다 연결 풀(ConnectionProvider)을 하나씩 두고 연결·응답·읽기 타임아웃을 건다.
+ * 같은 업스트림을 쓰는 WebClient는 풀을 공유하며, 풀·요청 지표는 업스트림 이름으로 Micrometer에 기록된다.
+ * 요청마다 엔드포인트·상태 코드별 응답 시간도 기록한다. ({@link UpstreamRequestMetrics})
  */
 @Slf4j
 @Configuration
 public class WebClientConfig {
 
+    private static final int MAX_IN_MEMORY_SIZE = 10 * 1024 * 1024;
+
+    /** 청약홈 (odcloud) - 청약 정보, 경쟁률 API */
+    static final String APPLYHOME = "applyhome";
+    static final String APPLYHOME_WEB = "applyhome-web";
+    static final String LH = "lh";
+    static final String LH_WEB = "lh-web";
+    static final String TELEGRAM = "telegram";
+    static final String SLACK = "slack";
+    static final String CLAUDE = "claude";
+    static final String REAL_TRANSACTION = "real-transaction";
+
     @Value("${applyhome.api.base-url}")
     private String applyHomeBaseUrl;
 
@@ -35,27 +57,39 @@ public class WebClientConfig {
 
     private static final String TELEGRAM_API_BASE = "https://api.telegram.org/bot";
 
+    private final HttpClientProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ConnectionProvider> connectionProviders = new ConcurrentHashMap<>();
+
+    public WebClientConfig(HttpClientProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PreDestroy
+    void disposeConnectionProviders() {
+        connectionProviders.values().forEach(ConnectionProvider::dispose);
+    }
+
     /**
-     * 기존 청약Home API용 WebClient (변경 없음)
+     * 기존 청약Home API용 WebClient
      */
     @Bean
     public WebClient applyHomeWebClient() {
-        return WebClient.builder()
+        return builder(APPLYHOME)
                 .baseUrl(applyHomeBaseUrl)
                 .defaultHeader("Content-Type", "application/json")
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024))
                 .build();
     }
 
     /**
-     * LH API용 WebClient (새로 추가)
+     * LH API용 WebClient
      */
     @Bean
     public WebClient lhWebClient() {
-        return WebClient.builder()
+        return builder(LH)
                 .baseUrl(lhBaseUrl)
                 .defaultHeader("Content-Type", "application/json")
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024))
                 .build();
     }
 
@@ -64,10 +98,9 @@ public class WebClientConfig {
      */
     @Bean
     public WebClient applyHomeWebCalendarClient() {
-        return WebClient.builder()
+        return builder(APPLYHOME_WEB)
                 .baseUrl(applyHomeWebBaseUrl)
                 .defaultHeader("Content-Type", "application/json")
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024))
                 .build();
     }
 
@@ -76,30 +109,35 @@ public class WebClientConfig {
      */
     @Bean
     public WebClient lhWebCalendarClient() {
-        return WebClient.builder()
+        return builder(LH_WEB)
                 .baseUrl(lhWebBaseUrl)
                 .defaultHeader("Content-Type", "application/json")
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024))
                 .build();
     }
 
     @Bean
     public WebClient telegramWebClient() {
-        return WebClient.builder()
+        return builder(TELEGRAM)
                 .baseUrl(TELEGRAM_API_BASE + botToken)
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024))
                 .build();
     }
 
     /**
-     * 청약홈 경쟁률 API용 WebClient
+     * Slack Webhook용 WebClient (Webhook URL은 요청마다 지정)
+     */
+    @Bean
+    public WebClient slackWebClient() {
+        return builder(SLACK, new UpstreamRequestMetrics(meterRegistry, SLACK, "webhook")).build();
+    }
+
+    /**
+     * 청약홈 경쟁률 API용 WebClient (청약홈 API와 연결 풀 공유)
      */
     @Bean
     public WebClient competitionRateWebClient() {
-        return WebClient.builder()
+        return builder(APPLYHOME)
                 .baseUrl("https://api.odcloud.kr/api/ApplyhomeInfoCmpetRtSvc/v1")
                 .defaultHeader("Content-Type", "application/json")
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024))
                 .build();
     }
 
@@ -108,37 +146,71 @@ public class WebClientConfig {
      */
     @Bean
     public WebClient claudeWebClient(@Value("${claude.api.key:}") String apiKey) {
-        return WebClient.builder()
+        return builder(CLAUDE)
                 .baseUrl("https://api.anthropic.com")
                 .defaultHeader("x-api-key", apiKey)
                 .defaultHeader("anthropic-version", "2023-06-01")
                 .defaultHeader("Content-Type", "application/json")
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024))
                 .build();
     }
 
     /**
      * 국토교통부 실거래가 API용 WebClient
-     * XML 응답을 Jackson으로 파싱
+     * XML 응답은 어댑터에서 StAX로 스트리밍 파싱
      */
     @Bean
     public WebClient realTransactionWebClient() {
-        // Jackson XmlMapper로 XML 처리
-        XmlMapper xmlMapper = new XmlMapper();
-
-        ExchangeStrategies strategies = ExchangeStrategies.builder()
-                .codecs(configurer -> {
-                    configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024);
-                    // XML 지원 추가 (application/xml, text/xml 등)
-                    configurer.defaultCodecs().jackson2JsonDecoder(
-                            new Jackson2JsonDecoder(xmlMapper, MediaType.APPLICATION_XML, MediaType.TEXT_XML)
-                    );
-                })
+        return builder(REAL_TRANSACTION)
+                .baseUrl("https://apis.data.go.kr/1613000/RTMSDataSvcAptTradeDev")
                 .build();
+    }
+
+    private WebClient.Builder builder(String upstream) {
+        return builder(upstream, new UpstreamRequestMetrics(meterRegistry, upstream));
+    }
 
+    private WebClient.Builder builder(String upstream, UpstreamRequestMetrics requestMetrics) {
         return WebClient.builder()
-                .baseUrl("https://apis.data.go.kr/1613000/RTMSDataSvcAptTradeDev")
-                .exchangeStrategies(strategies)
-                .build();
+                .clientConnector(new ReactorClientHttpConnector(httpClient(upstream)))
+                .filter(requestMetrics)
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(MAX_IN_MEMORY_SIZE));
+    }
+
+    /**
+     * 업스트림별 reactor-netty HttpClient
+     * 지표의 uri 태그는 업스트림 이름으로 고정 (쿼리스트링의 API 키·날짜로 태그가 늘어나지 않도록)
+     */
+    HttpClient httpClient(String upstream) {
+        HttpClientProperties.Pool pool = properties.poolFor(upstream);
+        long readTimeoutMillis = pool.getReadTimeout().toMillis();
+
+        HttpClient client = HttpClient.create(connectionProvider(upstream, pool))
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(pool.getConnectTimeout().toMillis()))
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(pool.getResponseTimeout())
+                // 풀에 반납된 연결에서는 핸들러가 제거되므로 요청마다 건다
+                .doOnRequest((request, connection) -> connection.addHandlerLast(
+                        new ReadTimeoutHandler(readTimeoutMillis, TimeUnit.MILLISECONDS)))
+                .compress(pool.getCompress())
+                .metrics(true, uri -> upstream);
+        if (pool.getHttp2()) {
+            client = client.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+        return client;
+    }
+
+    private ConnectionProvider connectionProvider(String upstream, HttpClientProperties.Pool pool) {
+        return connectionProviders.computeIfAbsent(upstream, name -> {
+            log.info("[HTTP 클라이언트] {} 연결 풀 생성 - 최대 {}개, 연결 {}ms, 응답 {}ms",
+                    name, pool.getMaxConnections(), pool.getConnectTimeout().toMillis(), pool.getResponseTimeout().toMillis());
+            return ConnectionProvider.builder(name)
+                    .maxConnections(pool.getMaxConnections())
+                    .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                    .maxIdleTime(pool.getMaxIdleTime())
+                    .maxLifeTime(pool.getMaxLifeTime())
+                    .evictInBackground(pool.getEvictionInterval())
+                    .metrics(true)
+                    .build();
+        });
     }
 }
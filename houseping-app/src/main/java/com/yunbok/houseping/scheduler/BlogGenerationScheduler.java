@@ -21,14 +21,18 @@ public class BlogGenerationScheduler {
 
     private final BlogPublishService blogPublishService;
     private final SchedulerErrorSlackClient errorNotifier;
+    private final SchedulerMetrics schedulerMetrics;
 
     @Scheduled(cron = "0 0 9 * * MON", zone = "Asia/Seoul")
     public void generateWeeklyBlog() {
         log.info("[블로그 스케줄러] AI 블로그 DRAFT 생성 시작");
+        SchedulerMetrics.Run run = schedulerMetrics.start("blog-generation");
         try {
             blogPublishService.saveDraftWithAi(5);
+            run.succeeded();
             log.info("[블로그 스케줄러] AI 블로그 DRAFT 생성 완료");
         } catch (Exception e) {
+            run.failed();
             log.error("[블로그 스케줄러] AI 블로그 DRAFT 생성 실패", e);
             errorNotifier.sendError("블로그 생성", e);
         }
@@ -24,6 +24,7 @@ public class CompetitionRateScheduler {
 
     private final CompetitionRateCollectorService collectorUseCase;
     private final SchedulerErrorSlackClient errorNotifier;
+    private final SchedulerMetrics schedulerMetrics;
 
     /**
      * 매일 오전 10시에 경쟁률 수집
@@ -31,10 +32,13 @@ public class CompetitionRateScheduler {
     @Scheduled(cron = "0 0 10 * * *", zone = "Asia/Seoul")
     public void collectCompetitionRates() {
         log.info("[경쟁률 스케줄러] 실행 시작");
+        SchedulerMetrics.Run run = schedulerMetrics.start("competition-rate");
         try {
             int count = collectorUseCase.collect();
+            run.succeeded(count);
             log.info("[경쟁률 스케줄러] 실행 완료 - {}건 수집", count);
         } catch (Exception e) {
+            run.failed();
             log.error("[경쟁률 스케줄러] 실행 실패", e);
             errorNotifier.sendError("경쟁률 수집", e);
         }
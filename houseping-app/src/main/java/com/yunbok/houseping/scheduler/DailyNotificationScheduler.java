@@ -19,6 +19,7 @@ public class DailyNotificationScheduler {
 
     private final DailyNotificationService dailyNotificationUseCase;
     private final SchedulerErrorSlackClient errorNotifier;
+    private final SchedulerMetrics schedulerMetrics;
 
     /**
      * 매일 오전 9시에 일일 종합 알림 발송
@@ -26,10 +27,13 @@ public class DailyNotificationScheduler {
     @Scheduled(cron = "0 0 9 * * *", zone = "Asia/Seoul")
     public void sendDailyReport() {
         log.info("[일일 알림 스케줄러] 실행 시작");
+        SchedulerMetrics.Run run = schedulerMetrics.start("daily-notification");
         try {
             dailyNotificationUseCase.sendDailyReport();
+            run.succeeded();
             log.info("[일일 알림 스케줄러] 실행 완료");
         } catch (Exception e) {
+            run.failed();
             log.error("[일일 알림 스케줄러] 실행 실패", e);
             errorNotifier.sendError("일일 알림", e);
         }
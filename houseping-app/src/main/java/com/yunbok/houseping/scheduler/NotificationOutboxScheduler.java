@@ -0,0 +1,50 @@
+package com.yunbok.houseping.scheduler;
+
+import com.yunbok.houseping.core.port.NotificationOutboxPort;
+import com.yunbok.houseping.core.service.notification.NotificationDispatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 발송 대기열 스케줄러
+ * 적재 직후 발송은 이벤트로 처리되고, 여기서는 재시도 시각이 된 메시지 발송과 오래된 발송 기록 정리를 맡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxScheduler {
+
+    private static final int SENT_RETENTION_DAYS = 30;
+
+    private final NotificationDispatcher notificationDispatcher;
+    private final NotificationOutboxPort notificationOutboxPort;
+    private final SchedulerMetrics schedulerMetrics;
+
+    /**
+     * 1분마다 재시도 대상 발송
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void dispatchDue() {
+        notificationDispatcher.requestDrain();
+    }
+
+    /**
+     * 매일 새벽 5시에 30일 지난 발송 완료 기록 삭제
+     */
+    @Scheduled(cron = "0 0 5 * * *", zone = "Asia/Seoul")
+    public void purgeSent() {
+        SchedulerMetrics.Run run = schedulerMetrics.start("notification-outbox-purge");
+        try {
+            int deleted = notificationOutboxPort.deleteSentBefore(LocalDateTime.now().minusDays(SENT_RETENTION_DAYS));
+            run.succeeded(deleted);
+            log.info("[알림 대기열 스케줄러] 발송 완료 기록 {}건 삭제", deleted);
+        } catch (Exception e) {
+            run.failed();
+            log.error("[알림 대기열 스케줄러] 발송 완료 기록 정리 실패", e);
+        }
+    }
+}
@@ -18,6 +18,7 @@ public class RealTransactionScheduler {
 
     private final RealTransactionCollectionService realTransactionCollectionService;
     private final SchedulerErrorSlackClient errorNotifier;
+    private final SchedulerMetrics schedulerMetrics;
 
     /**
      * 매일 새벽 4시에 접수예정 청약 지역의 실거래가 수집
@@ -25,11 +26,31 @@ public class RealTransactionScheduler {
     @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
     public void collectRealTransactions() {
         log.info("[실거래가 스케줄러] 수집 시작");
+        SchedulerMetrics.Run run = schedulerMetrics.start("real-transaction");
         try {
             realTransactionCollectionService.collectRealTransactions();
+            run.succeeded();
         } catch (Exception e) {
+            run.failed();
             log.error("[실거래가 스케줄러] 수집 중 오류", e);
             errorNotifier.sendError("실거래가 수집", e);
         }
     }
+
+    /**
+     * 매월 1일 새벽 4시 30분에 보관 기간이 지난 실거래가 캐시 정리 (연도 파티션 삭제)
+     */
+    @Scheduled(cron = "0 30 4 1 * *", zone = "Asia/Seoul")
+    public void purgeExpiredTransactions() {
+        log.info("[실거래가 스케줄러] 캐시 정리 시작");
+        SchedulerMetrics.Run run = schedulerMetrics.start("real-transaction-purge");
+        try {
+            realTransactionCollectionService.purgeExpired();
+            run.succeeded();
+        } catch (Exception e) {
+            run.failed();
+            log.error("[실거래가 스케줄러] 캐시 정리 중 오류", e);
+            errorNotifier.sendError("실거래가 캐시 정리", e);
+        }
+    }
 }
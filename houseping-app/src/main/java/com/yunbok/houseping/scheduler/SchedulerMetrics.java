@@ -0,0 +1,89 @@
+package com.yunbok.houseping.scheduler;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 스케줄러 작업 지표
+ * - houseping.scheduler.job.duration: 작업 실행 시간 (outcome: success/failure)
+ * - houseping.scheduler.job.items: 마지막 성공 실행에서 처리한 건수
+ * - houseping.scheduler.job.last.success: 마지막 성공 시각 (epoch 초, 작업 정지 감지용)
+ */
+@Component
+public class SchedulerMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, JobGauges> gauges = new ConcurrentHashMap<>();
+
+    public SchedulerMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 작업 실행 시작
+     * @param job 작업 이름 (예: "competition-rate")
+     */
+    public Run start(String job) {
+        return new Run(job, System.nanoTime());
+    }
+
+    public final class Run {
+
+        private final String job;
+        private final long startNanos;
+
+        private Run(String job, long startNanos) {
+            this.job = job;
+            this.startNanos = startNanos;
+        }
+
+        public void succeeded() {
+            record("success");
+            gaugesOf(job).lastSuccess.set(System.currentTimeMillis() / 1000);
+        }
+
+        /**
+         * @param items 처리 건수
+         */
+        public void succeeded(long items) {
+            succeeded();
+            gaugesOf(job).items.set(items);
+        }
+
+        public void failed() {
+            record("failure");
+        }
+
+        private void record(String outcome) {
+            Timer.builder("houseping.scheduler.job.duration")
+                    .tag("job", job)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private JobGauges gaugesOf(String job) {
+        return gauges.computeIfAbsent(job, name -> {
+            JobGauges created = new JobGauges(new AtomicLong(), new AtomicLong());
+            Gauge.builder("houseping.scheduler.job.items", created.items, AtomicLong::get)
+                    .tag("job", name)
+                    .register(meterRegistry);
+            Gauge.builder("houseping.scheduler.job.last.success", created.lastSuccess, AtomicLong::get)
+                    .tag("job", name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            return created;
+        });
+    }
+
+    private record JobGauges(AtomicLong items, AtomicLong lastSuccess) {
+    }
+}
@@ -1,40 +1,39 @@
 package com.yunbok.houseping.scheduler;
 
-import com.yunbok.houseping.infrastructure.api.ApplyhomeApiClient;
 import com.yunbok.houseping.infrastructure.api.SchedulerErrorSlackClient;
-import com.yunbok.houseping.core.domain.SubscriptionSource;
+import com.yunbok.houseping.core.service.subscription.PriceBadgeRefreshService;
+import com.yunbok.houseping.core.service.subscription.PriceCollectionService;
 import com.yunbok.houseping.core.service.subscription.SubscriptionManagementService;
-import com.yunbok.houseping.entity.SubscriptionEntity;
-import com.yunbok.houseping.repository.SubscriptionPriceRepository;
-import com.yunbok.houseping.repository.SubscriptionRepository;
-import com.yunbok.houseping.support.util.ApiRateLimiter;
+import com.yunbok.houseping.support.dto.PriceCollectionResult;
+import com.yunbok.houseping.support.dto.SyncResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SubscriptionScheduler {
 
     private final SubscriptionManagementService managementUseCase;
-    private final SubscriptionRepository subscriptionRepository;
-    private final SubscriptionPriceRepository priceRepository;
-    private final ApplyhomeApiClient applyhomeApiAdapter;
+    private final PriceCollectionService priceCollectionService;
+    private final PriceBadgeRefreshService priceBadgeRefreshService;
     private final SchedulerErrorSlackClient errorNotifier;
+    private final SchedulerMetrics schedulerMetrics;
 
     @Scheduled(cron = "0 0 3 * * *", zone = "Asia/Seoul")
     public void syncRecentData() {
+        SchedulerMetrics.Run run = schedulerMetrics.start("subscription-sync");
         try {
             // 1단계: 청약 데이터 동기화
-            managementUseCase.sync();
+            SyncResult result = managementUseCase.sync();
+            run.succeeded(result.total());
 
             // 2단계: 신규 청약 분양가 수집
             collectPriceData();
         } catch (Exception e) {
+            run.failed();
             log.error("[청약 스케줄러] 데이터 동기화 실패", e);
             errorNotifier.sendError("청약 데이터 동기화", e);
         }
@@ -47,43 +46,45 @@ public class SubscriptionScheduler {
     public void collectPriceData() {
         log.info("[스케줄러] ApplyHome 분양가 수집 시작");
 
+        SchedulerMetrics.Run run = schedulerMetrics.start("price-collection");
         try {
-            // 분양가 데이터가 없는 ApplyHome 청약 조회
-            List<SubscriptionEntity> subscriptions = subscriptionRepository.findAll().stream()
-                    .filter(s -> SubscriptionSource.APPLYHOME.matches(s.getSource()))
-                    .filter(s -> s.getHouseManageNo() != null && !s.getHouseManageNo().isEmpty())
-                    .filter(s -> !priceRepository.existsByHouseManageNo(s.getHouseManageNo()))
-                    .toList();
-
-            log.info("[스케줄러] 분양가 수집 대상: {}건", subscriptions.size());
-
-            int successCount = 0;
-            int failCount = 0;
-
-            for (SubscriptionEntity subscription : subscriptions) {
-                try {
-                    applyhomeApiAdapter.fetchAndSavePriceDetails(
-                            subscription.getHouseManageNo(),
-                            subscription.getPblancNo(),
-                            subscription.getHouseType()
-                    );
-                    successCount++;
-                    ApiRateLimiter.delay(100); // API 과부하 방지
-                } catch (Exception e) {
-                    failCount++;
-                    log.warn("[분양가] {} 수집 실패: {}", subscription.getHouseName(), e.getMessage());
-                }
-            }
+            PriceCollectionResult result = priceCollectionService.collectMissing();
+            log.info("[스케줄러] 분양가 수집 완료 - 성공: {}건, 실패: {}건", result.successCount(), result.failCount());
 
-            log.info("[스케줄러] 분양가 수집 완료 - 성공: {}건, 실패: {}건", successCount, failCount);
+            // 분양가가 새로 들어온 청약의 가격 배지 재계산
+            priceBadgeRefreshService.refreshByHouseManageNos(result.collectedHouseManageNos());
+            run.succeeded(result.successCount());
         } catch (Exception e) {
+            run.failed();
             log.error("[스케줄러] 분양가 수집 중 오류", e);
             errorNotifier.sendError("분양가 수집", e);
         }
     }
 
+    /**
+     * 매일 0시 5분에 진행중·예정 청약 가격 배지 전체 재계산
+     * 마감 여부와 신축 기준 연도가 날짜에 따라 바뀌고, 확정된 계약월은 다시 수집되지 않아 변경 기반 재계산만으로는 반영되지 않음
+     */
+    @Scheduled(cron = "0 5 0 * * *", zone = "Asia/Seoul")
+    public void refreshPriceBadges() {
+        SchedulerMetrics.Run run = schedulerMetrics.start("price-badge-refresh");
+        try {
+            run.succeeded(priceBadgeRefreshService.refreshAll());
+        } catch (Exception e) {
+            run.failed();
+            log.error("[청약 스케줄러] 가격 배지 재계산 실패", e);
+            errorNotifier.sendError("가격 배지 재계산", e);
+        }
+    }
+
     @Scheduled(cron = "0 0 2 1 * *", zone = "Asia/Seoul")
     public void cleanupOldData() {
-        managementUseCase.cleanup();
+        SchedulerMetrics.Run run = schedulerMetrics.start("subscription-cleanup");
+        try {
+            run.succeeded(managementUseCase.cleanup());
+        } catch (RuntimeException e) {
+            run.failed();
+            throw e;
+        }
     }
 }
@@ -0,0 +1,79 @@
+package com.yunbok.houseping.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("UpstreamRequestMetrics - 업스트림 요청 지표")
+class UpstreamRequestMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Nested
+    @DisplayName("filter() - 요청 시간 기록")
+    class Filter {
+
+        @Test
+        @DisplayName("엔드포인트와 상태 코드로 응답 시간을 기록한다")
+        void recordsStatusAndEndpoint() {
+            // given
+            UpstreamRequestMetrics metrics = new UpstreamRequestMetrics(meterRegistry, "real-transaction");
+            ClientRequest request = request("https://apis.data.go.kr/1613000/RTMSDataSvcAptTradeDev/getRTMSDataSvcAptTradeDev?serviceKey=secret");
+
+            // when
+            metrics.filter(request, r -> Mono.just(ClientResponse.create(HttpStatus.OK).build())).block();
+
+            // then
+            assertThat(meterRegistry.get(UpstreamRequestMetrics.METRIC)
+                    .tags("upstream", "real-transaction", "endpoint", "getRTMSDataSvcAptTradeDev", "status", "200")
+                    .timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("응답 전에 실패하면 예외 이름으로 기록한다")
+        void recordsErrorName() {
+            // given
+            UpstreamRequestMetrics metrics = new UpstreamRequestMetrics(meterRegistry, "lh");
+            ClientRequest request = request("https://apis.data.go.kr/B552555/lhLeaseNoticeInfo1/lhLeaseNoticeInfo1");
+
+            // when
+            assertThatThrownBy(() -> metrics.filter(request, r -> Mono.error(new IOException("연결 끊김"))).block())
+                    .hasCauseInstanceOf(IOException.class);
+
+            // then
+            assertThat(meterRegistry.get(UpstreamRequestMetrics.METRIC)
+                    .tags("upstream", "lh", "status", "IOException").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("고정 엔드포인트를 지정하면 경로를 태그에 넣지 않는다")
+        void usesFixedEndpoint() {
+            // given
+            UpstreamRequestMetrics metrics = new UpstreamRequestMetrics(meterRegistry, "slack", "webhook");
+            ClientRequest request = request("https://hooks.slack.com/services/T000/B000/secret-token");
+
+            // when
+            metrics.filter(request, r -> Mono.just(ClientResponse.create(HttpStatus.OK).build())).block();
+
+            // then
+            assertThat(meterRegistry.get(UpstreamRequestMetrics.METRIC)
+                    .tags("upstream", "slack", "endpoint", "webhook").timer().count()).isEqualTo(1);
+        }
+    }
+
+    private ClientRequest request(String url) {
+        return ClientRequest.create(HttpMethod.GET, URI.create(url)).build();
+    }
+}
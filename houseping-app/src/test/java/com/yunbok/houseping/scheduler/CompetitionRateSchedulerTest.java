@@ -12,7 +12,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.yunbok.houseping.infrastructure.api.SchedulerErrorSlackClient;
 import com.yunbok.houseping.infrastructure.formatter.SlackMessageFormatter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.web.reactive.function.client.WebClient;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 @DisplayName("CompetitionRateScheduler - 경쟁률 수집 스케줄러")
@@ -22,11 +25,15 @@ class CompetitionRateSchedulerTest {
     @Mock
     private CompetitionRateCollectorService collectorUseCase;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private CompetitionRateScheduler scheduler;
 
     @BeforeEach
     void setUp() {
-        scheduler = new CompetitionRateScheduler(collectorUseCase, new SchedulerErrorSlackClient("", new SlackMessageFormatter()));
+        scheduler = new CompetitionRateScheduler(collectorUseCase,
+                new SchedulerErrorSlackClient(WebClient.create(), "", new SlackMessageFormatter()),
+                new SchedulerMetrics(meterRegistry));
     }
 
     @Nested
@@ -46,6 +53,22 @@ class CompetitionRateSchedulerTest {
             verify(collectorUseCase).collect();
         }
 
+        @Test
+        @DisplayName("실행 시간과 처리 건수를 지표로 기록한다")
+        void recordsJobMetrics() {
+            // given
+            when(collectorUseCase.collect()).thenReturn(10);
+
+            // when
+            scheduler.collectCompetitionRates();
+
+            // then
+            assertThat(meterRegistry.get("houseping.scheduler.job.duration")
+                    .tags("job", "competition-rate", "outcome", "success").timer().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("houseping.scheduler.job.items")
+                    .tag("job", "competition-rate").gauge().value()).isEqualTo(10);
+        }
+
         @Test
         @DisplayName("예외가 발생해도 스케줄러가 중단되지 않는다")
         void handlesException() {
@@ -57,6 +80,8 @@ class CompetitionRateSchedulerTest {
 
             // then - 예외 처리됨
             verify(collectorUseCase).collect();
+            assertThat(meterRegistry.get("houseping.scheduler.job.duration")
+                    .tags("job", "competition-rate", "outcome", "failure").timer().count()).isEqualTo(1);
         }
     }
 }
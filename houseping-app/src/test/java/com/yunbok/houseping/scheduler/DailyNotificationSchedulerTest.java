@@ -12,6 +12,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.yunbok.houseping.infrastructure.api.SchedulerErrorSlackClient;
 import com.yunbok.houseping.infrastructure.formatter.SlackMessageFormatter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.web.reactive.function.client.WebClient;
 
 import static org.mockito.Mockito.*;
 
@@ -26,7 +28,9 @@ class DailyNotificationSchedulerTest {
 
     @BeforeEach
     void setUp() {
-        scheduler = new DailyNotificationScheduler(dailyNotificationUseCase, new SchedulerErrorSlackClient("", new SlackMessageFormatter()));
+        scheduler = new DailyNotificationScheduler(dailyNotificationUseCase,
+                new SchedulerErrorSlackClient(WebClient.create(), "", new SlackMessageFormatter()),
+                new SchedulerMetrics(new SimpleMeterRegistry()));
     }
 
     @Nested
@@ -1,13 +1,13 @@
 package com.yunbok.houseping.scheduler;
 
+import com.yunbok.houseping.core.service.subscription.PriceBadgeRefreshService;
+import com.yunbok.houseping.core.service.subscription.PriceCollectionService;
 import com.yunbok.houseping.core.service.subscription.SubscriptionManagementService;
-import com.yunbok.houseping.infrastructure.api.ApplyhomeApiClient;
 import com.yunbok.houseping.infrastructure.api.SchedulerErrorSlackClient;
 import com.yunbok.houseping.infrastructure.formatter.SlackMessageFormatter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.yunbok.houseping.support.dto.PriceCollectionResult;
 import com.yunbok.houseping.support.dto.SyncResult;
-
-import com.yunbok.houseping.repository.SubscriptionPriceRepository;
-import com.yunbok.houseping.repository.SubscriptionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,6 +16,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import org.springframework.web.reactive.function.client.WebClient;
+
 import static org.mockito.Mockito.*;
 
 @DisplayName("SubscriptionScheduler - 청약 정보 스케줄러")
@@ -26,13 +29,10 @@ class SubscriptionSchedulerTest {
     private SubscriptionManagementService managementUseCase;
 
     @Mock
-    private SubscriptionRepository subscriptionRepository;
-
-    @Mock
-    private SubscriptionPriceRepository priceRepository;
+    private PriceCollectionService priceCollectionService;
 
     @Mock
-    private ApplyhomeApiClient applyhomeApiAdapter;
+    private PriceBadgeRefreshService priceBadgeRefreshService;
 
     private SubscriptionScheduler scheduler;
 
@@ -40,10 +40,10 @@ class SubscriptionSchedulerTest {
     void setUp() {
         scheduler = new SubscriptionScheduler(
                 managementUseCase,
-                subscriptionRepository,
-                priceRepository,
-                applyhomeApiAdapter,
-                new SchedulerErrorSlackClient("", new SlackMessageFormatter())
+                priceCollectionService,
+                priceBadgeRefreshService,
+                new SchedulerErrorSlackClient(WebClient.create(), "", new SlackMessageFormatter()),
+                new SchedulerMetrics(new SimpleMeterRegistry())
         );
     }
 
@@ -56,12 +56,51 @@ class SubscriptionSchedulerTest {
         void performsSync() {
             // given
             when(managementUseCase.sync()).thenReturn(new SyncResult(10, 5, 3));
+            when(priceCollectionService.collectMissing()).thenReturn(PriceCollectionResult.empty());
 
             // when
             scheduler.syncRecentData();
 
             // then
             verify(managementUseCase).sync();
+            verify(priceCollectionService).collectMissing();
+        }
+    }
+
+    @Nested
+    @DisplayName("collectPriceData() - 분양가 수집")
+    class CollectPriceData {
+
+        @Test
+        @DisplayName("수집에 성공한 청약만 가격 배지를 재계산한다")
+        void refreshesBadgesForCollected() {
+            // given
+            when(priceCollectionService.collectMissing())
+                    .thenReturn(new PriceCollectionResult(3, List.of("H001", "H002"), 1));
+
+            // when
+            scheduler.collectPriceData();
+
+            // then
+            verify(priceBadgeRefreshService).refreshByHouseManageNos(List.of("H001", "H002"));
+        }
+    }
+
+    @Nested
+    @DisplayName("refreshPriceBadges() - 가격 배지 전체 재계산 (매일 0시 5분)")
+    class RefreshPriceBadges {
+
+        @Test
+        @DisplayName("진행중·예정 청약 전체 배지를 재계산한다")
+        void refreshesAllBadges() {
+            // given
+            when(priceBadgeRefreshService.refreshAll()).thenReturn(42);
+
+            // when
+            scheduler.refreshPriceBadges();
+
+            // then
+            verify(priceBadgeRefreshService).refreshAll();
         }
     }
 
@@ -0,0 +1,81 @@
+package com.yunbok.houseping.bench;
+
+import com.yunbok.houseping.core.domain.RegionCode;
+import com.yunbok.houseping.core.port.RegionCodePersistencePort;
+import com.yunbok.houseping.core.service.region.RegionCodeService;
+import com.yunbok.houseping.support.util.AddressHelper;
+import com.yunbok.houseping.support.util.DateParsingUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수집 시 한 건마다 거치는 주소·날짜 해석
+ * 주소 수가 RegionCodeService의 주소 캐시(1만 건)보다 적으면 캐시 적중 경로, 많으면 트라이 해석 경로를 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AddressParsingBenchmark {
+
+    private static final int DATE_COUNT = 4_096;
+
+    @Param({"1000", "50000"})
+    public int addressCount;
+
+    private RegionCodeService regionCodeService;
+    private AddressHelper addressHelper;
+    private String[] addresses;
+    private String[] dates;
+    private int addressCursor;
+    private int dateCursor;
+
+    @Setup
+    public void setUp() {
+        Random random = SyntheticData.random();
+        List<RegionCode> codes = SyntheticData.regionCodes();
+        regionCodeService = new RegionCodeService(Stubs.stub(RegionCodePersistencePort.class,
+                Map.of("findAll", args -> codes)));
+        addressHelper = new AddressHelper();
+
+        List<String> addressList = new ArrayList<>(addressCount);
+        for (int i = 0; i < addressCount; i++) {
+            addressList.add(SyntheticData.address(codes.get(random.nextInt(codes.size())), random));
+        }
+        addresses = addressList.toArray(String[]::new);
+        dates = SyntheticData.dateStrings(DATE_COUNT, random).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public String findLawdCdByAddress() {
+        String address = addresses[addressCursor];
+        addressCursor = addressCursor + 1 == addresses.length ? 0 : addressCursor + 1;
+        return regionCodeService.findLawdCdByAddress(address).orElse(null);
+    }
+
+    @Benchmark
+    public String extractDongName() {
+        String address = addresses[addressCursor];
+        addressCursor = addressCursor + 1 == addresses.length ? 0 : addressCursor + 1;
+        return addressHelper.extractDongName(address);
+    }
+
+    @Benchmark
+    public LocalDate parseDate() {
+        String date = dates[dateCursor];
+        dateCursor = dateCursor + 1 == dates.length ? 0 : dateCursor + 1;
+        return DateParsingUtil.parse(date);
+    }
+}
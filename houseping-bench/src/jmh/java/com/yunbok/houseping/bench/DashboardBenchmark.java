@@ -0,0 +1,78 @@
+package com.yunbok.houseping.bench;
+
+import com.yunbok.houseping.core.domain.CompetitionRate;
+import com.yunbok.houseping.core.domain.RegionCode;
+import com.yunbok.houseping.core.domain.Subscription;
+import com.yunbok.houseping.core.port.CompetitionRatePersistencePort;
+import com.yunbok.houseping.core.port.CompetitionRateRollupPort;
+import com.yunbok.houseping.core.port.SubscriptionPersistencePort;
+import com.yunbok.houseping.core.service.competition.CompetitionRateRollupBuilder;
+import com.yunbok.houseping.core.service.competition.CompetitionRateRollupService;
+import com.yunbok.houseping.service.DashboardService;
+import com.yunbok.houseping.service.dto.DashboardStatisticsDto;
+import com.yunbok.houseping.support.dto.CompetitionRateRollupCell;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자 대시보드 통계와 경쟁률 전체 재집계
+ * 전국 청약의 주택형 × 순위 × 거주지역 경쟁률(청약당 평균 16행)을 대상으로 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DashboardBenchmark {
+
+    @Param({"2000", "20000"})
+    public int subscriptionCount;
+
+    private DashboardService dashboardService;
+    private List<CompetitionRate> rates;
+    private Map<String, Subscription> subscriptionsByHouseManageNo;
+
+    @Setup
+    public void setUp() {
+        Random random = SyntheticData.random();
+        List<RegionCode> codes = SyntheticData.regionCodes();
+        List<Subscription> subscriptions = SyntheticData.subscriptions(codes, subscriptionCount, random);
+        rates = SyntheticData.competitionRates(subscriptions, random);
+        subscriptionsByHouseManageNo = subscriptions.stream()
+                .collect(Collectors.toMap(Subscription::getHouseManageNo, Function.identity()));
+
+        List<CompetitionRateRollupCell> cells = CompetitionRateRollupBuilder.build(rates, subscriptionsByHouseManageNo);
+        CompetitionRateRollupService rollupService = new CompetitionRateRollupService(
+                Stubs.stub(CompetitionRateRollupPort.class, Map.of("findAll", args -> cells)),
+                Stubs.stub(CompetitionRatePersistencePort.class, Map.of("findAll", args -> rates)),
+                Stubs.stub(SubscriptionPersistencePort.class, Map.of()));
+        dashboardService = new DashboardService(rollupService);
+    }
+
+    /**
+     * 집계 행이 있는 상태의 대시보드 조회
+     */
+    @Benchmark
+    public DashboardStatisticsDto getStatistics() {
+        return dashboardService.getStatistics();
+    }
+
+    /**
+     * 집계가 비었을 때의 전체 재집계 (저장 제외)
+     */
+    @Benchmark
+    public List<CompetitionRateRollupCell> buildRollup() {
+        return CompetitionRateRollupBuilder.build(rates, subscriptionsByHouseManageNo);
+    }
+}
@@ -0,0 +1,100 @@
+package com.yunbok.houseping.bench;
+
+import com.yunbok.houseping.core.domain.CompetitionRate;
+import com.yunbok.houseping.core.domain.RegionCode;
+import com.yunbok.houseping.core.domain.Subscription;
+import com.yunbok.houseping.core.port.PriceBadgePersistencePort;
+import com.yunbok.houseping.core.port.SubscriptionPersistencePort;
+import com.yunbok.houseping.core.service.subscription.SubscriptionReadModel;
+import com.yunbok.houseping.core.service.subscription.SubscriptionSearchService;
+import com.yunbok.houseping.entity.CompetitionRateEntity;
+import com.yunbok.houseping.repository.CompetitionRateRepository;
+import com.yunbok.houseping.support.dto.HomePageResult;
+import com.yunbok.houseping.support.dto.PriceBadge;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공개 홈 화면 데이터 조회 (조회 스냅샷 + 가격 배지 + 발표 청약 최고 경쟁률)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HomePageBenchmark {
+
+    @Param({"2000", "10000"})
+    public int subscriptionCount;
+
+    /** 빈 값이면 지원 지역 전체 */
+    @Param({"", "서울"})
+    public String area;
+
+    private SubscriptionSearchService searchService;
+
+    @Setup
+    public void setUp() {
+        Random random = SyntheticData.random();
+        List<RegionCode> codes = SyntheticData.regionCodes();
+        List<Subscription> subscriptions = SyntheticData.subscriptions(codes, subscriptionCount, random);
+
+        PriceBadge[] badgeValues = PriceBadge.values();
+        Map<String, PriceBadge> badges = new HashMap<>();
+        for (Subscription subscription : subscriptions) {
+            badges.put(subscription.getHouseManageNo(), badgeValues[random.nextInt(badgeValues.length)]);
+        }
+        Map<String, List<CompetitionRateEntity>> rates = new HashMap<>();
+        for (CompetitionRate rate : SyntheticData.competitionRates(subscriptions, random)) {
+            rates.computeIfAbsent(rate.getHouseManageNo(), k -> new ArrayList<>()).add(SyntheticData.toEntity(rate));
+        }
+
+        SubscriptionPersistencePort subscriptionPort = Stubs.stub(SubscriptionPersistencePort.class,
+                Map.of("findAll", args -> subscriptions));
+        SubscriptionReadModel readModel = new SubscriptionReadModel(subscriptionPort);
+        readModel.reload();
+
+        searchService = new SubscriptionSearchService(subscriptionPort, readModel,
+                Stubs.stub(CompetitionRateRepository.class, Map.of("findByHouseManageNoIn",
+                        args -> collect(rates, (Collection<?>) args[0]))),
+                Stubs.stub(PriceBadgePersistencePort.class, Map.of("findBadgesByHouseManageNos",
+                        args -> pick(badges, (Collection<?>) args[0]))));
+    }
+
+    @Benchmark
+    public HomePageResult getHomeData() {
+        return searchService.getHomeData(area);
+    }
+
+    private static List<CompetitionRateEntity> collect(Map<String, List<CompetitionRateEntity>> rates,
+                                                       Collection<?> houseManageNos) {
+        List<CompetitionRateEntity> result = new ArrayList<>();
+        for (Object houseManageNo : houseManageNos) {
+            result.addAll(rates.getOrDefault(houseManageNo, List.of()));
+        }
+        return result;
+    }
+
+    private static Map<String, PriceBadge> pick(Map<String, PriceBadge> badges, Collection<?> houseManageNos) {
+        Map<String, PriceBadge> result = new HashMap<>();
+        for (Object houseManageNo : houseManageNos) {
+            PriceBadge badge = badges.get(houseManageNo);
+            if (badge != null) {
+                result.put((String) houseManageNo, badge);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,134 @@
+package com.yunbok.houseping.bench;
+
+import com.yunbok.houseping.core.domain.RealTransaction;
+import com.yunbok.houseping.core.domain.RegionCode;
+import com.yunbok.houseping.core.domain.Subscription;
+import com.yunbok.houseping.core.domain.SubscriptionPrice;
+import com.yunbok.houseping.core.port.RealTransactionPersistencePort;
+import com.yunbok.houseping.core.port.RegionCodePersistencePort;
+import com.yunbok.houseping.core.port.SubscriptionPricePersistencePort;
+import com.yunbok.houseping.core.service.realtransaction.RealTransactionIndex;
+import com.yunbok.houseping.core.service.region.RegionCodeService;
+import com.yunbok.houseping.core.service.subscription.HouseTypeComparisonBuilder;
+import com.yunbok.houseping.core.service.subscription.MarketAnalyzer;
+import com.yunbok.houseping.core.service.subscription.PriceBadgeCalculator;
+import com.yunbok.houseping.support.dto.HouseTypeComparison;
+import com.yunbok.houseping.support.dto.MarketAnalysis;
+import com.yunbok.houseping.support.dto.PriceBadge;
+import com.yunbok.houseping.support.util.AddressHelper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시세 분석 경로 (가격 배지, 주택형별 시세 비교, 시장 분석)
+ * 실거래는 전국 시군구에 나눠 두고, 목록 단위 연산은 거래가 가장 많은 지역으로 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PriceAnalysisBenchmark {
+
+    private static final int SUBSCRIPTION_COUNT = 2_000;
+
+    @Param({"10000", "100000", "1000000"})
+    public int transactionCount;
+
+    private PriceBadgeCalculator calculator;
+    private HouseTypeComparisonBuilder comparisonBuilder;
+    private MarketAnalyzer marketAnalyzer;
+
+    private Subscription[] subscriptions;
+    private int cursor;
+
+    private List<RealTransaction> busiestTransactions;
+    private RealTransactionIndex.District busiestDistrict;
+    private List<SubscriptionPrice> busiestPrices;
+
+    @Setup
+    public void setUp() {
+        Random random = SyntheticData.random();
+        List<RegionCode> codes = SyntheticData.regionCodes();
+        Map<String, List<RealTransaction>> transactions =
+                SyntheticData.transactionsByLawdCd(codes, transactionCount, random);
+        List<Subscription> subscriptionList = SyntheticData.subscriptions(codes, SUBSCRIPTION_COUNT, random);
+
+        Map<String, List<SubscriptionPrice>> prices = new HashMap<>();
+        for (Subscription subscription : subscriptionList) {
+            prices.put(subscription.getHouseManageNo(), SyntheticData.prices(subscription.getHouseManageNo(), random));
+        }
+
+        RegionCodeService regionCodeService = new RegionCodeService(Stubs.stub(RegionCodePersistencePort.class,
+                Map.of("findAll", args -> codes)));
+        RealTransactionIndex index = new RealTransactionIndex(Stubs.stub(RealTransactionPersistencePort.class,
+                Map.of("findByLawdCd", args -> transactions.getOrDefault((String) args[0], List.of()))),
+                new SimpleMeterRegistry(), codes.size());
+        SubscriptionPricePersistencePort pricePort = Stubs.stub(SubscriptionPricePersistencePort.class,
+                Map.of("findByHouseManageNo", args -> prices.getOrDefault((String) args[0], List.of())));
+
+        comparisonBuilder = new HouseTypeComparisonBuilder();
+        marketAnalyzer = new MarketAnalyzer();
+        calculator = new PriceBadgeCalculator(pricePort, index, regionCodeService, new AddressHelper(), comparisonBuilder);
+
+        // 운영에서는 인덱스가 이미 적재된 상태에서 배지를 계산하므로 미리 적재 (전 지역이 남도록 인덱스 크기를 지역 수에 맞춤)
+        codes.forEach(code -> index.district(code.lawdCd()));
+        subscriptions = subscriptionList.toArray(Subscription[]::new);
+
+        busiestTransactions = transactions.get(codes.get(0).lawdCd());
+        busiestDistrict = index.district(codes.get(0).lawdCd());
+        busiestPrices = SyntheticData.prices("busiest", random);
+    }
+
+    @Benchmark
+    public PriceBadge computePriceBadge() {
+        return calculator.computePriceBadge(nextSubscription());
+    }
+
+    /**
+     * 분석 페이지: 적재된 지역 인덱스에서 주택형별 시세 비교
+     */
+    @Benchmark
+    public List<HouseTypeComparison> buildComparisonFromIndex() {
+        return comparisonBuilder.build(busiestPrices, busiestDistrict,
+                RealTransactionIndex.District.ANY_DONG, HouseTypeComparisonBuilder.newBuildYearThreshold());
+    }
+
+    /**
+     * 거래 목록을 받아 매번 인덱스를 만드는 경로
+     */
+    @Benchmark
+    public List<HouseTypeComparison> buildComparisonFromList() {
+        return comparisonBuilder.build(busiestPrices, busiestTransactions);
+    }
+
+    /**
+     * 실거래 갱신 후 지역 인덱스 재적재 비용
+     */
+    @Benchmark
+    public RealTransactionIndex.District indexDistrict() {
+        return RealTransactionIndex.District.of(busiestTransactions);
+    }
+
+    @Benchmark
+    public MarketAnalysis analyzeMarket() {
+        return marketAnalyzer.analyze(busiestTransactions);
+    }
+
+    private Subscription nextSubscription() {
+        Subscription subscription = subscriptions[cursor];
+        cursor = cursor + 1 == subscriptions.length ? 0 : cursor + 1;
+        return subscription;
+    }
+}
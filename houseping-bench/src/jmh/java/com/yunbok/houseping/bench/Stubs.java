@@ -0,0 +1,36 @@
+package com.yunbok.houseping.bench;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * DB 대신 메모리 데이터를 돌려주는 Port·Repository 스텁
+ * 벤치마크가 쓰는 메서드만 응답하고, 그 외 메서드가 불리면 예외로 드러낸다.
+ */
+final class Stubs {
+
+    private Stubs() {
+    }
+
+    /**
+     * @param answers 메서드 이름 → 인자로 응답을 만드는 함수
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> type.getSimpleName() + " stub";
+                };
+            }
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer == null) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }
+            return answer.apply(args);
+        });
+    }
+}
@@ -0,0 +1,310 @@
+package com.yunbok.houseping.bench;
+
+import com.yunbok.houseping.core.domain.CompetitionRate;
+import com.yunbok.houseping.core.domain.RealTransaction;
+import com.yunbok.houseping.core.domain.RegionCode;
+import com.yunbok.houseping.core.domain.Subscription;
+import com.yunbok.houseping.core.domain.SubscriptionPrice;
+import com.yunbok.houseping.entity.CompetitionRateEntity;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 벤치마크용 합성 데이터
+ * 같은 시드로 항상 같은 데이터를 만들어 커밋 간 결과를 비교할 수 있게 한다.
+ * - 시군구: 17개 시도 × 15개 (전국 약 250개 법정동코드)
+ * - 실거래: 시군구별 거래량이 1/(순위)로 줄어드는 분포 (상위 지역에 거래가 몰림)
+ * - 청약: 수도권 위주, 접수일은 오늘 기준 ±60일
+ */
+public final class SyntheticData {
+
+    public static final long SEED = 20260101L;
+
+    public static final int SIGUNGU_PER_SIDO = 15;
+    public static final int DONGS_PER_SIGUNGU = 12;
+
+    private static final String[][] SIDO = {
+            {"서울특별시", "11", "서울"}, {"부산광역시", "26", "부산"}, {"대구광역시", "27", "대구"},
+            {"인천광역시", "28", "인천"}, {"광주광역시", "29", "광주"}, {"대전광역시", "30", "대전"},
+            {"울산광역시", "31", "울산"}, {"세종특별자치시", "36", "세종"}, {"경기도", "41", "경기"},
+            {"강원특별자치도", "51", "강원"}, {"충청북도", "43", "충북"}, {"충청남도", "44", "충남"},
+            {"전북특별자치도", "52", "전북"}, {"전라남도", "46", "전남"}, {"경상북도", "47", "경북"},
+            {"경상남도", "48", "경남"}, {"제주특별자치도", "50", "제주"}
+    };
+
+    private static final String[] SYLLABLES = {
+            "가", "강", "경", "남", "도", "동", "명", "문", "봉", "부", "산", "서", "성", "송", "수", "신",
+            "안", "양", "영", "용", "원", "은", "인", "장", "정", "중", "진", "창", "천", "청", "평", "포"
+    };
+
+    private static final String[] HOUSE_TYPES = {"039", "049", "059", "074", "084", "101", "114", "135"};
+    private static final String[] DATE_FORMATS = {"yyyyMMdd", "yyyy.MM.dd", "yyyy-MM-dd", "yyyyMMddHHmm"};
+
+    private SyntheticData() {
+    }
+
+    public static Random random() {
+        return new Random(SEED);
+    }
+
+    // ── 지역 ──
+
+    public static List<RegionCode> regionCodes() {
+        List<RegionCode> codes = new ArrayList<>();
+        for (String[] sido : SIDO) {
+            for (int i = 0; i < SIGUNGU_PER_SIDO; i++) {
+                String suffix = i % 3 == 0 ? "시" : i % 3 == 1 ? "구" : "군";
+                codes.add(new RegionCode(sido[0], name(sido[1].hashCode() + i) + suffix,
+                        sido[1] + String.format("%03d", 110 + i * 10)));
+            }
+        }
+        return codes;
+    }
+
+    /**
+     * 시군구 이름으로 만든 청약 공고 형식 주소 (예: "서울 가남구 문성3동 123-4번지 일대")
+     */
+    public static String address(RegionCode code, Random random) {
+        String sido = random.nextBoolean() ? shortSidoName(code) : code.sidoName();
+        return "%s %s %s %d-%d번지 일대".formatted(sido, code.sigunguName(),
+                dongName(code, random.nextInt(DONGS_PER_SIGUNGU)), 1 + random.nextInt(900), 1 + random.nextInt(30));
+    }
+
+    public static String dongName(RegionCode code, int index) {
+        return name(code.lawdCd().hashCode() * 31 + index) + (index % 4 + 1) + "동";
+    }
+
+    public static String shortSidoName(RegionCode code) {
+        for (String[] sido : SIDO) {
+            if (sido[0].equals(code.sidoName())) {
+                return sido[2];
+            }
+        }
+        return code.sidoName();
+    }
+
+    // ── 실거래 ──
+
+    /**
+     * 법정동코드별 실거래 (거래일 내림차순, DB 조회 결과와 같은 순서)
+     * @param total 전체 거래 수
+     */
+    public static Map<String, List<RealTransaction>> transactionsByLawdCd(List<RegionCode> codes, int total, Random random) {
+        double harmonic = 0;
+        for (int i = 1; i <= codes.size(); i++) {
+            harmonic += 1.0 / i;
+        }
+
+        Map<String, List<RealTransaction>> byLawdCd = new LinkedHashMap<>();
+        int assigned = 0;
+        for (int i = 0; i < codes.size(); i++) {
+            int count = i == codes.size() - 1
+                    ? total - assigned
+                    : (int) Math.round(total / harmonic / (i + 1));
+            count = Math.min(count, total - assigned);
+            assigned += count;
+            byLawdCd.put(codes.get(i).lawdCd(), transactions(codes.get(i), count, random));
+        }
+        return byLawdCd;
+    }
+
+    public static List<RealTransaction> transactions(RegionCode code, int count, Random random) {
+        LocalDate today = LocalDate.now();
+        int currentYear = today.getYear();
+        List<RealTransaction> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate dealDate = today.minusDays(random.nextInt(365 * 3));
+            BigDecimal area = BigDecimal.valueOf(35 + random.nextInt(11_000) / 100.0).setScale(4, RoundingMode.HALF_UP);
+            long amount = (long) (area.doubleValue() * (800 + random.nextInt(1_200)));
+            transactions.add(RealTransaction.builder()
+                    .id((long) i)
+                    .lawdCd(code.lawdCd())
+                    .dealYmd("%04d%02d".formatted(dealDate.getYear(), dealDate.getMonthValue()))
+                    .aptName(name(random.nextInt(400)) + "아파트")
+                    .dealAmount(amount)
+                    .exclusiveArea(area)
+                    .floor(1 + random.nextInt(35))
+                    .buildYear(currentYear - random.nextInt(30))
+                    .dealDate(dealDate)
+                    .dongName(dongName(code, random.nextInt(DONGS_PER_SIGUNGU)))
+                    .jibun(String.valueOf(1 + random.nextInt(900)))
+                    .build());
+        }
+        transactions.sort(Comparator.comparing(RealTransaction::getDealDate).reversed());
+        return transactions;
+    }
+
+    /**
+     * 국토교통부 실거래가 API 응답 형식의 XML
+     */
+    public static byte[] realTransactionXml(int items, Random random) {
+        StringBuilder xml = new StringBuilder(items * 400 + 256);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?><response><header>")
+                .append("<resultCode>000</resultCode><resultMsg>OK</resultMsg></header><body><items>");
+        for (int i = 0; i < items; i++) {
+            xml.append("<item>")
+                    .append("<aptDong> </aptDong>")
+                    .append("<aptNm>").append(name(random.nextInt(400))).append("아파트</aptNm>")
+                    .append("<buildYear>").append(1990 + random.nextInt(35)).append("</buildYear>")
+                    .append("<dealAmount>").append(String.format("%,d", 20_000 + random.nextInt(300_000))).append("</dealAmount>")
+                    .append("<dealDay>").append(1 + random.nextInt(28)).append("</dealDay>")
+                    .append("<dealMonth>").append(1 + random.nextInt(12)).append("</dealMonth>")
+                    .append("<dealYear>2025</dealYear>")
+                    .append("<dealingGbn>중개거래</dealingGbn>")
+                    .append("<excluUseAr>").append(35 + random.nextInt(11_000) / 100.0).append("</excluUseAr>")
+                    .append("<floor>").append(1 + random.nextInt(35)).append("</floor>")
+                    .append("<jibun>").append(1 + random.nextInt(900)).append("</jibun>")
+                    .append("<sggCd>11680</sggCd>")
+                    .append("<umdNm>").append(name(random.nextInt(50))).append("동</umdNm>")
+                    .append("</item>");
+        }
+        xml.append("</items><numOfRows>").append(items).append("</numOfRows><pageNo>1</pageNo><totalCount>")
+                .append(items).append("</totalCount></body></response>");
+        return xml.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // ── 청약 ──
+
+    /**
+     * 청약 (70%는 서울·경기, 10%는 LH)
+     */
+    public static List<Subscription> subscriptions(List<RegionCode> codes, int count, Random random) {
+        List<RegionCode> capital = codes.stream()
+                .filter(code -> code.lawdCd().startsWith("11") || code.lawdCd().startsWith("41"))
+                .toList();
+        LocalDate today = LocalDate.now();
+        List<Subscription> subscriptions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            RegionCode code = random.nextInt(10) < 7
+                    ? capital.get(random.nextInt(capital.size()))
+                    : codes.get(random.nextInt(codes.size()));
+            LocalDate receiptStart = today.plusDays(random.nextInt(121) - 60);
+            subscriptions.add(Subscription.builder()
+                    .id((long) i + 1)
+                    .source(random.nextInt(10) == 0 ? "LH" : "ApplyHome")
+                    .houseManageNo(houseManageNo(i))
+                    .pblancNo(houseManageNo(i))
+                    .houseName(name(i) + "자이")
+                    .houseType("APT")
+                    .area(shortSidoName(code))
+                    .announceDate(receiptStart.minusDays(10))
+                    .receiptStartDate(receiptStart)
+                    .receiptEndDate(receiptStart.plusDays(2 + random.nextInt(4)))
+                    .winnerAnnounceDate(receiptStart.plusDays(10))
+                    .totalSupplyCount(100 + random.nextInt(2_000))
+                    .address(address(code, random))
+                    .build());
+        }
+        return subscriptions;
+    }
+
+    public static String houseManageNo(int index) {
+        return "2026%06d".formatted(index);
+    }
+
+    /**
+     * 청약 한 건의 주택형별 분양가 (3~6개 주택형)
+     */
+    public static List<SubscriptionPrice> prices(String houseManageNo, Random random) {
+        int types = 3 + random.nextInt(4);
+        int first = random.nextInt(HOUSE_TYPES.length - types + 1);
+        List<SubscriptionPrice> prices = new ArrayList<>(types);
+        for (int i = 0; i < types; i++) {
+            String area = HOUSE_TYPES[first + i];
+            long topAmount = Long.parseLong(area) * (900 + random.nextInt(1_000));
+            prices.add(SubscriptionPrice.builder()
+                    .houseManageNo(houseManageNo)
+                    .pblancNo(houseManageNo)
+                    .modelNo("%02d".formatted(i + 1))
+                    .houseType(area + "." + (1000 + random.nextInt(9000)) + (char) ('A' + i))
+                    .supplyCount(10 + random.nextInt(300))
+                    .topAmount(topAmount)
+                    .build());
+        }
+        return prices;
+    }
+
+    /**
+     * 청약별 경쟁률 (주택형 × 순위 × 거주지역)
+     */
+    public static List<CompetitionRate> competitionRates(List<Subscription> subscriptions, Random random) {
+        List<CompetitionRate> rates = new ArrayList<>();
+        for (Subscription subscription : subscriptions) {
+            int types = 2 + random.nextInt(5);
+            for (int t = 0; t < types; t++) {
+                String houseType = HOUSE_TYPES[random.nextInt(HOUSE_TYPES.length)] + "." + (1000 + t) + "A";
+                for (int rank = 1; rank <= 2; rank++) {
+                    for (String residenceArea : List.of("해당지역", "기타지역")) {
+                        int supply = 5 + random.nextInt(300);
+                        int requests = random.nextInt(supply * 80 + 1);
+                        rates.add(CompetitionRate.builder()
+                                .houseManageNo(subscription.getHouseManageNo())
+                                .pblancNo(subscription.getPblancNo())
+                                .houseType(houseType)
+                                .supplyCount(supply)
+                                .requestCount(requests)
+                                .competitionRate(BigDecimal.valueOf(requests)
+                                        .divide(BigDecimal.valueOf(supply), 2, RoundingMode.HALF_UP))
+                                .residenceArea(residenceArea)
+                                .rank(rank)
+                                .build());
+                    }
+                }
+            }
+        }
+        return rates;
+    }
+
+    public static CompetitionRateEntity toEntity(CompetitionRate rate) {
+        return CompetitionRateEntity.builder()
+                .houseManageNo(rate.getHouseManageNo())
+                .pblancNo(rate.getPblancNo())
+                .houseType(rate.getHouseType())
+                .supplyCount(rate.getSupplyCount())
+                .requestCount(rate.getRequestCount())
+                .competitionRate(rate.getCompetitionRate())
+                .residenceArea(rate.getResidenceArea())
+                .rank(rate.getRank())
+                .build();
+    }
+
+    // ── 날짜 문자열 ──
+
+    /**
+     * 공공데이터 API에 섞여 오는 날짜 형식 (yyyyMMdd, yyyy.MM.dd, yyyy-MM-dd, yyyyMMddHHmm, "-")
+     */
+    public static List<String> dateStrings(int count, Random random) {
+        LocalDate base = LocalDate.now().minusYears(1);
+        List<String> dates = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (random.nextInt(20) == 0) {
+                dates.add("-");
+                continue;
+            }
+            LocalDate date = base.plusDays(random.nextInt(730));
+            String format = DATE_FORMATS[random.nextInt(DATE_FORMATS.length)];
+            dates.add(switch (format) {
+                case "yyyyMMdd" -> "%04d%02d%02d".formatted(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+                case "yyyy.MM.dd" -> "%04d.%02d.%02d".formatted(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+                case "yyyy-MM-dd" -> date.toString();
+                default -> "%04d%02d%02d%02d00".formatted(date.getYear(), date.getMonthValue(), date.getDayOfMonth(),
+                        9 + random.nextInt(9));
+            });
+        }
+        return dates;
+    }
+
+    private static String name(int seed) {
+        int index = Math.floorMod(seed, SYLLABLES.length * SYLLABLES.length);
+        return SYLLABLES[index / SYLLABLES.length] + SYLLABLES[index % SYLLABLES.length];
+    }
+}
@@ -0,0 +1,46 @@
+package com.yunbok.houseping.infrastructure.api;
+
+import com.yunbok.houseping.bench.SyntheticData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실거래가 API 응답 한 페이지 파싱 (수집 경로)
+ * 캐시 저장 직전까지 항목마다 거치는 거래금액·계약일 변환을 포함한다.
+ * RealTransactionXmlReader가 패키지 전용이라 같은 패키지에 둔다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RealTransactionXmlReaderBenchmark {
+
+    /** API 한 페이지 요청 건수 */
+    @Param({"100", "1000"})
+    public int itemsPerPage;
+
+    private byte[] response;
+
+    @Setup
+    public void setUp() {
+        response = SyntheticData.realTransactionXml(itemsPerPage, SyntheticData.random());
+    }
+
+    @Benchmark
+    public int readPage(Blackhole blackhole) throws XMLStreamException {
+        return RealTransactionXmlReader.read(new ByteArrayInputStream(response), item -> {
+            blackhole.consume(item.getDealAmountAsLong());
+            blackhole.consume(item.getDealDate());
+        }).itemCount();
+    }
+}
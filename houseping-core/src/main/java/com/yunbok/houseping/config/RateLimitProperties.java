@@ -0,0 +1,47 @@
+package com.yunbok.houseping.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 외부 API 호출 속도 제한 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    /**
+     * 업스트림별 설정이 없을 때 사용하는 기본값
+     */
+    private Bucket defaults = new Bucket();
+
+    /**
+     * 업스트림(API 키)별 설정
+     */
+    private Map<String, Bucket> upstreams = new HashMap<>();
+
+    public Bucket bucketFor(String upstream) {
+        return upstreams.getOrDefault(upstream, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Bucket {
+        /**
+         * 초당 허용 호출 수
+         */
+        private double permitsPerSecond = 10;
+
+        /**
+         * 순간 최대 허용 호출 수
+         */
+        private int burst = 10;
+    }
+}
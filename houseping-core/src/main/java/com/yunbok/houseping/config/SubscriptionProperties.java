@@ -5,6 +5,7 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -26,6 +27,11 @@ public class SubscriptionProperties {
      */
     private ApiProperties api = new ApiProperties();
 
+    /**
+     * Provider Chain 회로 차단·헤징 설정
+     */
+    private ChainProperties chain = new ChainProperties();
+
     @Getter
     @Setter
     public static class ApiProperties {
@@ -39,4 +45,62 @@ public class SubscriptionProperties {
          */
         private int defaultPage = 1;
     }
+
+    @Getter
+    @Setter
+    public static class ChainProperties {
+        /**
+         * 건강도 계산에 쓰는 Provider별 최근 호출 수
+         */
+        private int windowSize = 20;
+
+        /**
+         * 회로를 열기 전에 필요한 최소 호출 수
+         */
+        private int minimumCalls = 4;
+
+        /**
+         * 회로를 여는 실패율 (0~1)
+         */
+        private double failureRateThreshold = 0.5;
+
+        /**
+         * 회로가 열린 뒤 시험 호출을 허용하기까지의 시간
+         */
+        private Duration openDuration = Duration.ofMinutes(30);
+
+        /**
+         * 헤징 설정
+         */
+        private HedgeProperties hedge = new HedgeProperties();
+    }
+
+    @Getter
+    @Setter
+    public static class HedgeProperties {
+        /**
+         * 느린 외부 Provider가 있으면 다음 외부 Provider를 동시에 호출
+         */
+        private boolean enabled = true;
+
+        /**
+         * 헤징 대기 시간으로 쓰는 성공 응답 시간 분위수 (0~1)
+         */
+        private double quantile = 0.95;
+
+        /**
+         * 헤징 대기 시간 하한
+         */
+        private Duration minDelay = Duration.ofSeconds(2);
+
+        /**
+         * 헤징 대기 시간 상한 (응답 시간 표본이 부족할 때도 사용)
+         */
+        private Duration maxDelay = Duration.ofSeconds(10);
+
+        /**
+         * 분위수를 쓰기 위한 최소 성공 표본 수
+         */
+        private int minSamples = 5;
+    }
 }
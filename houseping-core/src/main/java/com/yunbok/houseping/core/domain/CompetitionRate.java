@@ -4,6 +4,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.math.BigDecimal;
+import java.util.Objects;
 
 /**
  * 청약 경쟁률 정보
@@ -52,4 +53,13 @@ public class CompetitionRate {
      * 순위 (1순위/2순위)
      */
     private Integer rank;
+
+    /**
+     * 행 단위 중복 판별 키 (주택관리번호|공고번호|주택형|순위|거주지역, uk_competition_rate와 같은 컬럼)
+     * 값이 없는 항목은 빈 문자열로 둔다.
+     */
+    public String rowKey() {
+        return String.join("|", houseManageNo, pblancNo,
+                Objects.toString(houseType, ""), Objects.toString(rank, ""), Objects.toString(residenceArea, ""));
+    }
 }
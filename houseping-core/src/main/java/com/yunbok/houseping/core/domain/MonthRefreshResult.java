@@ -0,0 +1,13 @@
+package com.yunbok.houseping.core.domain;
+
+/**
+ * 실거래가 한 계약월 수집 결과
+ */
+public enum MonthRefreshResult {
+    /** 수집 후 캐시 내용이 바뀜 */
+    CHANGED,
+    /** 수집했으나 직전 수집과 같음 */
+    UNCHANGED,
+    /** API 오류·비정상 응답으로 수집하지 못함 (이전 캐시 유지) */
+    FAILED
+}
@@ -0,0 +1,11 @@
+package com.yunbok.houseping.core.domain;
+
+/**
+ * 알림 발송 대기열 적재 이벤트
+ * 적재 트랜잭션이 커밋된 뒤 발송기를 깨우는 데 사용
+ */
+public record NotificationEnqueuedEvent(
+    String channel,
+    int count
+) {
+}
@@ -0,0 +1,13 @@
+package com.yunbok.houseping.core.domain;
+
+/**
+ * 알림 발송 대기열(outbox)의 메시지 1건 (채널·수신자 단위)
+ */
+public record OutboxMessage(
+    Long id,
+    String channel,
+    String recipient,
+    String message,
+    int attempts
+) {
+}
@@ -0,0 +1,42 @@
+package com.yunbok.houseping.core.domain;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 공개 페이지 데이터 변경 이벤트
+ * 분양가·가격 배지·경쟁률처럼 청약 스냅샷 밖의 데이터가 바뀌면
+ * 공개 페이지 캐시(ETag) 버전을 올리고 분석 결과 캐시에서 해당 청약을 비우는 데 사용
+ *
+ * @param houseManageNos 바뀐 청약의 주택관리번호 (비어 있으면 전체)
+ */
+public record PublicDataChangedEvent(
+    Kind kind,
+    Set<String> houseManageNos
+) {
+
+    public enum Kind {
+        PRICE,
+        PRICE_BADGE,
+        COMPETITION_RATE
+    }
+
+    public static PublicDataChangedEvent of(Kind kind, Collection<String> houseManageNos) {
+        return new PublicDataChangedEvent(kind, houseManageNos.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+
+    public static PublicDataChangedEvent all(Kind kind) {
+        return new PublicDataChangedEvent(kind, Set.of());
+    }
+
+    /**
+     * 해당 청약이 이번 변경에 포함되는지 확인
+     */
+    public boolean affects(String houseManageNo) {
+        return houseManageNos.isEmpty() || houseManageNos.contains(houseManageNo);
+    }
+}
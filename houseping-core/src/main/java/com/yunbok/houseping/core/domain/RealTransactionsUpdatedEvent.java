@@ -0,0 +1,10 @@
+package com.yunbok.houseping.core.domain;
+
+/**
+ * 실거래가 캐시 갱신 이벤트
+ * 새 계약월 데이터가 저장되면 해당 지역의 메모리 인덱스를 다시 만들도록 알림
+ */
+public record RealTransactionsUpdatedEvent(
+    String lawdCd
+) {
+}
@@ -0,0 +1,12 @@
+package com.yunbok.houseping.core.domain;
+
+/**
+ * 시군구 법정동코드
+ * 시군구명은 복합 시의 경우 공백 없이 이어 붙인 형태 (예: "수원시장안구")
+ */
+public record RegionCode(
+    String sidoName,
+    String sigunguName,
+    String lawdCd
+) {
+}
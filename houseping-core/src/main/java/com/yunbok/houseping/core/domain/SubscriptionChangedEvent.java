@@ -0,0 +1,10 @@
+package com.yunbok.houseping.core.domain;
+
+/**
+ * 청약 데이터 변경 이벤트
+ * 동기화·정리 트랜잭션이 커밋된 뒤 조회용 스냅샷을 교체하는 데 사용
+ */
+public record SubscriptionChangedEvent(
+    String reason
+) {
+}
@@ -2,7 +2,9 @@ package com.yunbok.houseping.core.port;
 
 import com.yunbok.houseping.core.domain.CompetitionRate;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public interface CompetitionRatePersistencePort {
 
@@ -10,7 +12,15 @@ public interface CompetitionRatePersistencePort {
 
     void saveAll(List<CompetitionRate> competitionRates);
 
+    List<CompetitionRate> findAll();
+
     List<CompetitionRate> findByHouseManageNoAndPblancNo(String houseManageNo, String pblancNo);
 
     boolean existsByHouseManageNoAndPblancNo(String houseManageNo, String pblancNo);
+
+    /**
+     * 이미 저장된 경쟁률 행 키 일괄 조회
+     * @return {@link CompetitionRate#rowKey()} 형식의 키 집합
+     */
+    Set<String> findRowKeys(Collection<String> houseManageNos);
 }
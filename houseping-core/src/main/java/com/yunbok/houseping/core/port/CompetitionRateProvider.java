@@ -2,7 +2,9 @@ package com.yunbok.houseping.core.port;
 
 import com.yunbok.houseping.core.domain.CompetitionRate;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 경쟁률 데이터 조회 포트
@@ -10,10 +12,22 @@ import java.util.List;
 public interface CompetitionRateProvider {
 
     /**
-     * 전체 경쟁률 조회
+     * 전체 경쟁률을 페이지 단위로 전달
      * (당첨 발표 완료된 건만 API에서 데이터 제공)
+     * 페이지 순서는 보장하지 않으며, pageConsumer는 호출 스레드에서 순차적으로 실행된다.
+     *
+     * @param pageConsumer 페이지별 경쟁률 목록 처리
+     */
+    void fetchAllPages(Consumer<List<CompetitionRate>> pageConsumer);
+
+    /**
+     * 전체 경쟁률 조회
      *
      * @return 경쟁률 목록
      */
-    List<CompetitionRate> fetchAll();
+    default List<CompetitionRate> fetchAll() {
+        List<CompetitionRate> all = new ArrayList<>();
+        fetchAllPages(all::addAll);
+        return all;
+    }
 }
@@ -0,0 +1,28 @@
+package com.yunbok.houseping.core.port;
+
+import com.yunbok.houseping.support.dto.CompetitionRateRollupCell;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CompetitionRateRollupPort {
+
+    List<CompetitionRateRollupCell> findAll();
+
+    /**
+     * 전체 재집계가 끝난 상태인지 (TOTAL 행 존재 여부)
+     */
+    boolean isBuilt();
+
+    /**
+     * 같은 차원·키의 집계 행에 더하고, 없으면 새로 저장
+     */
+    void merge(Collection<CompetitionRateRollupCell> deltas);
+
+    /**
+     * 전체 집계를 주어진 셀로 교체
+     */
+    void replaceAll(Collection<CompetitionRateRollupCell> cells);
+
+    void deleteAll();
+}
@@ -0,0 +1,37 @@
+package com.yunbok.houseping.core.port;
+
+import java.util.List;
+
+/**
+ * 알림 채널(텔레그램, Slack 등)의 실제 전송 포트
+ * 메시지는 대기열에 먼저 쌓이고, 발송기가 호출 제한을 지키며 이 포트로 한 건씩 전송한다.
+ */
+public interface NotificationChannel {
+
+    /**
+     * 채널 이름 (대기열 channel 값, 예: TELEGRAM)
+     */
+    String name();
+
+    /**
+     * 메시지를 받을 수신자 목록 (chat id 등)
+     */
+    List<String> recipients();
+
+    /**
+     * 채널 전체 호출 제한 키 ({@link com.yunbok.houseping.support.util.ApiRateLimiter})
+     */
+    String rateLimitKey();
+
+    /**
+     * 수신자별 호출 제한 키 (수신자 구분 제한이 없으면 null)
+     */
+    default String recipientRateLimitKey() {
+        return null;
+    }
+
+    /**
+     * 한 수신자에게 메시지 전송 (실패 시 예외)
+     */
+    void deliver(String recipient, String message);
+}
@@ -0,0 +1,42 @@
+package com.yunbok.houseping.core.port;
+
+import com.yunbok.houseping.core.domain.OutboxMessage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxPort {
+
+    /**
+     * 수신자마다 발송 대기 메시지 1건씩 저장
+     */
+    void enqueue(String channel, List<String> recipients, String message);
+
+    /**
+     * 발송 시각이 된 대기 메시지를 선점해 조회 (저장 순)
+     * 다른 인스턴스가 잠근 행은 건너뛰고, 꺼낸 행은 다음 시도 시각을 leaseUntil로 미뤄 다시 꺼내지지 않게 한다.
+     */
+    List<OutboxMessage> claimDue(LocalDateTime now, int limit, LocalDateTime leaseUntil);
+
+    void markSent(Long id, LocalDateTime sentAt);
+
+    /**
+     * 실패 기록 후 nextAttemptAt에 다시 시도
+     */
+    void markRetry(Long id, String error, LocalDateTime nextAttemptAt);
+
+    /**
+     * 실패 기록 후 더 이상 시도하지 않음
+     */
+    void markFailed(Long id, String error);
+
+    /**
+     * 시도 횟수는 그대로 두고 다음 시도 시각만 미룸
+     */
+    void defer(List<Long> ids, LocalDateTime nextAttemptAt);
+
+    /**
+     * 발송 완료된 오래된 메시지 정리
+     */
+    int deleteSentBefore(LocalDateTime cutoff);
+}
@@ -3,15 +3,28 @@ package com.yunbok.houseping.core.port;
 import com.yunbok.houseping.support.dto.NotificationTarget;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface NotificationSubscriptionPersistencePort {
 
+    /**
+     * 접수 시작일이 receiptStartDate인 미발송 알림 대상
+     */
     List<NotificationTarget> findPendingReceiptStartTargets(LocalDate receiptStartDate);
 
+    /**
+     * 접수 마감일이 receiptEndDate인 미발송 알림 대상
+     */
     List<NotificationTarget> findPendingReceiptEndTargets(LocalDate receiptEndDate);
 
-    void markReceiptStartNotified(Long notificationId);
+    /**
+     * 접수 시작 알림 발송 완료 일괄 처리
+     */
+    void markReceiptStartNotified(Collection<Long> notificationIds);
 
-    void markReceiptEndNotified(Long notificationId);
+    /**
+     * 접수 종료 알림 발송 완료 일괄 처리
+     */
+    void markReceiptEndNotified(Collection<Long> notificationIds);
 }
@@ -0,0 +1,23 @@
+package com.yunbok.houseping.core.port;
+
+import com.yunbok.houseping.support.dto.PriceBadge;
+import com.yunbok.houseping.support.dto.PriceBadgeSnapshot;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface PriceBadgePersistencePort {
+
+    /**
+     * 주택관리번호별 사전 계산된 배지 조회 (없는 번호는 결과에서 제외)
+     */
+    Map<String, PriceBadge> findBadgesByHouseManageNos(Collection<String> houseManageNos);
+
+    void saveAll(List<PriceBadgeSnapshot> snapshots);
+
+    /**
+     * 저장된 배지가 하나도 없는지 (첫 배포 직후 등)
+     */
+    boolean isEmpty();
+}
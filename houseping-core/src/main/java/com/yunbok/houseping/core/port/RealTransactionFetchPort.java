@@ -1,5 +1,6 @@
 package com.yunbok.houseping.core.port;
 
+import com.yunbok.houseping.core.domain.MonthRefreshResult;
 import com.yunbok.houseping.core.domain.RealTransaction;
 
 import java.util.List;
@@ -14,4 +15,16 @@ public interface RealTransactionFetchPort {
      * @return 조회된 거래 목록
      */
     List<RealTransaction> fetchAndCacheRecentTransactions(String lawdCd, int months);
+
+    /**
+     * 최근 N개월 중 다시 수집해야 하는 계약월 (확정됐거나 아직 유효한 계약월 제외)
+     * @return 계약월(YYYYMM) 목록
+     */
+    List<String> findStaleDealYmds(String lawdCd, int months);
+
+    /**
+     * 한 계약월 실거래가 수집 후 캐시 저장
+     * @return 변경 / 변경 없음 / 수집 실패
+     */
+    MonthRefreshResult refreshMonth(String lawdCd, String dealYmd);
 }
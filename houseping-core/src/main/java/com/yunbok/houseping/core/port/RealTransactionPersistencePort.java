@@ -11,4 +11,9 @@ public interface RealTransactionPersistencePort {
     List<RealTransaction> findByLawdCd(String lawdCd);
 
     boolean hasCachedData(String lawdCd);
+
+    /**
+     * 지정 연도 이전 계약분의 캐시와 수집 현황 삭제
+     */
+    void purgeBefore(int year);
 }
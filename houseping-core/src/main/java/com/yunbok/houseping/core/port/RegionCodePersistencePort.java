@@ -1,10 +1,10 @@
 package com.yunbok.houseping.core.port;
 
-import java.util.Optional;
+import com.yunbok.houseping.core.domain.RegionCode;
 
-public interface RegionCodePersistencePort {
+import java.util.List;
 
-    Optional<String> findLawdCd(String sidoName, String sigunguName);
+public interface RegionCodePersistencePort {
 
-    Optional<String> findLawdCdByContaining(String sigunguName);
+    List<RegionCode> findAll();
 }
@@ -1,8 +1,10 @@
 package com.yunbok.houseping.core.port;
 
 import com.yunbok.houseping.core.domain.Subscription;
+import com.yunbok.houseping.support.dto.SyncResult;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -11,6 +13,9 @@ public interface SubscriptionPersistencePort {
 
     Optional<Subscription> findById(Long id);
 
+    /**
+     * 지역명 조회 ("서울"이면 "서울특별시"로 저장된 청약도 포함)
+     */
     List<Subscription> findByAreaContaining(String area);
 
     List<Subscription> findBySourceAndAreas(String source, List<String> areas);
@@ -25,15 +30,18 @@ public interface SubscriptionPersistencePort {
 
     List<Subscription> findRecentSubscriptions(int limit);
 
-    Optional<Subscription> findBySourceAndHouseNameAndReceiptStartDate(String source, String houseName, LocalDate receiptStartDate);
-
     List<Subscription> findByAreaAndReceiptStartDate(String area, LocalDate receiptStartDate);
 
     Set<String> findHouseManageNosByAreas(List<String> areas);
 
+    List<Subscription> findByHouseManageNos(Collection<String> houseManageNos);
+
     void save(Subscription subscription, String source);
 
-    void update(Subscription subscription, String source);
+    /**
+     * 소스 단위 일괄 upsert (신규 저장, 변경분만 갱신, 동일하면 건너뜀)
+     */
+    SyncResult upsertAll(List<Subscription> subscriptions, String source);
 
     int deleteOldSubscriptions(LocalDate cutoffDate);
 }
@@ -0,0 +1,15 @@
+package com.yunbok.houseping.core.port;
+
+/**
+ * 분양가 상세 외부 API 조회 Port
+ */
+public interface SubscriptionPriceFetchPort {
+
+    /**
+     * 주택관리번호·공고번호로 분양가 상세를 조회하여 저장
+     * 한 청약의 모델별 분양가는 한 트랜잭션으로 저장된다.
+     * @return 새로 저장된 모델 수
+     * @throws RuntimeException API 호출 실패 시
+     */
+    int fetchAndSavePriceDetails(String houseManageNo, String pblancNo, String houseType);
+}
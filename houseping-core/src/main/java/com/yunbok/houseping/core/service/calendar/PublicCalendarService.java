@@ -1,11 +1,9 @@
 package com.yunbok.houseping.core.service.calendar;
 
-import com.querydsl.core.BooleanBuilder;
+import com.yunbok.houseping.core.domain.Subscription;
 import com.yunbok.houseping.core.domain.SubscriptionSource;
+import com.yunbok.houseping.core.service.subscription.SubscriptionReadModel;
 import com.yunbok.houseping.support.dto.PublicCalendarEventDto;
-import com.yunbok.houseping.entity.QSubscriptionEntity;
-import com.yunbok.houseping.entity.SubscriptionEntity;
-import com.yunbok.houseping.repository.SubscriptionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -13,7 +11,6 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 /**
  * 공개 캘린더 서비스
@@ -23,39 +20,18 @@ import java.util.stream.StreamSupport;
 @RequiredArgsConstructor
 public class PublicCalendarService {
 
-    private final SubscriptionRepository subscriptionRepository;
-
-    private static final QSubscriptionEntity subscription = QSubscriptionEntity.subscriptionEntity;
+    private final SubscriptionReadModel subscriptionReadModel;
 
     public List<PublicCalendarEventDto> getCalendarEvents(LocalDate start, LocalDate end) {
-        BooleanBuilder builder = new BooleanBuilder();
-        builder.or(
-                subscription.receiptStartDate.goe(start)
-                        .and(subscription.receiptStartDate.loe(end))
-        );
-        builder.or(
-                subscription.receiptEndDate.goe(start)
-                        .and(subscription.receiptEndDate.loe(end))
-        );
-        builder.or(
-                subscription.winnerAnnounceDate.isNotNull()
-                        .and(subscription.winnerAnnounceDate.goe(start))
-                        .and(subscription.winnerAnnounceDate.loe(end))
-        );
-        builder.or(
-                subscription.receiptStartDate.loe(start)
-                        .and(subscription.receiptEndDate.goe(end))
-        );
-
-        List<SubscriptionEntity> entities = StreamSupport
-                .stream(subscriptionRepository.findAll(builder).spliterator(), false)
+        List<Subscription> subscriptions = subscriptionReadModel.findAll().stream()
+                .filter(s -> isInRange(s, start, end))
                 .toList();
 
         // detailUrl 기준 중복 제거
-        entities = entities.stream()
+        subscriptions = subscriptions.stream()
                 .collect(Collectors.toMap(
-                        e -> e.getDetailUrl() != null ? e.getDetailUrl() : "no-url-" + e.getId(),
-                        e -> e,
+                        s -> s.getDetailUrl() != null ? s.getDetailUrl() : "no-url-" + s.getId(),
+                        s -> s,
                         (existing, replacement) -> existing
                 ))
                 .values()
@@ -64,26 +40,41 @@ public class PublicCalendarService {
 
         List<PublicCalendarEventDto> events = new ArrayList<>();
 
-        for (SubscriptionEntity entity : entities) {
-            if (entity.getReceiptStartDate() != null) {
-                events.add(toCalendarEvent(entity, "receipt"));
+        for (Subscription subscription : subscriptions) {
+            if (subscription.getReceiptStartDate() != null) {
+                events.add(toCalendarEvent(subscription, "receipt"));
             }
-            if (entity.getWinnerAnnounceDate() != null) {
-                events.add(toCalendarEvent(entity, "winner"));
+            if (subscription.getWinnerAnnounceDate() != null) {
+                events.add(toCalendarEvent(subscription, "winner"));
             }
         }
 
         return events;
     }
 
-    private PublicCalendarEventDto toCalendarEvent(SubscriptionEntity entity, String eventType) {
+    /**
+     * 접수 시작·종료일 또는 발표일이 기간 안에 있거나, 접수 기간이 조회 기간을 포함하는지 확인
+     */
+    private boolean isInRange(Subscription s, LocalDate start, LocalDate end) {
+        return isBetween(s.getReceiptStartDate(), start, end)
+                || isBetween(s.getReceiptEndDate(), start, end)
+                || isBetween(s.getWinnerAnnounceDate(), start, end)
+                || (s.getReceiptStartDate() != null && s.getReceiptEndDate() != null
+                        && !s.getReceiptStartDate().isAfter(start) && !s.getReceiptEndDate().isBefore(end));
+    }
+
+    private boolean isBetween(LocalDate date, LocalDate start, LocalDate end) {
+        return date != null && !date.isBefore(start) && !date.isAfter(end);
+    }
+
+    private PublicCalendarEventDto toCalendarEvent(Subscription subscription, String eventType) {
         String title;
         LocalDate start;
         LocalDate end;
         String color;
         String textColor = "#ffffff";
 
-        boolean isLH = SubscriptionSource.LH.matches(entity.getSource());
+        boolean isLH = SubscriptionSource.LH.matches(subscription.getSource());
         String sourceTag = isLH ? "[LH]" : "[청약]";
 
         // 청약Home만 분석 페이지 제공
@@ -92,43 +83,43 @@ public class PublicCalendarService {
         boolean expired;
         if ("receipt".equals(eventType)) {
             // 접수 이벤트: 접수 종료일 기준
-            expired = entity.getReceiptEndDate() != null
-                    && entity.getReceiptEndDate().isBefore(LocalDate.now());
-            title = sourceTag + " " + entity.getHouseName();
-            start = entity.getReceiptStartDate();
-            end = entity.getReceiptEndDate() != null ? entity.getReceiptEndDate().plusDays(1) : start.plusDays(1);
+            expired = subscription.getReceiptEndDate() != null
+                    && subscription.getReceiptEndDate().isBefore(LocalDate.now());
+            title = sourceTag + " " + subscription.getHouseName();
+            start = subscription.getReceiptStartDate();
+            end = subscription.getReceiptEndDate() != null ? subscription.getReceiptEndDate().plusDays(1) : start.plusDays(1);
             color = isLH ? "#f97316" : "#3b82f6";
         } else {
             // 발표 이벤트: 발표일 기준
-            expired = entity.getWinnerAnnounceDate() != null
-                    && entity.getWinnerAnnounceDate().isBefore(LocalDate.now());
-            title = sourceTag + " " + entity.getHouseName();
-            start = entity.getWinnerAnnounceDate();
+            expired = subscription.getWinnerAnnounceDate() != null
+                    && subscription.getWinnerAnnounceDate().isBefore(LocalDate.now());
+            title = sourceTag + " " + subscription.getHouseName();
+            start = subscription.getWinnerAnnounceDate();
             end = start.plusDays(1);
             color = isLH ? "#a855f7" : "#10b981";
         }
 
         return new PublicCalendarEventDto(
-                entity.getId(),
+                subscription.getId(),
                 title,
                 start,
                 end,
                 color,
                 textColor,
                 new PublicCalendarEventDto.ExtendedProps(
-                        entity.getHouseName(),
-                        entity.getArea(),
-                        entity.getSource(),
-                        entity.getHouseType(),
-                        entity.getAnnounceDate(),
-                        entity.getReceiptStartDate(),
-                        entity.getReceiptEndDate(),
-                        entity.getWinnerAnnounceDate(),
-                        entity.getTotalSupplyCount(),
-                        entity.getDetailUrl(),
+                        subscription.getHouseName(),
+                        subscription.getArea(),
+                        subscription.getSource(),
+                        subscription.getHouseType(),
+                        subscription.getAnnounceDate(),
+                        subscription.getReceiptStartDate(),
+                        subscription.getReceiptEndDate(),
+                        subscription.getWinnerAnnounceDate(),
+                        subscription.getTotalSupplyCount(),
+                        subscription.getDetailUrl(),
                         eventType,
                         expired,
-                        entity.getAddress(),
+                        subscription.getAddress(),
                         hasAnalysis
                 )
         );
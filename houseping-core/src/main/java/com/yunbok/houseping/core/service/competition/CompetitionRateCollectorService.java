@@ -1,42 +1,51 @@
 package com.yunbok.houseping.core.service.competition;
 
 import com.yunbok.houseping.core.domain.CompetitionRate;
+import com.yunbok.houseping.core.domain.PublicDataChangedEvent;
 import com.yunbok.houseping.core.domain.SubscriptionConfig;
 import com.yunbok.houseping.core.port.CompetitionRatePersistencePort;
 import com.yunbok.houseping.core.port.CompetitionRateProvider;
 import com.yunbok.houseping.core.port.SubscriptionPersistencePort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 /**
  * 경쟁률 수집 서비스
- * 청약홈 API에서 경쟁률 전체 조회 후 서울/경기만 필터링하여 DB 저장
+ * 청약홈 API에서 경쟁률을 페이지 단위로 받아 서울/경기만 필터링하여 DB 저장
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CompetitionRateCollectorService {
 
+    private static final int SAVE_BATCH_SIZE = 500;
+
     private final CompetitionRatePersistencePort competitionRatePort;
     private final SubscriptionPersistencePort subscriptionPort;
     private final Optional<CompetitionRateProvider> competitionRateProvider;
     private final SubscriptionConfig config;
+    private final CompetitionRateRollupService rollupService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 경쟁률 수집
-     * - API에서 전체 조회
+     * - API에서 페이지 단위로 조회
      * - 서울/경기 지역만 필터링
-     * - 중복 제외하고 신규 건만 저장
+     * - 이미 저장된 행은 한 번에 조회한 행 키로 제외 (같은 수집 안에서 다시 나온 행도 제외)
+     * - SAVE_BATCH_SIZE 단위로 나눠 저장 (청크마다 트랜잭션이 끝나 영속성 컨텍스트가 쌓이지 않음)
+     *   청크가 공고 중간에서 나뉘므로, 수집이 도중에 실패해 공고 일부만 저장돼도 다음 수집 때 빠진 행만 채워진다.
+     * - 저장한 청크는 대시보드 집계에 바로 반영 (저장과 반영은 집계 서비스가 재집계와 겹치지 않게 처리)
      *
      * @return 신규 저장 건수
      */
-    @Transactional
     public int collect() {
         if (competitionRateProvider.isEmpty()) {
             log.info("[경쟁률 수집] Provider가 비활성화 상태입니다.");
@@ -51,10 +60,24 @@ public class CompetitionRateCollectorService {
             return 0;
         }
 
-        List<CompetitionRate> allRates = fetchAllRates();
-        List<CompetitionRate> newRates = filterNewRates(allRates, targetHouseManageNumbers);
+        Set<String> seenKeys = new HashSet<>(competitionRatePort.findRowKeys(targetHouseManageNumbers));
+        log.info("[경쟁률 수집] 기존 경쟁률 {}건 제외", seenKeys.size());
+
+        RateBatchWriter writer = new RateBatchWriter();
+        competitionRateProvider.get().fetchAllPages(page -> page.stream()
+                .filter(rate -> targetHouseManageNumbers.contains(rate.getHouseManageNo()))
+                .filter(rate -> seenKeys.add(rate.rowKey()))
+                .forEach(writer::add));
+        writer.flush();
 
-        return saveRates(newRates);
+        if (writer.savedCount == 0) {
+            log.info("[경쟁률 수집] 신규 데이터 없음");
+        } else {
+            log.info("[경쟁률 수집] 완료 - {}건 저장", writer.savedCount);
+            eventPublisher.publishEvent(PublicDataChangedEvent.of(
+                    PublicDataChangedEvent.Kind.COMPETITION_RATE, writer.houseManageNos));
+        }
+        return writer.savedCount;
     }
 
     private Set<String> findTargetHouseManageNumbers() {
@@ -63,29 +86,31 @@ public class CompetitionRateCollectorService {
         return nos;
     }
 
-    private List<CompetitionRate> fetchAllRates() {
-        List<CompetitionRate> rates = competitionRateProvider.get().fetchAll();
-        log.info("[경쟁률 수집] API 조회 완료 - 전체 {}건", rates.size());
-        return rates;
-    }
+    /**
+     * 신규 경쟁률을 모아 고정 크기 단위로 저장
+     */
+    private class RateBatchWriter {
 
-    private List<CompetitionRate> filterNewRates(List<CompetitionRate> allRates, Set<String> targetHouseManageNos) {
-        List<CompetitionRate> newRates = allRates.stream()
-                .filter(rate -> targetHouseManageNos.contains(rate.getHouseManageNo()))
-                .filter(rate -> !competitionRatePort.existsByHouseManageNoAndPblancNo(
-                        rate.getHouseManageNo(), rate.getPblancNo()))
-                .toList();
-        log.info("[경쟁률 수집] 필터링 후 신규 데이터: {}건", newRates.size());
-        return newRates;
-    }
+        private final List<CompetitionRate> buffer = new ArrayList<>(SAVE_BATCH_SIZE);
+        private int savedCount;
+        private final Set<String> houseManageNos = new HashSet<>();
 
-    private int saveRates(List<CompetitionRate> rates) {
-        if (rates.isEmpty()) {
-            log.info("[경쟁률 수집] 신규 데이터 없음");
-            return 0;
+        void add(CompetitionRate rate) {
+            buffer.add(rate);
+            if (buffer.size() >= SAVE_BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            List<CompetitionRate> batch = List.copyOf(buffer);
+            rollupService.saveAll(batch);
+            savedCount += batch.size();
+            batch.forEach(rate -> houseManageNos.add(rate.getHouseManageNo()));
+            buffer.clear();
         }
-        competitionRatePort.saveAll(rates);
-        log.info("[경쟁률 수집] 완료 - {}건 저장", rates.size());
-        return rates.size();
     }
 }
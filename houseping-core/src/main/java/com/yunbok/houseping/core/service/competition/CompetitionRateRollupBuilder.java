@@ -0,0 +1,142 @@
+package com.yunbok.houseping.core.service.competition;
+
+import com.yunbok.houseping.core.domain.CompetitionRate;
+import com.yunbok.houseping.core.domain.Subscription;
+import com.yunbok.houseping.support.dto.CompetitionRateRollupCell;
+import com.yunbok.houseping.support.dto.CompetitionRateRollupCell.Dimension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경쟁률 행을 대시보드 집계 셀로 변환
+ * 같은 규칙으로 신규 저장분(증분)과 전체 재집계를 모두 만든다.
+ */
+public final class CompetitionRateRollupBuilder {
+
+    /** 유효 경쟁률로 보는 최소 공급세대수 (소규모 이상치 제외) */
+    private static final int MIN_VALID_SUPPLY = 20;
+
+    private final Map<String, CompetitionRateRollupCell> cells = new LinkedHashMap<>();
+
+    /**
+     * @param subscriptionsByHouseManageNo 지역·연도 산출용 청약 (없는 경쟁률은 지역 차원에서 제외)
+     */
+    public static List<CompetitionRateRollupCell> build(Collection<CompetitionRate> rates,
+                                                        Map<String, Subscription> subscriptionsByHouseManageNo) {
+        CompetitionRateRollupBuilder builder = new CompetitionRateRollupBuilder();
+        for (CompetitionRate rate : rates) {
+            builder.add(rate, subscriptionsByHouseManageNo.get(rate.getHouseManageNo()));
+        }
+        return builder.cells();
+    }
+
+    public List<CompetitionRateRollupCell> cells() {
+        return new ArrayList<>(cells.values());
+    }
+
+    public void add(CompetitionRate rate, Subscription subscription) {
+        boolean valid = isValid(rate);
+        BigDecimal value = rate.getCompetitionRate();
+
+        put(valid
+                ? CompetitionRateRollupCell.rated(Dimension.TOTAL, CompetitionRateRollupCell.TOTAL_KEY, value)
+                : CompetitionRateRollupCell.counted(Dimension.TOTAL, CompetitionRateRollupCell.TOTAL_KEY));
+
+        String area = subscription != null ? subscription.getArea() : null;
+        if (area != null) {
+            put(CompetitionRateRollupCell.counted(Dimension.AREA, area));
+            Integer year = subscriptionYear(subscription);
+            if (valid && year != null) {
+                put(CompetitionRateRollupCell.rated(Dimension.AREA_YEAR, areaYearKey(area, year), value));
+            }
+        }
+
+        String houseType = rate.getHouseType();
+        if (houseType != null) {
+            put(CompetitionRateRollupCell.counted(Dimension.HOUSE_TYPE, houseType));
+            Integer mainSize = houseType.isBlank() ? null : extractMainSize(houseType);
+            if (mainSize != null) {
+                put(countedOrRated(Dimension.MAIN_SIZE, String.valueOf(mainSize), value));
+            }
+        }
+
+        String residenceArea = rate.getResidenceArea();
+        if (residenceArea != null && !residenceArea.isBlank()) {
+            put(countedOrRated(Dimension.RESIDENCE_AREA, residenceArea, value));
+        }
+
+        if (valid) {
+            put(CompetitionRateRollupCell.counted(Dimension.RATE_BUCKET, rateBucket(value).name()));
+        }
+    }
+
+    public static String areaYearKey(String area, int year) {
+        return area + "|" + year;
+    }
+
+    private void put(CompetitionRateRollupCell cell) {
+        cells.merge(cell.dimension() + "|" + cell.key(), cell, CompetitionRateRollupCell::plus);
+    }
+
+    private static CompetitionRateRollupCell countedOrRated(Dimension dimension, String key, BigDecimal rate) {
+        return rate != null
+                ? CompetitionRateRollupCell.rated(dimension, key, rate)
+                : CompetitionRateRollupCell.counted(dimension, key);
+    }
+
+    /**
+     * 유효한 경쟁률 데이터인지 확인
+     * - 경쟁률: 0 초과
+     * - 공급세대수: 20세대 이상
+     */
+    private static boolean isValid(CompetitionRate rate) {
+        BigDecimal value = rate.getCompetitionRate();
+        Integer supply = rate.getSupplyCount();
+        if (value == null || value.compareTo(BigDecimal.ZERO) <= 0) return false;
+        return supply != null && supply >= MIN_VALID_SUPPLY;
+    }
+
+    /**
+     * 청약의 연도 (당첨발표일 > 접수시작일 > 공고일 순으로 우선)
+     */
+    private static Integer subscriptionYear(Subscription sub) {
+        if (sub.getWinnerAnnounceDate() != null) return sub.getWinnerAnnounceDate().getYear();
+        if (sub.getReceiptStartDate() != null) return sub.getReceiptStartDate().getYear();
+        if (sub.getAnnounceDate() != null) return sub.getAnnounceDate().getYear();
+        return null;
+    }
+
+    /**
+     * 주택형에서 주요 평수 추출 (예: "084.9543T" -> 84)
+     */
+    private static Integer extractMainSize(String houseType) {
+        try {
+            String numPart = houseType.replaceAll("[^0-9.]", "");
+            if (numPart.isEmpty()) return null;
+            return (int) Double.parseDouble(numPart.split("\\.")[0]);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static RateBucket rateBucket(BigDecimal rate) {
+        double r = rate.doubleValue();
+        if (r <= 5) return RateBucket.UNDER_5;
+        if (r <= 10) return RateBucket.FROM_5_TO_10;
+        if (r <= 20) return RateBucket.FROM_10_TO_20;
+        if (r <= 50) return RateBucket.FROM_20_TO_50;
+        return RateBucket.OVER_50;
+    }
+
+    /**
+     * 경쟁률 구간 ({@link Dimension#RATE_BUCKET} 키)
+     */
+    public enum RateBucket {
+        UNDER_5, FROM_5_TO_10, FROM_10_TO_20, FROM_20_TO_50, OVER_50
+    }
+}
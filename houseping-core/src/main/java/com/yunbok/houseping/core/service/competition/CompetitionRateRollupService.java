@@ -0,0 +1,110 @@
+package com.yunbok.houseping.core.service.competition;
+
+import com.yunbok.houseping.core.domain.CompetitionRate;
+import com.yunbok.houseping.core.domain.Subscription;
+import com.yunbok.houseping.core.port.CompetitionRatePersistencePort;
+import com.yunbok.houseping.core.port.CompetitionRateRollupPort;
+import com.yunbok.houseping.core.port.SubscriptionPersistencePort;
+import com.yunbok.houseping.support.dto.CompetitionRateRollupCell;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 경쟁률 대시보드 집계 서비스
+ * - 경쟁률이 저장될 때마다 해당 배치만 집계해 기존 집계 행에 더함
+ * - 집계가 비어 있으면(최초 기동, 반영 실패, 경쟁률 전체 삭제 후) 한 번 전체 재집계
+ *   재집계 전에는 증분을 더하지 않는다. 배치만 담긴 집계가 완성된 것으로 보이면 재집계가 일어나지 않기 때문이다.
+ * - 배치 저장과 증분 반영, 재집계, 초기화는 서로 겹치지 않게 한다. (수집과 대시보드는 같은 애플리케이션에서 실행)
+ *   저장과 반영 사이에 재집계가 끼면 그 배치가 두 번 더해지고, 재집계가 반영 전 데이터로 교체하면 반영분이 사라지기 때문이다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CompetitionRateRollupService {
+
+    private final CompetitionRateRollupPort rollupPort;
+    private final CompetitionRatePersistencePort competitionRatePort;
+    private final SubscriptionPersistencePort subscriptionPort;
+
+    /**
+     * 대시보드용 집계 셀 조회 (없으면 재집계 후 반환)
+     */
+    public List<CompetitionRateRollupCell> cells() {
+        List<CompetitionRateRollupCell> cells = rollupPort.findAll();
+        boolean built = cells.stream()
+                .anyMatch(cell -> cell.dimension() == CompetitionRateRollupCell.Dimension.TOTAL);
+        return built ? cells : rebuild();
+    }
+
+    /**
+     * 경쟁률 배치를 저장하고 집계에 반영
+     * 집계가 아직 없으면 반영을 건너뛴다(저장된 경쟁률은 다음 조회 때 재집계에 포함됨).
+     * 반영에 실패하면 집계를 비워 다음 조회 때 전체 재집계되도록 한다.
+     */
+    public synchronized void saveAll(List<CompetitionRate> rates) {
+        if (rates.isEmpty()) {
+            return;
+        }
+        competitionRatePort.saveAll(rates);
+        accumulate(rates);
+    }
+
+    private void accumulate(List<CompetitionRate> savedRates) {
+        try {
+            if (!rollupPort.isBuilt()) {
+                log.debug("[경쟁률 집계] 집계 전이라 증분 반영 생략 - {}건", savedRates.size());
+                return;
+            }
+            rollupPort.merge(CompetitionRateRollupBuilder.build(savedRates, subscriptionsOf(savedRates)));
+        } catch (Exception e) {
+            log.warn("[경쟁률 집계] 증분 반영 실패, 다음 조회 시 재집계: {}", e.getMessage());
+            rollupPort.deleteAll();
+        }
+    }
+
+    /**
+     * 전체 경쟁률로 집계 재생성
+     */
+    public synchronized List<CompetitionRateRollupCell> rebuild() {
+        List<CompetitionRate> rates = competitionRatePort.findAll();
+        List<CompetitionRateRollupCell> cells = CompetitionRateRollupBuilder.build(rates, subscriptionsOf(rates));
+        if (cells.isEmpty()) {
+            cells = List.of(emptyTotal());
+        }
+        rollupPort.replaceAll(cells);
+        log.info("[경쟁률 집계] 재집계 완료 - 경쟁률 {}건, 집계 {}행", rates.size(), cells.size());
+        return cells;
+    }
+
+    /**
+     * 집계 초기화 (경쟁률 전체 삭제 시)
+     */
+    public synchronized void reset() {
+        rollupPort.deleteAll();
+    }
+
+    private Map<String, Subscription> subscriptionsOf(Collection<CompetitionRate> rates) {
+        Set<String> houseManageNos = rates.stream()
+                .map(CompetitionRate::getHouseManageNo)
+                .collect(Collectors.toSet());
+        if (houseManageNos.isEmpty()) {
+            return Map.of();
+        }
+        return subscriptionPort.findByHouseManageNos(houseManageNos).stream()
+                .collect(Collectors.toMap(Subscription::getHouseManageNo, Function.identity(), (a, b) -> a));
+    }
+
+    private CompetitionRateRollupCell emptyTotal() {
+        return new CompetitionRateRollupCell(CompetitionRateRollupCell.Dimension.TOTAL,
+                CompetitionRateRollupCell.TOTAL_KEY, 0, 0, BigDecimal.ZERO, null, null);
+    }
+}
@@ -53,8 +53,8 @@ public class DailyNotificationService {
 
     /**
      * 일일 종합 알림 리포트 발송 (스케줄러용)
+     * 외부 API 수집이 포함되므로 트랜잭션을 잡지 않고, 발송은 대기열 적재로 끝난다.
      */
-    @Transactional
     public void sendDailyReport() {
         sendDailyReport("SCHEDULER");
     }
@@ -62,7 +62,6 @@ public class DailyNotificationService {
     /**
      * 일일 종합 알림 리포트 발송 (수동 발송용)
      */
-    @Transactional
     public void sendDailyReportManual() {
         sendDailyReport("MANUAL");
     }
@@ -93,7 +92,7 @@ public class DailyNotificationService {
         String detail = buildDetailJson(report);
 
         try {
-            // 리포트 발송
+            // 리포트 발송 (대기열 적재)
             notificationSender.get().sendDailyReport(report);
 
             // 발송 완료 처리
@@ -115,15 +114,20 @@ public class DailyNotificationService {
             List<NotificationTarget> receiptEndTargets,
             List<NotificationTarget> receiptStartTargets) {
 
-        for (NotificationTarget target : receiptEndTargets) {
-            persistencePort.markReceiptEndNotified(target.notificationId());
+        if (!receiptEndTargets.isEmpty()) {
+            persistencePort.markReceiptEndNotified(notificationIds(receiptEndTargets));
         }
-
-        for (NotificationTarget target : receiptStartTargets) {
-            persistencePort.markReceiptStartNotified(target.notificationId());
+        if (!receiptStartTargets.isEmpty()) {
+            persistencePort.markReceiptStartNotified(notificationIds(receiptStartTargets));
         }
     }
 
+    private List<Long> notificationIds(List<NotificationTarget> targets) {
+        return targets.stream()
+                .map(NotificationTarget::notificationId)
+                .toList();
+    }
+
     private void saveHistory(String type, String channel, boolean success,
                              String summary, String detail, String errorMessage, String triggeredBy) {
         NotificationHistoryEntity history = NotificationHistoryEntity.builder()
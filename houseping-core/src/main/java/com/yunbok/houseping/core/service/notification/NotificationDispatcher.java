@@ -0,0 +1,206 @@
+package com.yunbok.houseping.core.service.notification;
+
+import com.yunbok.houseping.core.domain.NotificationEnqueuedEvent;
+import com.yunbok.houseping.core.domain.OutboxMessage;
+import com.yunbok.houseping.core.port.NotificationChannel;
+import com.yunbok.houseping.core.port.NotificationOutboxPort;
+import com.yunbok.houseping.support.util.ApiRateLimiter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 발송 대기열 발송기
+ * - 대기열 적재가 커밋되면(또는 주기적으로) 발송 시각이 된 메시지를 꺼내 보낸다.
+ * - 꺼낸 메시지는 {@link #CLAIM_LEASE} 동안 선점해 다른 인스턴스가 같은 메시지를 보내지 않게 한다.
+ * - 같은 수신자의 메시지는 한 작업자가 저장 순으로 보내고, 수신자끼리는 제한된 작업자 풀에서 동시에 보낸다.
+ *   한 건이 재시도로 밀리면 그 수신자의 뒤 메시지도 같은 시각까지 미뤄 순서를 지킨다.
+ * - 채널 전체 / 수신자별 호출 제한은 {@link ApiRateLimiter}로 지킨다.
+ * - 실패하면 지수 백오프로 다시 시도하고, {@link #MAX_ATTEMPTS}회 실패하면 FAILED로 남긴다.
+ */
+@Slf4j
+@Service
+public class NotificationDispatcher {
+
+    static final int BATCH_SIZE = 100;
+    static final int MAX_ATTEMPTS = 5;
+    private static final int MAX_ROUNDS = 50;
+    /** 선점한 메시지를 발송 결과 기록 없이 붙잡아 두는 최대 시간 (인스턴스가 죽으면 이후 다시 발송 대상) */
+    static final Duration CLAIM_LEASE = Duration.ofMinutes(10);
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(30);
+
+    private final NotificationOutboxPort outboxPort;
+    private final Map<String, NotificationChannel> channels;
+    private final ApiRateLimiter rateLimiter;
+    private final ExecutorService drainExecutor;
+    private final ExecutorService workers;
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+
+    public NotificationDispatcher(
+            NotificationOutboxPort outboxPort,
+            List<NotificationChannel> channels,
+            ApiRateLimiter rateLimiter,
+            @Value("${notification.dispatcher.workers:4}") int workerCount) {
+        this.outboxPort = outboxPort;
+        this.channels = channels.stream()
+                .collect(Collectors.toMap(NotificationChannel::name, Function.identity()));
+        this.rateLimiter = rateLimiter;
+        this.drainExecutor = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("notification-drain").daemon().factory());
+        this.workers = Executors.newFixedThreadPool(workerCount, Thread.ofPlatform().name("notification-worker-", 0).daemon().factory());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        drainExecutor.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnqueued(NotificationEnqueuedEvent event) {
+        requestDrain();
+    }
+
+    /**
+     * 비동기 발송 요청 (이미 대기 중인 요청이 있으면 합쳐짐)
+     */
+    public void requestDrain() {
+        if (drainRequested.compareAndSet(false, true)) {
+            drainExecutor.execute(() -> {
+                drainRequested.set(false);
+                try {
+                    drain();
+                } catch (Exception e) {
+                    log.error("[알림 발송기] 대기열 처리 실패", e);
+                }
+            });
+        }
+    }
+
+    /**
+     * 발송 시각이 된 메시지를 모두 처리
+     * @return 발송 성공 건수
+     */
+    public int drain() {
+        int delivered = 0;
+        for (int round = 0; round < MAX_ROUNDS; round++) {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxMessage> due = outboxPort.claimDue(now, BATCH_SIZE, now.plus(CLAIM_LEASE));
+            if (due.isEmpty()) {
+                break;
+            }
+
+            Map<String, List<OutboxMessage>> byRecipient = due.stream()
+                    .collect(Collectors.groupingBy(m -> m.channel() + "|" + m.recipient(),
+                            LinkedHashMap::new, Collectors.toList()));
+            List<CompletableFuture<Integer>> futures = byRecipient.values().stream()
+                    .map(messages -> CompletableFuture.supplyAsync(() -> deliverInOrder(messages), workers))
+                    .toList();
+            delivered += futures.stream().mapToInt(CompletableFuture::join).sum();
+
+            if (due.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+        if (delivered > 0) {
+            log.info("[알림 발송기] {}건 발송 완료", delivered);
+        }
+        return delivered;
+    }
+
+    /**
+     * 한 수신자의 메시지를 순서대로 발송
+     * 재시도로 밀린 메시지가 생기면 남은 메시지를 같은 시각으로 미루고 멈춘다.
+     */
+    private int deliverInOrder(List<OutboxMessage> messages) {
+        int delivered = 0;
+        for (int i = 0; i < messages.size(); i++) {
+            OutboxMessage message = messages.get(i);
+            Outcome outcome;
+            try {
+                outcome = deliver(message);
+            } catch (Exception e) {
+                // 결과 기록 실패: 선점 시간이 지나면 남은 메시지와 함께 다시 시도됨
+                log.error("[알림 발송기] 발송 결과 기록 실패 - id: {}", message.id(), e);
+                return delivered;
+            }
+            if (outcome.sent()) {
+                delivered++;
+            } else if (outcome.retryAt() != null) {
+                List<Long> rest = messages.subList(i + 1, messages.size()).stream()
+                        .map(OutboxMessage::id)
+                        .toList();
+                if (!rest.isEmpty()) {
+                    outboxPort.defer(rest, outcome.retryAt());
+                }
+                return delivered;
+            }
+        }
+        return delivered;
+    }
+
+    private Outcome deliver(OutboxMessage message) {
+        NotificationChannel channel = channels.get(message.channel());
+        if (channel == null) {
+            outboxPort.markFailed(message.id(), "비활성화된 채널: " + message.channel());
+            return Outcome.FAILED;
+        }
+
+        if (channel.recipientRateLimitKey() != null) {
+            rateLimiter.acquire(channel.recipientRateLimitKey(), message.recipient());
+        }
+        rateLimiter.acquire(channel.rateLimitKey());
+
+        try {
+            channel.deliver(message.recipient(), message.message());
+        } catch (Exception e) {
+            int attempts = message.attempts() + 1;
+            if (attempts >= MAX_ATTEMPTS) {
+                log.error("[알림 발송기] {} 발송 최종 실패 ({}회) - id: {}, {}",
+                        message.channel(), attempts, message.id(), e.getMessage());
+                outboxPort.markFailed(message.id(), e.getMessage());
+                return Outcome.FAILED;
+            }
+            Duration backoff = backoff(attempts);
+            log.warn("[알림 발송기] {} 발송 실패 ({}회), {}초 후 재시도 - id: {}, {}",
+                    message.channel(), attempts, backoff.toSeconds(), message.id(), e.getMessage());
+            LocalDateTime retryAt = LocalDateTime.now().plus(backoff);
+            outboxPort.markRetry(message.id(), e.getMessage(), retryAt);
+            return new Outcome(false, retryAt);
+        }
+
+        outboxPort.markSent(message.id(), LocalDateTime.now());
+        return Outcome.SENT;
+    }
+
+    /**
+     * 재시도 대기 시간 (30초부터 2배씩, 최대 30분)
+     */
+    static Duration backoff(int attempts) {
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 10));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    /**
+     * 메시지 1건 발송 결과
+     * @param retryAt 재시도 예정 시각 (재시도로 밀렸을 때만)
+     */
+    private record Outcome(boolean sent, LocalDateTime retryAt) {
+        static final Outcome SENT = new Outcome(true, null);
+        static final Outcome FAILED = new Outcome(false, null);
+    }
+}
@@ -0,0 +1,34 @@
+package com.yunbok.houseping.core.service.notification;
+
+import com.yunbok.houseping.core.domain.NotificationEnqueuedEvent;
+import com.yunbok.houseping.core.port.NotificationChannel;
+import com.yunbok.houseping.core.port.NotificationOutboxPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 알림 발송 대기열 적재
+ * 호출한 트랜잭션에 함께 저장되고, 커밋 후 {@link NotificationDispatcher}가 비동기로 발송한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationOutbox {
+
+    private final NotificationOutboxPort outboxPort;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 채널의 모든 수신자에게 보낼 메시지 적재
+     */
+    public void enqueue(NotificationChannel channel, String message) {
+        List<String> recipients = channel.recipients();
+        if (recipients.isEmpty()) {
+            return;
+        }
+        outboxPort.enqueue(channel.name(), recipients, message);
+        eventPublisher.publishEvent(new NotificationEnqueuedEvent(channel.name(), recipients.size()));
+    }
+}
@@ -46,12 +46,9 @@ public class SubscriptionNotificationService {
             return 0;
         }
 
-        int sentCount = 0;
-        for (NotificationTarget target : targets) {
-            sendReceiptStartMessage(target);
-            persistencePort.markReceiptStartNotified(target.notificationId());
-            sentCount++;
-        }
+        targets.forEach(this::sendReceiptStartMessage);
+        persistencePort.markReceiptStartNotified(notificationIds(targets));
+        int sentCount = targets.size();
 
         log.info("[알림 서비스] 접수 시작 알림 {}건 발송", sentCount);
         return sentCount;
@@ -64,12 +61,9 @@ public class SubscriptionNotificationService {
             return 0;
         }
 
-        int sentCount = 0;
-        for (NotificationTarget target : targets) {
-            sendReceiptEndMessage(target);
-            persistencePort.markReceiptEndNotified(target.notificationId());
-            sentCount++;
-        }
+        targets.forEach(this::sendReceiptEndMessage);
+        persistencePort.markReceiptEndNotified(notificationIds(targets));
+        int sentCount = targets.size();
 
         log.info("[알림 서비스] 접수 종료 알림 {}건 발송", sentCount);
         return sentCount;
@@ -116,6 +110,12 @@ public class SubscriptionNotificationService {
         notificationSender.ifPresent(sender -> sender.sendNotification(message));
     }
 
+    private List<Long> notificationIds(List<NotificationTarget> targets) {
+        return targets.stream()
+                .map(NotificationTarget::notificationId)
+                .toList();
+    }
+
     private String formatDate(LocalDate date) {
         return date != null ? date.format(DATE_FORMAT) : "-";
     }
@@ -1,29 +1,74 @@
 package com.yunbok.houseping.core.service.realtransaction;
 
+import com.yunbok.houseping.core.domain.MonthRefreshResult;
 import com.yunbok.houseping.core.domain.SubscriptionSource;
 import com.yunbok.houseping.core.service.region.RegionCodeService;
+import com.yunbok.houseping.core.service.subscription.PriceBadgeRefreshService;
 import com.yunbok.houseping.entity.SubscriptionEntity;
 import com.yunbok.houseping.core.port.RealTransactionFetchPort;
+import com.yunbok.houseping.core.port.RealTransactionPersistencePort;
 import com.yunbok.houseping.repository.SubscriptionRepository;
-import com.yunbok.houseping.support.util.ApiRateLimiter;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDate;
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 실거래가 수집 서비스
+ * 접수 예정·진행 청약 지역을 (법정동코드, 계약월) 작업으로 펼쳐 작업자 풀에서 동시에 수집한다.
+ * - 호출량은 어댑터의 업스트림 호출 제한(real-transaction)을 모든 작업자가 함께 지킨다.
+ * - 확정됐거나 오늘 이미 수집한 계약월은 작업에서 빠지므로, 중간에 멈춘 수집을 다시 실행하면 남은 작업만 수행한다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RealTransactionCollectionService {
 
+    /** 지역별 수집 개월 수 */
+    static final int MONTHS = 6;
+    /** 캐시 보관 연수 (올해 포함, 계약월 기준) */
+    static final int RETENTION_YEARS = 3;
+    private static final int PROGRESS_LOG_INTERVAL = 50;
+
     private final SubscriptionRepository subscriptionRepository;
     private final RegionCodeService regionCodeService;
     private final RealTransactionFetchPort realTransactionFetchPort;
+    private final RealTransactionPersistencePort realTransactionPersistencePort;
+    private final PriceBadgeRefreshService priceBadgeRefreshService;
+    private final ExecutorService workers;
+
+    public RealTransactionCollectionService(
+            SubscriptionRepository subscriptionRepository,
+            RegionCodeService regionCodeService,
+            RealTransactionFetchPort realTransactionFetchPort,
+            RealTransactionPersistencePort realTransactionPersistencePort,
+            PriceBadgeRefreshService priceBadgeRefreshService,
+            @Value("${realtransaction.collector.workers:4}") int workerCount) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.regionCodeService = regionCodeService;
+        this.realTransactionFetchPort = realTransactionFetchPort;
+        this.realTransactionPersistencePort = realTransactionPersistencePort;
+        this.priceBadgeRefreshService = priceBadgeRefreshService;
+        this.workers = Executors.newFixedThreadPool(workerCount,
+                Thread.ofPlatform().name("realtransaction-collector-", 0).daemon().factory());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
 
     public void collectRealTransactions() {
         log.info("[실거래가] 수집 시작");
@@ -41,7 +86,7 @@ public class RealTransactionCollectionService {
 
         log.info("[실거래가] 대상 청약: {}건", subscriptions.size());
 
-        Set<String> lawdCodes = new HashSet<>();
+        Set<String> lawdCodes = new TreeSet<>();
         for (SubscriptionEntity subscription : subscriptions) {
             Optional<String> lawdCd = regionCodeService.findLawdCdByAddress(subscription.getAddress());
             lawdCd.ifPresent(lawdCodes::add);
@@ -49,20 +94,90 @@ public class RealTransactionCollectionService {
 
         log.info("[실거래가] 수집 대상 지역: {}개", lawdCodes.size());
 
-        int successCount = 0;
-        int failCount = 0;
-
+        List<CollectTask> tasks = new ArrayList<>();
         for (String lawdCd : lawdCodes) {
             try {
-                realTransactionFetchPort.fetchAndCacheRecentTransactions(lawdCd, 6);
-                successCount++;
-                ApiRateLimiter.delay(200);
+                realTransactionFetchPort.findStaleDealYmds(lawdCd, MONTHS)
+                        .forEach(dealYmd -> tasks.add(new CollectTask(lawdCd, dealYmd)));
             } catch (Exception e) {
-                failCount++;
-                log.warn("[실거래가] {} 수집 실패: {}", lawdCd, e.getMessage());
+                log.warn("[실거래가] {} 수집 현황 조회 실패: {}", lawdCd, e.getMessage());
+            }
+        }
+
+        log.info("[실거래가] 수집 작업: {}개 (지역 {}개 × 최대 {}개월, 확정·최신 계약월 제외)",
+                tasks.size(), lawdCodes.size(), MONTHS);
+
+        Set<String> changedLawdCodes = ConcurrentHashMap.newKeySet();
+        AtomicInteger failCount = new AtomicInteger();
+        Progress progress = new Progress(tasks.size());
+
+        CompletableFuture.allOf(tasks.stream()
+                .map(task -> CompletableFuture.runAsync(() -> {
+                    try {
+                        MonthRefreshResult result = realTransactionFetchPort.refreshMonth(task.lawdCd(), task.dealYmd());
+                        if (result == MonthRefreshResult.CHANGED) {
+                            changedLawdCodes.add(task.lawdCd());
+                        } else if (result == MonthRefreshResult.FAILED) {
+                            failCount.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failCount.incrementAndGet();
+                        log.warn("[실거래가] {} {} 수집 실패: {}", task.lawdCd(), task.dealYmd(), e.getMessage());
+                    } finally {
+                        progress.complete();
+                    }
+                }, workers))
+                .toArray(CompletableFuture[]::new))
+                .join();
+
+        log.info("[실거래가] 수집 완료 - 작업: {}개, 변경: {}개 지역, 실패: {}개 작업, 소요: {}초",
+                tasks.size(), changedLawdCodes.size(), failCount.get(), progress.elapsed().toSeconds());
+
+        // 시세가 바뀐 지역의 가격 배지 재계산
+        priceBadgeRefreshService.refreshByLawdCds(changedLawdCodes);
+    }
+
+    /**
+     * 보관 기간이 지난 계약분 정리 (연 단위)
+     */
+    public void purgeExpired() {
+        int keepFromYear = LocalDate.now().getYear() - (RETENTION_YEARS - 1);
+        log.info("[실거래가] {}년 이전 계약분 정리", keepFromYear);
+        realTransactionPersistencePort.purgeBefore(keepFromYear);
+    }
+
+    /**
+     * 수집 작업 (법정동코드, 계약월)
+     */
+    record CollectTask(String lawdCd, String dealYmd) {
+    }
+
+    /**
+     * 진행률·남은 시간 로그
+     */
+    private static final class Progress {
+
+        private final int total;
+        private final long startedAt = System.nanoTime();
+        private final AtomicInteger completed = new AtomicInteger();
+
+        Progress(int total) {
+            this.total = total;
+        }
+
+        void complete() {
+            int done = completed.incrementAndGet();
+            if (done % PROGRESS_LOG_INTERVAL != 0 || done == total) {
+                return;
             }
+            Duration elapsed = elapsed();
+            Duration remaining = elapsed.multipliedBy(total - done).dividedBy(done);
+            log.info("[실거래가] 진행 {}/{} ({}%), 남은 예상 시간 {}초",
+                    done, total, done * 100 / total, remaining.toSeconds());
         }
 
-        log.info("[실거래가] 수집 완료 - 성공: {}개 지역, 실패: {}개 지역", successCount, failCount);
+        Duration elapsed() {
+            return Duration.ofNanos(System.nanoTime() - startedAt);
+        }
     }
 }
@@ -0,0 +1,335 @@
+package com.yunbok.houseping.core.service.realtransaction;
+
+import com.yunbok.houseping.core.domain.RealTransaction;
+import com.yunbok.houseping.core.domain.RealTransactionsUpdatedEvent;
+import com.yunbok.houseping.core.port.RealTransactionPersistencePort;
+import com.yunbok.houseping.support.util.AddressHelper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 법정동코드(시군구)별 실거래가 메모리 인덱스
+ * 분석 페이지·가격 배지 계산이 요청마다 전체 거래를 조회·필터링하지 않도록
+ * 지역별로 한 번 적재한 뒤 면적순 배열에서 구간 조회한다.
+ * 최근에 조회한 maxDistricts개 지역만 보관하고(LRU), 실거래가 캐시 갱신이 커밋되면 해당 지역만 다시 적재한다.
+ * 적중률은 houseping.cache.gets(cache=realtransaction-index, result=hit/miss)로 기록한다.
+ */
+@Slf4j
+@Component
+public class RealTransactionIndex {
+
+    static final String CACHE_NAME = "realtransaction-index";
+
+    static final int DEFAULT_MAX_DISTRICTS = 64;
+
+    private final RealTransactionPersistencePort realTransactionQueryPort;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, District> districts;
+    /** 무효화 횟수. 적재 중에 무효화가 있었으면 읽은 거래가 오래됐을 수 있어 보관하지 않는다. */
+    private long invalidations;
+
+    @Autowired
+    public RealTransactionIndex(RealTransactionPersistencePort realTransactionQueryPort, MeterRegistry meterRegistry) {
+        this(realTransactionQueryPort, meterRegistry, DEFAULT_MAX_DISTRICTS);
+    }
+
+    /**
+     * @param maxDistricts 보관할 최대 지역 수
+     */
+    public RealTransactionIndex(RealTransactionPersistencePort realTransactionQueryPort, MeterRegistry meterRegistry,
+                                int maxDistricts) {
+        this.realTransactionQueryPort = realTransactionQueryPort;
+        this.meterRegistry = meterRegistry;
+        this.districts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, District> eldest) {
+                return size() > maxDistricts;
+            }
+        };
+    }
+
+    /**
+     * 지역 인덱스 조회 (없으면 캐시 테이블에서 적재)
+     * 거래가 없는 지역은 API 조회 후 다시 적재할 수 있도록 보관하지 않는다.
+     */
+    public District district(String lawdCd) {
+        long generation;
+        synchronized (districts) {
+            District cached = districts.get(lawdCd);
+            if (cached != null) {
+                meterRegistry.counter("houseping.cache.gets", "cache", CACHE_NAME, "result", "hit").increment();
+                return cached;
+            }
+            generation = invalidations;
+        }
+        meterRegistry.counter("houseping.cache.gets", "cache", CACHE_NAME, "result", "miss").increment();
+        District loaded = District.of(realTransactionQueryPort.findByLawdCd(lawdCd));
+        if (!loaded.isEmpty()) {
+            synchronized (districts) {
+                if (generation == invalidations) {
+                    districts.put(lawdCd, loaded);
+                    log.debug("[실거래가 인덱스] {} 적재 - {}건", lawdCd, loaded.size());
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 갱신이 커밋된 뒤 무효화 (커밋 전에 비우면 동시에 적재하는 요청이 이전 거래를 다시 읽어 둘 수 있음)
+     * 분석 결과 캐시가 비워진 뒤 다시 계산할 때 새 거래를 읽도록 먼저 실행한다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionsUpdated(RealTransactionsUpdatedEvent event) {
+        synchronized (districts) {
+            invalidations++;
+            if (districts.remove(event.lawdCd()) != null) {
+                log.debug("[실거래가 인덱스] {} 무효화", event.lawdCd());
+            }
+        }
+    }
+
+    int size() {
+        synchronized (districts) {
+            return districts.size();
+        }
+    }
+
+    /**
+     * 한 지역의 거래를 열 단위 배열로 보관하는 불변 인덱스
+     * 행은 전용면적(0.01㎡ 단위) 오름차순으로 정렬되어 면적 구간은 이진 탐색으로 자른다.
+     */
+    public static final class District {
+
+        /** 동 조건 없음 */
+        public static final int ANY_DONG = -2;
+        /** 준공연도 조건 없음 */
+        public static final int ANY_BUILD_YEAR = Integer.MIN_VALUE;
+
+        private static final int NO_DONG = -1;
+        private static final int UNMATCHED_DONG = -3;
+        private static final int NO_AREA = -1;
+
+        private static final District EMPTY = of(List.of());
+
+        private final RealTransaction[] rows;
+        private final int[] areaCenti;
+        private final long[] dealAmount;
+        private final int[] buildYear;
+        private final long[] dealDay;
+        private final int[] dongId;
+        /** 입력 순서(거래일 내림차순) 기준 행 위치 */
+        private final int[] inputOrder;
+        private final Map<String, Integer> dongIds;
+
+        private District(RealTransaction[] rows, int[] areaCenti, long[] dealAmount, int[] buildYear,
+                         long[] dealDay, int[] dongId, int[] inputOrder, Map<String, Integer> dongIds) {
+            this.rows = rows;
+            this.areaCenti = areaCenti;
+            this.dealAmount = dealAmount;
+            this.buildYear = buildYear;
+            this.dealDay = dealDay;
+            this.dongId = dongId;
+            this.inputOrder = inputOrder;
+            this.dongIds = dongIds;
+        }
+
+        public static District empty() {
+            return EMPTY;
+        }
+
+        /**
+         * 거래 목록으로 인덱스 생성 (입력 순서는 {@link #transactions}에서 유지)
+         */
+        public static District of(List<RealTransaction> transactions) {
+            int size = transactions.size();
+            long[] sortKeys = new long[size];
+            for (int i = 0; i < size; i++) {
+                int centi = toCenti(transactions.get(i).getExclusiveArea());
+                sortKeys[i] = ((long) (centi - NO_AREA) << 32) | i;
+            }
+            Arrays.sort(sortKeys);
+
+            RealTransaction[] rows = new RealTransaction[size];
+            int[] areaCenti = new int[size];
+            long[] dealAmount = new long[size];
+            int[] buildYear = new int[size];
+            long[] dealDay = new long[size];
+            int[] dongId = new int[size];
+            int[] inputOrder = new int[size];
+            Map<String, Integer> dongIds = new HashMap<>();
+
+            for (int pos = 0; pos < size; pos++) {
+                int source = (int) sortKeys[pos];
+                RealTransaction tx = transactions.get(source);
+                rows[pos] = tx;
+                areaCenti[pos] = (int) (sortKeys[pos] >>> 32) + NO_AREA;
+                dealAmount[pos] = tx.getDealAmount() != null ? tx.getDealAmount() : 0L;
+                buildYear[pos] = tx.getBuildYear() != null ? tx.getBuildYear() : 0;
+                dealDay[pos] = tx.getDealDate() != null ? tx.getDealDate().toEpochDay() : Long.MIN_VALUE;
+                String dong = AddressHelper.normalizeDongName(tx.getDongName());
+                dongId[pos] = dong != null ? dongIds.computeIfAbsent(dong, k -> dongIds.size()) : NO_DONG;
+                inputOrder[source] = pos;
+            }
+            return new District(rows, areaCenti, dealAmount, buildYear, dealDay, dongId, inputOrder, dongIds);
+        }
+
+        public int size() {
+            return rows.length;
+        }
+
+        public boolean isEmpty() {
+            return rows.length == 0;
+        }
+
+        /**
+         * 동 이름을 인덱스 내부 ID로 변환 (null이면 {@link #ANY_DONG})
+         */
+        public int dongId(String dongName) {
+            if (dongName == null) {
+                return ANY_DONG;
+            }
+            return dongIds.getOrDefault(AddressHelper.normalizeDongName(dongName), UNMATCHED_DONG);
+        }
+
+        /**
+         * 조건에 맞는 거래 목록 (입력 순서 유지)
+         */
+        public List<RealTransaction> transactions(int dong, int minBuildYear) {
+            List<RealTransaction> result = new ArrayList<>();
+            for (int pos : inputOrder) {
+                if (matches(pos, dong, minBuildYear)) {
+                    result.add(rows[pos]);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * 조건에 맞는 거래 건수
+         */
+        public int count(int dong, int minBuildYear) {
+            int count = 0;
+            for (int pos = 0; pos < rows.length; pos++) {
+                if (matches(pos, dong, minBuildYear)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * 면적 구간(양 끝 포함) 내 거래금액 (오름차순)
+         */
+        public long[] sortedAmounts(int dong, int minBuildYear, BigDecimal minArea, BigDecimal maxArea) {
+            int from = lowerBound(toCenti(minArea));
+            int to = upperBound(toCenti(maxArea));
+            long[] amounts = new long[Math.max(0, to - from)];
+            int count = 0;
+            for (int pos = from; pos < to; pos++) {
+                if (matches(pos, dong, minBuildYear)) {
+                    amounts[count++] = dealAmount[pos];
+                }
+            }
+            long[] result = Arrays.copyOf(amounts, count);
+            Arrays.sort(result);
+            return result;
+        }
+
+        /**
+         * 면적 구간(양 끝 포함) 내 최근 거래 (거래일 내림차순, 최대 limit건)
+         */
+        public List<RealTransaction> mostRecent(int dong, int minBuildYear, BigDecimal minArea, BigDecimal maxArea, int limit) {
+            if (limit <= 0) {
+                return Collections.emptyList();
+            }
+            int from = lowerBound(toCenti(minArea));
+            int to = upperBound(toCenti(maxArea));
+            int[] top = new int[limit];
+            int count = 0;
+            for (int pos = from; pos < to; pos++) {
+                if (!matches(pos, dong, minBuildYear)) {
+                    continue;
+                }
+                if (count < limit) {
+                    count++;
+                } else if (dealDay[pos] <= dealDay[top[count - 1]]) {
+                    continue;
+                }
+                // 삽입 정렬로 상위 limit건만 유지
+                int i = count - 1;
+                while (i > 0 && dealDay[top[i - 1]] < dealDay[pos]) {
+                    top[i] = top[i - 1];
+                    i--;
+                }
+                top[i] = pos;
+            }
+            if (count == 0) {
+                return Collections.emptyList();
+            }
+            List<RealTransaction> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(rows[top[i]]);
+            }
+            return result;
+        }
+
+        private boolean matches(int pos, int dong, int minBuildYear) {
+            return (dong == ANY_DONG || dongId[pos] == dong) && buildYear[pos] >= minBuildYear;
+        }
+
+        /** areaCenti[pos] >= centi 인 첫 위치 (면적 없는 행은 항상 제외) */
+        private int lowerBound(int centi) {
+            int lo = 0;
+            int hi = areaCenti.length;
+            int target = Math.max(centi, 0);
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (areaCenti[mid] < target) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        /** areaCenti[pos] > centi 인 첫 위치 */
+        private int upperBound(int centi) {
+            int lo = 0;
+            int hi = areaCenti.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (areaCenti[mid] <= centi) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        private static int toCenti(BigDecimal area) {
+            if (area == null) {
+                return NO_AREA;
+            }
+            return area.movePointRight(2).setScale(0, RoundingMode.HALF_UP).intValue();
+        }
+    }
+}
@@ -1,24 +1,37 @@
 package com.yunbok.houseping.core.service.region;
 
-import com.yunbok.houseping.entity.RegionCodeEntity;
-import com.yunbok.houseping.repository.RegionCodeRepository;
+import com.yunbok.houseping.core.port.RegionCodePersistencePort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 법정동코드 조회 서비스
  * 청약 주소에서 시군구 법정동코드(5자리)를 추출
+ * region_code 전체(약 260건)를 기동 시 한 번 트라이로 적재하고, 이후에는 DB 조회 없이 메모리에서 해석한다.
+ * 같은 주소는 반복 계산되므로 결과를 주소 문자열 단위로 기억한다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RegionCodeService {
 
-    private final RegionCodeRepository regionCodeRepository;
+    private static final int MAX_CACHED_ADDRESSES = 10_000;
+
+    private final RegionCodePersistencePort regionCodeQueryPort;
+    private final Map<String, Optional<String>> resolved = new ConcurrentHashMap<>();
+    private volatile RegionCodeTrie trie;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        trie();
+    }
 
     /**
      * 주소에서 법정동코드 조회
@@ -29,94 +42,52 @@ public class RegionCodeService {
         if (address == null || address.isBlank()) {
             return Optional.empty();
         }
-
-        // 주소에서 시도, 시군구 추출
-        String[] parts = address.split(" ");
-        if (parts.length < 2) {
-            return Optional.empty();
+        Optional<String> cached = resolved.get(address);
+        if (cached != null) {
+            return cached;
         }
 
-        String sido = parts[0];
-        String sigungu = parts.length >= 3 ? parts[1] + " " + parts[2] : parts[1];
-
-        // 1차 시도: 시도 + 시군구로 정확히 조회
-        Optional<RegionCodeEntity> result = findByAddress(sido, sigungu);
-        if (result.isPresent()) {
-            return Optional.of(result.get().getLawdCd());
+        RegionCodeTrie current = trie();
+        if (current.isEmpty()) {
+            return Optional.empty();
         }
-
-        // 2차 시도: 시군구만으로 조회 (예: "안양시 만안구")
-        if (parts.length >= 3) {
-            sigungu = parts[1] + " " + parts[2];
-            List<RegionCodeEntity> matches = regionCodeRepository.findBySigunguNameContaining(sigungu);
-            if (!matches.isEmpty()) {
-                return Optional.of(matches.get(0).getLawdCd());
-            }
+        Optional<String> lawdCd = current.resolve(address);
+        if (lawdCd.isEmpty()) {
+            log.debug("법정동코드를 찾을 수 없음: {}", address);
         }
-
-        // 3차 시도: 시군구명 첫 부분만으로 조회 (예: "안양시")
-        sigungu = parts[1];
-        List<RegionCodeEntity> matches = regionCodeRepository.findBySigunguNameContaining(sigungu);
-        if (!matches.isEmpty()) {
-            // 시도가 같은 것 우선
-            for (RegionCodeEntity match : matches) {
-                if (match.getSidoName().contains(normalizeSido(sido))) {
-                    return Optional.of(match.getLawdCd());
-                }
-            }
-            return Optional.of(matches.get(0).getLawdCd());
+        if (resolved.size() >= MAX_CACHED_ADDRESSES) {
+            resolved.clear();
         }
-
-        log.warn("법정동코드를 찾을 수 없음: {}", address);
-        return Optional.empty();
+        resolved.put(address, lawdCd);
+        return lawdCd;
     }
 
-    private Optional<RegionCodeEntity> findByAddress(String sido, String sigungu) {
-        String normalizedSido = normalizeSido(sido);
+    /**
+     * 지역코드 다시 적재 (region_code 변경 시)
+     */
+    public void reload() {
+        trie = null;
+        resolved.clear();
+        trie();
+    }
 
-        // 정확한 매칭 시도
-        Optional<RegionCodeEntity> exact = regionCodeRepository.findBySidoNameAndSigunguName(normalizedSido, sigungu);
-        if (exact.isPresent()) {
-            return exact;
+    private RegionCodeTrie trie() {
+        RegionCodeTrie current = trie;
+        if (current != null) {
+            return current;
         }
-
-        // 시군구에 구가 포함된 경우 (예: "수원시 장안구")
-        List<RegionCodeEntity> matches = regionCodeRepository.findBySigunguNameContaining(sigungu);
-        for (RegionCodeEntity match : matches) {
-            if (match.getSidoName().equals(normalizedSido)) {
-                return Optional.of(match);
+        synchronized (this) {
+            if (trie == null) {
+                RegionCodeTrie loaded = new RegionCodeTrie(regionCodeQueryPort.findAll());
+                if (loaded.isEmpty()) {
+                    // 적재 전에는 다음 호출에서 다시 시도
+                    log.warn("[지역코드] region_code 데이터가 없습니다.");
+                    return loaded;
+                }
+                trie = loaded;
+                log.info("[지역코드] 트라이 적재 완료");
             }
+            return trie;
         }
-
-        return Optional.empty();
-    }
-
-    /**
-     * 시도명 정규화
-     * "경기" -> "경기도", "서울" -> "서울특별시" 등
-     */
-    private String normalizeSido(String sido) {
-        if (sido == null) return "";
-
-        return switch (sido) {
-            case "서울" -> "서울특별시";
-            case "부산" -> "부산광역시";
-            case "대구" -> "대구광역시";
-            case "인천" -> "인천광역시";
-            case "광주" -> "광주광역시";
-            case "대전" -> "대전광역시";
-            case "울산" -> "울산광역시";
-            case "세종" -> "세종특별자치시";
-            case "경기" -> "경기도";
-            case "강원" -> "강원특별자치도";
-            case "충북" -> "충청북도";
-            case "충남" -> "충청남도";
-            case "전북" -> "전북특별자치도";
-            case "전남" -> "전라남도";
-            case "경북" -> "경상북도";
-            case "경남" -> "경상남도";
-            case "제주" -> "제주특별자치도";
-            default -> sido;
-        };
     }
 }
@@ -0,0 +1,162 @@
+package com.yunbok.houseping.core.service.region;
+
+import com.yunbok.houseping.core.domain.RegionCode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 시군구명 문자 트라이
+ * 주소를 토큰으로 나눈 뒤 시도 토큰을 찾고, 이후 토큰들을 공백 없이 이어 붙인 문자열을 트라이로 따라가
+ * 토큰 경계에서 끝나는 가장 긴 시군구명을 고른다. ("수원시 장안구" → "수원시장안구"가 "수원시"보다 우선)
+ * 생성 후에는 읽기 전용이므로 여러 스레드에서 그대로 공유한다.
+ */
+final class RegionCodeTrie {
+
+    private static final Pattern TOKEN_DELIMITER = Pattern.compile("[\\s,()]+");
+
+    /** 시도 표기 → region_code의 시도명 */
+    private static final Map<String, String> SIDO_ALIASES = buildSidoAliases();
+
+    private final Node root = new Node();
+    private final Map<String, List<RegionCode>> codesBySido = new HashMap<>();
+
+    RegionCodeTrie(List<RegionCode> regionCodes) {
+        for (RegionCode code : regionCodes) {
+            if (code.sigunguName() == null || code.lawdCd() == null) {
+                continue;
+            }
+            insert(code.sigunguName().replaceAll("\\s+", ""), code);
+            codesBySido.computeIfAbsent(code.sidoName(), k -> new ArrayList<>()).add(code);
+        }
+    }
+
+    boolean isEmpty() {
+        return codesBySido.isEmpty();
+    }
+
+    Optional<String> resolve(String address) {
+        String[] tokens = TOKEN_DELIMITER.split(address.trim());
+        int sidoIndex = findSido(tokens);
+        if (sidoIndex >= 0) {
+            String sido = SIDO_ALIASES.get(tokens[sidoIndex]);
+            Optional<String> matched = matchSigungu(tokens, sidoIndex + 1, sido);
+            if (matched.isPresent()) {
+                return matched;
+            }
+            // 세종특별자치시처럼 시군구가 하나뿐인 시도
+            List<RegionCode> codes = codesBySido.getOrDefault(sido, List.of());
+            if (codes.size() == 1) {
+                return Optional.of(codes.get(0).lawdCd());
+            }
+        }
+        // 시도 없이 시작하거나 시도로 오인한 토큰 (경기도 "광주시" 등)
+        return matchSigungu(tokens, 0, null);
+    }
+
+    private int findSido(String[] tokens) {
+        for (int i = 0; i < tokens.length; i++) {
+            if (SIDO_ALIASES.containsKey(tokens[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * from 이후 토큰 위치마다 트라이를 따라가 첫 번째로 찾은 시군구의 법정동코드 반환
+     */
+    private Optional<String> matchSigungu(String[] tokens, int from, String sido) {
+        for (int start = from; start < tokens.length; start++) {
+            Optional<String> matched = matchFrom(tokens, start, sido);
+            if (matched.isPresent()) {
+                return matched;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<String> matchFrom(String[] tokens, int start, String sido) {
+        List<List<RegionCode>> boundaryMatches = new ArrayList<>();
+        Node node = root;
+        walk:
+        for (int t = start; t < tokens.length; t++) {
+            String token = tokens[t];
+            for (int i = 0; i < token.length(); i++) {
+                node = node.children.get(token.charAt(i));
+                if (node == null) {
+                    break walk;
+                }
+            }
+            if (node.codes != null) {
+                boundaryMatches.add(node.codes);
+            }
+        }
+        // 긴 이름부터, 시도가 같은 후보 우선
+        for (int i = boundaryMatches.size() - 1; i >= 0; i--) {
+            Optional<RegionCode> picked = pick(boundaryMatches.get(i), sido);
+            if (picked.isPresent()) {
+                return picked.map(RegionCode::lawdCd);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<RegionCode> pick(List<RegionCode> candidates, String sido) {
+        if (sido == null) {
+            return Optional.of(candidates.get(0));
+        }
+        return candidates.stream()
+                .filter(code -> sido.equals(code.sidoName()))
+                .findFirst();
+    }
+
+    private void insert(String name, RegionCode code) {
+        Node node = root;
+        for (int i = 0; i < name.length(); i++) {
+            node = node.children.computeIfAbsent(name.charAt(i), k -> new Node());
+        }
+        if (node.codes == null) {
+            node.codes = new ArrayList<>(1);
+        }
+        node.codes.add(code);
+    }
+
+    private static Map<String, String> buildSidoAliases() {
+        Map<String, String> aliases = new HashMap<>();
+        alias(aliases, "서울특별시", "서울", "서울시");
+        alias(aliases, "부산광역시", "부산", "부산시");
+        alias(aliases, "대구광역시", "대구", "대구시");
+        alias(aliases, "인천광역시", "인천", "인천시");
+        alias(aliases, "광주광역시", "광주", "광주시");
+        alias(aliases, "대전광역시", "대전", "대전시");
+        alias(aliases, "울산광역시", "울산", "울산시");
+        alias(aliases, "세종특별자치시", "세종", "세종시");
+        alias(aliases, "경기도", "경기");
+        alias(aliases, "강원특별자치도", "강원", "강원도");
+        alias(aliases, "충청북도", "충북");
+        alias(aliases, "충청남도", "충남");
+        alias(aliases, "전북특별자치도", "전북", "전라북도");
+        alias(aliases, "전라남도", "전남");
+        alias(aliases, "경상북도", "경북");
+        alias(aliases, "경상남도", "경남");
+        alias(aliases, "제주특별자치도", "제주", "제주도");
+        return Map.copyOf(aliases);
+    }
+
+    private static void alias(Map<String, String> aliases, String sidoName, String... shortNames) {
+        aliases.put(sidoName, sidoName);
+        for (String shortName : shortNames) {
+            aliases.put(shortName, sidoName);
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private List<RegionCode> codes;
+    }
+}
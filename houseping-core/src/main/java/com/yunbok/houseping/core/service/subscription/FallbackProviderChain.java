@@ -2,74 +2,217 @@ package com.yunbok.houseping.core.service.subscription;
 
 import com.yunbok.houseping.core.domain.Subscription;
 import com.yunbok.houseping.core.port.SubscriptionProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.Supplier;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 
 /**
  * 여러 Provider를 순차적으로 시도하여 첫 번째 성공 결과를 반환하는 Fallback Chain
+ * - Provider별 최근 호출 결과로 회로를 열고 닫아, 죽은 Provider는 타임아웃을 기다리지 않고 건너뜀
+ * - 외부 Provider가 평소 응답 시간(분위수)보다 늦으면 다음 외부 Provider를 동시에 호출하고 먼저 성공한 결과를 씀
+ *
+ * 지표
+ * - houseping.provider.fetch: Provider별 호출 시간 (outcome: success/failure)
+ * - houseping.provider.chain.requests: 체인 실행 결과 (served_by: 결과를 낸 Provider, 모두 실패하면 none / fallback: 첫 Provider가 아닌지)
+ * - houseping.provider.skipped: 회로가 열려 건너뛴 횟수
+ * - houseping.provider.hedges: 헤징 호출 횟수 (provider: 느린 Provider, hedge: 함께 호출한 Provider)
+ * - houseping.provider.circuit.state: 회로 상태 (0 CLOSED, 1 HALF_OPEN, 2 OPEN)
+ * - houseping.provider.health: 최근 호출 성공 비율
  */
 @Slf4j
 public class FallbackProviderChain implements SubscriptionProviderChain {
 
+    private static final String NONE = "none";
+
     private final List<SubscriptionProvider> providers;
     private final String name;
+    private final ProviderChainPolicy policy;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+    private final Map<SubscriptionProvider, ProviderHealth> healths = new ConcurrentHashMap<>();
+    /** 헤징 시 느린 호출은 결과를 기다리지 않고 남겨 두므로(건강도 기록용) 가상 스레드에서 실행 */
+    private final ExecutorService hedgeExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public FallbackProviderChain(List<SubscriptionProvider> providers, String name,
+                                 ProviderChainPolicy policy, MeterRegistry meterRegistry) {
+        this(providers, name, policy, meterRegistry, System::nanoTime);
+    }
 
-    public FallbackProviderChain(List<SubscriptionProvider> providers, String name) {
+    FallbackProviderChain(List<SubscriptionProvider> providers, String name,
+                          ProviderChainPolicy policy, MeterRegistry meterRegistry, LongSupplier nanoClock) {
         this.providers = providers;
         this.name = name;
+        this.policy = policy;
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hedgeExecutor.shutdownNow();
     }
 
     public List<Subscription> execute(String areaName, LocalDate targetDate) {
-        for (SubscriptionProvider provider : providers) {
-            Optional<List<Subscription>> result = tryFetch(
-                    () -> provider.fetch(areaName, targetDate),
-                    provider.getSourceName()
-            );
-            if (result.isPresent()) {
-                return result.get();
-            }
-        }
-        return emptyResultWithWarning();
+        return run(providers, provider -> provider.fetch(areaName, targetDate));
     }
 
     public List<Subscription> executeAll(String areaName) {
-        for (SubscriptionProvider provider : providers) {
-            if (!provider.isExternalSource()) continue;
-            Optional<List<Subscription>> result = tryFetch(
-                    () -> provider.fetchAll(areaName),
-                    provider.getSourceName()
-            );
-            if (result.isPresent()) {
-                return result.get();
-            }
-        }
-        return emptyResultWithWarning();
+        return run(providers.stream().filter(SubscriptionProvider::isExternalSource).toList(),
+                provider -> provider.fetchAll(areaName));
     }
 
     public String getSourceName() {
         return name;
     }
 
+    private List<Subscription> run(List<SubscriptionProvider> candidates,
+                                   Function<SubscriptionProvider, List<Subscription>> fetcher) {
+        boolean fallback = false;
+        int index = 0;
+        while (index < candidates.size()) {
+            SubscriptionProvider provider = candidates.get(index);
+            if (!healthOf(provider).tryAcquire()) {
+                log.info("[{}] {} skipped: circuit {}", name, provider.getSourceName(), healthOf(provider).state());
+                meterRegistry.counter("houseping.provider.skipped",
+                        "chain", name, "provider", provider.getSourceName()).increment();
+                fallback = true;
+                index++;
+                continue;
+            }
+
+            SubscriptionProvider hedge = hedgeFor(candidates, index);
+            Attempt attempt = hedge != null
+                    ? fetchHedged(provider, hedge, fetcher)
+                    : new Attempt(provider, tryFetch(provider, fetcher).orElse(null), 1);
+            if (attempt.result() != null) {
+                recordServed(attempt.servedBy().getSourceName(), fallback || attempt.servedBy() != provider);
+                return attempt.result();
+            }
+            fallback = true;
+            index += attempt.attempted();
+        }
+        return emptyResultWithWarning(fallback);
+    }
+
+    /**
+     * 헤징 대상: 현재와 다음 Provider가 모두 외부 소스일 때만 (DB Fallback은 오래된 데이터라 순서대로만 사용)
+     */
+    private SubscriptionProvider hedgeFor(List<SubscriptionProvider> candidates, int index) {
+        if (!policy.hedgeEnabled() || index + 1 >= candidates.size()) {
+            return null;
+        }
+        SubscriptionProvider next = candidates.get(index + 1);
+        return candidates.get(index).isExternalSource() && next.isExternalSource() ? next : null;
+    }
+
+    private Attempt fetchHedged(SubscriptionProvider primary, SubscriptionProvider hedge,
+                                Function<SubscriptionProvider, List<Subscription>> fetcher) {
+        long delayNanos = healthOf(primary).hedgeDelayNanos();
+        CompletableFuture<Optional<List<Subscription>>> primaryCall =
+                CompletableFuture.supplyAsync(() -> tryFetch(primary, fetcher), hedgeExecutor);
+        CompletableFuture<Void> hedgeTimer = CompletableFuture.runAsync(() -> { },
+                CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS, hedgeExecutor));
+        CompletableFuture.anyOf(primaryCall, hedgeTimer).join();
+
+        if (primaryCall.isDone() || !healthOf(hedge).tryAcquire()) {
+            return new Attempt(primary, primaryCall.join().orElse(null), 1);
+        }
+
+        log.info("[{}] {} slower than {}ms, hedging to {}",
+                name, primary.getSourceName(), TimeUnit.NANOSECONDS.toMillis(delayNanos), hedge.getSourceName());
+        meterRegistry.counter("houseping.provider.hedges",
+                "chain", name, "provider", primary.getSourceName(), "hedge", hedge.getSourceName()).increment();
+        CompletableFuture<Optional<List<Subscription>>> hedgeCall =
+                CompletableFuture.supplyAsync(() -> tryFetch(hedge, fetcher), hedgeExecutor);
+
+        // 먼저 성공한 쪽을 쓰고, 둘 다 끝난 뒤에는 두 결과를 직접 확인한다.
+        // (완료 콜백 실행 순서는 보장되지 않아, 늦게 성공한 쪽의 콜백보다 allOf가 먼저 실행될 수 있음)
+        // 늦게 끝난 호출도 건강도에는 기록된다.
+        CompletableFuture<Attempt> winner = new CompletableFuture<>();
+        primaryCall.thenAccept(result -> result.ifPresent(list -> winner.complete(new Attempt(primary, list, 2))));
+        hedgeCall.thenAccept(result -> result.ifPresent(list -> winner.complete(new Attempt(hedge, list, 2))));
+        CompletableFuture.allOf(primaryCall, hedgeCall).thenRun(() -> winner.complete(
+                primaryCall.join().map(list -> new Attempt(primary, list, 2))
+                        .or(() -> hedgeCall.join().map(list -> new Attempt(hedge, list, 2)))
+                        .orElse(new Attempt(null, null, 2))));
+        return winner.join();
+    }
+
     private Optional<List<Subscription>> tryFetch(
-            Supplier<List<Subscription>> fetcher, String sourceName) {
+            SubscriptionProvider provider, Function<SubscriptionProvider, List<Subscription>> fetcher) {
+        String sourceName = provider.getSourceName();
+        long start = nanoClock.getAsLong();
         try {
-            List<Subscription> result = fetcher.get();
+            List<Subscription> result = fetcher.apply(provider);
             if (result != null) {
+                long elapsed = nanoClock.getAsLong() - start;
+                healthOf(provider).onSuccess(elapsed);
+                recordFetch(sourceName, "success", elapsed);
                 log.info("[{}] {} succeeded: {} items", name, sourceName, result.size());
                 return Optional.of(result);
             }
         } catch (Exception e) {
             log.warn("[{}] {} failed: {}", name, sourceName, e.getMessage());
         }
+        healthOf(provider).onFailure();
+        recordFetch(sourceName, "failure", nanoClock.getAsLong() - start);
         return Optional.empty();
     }
 
-    private List<Subscription> emptyResultWithWarning() {
+    private List<Subscription> emptyResultWithWarning(boolean attempted) {
         log.warn("[{}] All sources failed", name);
+        recordServed(NONE, attempted);
         return List.of();
     }
+
+    private ProviderHealth healthOf(SubscriptionProvider provider) {
+        return healths.computeIfAbsent(provider, p -> {
+            String sourceName = p.getSourceName();
+            ProviderHealth health = new ProviderHealth(name + "/" + sourceName, policy, nanoClock);
+            Gauge.builder("houseping.provider.circuit.state", health, h -> h.state().ordinal())
+                    .tag("chain", name)
+                    .tag("provider", sourceName)
+                    .register(meterRegistry);
+            Gauge.builder("houseping.provider.health", health, ProviderHealth::score)
+                    .tag("chain", name)
+                    .tag("provider", sourceName)
+                    .register(meterRegistry);
+            return health;
+        });
+    }
+
+    private void recordFetch(String sourceName, String outcome, long elapsedNanos) {
+        Timer.builder("houseping.provider.fetch")
+                .tag("chain", name)
+                .tag("provider", sourceName)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void recordServed(String sourceName, boolean fallback) {
+        meterRegistry.counter("houseping.provider.chain.requests",
+                "chain", name, "served_by", sourceName, "fallback", String.valueOf(fallback)).increment();
+    }
+
+    /**
+     * @param attempted 이번 시도에서 호출한 Provider 수 (헤징하면 2)
+     */
+    private record Attempt(SubscriptionProvider servedBy, List<Subscription> result, int attempted) {
+    }
 }
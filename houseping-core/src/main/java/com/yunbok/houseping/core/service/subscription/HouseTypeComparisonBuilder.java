@@ -3,6 +3,7 @@ package com.yunbok.houseping.core.service.subscription;
 import com.yunbok.houseping.support.dto.HouseTypeComparison;
 import com.yunbok.houseping.core.domain.RealTransaction;
 import com.yunbok.houseping.core.domain.SubscriptionPrice;
+import com.yunbok.houseping.core.service.realtransaction.RealTransactionIndex;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -31,6 +32,18 @@ public class HouseTypeComparisonBuilder {
         if (prices.isEmpty()) {
             return Collections.emptyList();
         }
+        return build(prices, RealTransactionIndex.District.of(transactions),
+                RealTransactionIndex.District.ANY_DONG, RealTransactionIndex.District.ANY_BUILD_YEAR);
+    }
+
+    /**
+     * 주택형별 시세 비교 생성 (지역 인덱스에서 동·준공연도 조건으로 조회)
+     */
+    public List<HouseTypeComparison> build(List<SubscriptionPrice> prices, RealTransactionIndex.District district,
+                                           int dongId, int minBuildYear) {
+        if (prices.isEmpty()) {
+            return Collections.emptyList();
+        }
 
         List<HouseTypeComparison> comparisons = new ArrayList<>();
 
@@ -38,7 +51,10 @@ public class HouseTypeComparisonBuilder {
             BigDecimal exclusiveArea = extractAreaFromHouseType(price.getHouseType());
             if (exclusiveArea == null) continue;
 
-            List<RealTransaction> similarAreaTx = findSimilarAreaTransactions(transactions, exclusiveArea);
+            // 유사 면적 거래 (±5㎡, 최근 5건)
+            List<RealTransaction> similarAreaTx = district.mostRecent(dongId, minBuildYear,
+                    exclusiveArea.subtract(AREA_TOLERANCE), exclusiveArea.add(AREA_TOLERANCE),
+                    MAX_SIMILAR_TRANSACTIONS);
 
             Long marketPrice = calculateAveragePrice(similarAreaTx);
             Long estimatedProfit = calculateProfit(marketPrice, price.getTopAmount());
@@ -56,22 +72,6 @@ public class HouseTypeComparisonBuilder {
         return comparisons;
     }
 
-    /**
-     * 유사 면적 거래 찾기 (±5㎡, 최근 5건)
-     */
-    private List<RealTransaction> findSimilarAreaTransactions(List<RealTransaction> transactions, BigDecimal targetArea) {
-        BigDecimal minArea = targetArea.subtract(AREA_TOLERANCE);
-        BigDecimal maxArea = targetArea.add(AREA_TOLERANCE);
-
-        return transactions.stream()
-                .filter(t -> t.getExclusiveArea() != null)
-                .filter(t -> t.getExclusiveArea().compareTo(minArea) >= 0
-                          && t.getExclusiveArea().compareTo(maxArea) <= 0)
-                .sorted((a, b) -> b.getDealDate().compareTo(a.getDealDate()))
-                .limit(MAX_SIMILAR_TRANSACTIONS)
-                .toList();
-    }
-
     /**
      * 평균 시세 계산
      */
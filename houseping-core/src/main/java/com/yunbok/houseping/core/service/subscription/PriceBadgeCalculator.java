@@ -1,17 +1,19 @@
 package com.yunbok.houseping.core.service.subscription;
 
-import com.yunbok.houseping.core.port.RealTransactionPersistencePort;
 import com.yunbok.houseping.core.port.SubscriptionPricePersistencePort;
-import com.yunbok.houseping.core.domain.RealTransaction;
 import com.yunbok.houseping.core.domain.Subscription;
 import com.yunbok.houseping.core.domain.SubscriptionPrice;
 import com.yunbok.houseping.support.dto.PriceBadge;
+import com.yunbok.houseping.support.dto.PriceBadgeSnapshot;
+import com.yunbok.houseping.core.service.realtransaction.RealTransactionIndex;
+import com.yunbok.houseping.core.service.region.RegionCodeService;
 import com.yunbok.houseping.support.util.AddressHelper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
 
@@ -21,7 +23,8 @@ import java.util.List;
 public class PriceBadgeCalculator {
 
     private final SubscriptionPricePersistencePort subscriptionPriceQueryPort;
-    private final RealTransactionPersistencePort realTransactionQueryPort;
+    private final RealTransactionIndex transactionIndex;
+    private final RegionCodeService regionCodeService;
     private final AddressHelper addressHelper;
     private final HouseTypeComparisonBuilder comparisonBuilder;
 
@@ -38,79 +41,67 @@ public class PriceBadgeCalculator {
      * </ol>
      */
     public PriceBadge computePriceBadge(Subscription subscription) {
+        return computeSnapshot(subscription).badge();
+    }
+
+    /**
+     * 가격 배지와 산출 근거(분양가, 시세 중앙값, 표본 수)를 함께 계산한다.
+     * 배지 사전 계산 저장소 갱신에 사용한다.
+     */
+    public PriceBadgeSnapshot computeSnapshot(Subscription subscription) {
+        String houseManageNo = subscription.getHouseManageNo();
         if (subscription.getSource() != null && subscription.getSource().toUpperCase().contains("LH")) {
-            return PriceBadge.UNKNOWN;
+            return PriceBadgeSnapshot.unknown(houseManageNo);
         }
-        if (subscription.getHouseManageNo() == null || subscription.getAddress() == null) {
-            return PriceBadge.UNKNOWN;
+        if (houseManageNo == null || subscription.getAddress() == null) {
+            return PriceBadgeSnapshot.unknown(houseManageNo);
         }
 
-        BigDecimal area = findRepresentativeArea(subscription);
+        List<SubscriptionPrice> prices = subscriptionPriceQueryPort.findByHouseManageNo(houseManageNo);
+        SubscriptionPrice representative = prices.isEmpty() ? null : selectRepresentativePrice(prices);
+        if (representative == null || representative.getTopAmount() == null) {
+            return PriceBadgeSnapshot.unknown(houseManageNo);
+        }
+        BigDecimal area = comparisonBuilder.extractAreaFromHouseType(representative.getHouseType());
         if (area == null) {
-            return PriceBadge.UNKNOWN;
+            return PriceBadgeSnapshot.unknown(houseManageNo);
         }
 
-        String lawdCd = addressHelper.extractLawdCd(subscription.getAddress());
+        String lawdCd = regionCodeService.findLawdCdByAddress(subscription.getAddress()).orElse(null);
         String dongName = addressHelper.extractDongName(subscription.getAddress());
         if (lawdCd == null) {
-            return PriceBadge.UNKNOWN;
-        }
-
-        List<RealTransaction> newBuildTx = findNewBuildTransactions(lawdCd, dongName);
-        if (newBuildTx.isEmpty()) {
-            return PriceBadge.UNKNOWN;
+            return PriceBadgeSnapshot.unknown(houseManageNo);
         }
 
-        Long median = calculateMedianPrice(newBuildTx, area);
-        if (median == null) {
-            return PriceBadge.UNKNOWN;
+        long[] amounts = findSimilarNewBuildAmounts(lawdCd, dongName, area);
+        if (amounts.length == 0) {
+            return PriceBadgeSnapshot.unknown(houseManageNo);
         }
 
-        long supplyPrice = selectRepresentativePrice(
-                subscriptionPriceQueryPort.findByHouseManageNo(subscription.getHouseManageNo())
-        ).getTopAmount();
-        return determineBadge(supplyPrice, median);
+        long supplyPrice = representative.getTopAmount();
+        long median = calculateMedian(amounts);
+        return new PriceBadgeSnapshot(houseManageNo, determineBadge(supplyPrice, median),
+                supplyPrice, median, amounts.length, LocalDateTime.now());
     }
 
-    private BigDecimal findRepresentativeArea(Subscription subscription) {
-        List<SubscriptionPrice> prices = subscriptionPriceQueryPort.findByHouseManageNo(subscription.getHouseManageNo());
-        if (prices.isEmpty()) {
-            return null;
-        }
-        SubscriptionPrice representative = selectRepresentativePrice(prices);
-        if (representative == null || representative.getTopAmount() == null) {
-            return null;
-        }
-        return comparisonBuilder.extractAreaFromHouseType(representative.getHouseType());
-    }
-
-    private List<RealTransaction> findNewBuildTransactions(String lawdCd, String dongName) {
-        List<RealTransaction> allTransactions = realTransactionQueryPort.findByLawdCd(lawdCd);
-        List<RealTransaction> dongTransactions = addressHelper.filterByDongName(allTransactions, dongName);
-        int threshold = HouseTypeComparisonBuilder.newBuildYearThreshold();
-        return dongTransactions.stream()
-                .filter(t -> t.getBuildYear() != null && t.getBuildYear() >= threshold)
-                .toList();
+    /**
+     * 같은 동 신축 거래 중 유사 면적(±5㎡) 거래금액 (오름차순)
+     */
+    private long[] findSimilarNewBuildAmounts(String lawdCd, String dongName, BigDecimal area) {
+        RealTransactionIndex.District district = transactionIndex.district(lawdCd);
+        return district.sortedAmounts(
+                district.dongId(dongName),
+                HouseTypeComparisonBuilder.newBuildYearThreshold(),
+                area.subtract(HouseTypeComparisonBuilder.AREA_TOLERANCE),
+                area.add(HouseTypeComparisonBuilder.AREA_TOLERANCE));
     }
 
-    private Long calculateMedianPrice(List<RealTransaction> transactions, BigDecimal area) {
-        BigDecimal minArea = area.subtract(HouseTypeComparisonBuilder.AREA_TOLERANCE);
-        BigDecimal maxArea = area.add(HouseTypeComparisonBuilder.AREA_TOLERANCE);
-        List<Long> amounts = transactions.stream()
-                .filter(t -> t.getExclusiveArea() != null)
-                .filter(t -> t.getExclusiveArea().compareTo(minArea) >= 0
-                          && t.getExclusiveArea().compareTo(maxArea) <= 0)
-                .map(RealTransaction::getDealAmount)
-                .sorted()
-                .toList();
-        if (amounts.isEmpty()) {
-            return null;
-        }
-        int size = amounts.size();
+    private long calculateMedian(long[] sortedAmounts) {
+        int size = sortedAmounts.length;
         if (size % 2 == 0) {
-            return (amounts.get(size / 2 - 1) + amounts.get(size / 2)) / 2;
+            return (sortedAmounts[size / 2 - 1] + sortedAmounts[size / 2]) / 2;
         }
-        return amounts.get(size / 2);
+        return sortedAmounts[size / 2];
     }
 
     private PriceBadge determineBadge(long supplyPrice, long median) {
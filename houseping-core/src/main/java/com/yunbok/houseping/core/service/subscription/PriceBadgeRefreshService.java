@@ -0,0 +1,100 @@
+package com.yunbok.houseping.core.service.subscription;
+
+import com.yunbok.houseping.core.domain.PublicDataChangedEvent;
+import com.yunbok.houseping.core.domain.Subscription;
+import com.yunbok.houseping.core.domain.SubscriptionStatus;
+import com.yunbok.houseping.core.port.PriceBadgePersistencePort;
+import com.yunbok.houseping.core.port.SubscriptionPersistencePort;
+import com.yunbok.houseping.core.service.region.RegionCodeService;
+import com.yunbok.houseping.support.dto.PriceBadgeSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * 가격 배지 사전 계산 서비스
+ * 분양가·실거래가가 바뀐 청약만 다시 계산하여 price_badge 테이블에 반영
+ * 상태(마감 여부)와 신축 기준 연도는 날짜에 따라 바뀌므로 전체 재계산은 매일 한 번 스케줄러에서 실행하고,
+ * 배지가 하나도 없으면(첫 배포 직후) 기동 시에도 실행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceBadgeRefreshService {
+
+    private final SubscriptionPersistencePort subscriptionQueryPort;
+    private final PriceBadgePersistencePort priceBadgePort;
+    private final PriceBadgeCalculator priceBadgeCalculator;
+    private final RegionCodeService regionCodeService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 분양가가 새로 수집된 청약의 배지 재계산
+     */
+    public int refreshByHouseManageNos(Collection<String> houseManageNos) {
+        if (houseManageNos.isEmpty()) {
+            return 0;
+        }
+        Set<String> targets = Set.copyOf(houseManageNos);
+        return refresh(s -> targets.contains(s.getHouseManageNo()));
+    }
+
+    /**
+     * 실거래가가 갱신된 지역(법정동코드)에 속한 청약의 배지 재계산
+     */
+    public int refreshByLawdCds(Collection<String> lawdCds) {
+        if (lawdCds.isEmpty()) {
+            return 0;
+        }
+        Set<String> targets = Set.copyOf(lawdCds);
+        return refresh(s -> s.getAddress() != null && regionCodeService.findLawdCdByAddress(s.getAddress()).filter(targets::contains).isPresent());
+    }
+
+    /**
+     * 진행중·예정 청약 전체 배지 재계산
+     */
+    public int refreshAll() {
+        return refresh(s -> true);
+    }
+
+    /**
+     * 저장된 배지가 없으면 전체 재계산 (배지 테이블이 비어 있으면 모든 청약이 UNKNOWN으로 보임)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void refreshAllIfEmpty() {
+        if (!priceBadgePort.isEmpty()) {
+            return;
+        }
+        log.info("[가격 배지] 저장된 배지가 없어 전체 재계산");
+        try {
+            refreshAll();
+        } catch (Exception e) {
+            log.warn("[가격 배지] 기동 시 전체 재계산 실패, 다음 정기 재계산 때 반영: {}", e.getMessage());
+        }
+    }
+
+    private int refresh(Predicate<Subscription> filter) {
+        List<PriceBadgeSnapshot> snapshots = subscriptionQueryPort.findAll().stream()
+                .filter(s -> s.getHouseManageNo() != null)
+                .filter(s -> s.getStatus() != SubscriptionStatus.CLOSED)
+                .filter(filter)
+                .map(priceBadgeCalculator::computeSnapshot)
+                .toList();
+
+        priceBadgePort.saveAll(snapshots);
+        log.info("[가격 배지] 재계산 완료: {}건", snapshots.size());
+        if (!snapshots.isEmpty()) {
+            eventPublisher.publishEvent(PublicDataChangedEvent.of(PublicDataChangedEvent.Kind.PRICE_BADGE,
+                    snapshots.stream().map(PriceBadgeSnapshot::houseManageNo).toList()));
+        }
+        return snapshots.size();
+    }
+}
@@ -0,0 +1,110 @@
+package com.yunbok.houseping.core.service.subscription;
+
+import com.yunbok.houseping.core.domain.PublicDataChangedEvent;
+import com.yunbok.houseping.core.domain.SubscriptionSource;
+import com.yunbok.houseping.core.port.SubscriptionPriceFetchPort;
+import com.yunbok.houseping.entity.SubscriptionEntity;
+import com.yunbok.houseping.repository.SubscriptionRepository;
+import com.yunbok.houseping.support.dto.PriceCollectionResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * ApplyHome 분양가 수집 서비스
+ * - 분양가가 없는 청약만 anti-join 한 번으로 조회
+ * - 동시에 여러 건을 조회하되 실제 호출 속도는 ApiRateLimiter가 제한
+ * - 청약 단위로 저장이 끝나므로, 중간에 중단되어도 재실행 시 남은 청약부터 이어서 수집
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceCollectionService {
+
+    private static final int FETCH_CONCURRENCY = 4;
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final Optional<SubscriptionPriceFetchPort> priceFetchPort;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 분양가가 없는 ApplyHome 청약 전체 수집
+     */
+    public PriceCollectionResult collectMissing() {
+        return collect(subscriptionRepository.findWithoutPrice(SubscriptionSource.APPLYHOME.name()));
+    }
+
+    /**
+     * 접수 시작일이 fromDate 이후인 청약 중 분양가가 없는 청약 수집
+     */
+    public PriceCollectionResult collectMissing(LocalDate fromDate) {
+        return collect(subscriptionRepository.findWithoutPriceFrom(SubscriptionSource.APPLYHOME.name(), fromDate));
+    }
+
+    private PriceCollectionResult collect(List<SubscriptionEntity> targets) {
+        if (priceFetchPort.isEmpty()) {
+            log.info("[분양가] 분양가 API가 비활성화 상태입니다.");
+            return PriceCollectionResult.empty();
+        }
+
+        log.info("[분양가] 수집 대상: {}건", targets.size());
+        if (targets.isEmpty()) {
+            return PriceCollectionResult.empty();
+        }
+
+        List<TargetResult> results = fetchConcurrently(targets, priceFetchPort.get());
+        List<String> collected = results.stream()
+                .filter(TargetResult::succeeded)
+                .map(TargetResult::houseManageNo)
+                .toList();
+        int failCount = results.size() - collected.size();
+
+        log.info("[분양가] 수집 완료 - 성공: {}건, 실패: {}건", collected.size(), failCount);
+        if (!collected.isEmpty()) {
+            eventPublisher.publishEvent(PublicDataChangedEvent.of(PublicDataChangedEvent.Kind.PRICE, collected));
+        }
+        return new PriceCollectionResult(targets.size(), collected, failCount);
+    }
+
+    private List<TargetResult> fetchConcurrently(List<SubscriptionEntity> targets, SubscriptionPriceFetchPort port) {
+        Semaphore permits = new Semaphore(FETCH_CONCURRENCY);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<TargetResult>> futures = targets.stream()
+                    .map(target -> CompletableFuture.supplyAsync(() -> fetchOne(target, port, permits), executor))
+                    .toList();
+            return futures.stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+        }
+    }
+
+    private TargetResult fetchOne(SubscriptionEntity target, SubscriptionPriceFetchPort port, Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new TargetResult(target.getHouseManageNo(), false);
+        }
+        try {
+            port.fetchAndSavePriceDetails(target.getHouseManageNo(), target.getPblancNo(), target.getHouseType());
+            return new TargetResult(target.getHouseManageNo(), true);
+        } catch (Exception e) {
+            log.warn("[분양가] {} 수집 실패: {}", target.getHouseName(), e.getMessage());
+            return new TargetResult(target.getHouseManageNo(), false);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private record TargetResult(String houseManageNo, boolean succeeded) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.yunbok.houseping.core.service.subscription;
+
+import java.time.Duration;
+
+/**
+ * Provider Chain 회로 차단·헤징 정책
+ * @param windowSize 건강도 계산에 쓰는 최근 호출 수
+ * @param minimumCalls 회로를 열기 전에 필요한 최소 호출 수
+ * @param failureRateThreshold 회로를 여는 실패율 (0~1)
+ * @param openDuration 회로가 열린 뒤 시험 호출을 허용하기까지의 시간
+ * @param hedgeEnabled 느린 외부 Provider가 있으면 다음 외부 Provider를 동시에 호출할지
+ * @param hedgeQuantile 헤징 대기 시간으로 쓰는 성공 응답 시간 분위수 (0~1)
+ * @param hedgeMinDelay 헤징 대기 시간 하한
+ * @param hedgeMaxDelay 헤징 대기 시간 상한 (응답 시간 표본이 부족할 때도 사용)
+ * @param hedgeMinSamples 분위수를 쓰기 위한 최소 성공 표본 수
+ */
+public record ProviderChainPolicy(
+    int windowSize,
+    int minimumCalls,
+    double failureRateThreshold,
+    Duration openDuration,
+    boolean hedgeEnabled,
+    double hedgeQuantile,
+    Duration hedgeMinDelay,
+    Duration hedgeMaxDelay,
+    int hedgeMinSamples
+) {
+    public ProviderChainPolicy {
+        if (windowSize <= 0 || minimumCalls <= 0 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("minimumCalls는 1 이상 windowSize 이하여야 합니다.");
+        }
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1 || hedgeQuantile <= 0 || hedgeQuantile > 1) {
+            throw new IllegalArgumentException("failureRateThreshold와 hedgeQuantile은 0보다 크고 1 이하여야 합니다.");
+        }
+        if (hedgeMinDelay.compareTo(hedgeMaxDelay) > 0) {
+            throw new IllegalArgumentException("hedgeMinDelay는 hedgeMaxDelay보다 클 수 없습니다.");
+        }
+    }
+
+    public static ProviderChainPolicy defaults() {
+        return new ProviderChainPolicy(20, 4, 0.5, Duration.ofMinutes(30),
+                true, 0.95, Duration.ofSeconds(2), Duration.ofSeconds(10), 5);
+    }
+}
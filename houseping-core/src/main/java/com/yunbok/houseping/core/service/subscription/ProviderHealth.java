@@ -0,0 +1,148 @@
+package com.yunbok.houseping.core.service.subscription;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * Provider 하나의 최근 호출 결과와 회로 상태
+ * - CLOSED: 정상 호출. 최근 windowSize건의 실패율이 기준 이상이면 OPEN
+ * - OPEN: 호출하지 않고 건너뜀. openDuration이 지나면 HALF_OPEN
+ * - HALF_OPEN: 시험 호출 1건만 허용. 성공하면 CLOSED, 실패하면 다시 OPEN
+ * 성공 응답 시간은 회로 상태와 별개로 유지하여 헤징 대기 시간 계산에 쓴다.
+ */
+@Slf4j
+final class ProviderHealth {
+
+    enum State { CLOSED, HALF_OPEN, OPEN }
+
+    private final String label;
+    private final ProviderChainPolicy policy;
+    private final LongSupplier nanoClock;
+
+    private final boolean[] outcomes;
+    private int outcomeCount;
+    private int outcomeCursor;
+    private int failureCount;
+
+    private final long[] latencies;
+    private int latencyCount;
+    private int latencyCursor;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private boolean probeInFlight;
+
+    ProviderHealth(String label, ProviderChainPolicy policy, LongSupplier nanoClock) {
+        this.label = label;
+        this.policy = policy;
+        this.nanoClock = nanoClock;
+        this.outcomes = new boolean[policy.windowSize()];
+        this.latencies = new long[policy.windowSize()];
+    }
+
+    /**
+     * 호출 가능 여부. true를 받은 호출은 반드시 onSuccess/onFailure로 결과를 알려야 한다.
+     */
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAtNanos >= policy.openDuration().toNanos()) {
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+            log.info("[{}] 회로 HALF_OPEN - 시험 호출 허용", label);
+        }
+        return switch (state) {
+            case CLOSED -> true;
+            case HALF_OPEN -> {
+                if (probeInFlight) {
+                    yield false;
+                }
+                probeInFlight = true;
+                yield true;
+            }
+            case OPEN -> false;
+        };
+    }
+
+    synchronized void onSuccess(long latencyNanos) {
+        latencies[latencyCursor] = latencyNanos;
+        latencyCursor = (latencyCursor + 1) % latencies.length;
+        latencyCount = Math.min(latencyCount + 1, latencies.length);
+
+        if (state == State.HALF_OPEN) {
+            resetOutcomes();
+            state = State.CLOSED;
+            log.info("[{}] 회로 CLOSED - 시험 호출 성공", label);
+            return;
+        }
+        recordOutcome(true);
+    }
+
+    synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open("시험 호출 실패");
+            return;
+        }
+        recordOutcome(false);
+        if (state == State.CLOSED && outcomeCount >= policy.minimumCalls()
+                && failureRate() >= policy.failureRateThreshold()) {
+            open(String.format("실패율 %.0f%% (%d/%d)", failureRate() * 100, failureCount, outcomeCount));
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    /**
+     * 최근 호출 성공 비율 (호출 기록이 없으면 1)
+     */
+    synchronized double score() {
+        return outcomeCount == 0 ? 1.0 : 1.0 - failureRate();
+    }
+
+    /**
+     * 다음 Provider로 헤징하기 전 기다릴 시간
+     * 성공 표본이 충분하면 응답 시간 분위수를 하한·상한 사이로 맞춰 쓰고, 부족하면 상한을 쓴다.
+     */
+    synchronized long hedgeDelayNanos() {
+        long min = policy.hedgeMinDelay().toNanos();
+        long max = policy.hedgeMaxDelay().toNanos();
+        if (latencyCount < policy.hedgeMinSamples()) {
+            return max;
+        }
+        long[] sorted = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sorted);
+        int index = Math.max(0, (int) Math.ceil(policy.hedgeQuantile() * sorted.length) - 1);
+        return Math.clamp(sorted[index], min, max);
+    }
+
+    private void recordOutcome(boolean success) {
+        if (outcomeCount == outcomes.length && !outcomes[outcomeCursor]) {
+            failureCount--;
+        }
+        outcomes[outcomeCursor] = success;
+        if (!success) {
+            failureCount++;
+        }
+        outcomeCursor = (outcomeCursor + 1) % outcomes.length;
+        outcomeCount = Math.min(outcomeCount + 1, outcomes.length);
+    }
+
+    private double failureRate() {
+        return (double) failureCount / outcomeCount;
+    }
+
+    private void open(String reason) {
+        state = State.OPEN;
+        openedAtNanos = nanoClock.getAsLong();
+        log.warn("[{}] 회로 OPEN - {}, {}초 동안 건너뜀", label, reason, policy.openDuration().toSeconds());
+    }
+
+    private void resetOutcomes() {
+        Arrays.fill(outcomes, false);
+        outcomeCount = 0;
+        outcomeCursor = 0;
+        failureCount = 0;
+    }
+}
@@ -0,0 +1,71 @@
+package com.yunbok.houseping.core.service.subscription;
+
+import com.yunbok.houseping.core.domain.PublicDataChangedEvent;
+import com.yunbok.houseping.core.domain.RealTransactionsUpdatedEvent;
+import com.yunbok.houseping.core.domain.SubscriptionChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * 공개 페이지 데이터 버전
+ * 동기화·분양가·실거래가·경쟁률 수집과 관리자 변경이 커밋될 때마다 올라가며, 공개 페이지의 ETag로 쓰인다.
+ * - 청약 스냅샷 버전을 함께 담아 스냅샷 교체 전 내용이 새 버전으로 캐시되지 않게 한다.
+ * - 기동 시각을 앞에 붙여 재기동(배포) 후에는 이전 ETag가 모두 무효가 된다.
+ */
+@Slf4j
+@Component
+public class PublicDataVersion {
+
+    private final SubscriptionReadModel subscriptionReadModel;
+    private final String epoch;
+    private volatile long sequence;
+    private volatile Instant changedAt;
+
+    public PublicDataVersion(SubscriptionReadModel subscriptionReadModel) {
+        this.subscriptionReadModel = subscriptionReadModel;
+        Instant now = Instant.now();
+        this.epoch = Long.toString(now.toEpochMilli(), 36);
+        this.changedAt = now;
+    }
+
+    /**
+     * 현재 버전 문자열 (기동 시각-청약 스냅샷 버전-변경 순번)
+     */
+    public String tag() {
+        return epoch + "-" + subscriptionReadModel.version() + "-" + sequence;
+    }
+
+    /**
+     * 마지막으로 데이터가 바뀐 시각
+     */
+    public Instant changedAt() {
+        Instant snapshotLoadedAt = subscriptionReadModel.loadedAt()
+                .atZone(ZoneId.systemDefault()).toInstant();
+        return snapshotLoadedAt.isAfter(changedAt) ? snapshotLoadedAt : changedAt;
+    }
+
+    public synchronized void bump(String reason) {
+        changedAt = Instant.now();
+        sequence++;
+        log.debug("[공개 데이터 버전] {} ({})", sequence, reason);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPublicDataChanged(PublicDataChangedEvent event) {
+        bump(event.kind().name());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubscriptionChanged(SubscriptionChangedEvent event) {
+        bump(event.reason());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRealTransactionsUpdated(RealTransactionsUpdatedEvent event) {
+        bump("real-transaction " + event.lawdCd());
+    }
+}
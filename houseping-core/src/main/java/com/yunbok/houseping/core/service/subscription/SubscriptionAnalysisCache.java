@@ -0,0 +1,196 @@
+package com.yunbok.houseping.core.service.subscription;
+
+import com.yunbok.houseping.core.domain.PublicDataChangedEvent;
+import com.yunbok.houseping.core.domain.RealTransactionsUpdatedEvent;
+import com.yunbok.houseping.core.domain.SubscriptionChangedEvent;
+import com.yunbok.houseping.support.dto.SubscriptionAnalysisResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 청약별 분석 결과 캐시
+ * - 최근에 조회한 MAX_ENTRIES개만 보관 (LRU)
+ * - 같은 청약을 동시에 처음 조회하면 한 요청만 계산하고 나머지는 그 결과를 기다린다.
+ * - 결과가 의존하는 데이터가 바뀌면 해당 항목만 비운다: 분양가·경쟁률(주택관리번호), 실거래가(법정동코드), 청약 동기화(전체)
+ *   실거래가 변경은 커밋 후 실거래가 인덱스가 비워진 다음에 처리한다. (인덱스 리스너가 먼저 실행됨)
+ * - 계산 중에 다른 곳에서 데이터가 바뀌면 바뀌기 전 데이터를 읽었을 수 있으므로, 결과는 기다리던 요청에만 돌려주고 보관하지 않는다.
+ *   분석 중 실거래가를 직접 수집해 발행한 변경은 그 계산에 이미 반영됐으므로 예외로 한다.
+ * - 신축 기준 연도 등 날짜에 따라 바뀌는 계산이 있어, 다른 날 계산한 결과는 다시 계산한다.
+ */
+@Slf4j
+@Component
+public class SubscriptionAnalysisCache {
+
+    static final int DEFAULT_MAX_ENTRIES = 500;
+
+    /** 현재 스레드가 계산 중인 항목 (계산 중 자신이 발행한 변경을 구분) */
+    private static final ThreadLocal<Entry> LOADING = new ThreadLocal<>();
+
+    private final Map<Long, Entry> entries;
+    /** 무효화 세대 (entries 잠금으로 보호) */
+    private long generation;
+
+    @Autowired
+    public SubscriptionAnalysisCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    SubscriptionAnalysisCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 분석 결과 계산에 쓰인 입력
+     */
+    public record Analyzed(SubscriptionAnalysisResult result, String houseManageNo, String lawdCd) {
+    }
+
+    /**
+     * 캐시된 결과 조회, 없으면 loader로 계산 (같은 청약의 동시 계산은 한 번만 수행)
+     */
+    public SubscriptionAnalysisResult get(Long subscriptionId, Supplier<Analyzed> loader) {
+        LocalDate today = LocalDate.now();
+        Entry entry;
+        boolean owner = false;
+        synchronized (entries) {
+            entry = entries.get(subscriptionId);
+            if (entry == null || !entry.computedOn.equals(today)) {
+                entry = new Entry(today, generation);
+                entries.put(subscriptionId, entry);
+                owner = true;
+            }
+        }
+
+        if (owner) {
+            Analyzed analyzed;
+            Entry previous = LOADING.get();
+            LOADING.set(entry);
+            try {
+                analyzed = loader.get();
+            } catch (Throwable e) {
+                // 실패한 결과는 보관하지 않고, 기다리던 요청에도 같은 예외를 전달
+                remove(subscriptionId, entry);
+                entry.future.completeExceptionally(e);
+                throw e;
+            } finally {
+                LOADING.set(previous);
+            }
+            synchronized (entries) {
+                if (entry.startedAt != generation) {
+                    entries.remove(subscriptionId, entry);
+                    log.debug("[분석 캐시] 계산 중 데이터 변경 - 보관하지 않음: subscriptionId={}", subscriptionId);
+                }
+            }
+            entry.future.complete(analyzed);
+        }
+        return await(entry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubscriptionChanged(SubscriptionChangedEvent event) {
+        synchronized (entries) {
+            entries.clear();
+        }
+        log.debug("[분석 캐시] 청약 변경 ({}) - 전체 비움", event.reason());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionsUpdated(RealTransactionsUpdatedEvent event) {
+        evict(analyzed -> Objects.equals(analyzed.lawdCd(), event.lawdCd()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPublicDataChanged(PublicDataChangedEvent event) {
+        if (event.kind() == PublicDataChangedEvent.Kind.PRICE_BADGE) {
+            return; // 분석 페이지는 가격 배지를 쓰지 않음
+        }
+        evict(analyzed -> analyzed.houseManageNo() != null && event.affects(analyzed.houseManageNo()));
+    }
+
+    /**
+     * 계산이 끝난 항목 중 조건에 맞는 항목 삭제하고 무효화 세대를 올림
+     * 계산 중인 항목은 끝날 때 세대를 비교해 보관 여부를 정한다.
+     * 현재 스레드가 계산 중인 항목은 이 변경을 직접 발행한 것이므로, 그 전까지 바뀐 것이 없었다면 새 세대에서 시작한 것으로 본다.
+     */
+    private void evict(Predicate<Analyzed> affected) {
+        int evicted = 0;
+        Entry loading = LOADING.get();
+        synchronized (entries) {
+            boolean loadingCurrent = loading != null && loading.startedAt == generation;
+            generation++;
+            if (loadingCurrent) {
+                loading.startedAt = generation;
+            }
+            var iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Analyzed analyzed = iterator.next().analyzed();
+                if (analyzed != null && affected.test(analyzed)) {
+                    iterator.remove();
+                    evicted++;
+                }
+            }
+        }
+        if (evicted > 0) {
+            log.debug("[분석 캐시] {}건 비움", evicted);
+        }
+    }
+
+    private void remove(Long subscriptionId, Entry entry) {
+        synchronized (entries) {
+            entries.remove(subscriptionId, entry);
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static SubscriptionAnalysisResult await(Entry entry) {
+        try {
+            return entry.future.join().result();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry {
+
+        private final CompletableFuture<Analyzed> future = new CompletableFuture<>();
+        private final LocalDate computedOn;
+        /** 계산을 시작한 무효화 세대 (entries 잠금으로 보호) */
+        private long startedAt;
+
+        private Entry(LocalDate computedOn, long startedAt) {
+            this.computedOn = computedOn;
+            this.startedAt = startedAt;
+        }
+
+        /**
+         * 계산이 끝났으면 결과, 계산 중이면 null
+         */
+        private Analyzed analyzed() {
+            return future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package com.yunbok.houseping.core.service.subscription;
 
 import com.yunbok.houseping.core.port.RealTransactionFetchPort;
-import com.yunbok.houseping.core.port.RealTransactionPersistencePort;
 import com.yunbok.houseping.core.port.SubscriptionPersistencePort;
 import com.yunbok.houseping.core.port.SubscriptionPricePersistencePort;
+import com.yunbok.houseping.core.service.realtransaction.RealTransactionIndex;
+import com.yunbok.houseping.core.service.region.RegionCodeService;
 import com.yunbok.houseping.entity.CompetitionRateEntity;
 import com.yunbok.houseping.repository.CompetitionRateRepository;
 import com.yunbok.houseping.support.dto.CompetitionRateDetailRow;
@@ -16,13 +17,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
 /**
  * 청약 분석 서비스
- * 각 컴포넌트를 조합하여 분석 결과 생성
+ * 각 컴포넌트를 조합하여 분석 결과 생성하고, 결과는 {@link SubscriptionAnalysisCache}에 보관
  */
 @Slf4j
 @Service
@@ -31,35 +31,44 @@ public class SubscriptionAnalysisService {
 
     private final SubscriptionPersistencePort subscriptionQueryPort;
     private final SubscriptionPricePersistencePort subscriptionPriceQueryPort;
-    private final RealTransactionPersistencePort realTransactionQueryPort;
+    private final RealTransactionIndex transactionIndex;
     private final RealTransactionFetchPort realTransactionFetchPort;
     private final CompetitionRateRepository competitionRateRepository;
 
+    private final RegionCodeService regionCodeService;
     private final AddressHelper addressParser;
     private final HouseTypeComparisonBuilder comparisonBuilder;
     private final MarketAnalyzer marketAnalyzer;
+    private final SubscriptionAnalysisCache analysisCache;
+    private final PriceBadgeRefreshService priceBadgeRefreshService;
 
+    /**
+     * 청약 분석 (결과 캐시 우선, 입력 데이터가 바뀐 청약만 다시 계산)
+     */
     public SubscriptionAnalysisResult analyze(Long subscriptionId) {
+        return analysisCache.get(subscriptionId, () -> compute(subscriptionId));
+    }
+
+    private SubscriptionAnalysisCache.Analyzed compute(Long subscriptionId) {
         Subscription subscription = subscriptionQueryPort.findById(subscriptionId)
                 .orElseThrow(() -> new IllegalArgumentException("청약 정보를 찾을 수 없습니다: " + subscriptionId));
 
         // 주소 파싱
-        String lawdCd = addressParser.extractLawdCd(subscription.getAddress());
+        String lawdCd = regionCodeService.findLawdCdByAddress(subscription.getAddress()).orElse(null);
         String dongName = addressParser.extractDongName(subscription.getAddress());
         log.info("주소 분석: {} → lawdCd={}, dong={}", subscription.getAddress(), lawdCd, dongName);
 
-        // 실거래가 조회 및 필터링
-        List<RealTransaction> allTransactions = fetchTransactions(lawdCd);
-        List<RealTransaction> dongTransactions = addressParser.filterByDongName(allTransactions, dongName);
-        log.info("동 필터링: {} → {}건 → {}건", dongName, allTransactions.size(), dongTransactions.size());
+        // 실거래가 조회 및 필터링 (지역 인덱스)
+        RealTransactionIndex.District district = loadDistrict(lawdCd);
+        int dongId = district.dongId(dongName);
+        List<RealTransaction> dongTransactions = district.transactions(dongId, RealTransactionIndex.District.ANY_BUILD_YEAR);
+        log.info("동 필터링: {} → {}건 → {}건", dongName, district.size(), dongTransactions.size());
 
         // 신축 필터링 (최근 3년 내 준공)
         int newBuildYearThreshold = HouseTypeComparisonBuilder.newBuildYearThreshold();
-        List<RealTransaction> newBuildTx = dongTransactions.stream()
-                .filter(t -> t.getBuildYear() != null && t.getBuildYear() >= newBuildYearThreshold)
-                .toList();
-        boolean newBuildBased = !newBuildTx.isEmpty();
-        log.info("신축 필터링: {}년 이후 준공 {}건, 기준={}", newBuildYearThreshold, newBuildTx.size(), newBuildBased ? "신축" : "비교 미제공");
+        int newBuildCount = district.count(dongId, newBuildYearThreshold);
+        boolean newBuildBased = newBuildCount > 0;
+        log.info("신축 필터링: {}년 이후 준공 {}건, 기준={}", newBuildYearThreshold, newBuildCount, newBuildBased ? "신축" : "비교 미제공");
 
         // 분양가 정보 조회
         List<SubscriptionPrice> prices = subscription.getHouseManageNo() != null
@@ -68,13 +77,13 @@ public class SubscriptionAnalysisService {
 
         // 분석 수행 (신축 거래 있을 때만 시세 비교 제공)
         List<HouseTypeComparison> comparisons = newBuildBased
-                ? comparisonBuilder.build(prices, newBuildTx) : List.of();
+                ? comparisonBuilder.build(prices, district, dongId, newBuildYearThreshold) : List.of();
         MarketAnalysis marketAnalysis = marketAnalyzer.analyze(dongTransactions);
 
         // 경쟁률 로드
         List<CompetitionRateDetailRow> competitionRates = loadCompetitionRates(subscription.getHouseManageNo());
 
-        return SubscriptionAnalysisResult.builder()
+        SubscriptionAnalysisResult result = SubscriptionAnalysisResult.builder()
                 .subscription(subscription)
                 .prices(prices)
                 .dongName(dongName)
@@ -84,6 +93,7 @@ public class SubscriptionAnalysisService {
                 .houseTypeComparisons(comparisons)
                 .competitionRates(competitionRates)
                 .build();
+        return new SubscriptionAnalysisCache.Analyzed(result, subscription.getHouseManageNo(), lawdCd);
     }
 
     private List<CompetitionRateDetailRow> loadCompetitionRates(String houseManageNo) {
@@ -110,21 +120,34 @@ public class SubscriptionAnalysisService {
     }
 
     /**
-     * 실거래가 조회 (캐시 우선, 없으면 API 호출)
+     * 실거래가 지역 인덱스 조회 (캐시 우선, 없으면 API 호출)
+     * API로 새로 받은 지역은 가격 배지도 다시 계산한다. (정기 수집 대상이 아닌 지역은 이때 처음 배지가 생김)
      */
-    private List<RealTransaction> fetchTransactions(String lawdCd) {
+    private RealTransactionIndex.District loadDistrict(String lawdCd) {
         if (lawdCd == null) {
-            return Collections.emptyList();
+            return RealTransactionIndex.District.empty();
         }
 
-        List<RealTransaction> transactions = realTransactionQueryPort.findByLawdCd(lawdCd);
+        RealTransactionIndex.District district = transactionIndex.district(lawdCd);
 
-        if (transactions.isEmpty()) {
+        if (district.isEmpty()) {
             log.info("캐시 없음, API 직접 조회: lawdCd={}", lawdCd);
-            transactions = realTransactionFetchPort.fetchAndCacheRecentTransactions(lawdCd, 6);
+            List<RealTransaction> transactions = realTransactionFetchPort.fetchAndCacheRecentTransactions(lawdCd, 6);
             log.info("API 조회 완료: {}건", transactions.size());
+            district = RealTransactionIndex.District.of(transactions);
+            if (!transactions.isEmpty()) {
+                refreshPriceBadges(lawdCd);
+            }
         }
 
-        return transactions;
+        return district;
+    }
+
+    private void refreshPriceBadges(String lawdCd) {
+        try {
+            priceBadgeRefreshService.refreshByLawdCds(List.of(lawdCd));
+        } catch (Exception e) {
+            log.warn("가격 배지 재계산 실패: lawdCd={}, error={}", lawdCd, e.getMessage());
+        }
     }
 }
@@ -1,17 +1,22 @@
 package com.yunbok.houseping.core.service.subscription;
 
 import com.yunbok.houseping.core.domain.Subscription;
+import com.yunbok.houseping.core.domain.SubscriptionChangedEvent;
 import com.yunbok.houseping.core.domain.SubscriptionConfig;
 import com.yunbok.houseping.core.port.SubscriptionPersistencePort;
 import com.yunbok.houseping.support.dto.SyncResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Slf4j
 @Service
@@ -21,18 +26,19 @@ public class SubscriptionManagementService {
     private final SubscriptionPersistencePort subscriptionStore;
     private final List<SubscriptionProviderChain> chains;
     private final SubscriptionConfig config;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public SyncResult sync() {
         SyncResult totalResult = SyncResult.empty();
-        for (String area : config.targetAreas()) {
-            for (SubscriptionProviderChain chain : chains) {
-                List<Subscription> subscriptions = chain.executeAll(area);
-                totalResult = totalResult.merge(saveSubscriptions(subscriptions, chain.getSourceName()));
-            }
+        for (ChainFetchResult fetched : fetchConcurrently()) {
+            totalResult = totalResult.merge(subscriptionStore.upsertAll(fetched.subscriptions(), fetched.sourceName()));
         }
         log.info("Sync completed: inserted={}, updated={}, skipped={}",
                 totalResult.inserted(), totalResult.updated(), totalResult.skipped());
+        if (totalResult.hasChanges()) {
+            eventPublisher.publishEvent(new SubscriptionChangedEvent("sync"));
+        }
         return totalResult;
     }
 
@@ -41,22 +47,31 @@ public class SubscriptionManagementService {
         LocalDate cutoffDate = LocalDate.now().minusYears(5);
         int deletedCount = subscriptionStore.deleteOldSubscriptions(cutoffDate);
         log.info("Cleanup completed: deleted={}", deletedCount);
+        if (deletedCount > 0) {
+            eventPublisher.publishEvent(new SubscriptionChangedEvent("cleanup"));
+        }
         return deletedCount;
     }
 
-    private SyncResult saveSubscriptions(List<Subscription> subscriptions, String source) {
-        int inserted = 0, updated = 0;
-        for (Subscription subscription : subscriptions) {
-            Optional<Subscription> existing = subscriptionStore
-                    .findBySourceAndHouseNameAndReceiptStartDate(source, subscription.getHouseName(), subscription.getReceiptStartDate());
-            if (existing.isPresent()) {
-                subscriptionStore.update(subscription, source);
-                updated++;
-            } else {
-                subscriptionStore.save(subscription, source);
-                inserted++;
+    /**
+     * 지역 × 체인 조합을 가상 스레드에서 동시에 수집
+     * 외부 호출만 병렬로 처리하고, 저장은 호출 스레드에서 순서대로 수행
+     */
+    private List<ChainFetchResult> fetchConcurrently() {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<ChainFetchResult>> futures = new ArrayList<>();
+            for (String area : config.targetAreas()) {
+                for (SubscriptionProviderChain chain : chains) {
+                    futures.add(CompletableFuture.supplyAsync(
+                            () -> new ChainFetchResult(chain.getSourceName(), chain.executeAll(area)), executor));
+                }
             }
+            return futures.stream()
+                    .map(CompletableFuture::join)
+                    .toList();
         }
-        return new SyncResult(inserted, updated, 0);
+    }
+
+    private record ChainFetchResult(String sourceName, List<Subscription> subscriptions) {
     }
 }
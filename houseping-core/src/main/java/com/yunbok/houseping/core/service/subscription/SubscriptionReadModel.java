@@ -0,0 +1,155 @@
+package com.yunbok.houseping.core.service.subscription;
+
+import com.yunbok.houseping.core.domain.Subscription;
+import com.yunbok.houseping.core.domain.SubscriptionChangedEvent;
+import com.yunbok.houseping.core.port.SubscriptionPersistencePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 공개 페이지용 청약 조회 스냅샷
+ * subscription_info는 새벽 동기화와 관리자 수동 동기화 때만 바뀌므로,
+ * 변경 트랜잭션이 커밋되면 전체를 다시 읽어 불변 스냅샷으로 교체하고 요청은 메모리에서 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubscriptionReadModel {
+
+    private static final Comparator<Subscription> RECEIPT_START_DESC = Comparator.comparing(
+            Subscription::getReceiptStartDate, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final SubscriptionPersistencePort subscriptionQueryPort;
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+
+    // ── Query ──
+
+    public List<Subscription> findAll() {
+        return snapshot().all();
+    }
+
+    /**
+     * 지역명 부분 일치 조회 (DB의 LIKE %area% 와 동일한 의미)
+     */
+    public List<Subscription> findByAreaContaining(String area) {
+        return snapshot().byArea().entrySet().stream()
+                .filter(e -> e.getKey().contains(area))
+                .flatMap(e -> e.getValue().stream())
+                .sorted(RECEIPT_START_DESC)
+                .toList();
+    }
+
+    public List<Subscription> findBySupportedAreas(List<String> areas) {
+        return snapshot().byArea().entrySet().stream()
+                .filter(e -> areas.stream().anyMatch(area -> e.getKey().contains(area)))
+                .flatMap(e -> e.getValue().stream())
+                .sorted(RECEIPT_START_DESC)
+                .toList();
+    }
+
+    public List<Subscription> findByReceiptStartDateBetween(LocalDate startDate, LocalDate endDate) {
+        return flatten(snapshot().byReceiptStart().subMap(startDate, true, endDate, true));
+    }
+
+    /**
+     * 접수 기간이 주어진 기간과 겹치는 청약 조회
+     */
+    public List<Subscription> findByReceiptPeriodOverlapping(LocalDate start, LocalDate end) {
+        return flatten(snapshot().byReceiptStart().headMap(end, true)).stream()
+                .filter(s -> s.getReceiptEndDate() == null || !s.getReceiptEndDate().isBefore(start))
+                .toList();
+    }
+
+    public long version() {
+        return snapshot().version();
+    }
+
+    /**
+     * 현재 스냅샷을 적재한 시각 (마지막 동기화 반영 시각)
+     */
+    public LocalDateTime loadedAt() {
+        return snapshot().loadedAt();
+    }
+
+    // ── Command ──
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubscriptionChanged(SubscriptionChangedEvent event) {
+        log.info("[조회 스냅샷] 청약 데이터 변경 감지 ({}) - 스냅샷 재적재", event.reason());
+        reload();
+    }
+
+    public synchronized void reload() {
+        Snapshot previous = current.get();
+        long version = previous != null ? previous.version() + 1 : 1;
+        Snapshot next = Snapshot.of(version, subscriptionQueryPort.findAll());
+        current.set(next);
+        log.info("[조회 스냅샷] v{} 적재 완료: {}건", version, next.all().size());
+    }
+
+    private Snapshot snapshot() {
+        Snapshot snapshot = current.get();
+        if (snapshot == null) {
+            synchronized (this) {
+                if (current.get() == null) {
+                    reload();
+                }
+                snapshot = current.get();
+            }
+        }
+        return snapshot;
+    }
+
+    private static List<Subscription> flatten(NavigableMap<LocalDate, List<Subscription>> range) {
+        List<Subscription> result = new ArrayList<>();
+        range.values().forEach(result::addAll);
+        return result;
+    }
+
+    /**
+     * 불변 스냅샷 (지역명별, 접수 시작일별 인덱스 포함)
+     */
+    record Snapshot(
+            long version,
+            LocalDateTime loadedAt,
+            List<Subscription> all,
+            Map<String, List<Subscription>> byArea,
+            NavigableMap<LocalDate, List<Subscription>> byReceiptStart
+    ) {
+
+        static Snapshot of(long version, List<Subscription> subscriptions) {
+            List<Subscription> sorted = subscriptions.stream()
+                    .sorted(RECEIPT_START_DESC)
+                    .toList();
+
+            Map<String, List<Subscription>> byArea = sorted.stream()
+                    .filter(s -> s.getArea() != null)
+                    .collect(Collectors.groupingBy(Subscription::getArea, LinkedHashMap::new,
+                            Collectors.collectingAndThen(Collectors.toList(), List::copyOf)));
+
+            NavigableMap<LocalDate, List<Subscription>> byReceiptStart = sorted.stream()
+                    .filter(s -> s.getReceiptStartDate() != null)
+                    .collect(Collectors.groupingBy(Subscription::getReceiptStartDate, TreeMap::new,
+                            Collectors.collectingAndThen(Collectors.toList(), List::copyOf)));
+
+            return new Snapshot(version, LocalDateTime.now(), sorted,
+                    Collections.unmodifiableMap(byArea),
+                    Collections.unmodifiableNavigableMap(byReceiptStart));
+        }
+    }
+}
@@ -2,12 +2,14 @@ package com.yunbok.houseping.core.service.subscription;
 
 import com.yunbok.houseping.core.domain.Subscription;
 import com.yunbok.houseping.core.domain.SubscriptionStatus;
+import com.yunbok.houseping.core.port.PriceBadgePersistencePort;
 import com.yunbok.houseping.core.port.SubscriptionPersistencePort;
 import com.yunbok.houseping.entity.CompetitionRateEntity;
 import com.yunbok.houseping.repository.CompetitionRateRepository;
 import com.yunbok.houseping.support.dto.AnnouncedSubscriptionView;
 import com.yunbok.houseping.support.dto.HomePageResult;
 import com.yunbok.houseping.support.dto.MonthlyPageResult;
+import com.yunbok.houseping.support.dto.PriceBadge;
 import com.yunbok.houseping.support.dto.SubscriptionCardView;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,10 +19,12 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.Comparator;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 청약 조회 서비스
@@ -34,8 +38,9 @@ public class SubscriptionSearchService {
     private static final List<String> SUPPORTED_AREAS = List.of("서울", "경기");
 
     private final SubscriptionPersistencePort subscriptionQueryPort;
+    private final SubscriptionReadModel subscriptionReadModel;
     private final CompetitionRateRepository competitionRateRepository;
-    private final PriceBadgeCalculator priceBadgeCalculator;
+    private final PriceBadgePersistencePort priceBadgePort;
 
     public Optional<Subscription> findById(Long id) {
         return subscriptionQueryPort.findById(id);
@@ -49,22 +54,21 @@ public class SubscriptionSearchService {
     }
 
     public List<SubscriptionCardView> getAllActiveAndUpcoming() {
-        return findActiveAndUpcomingSubscriptions(null).stream()
-                .map(this::toCardView)
-                .toList();
+        return toCardViews(findActiveAndUpcomingSubscriptions(null));
     }
 
     public HomePageResult getHomeData(String area) {
         List<Subscription> activeUpcoming = findActiveAndUpcomingSubscriptions(area);
+        Map<String, PriceBadge> badges = findBadges(activeUpcoming);
 
         List<SubscriptionCardView> activeCards = filterActiveSubscriptions(activeUpcoming).stream()
                 .sorted(Comparator.comparing(Subscription::getReceiptEndDate, Comparator.nullsLast(Comparator.naturalOrder())))
-                .map(this::toCardView)
+                .map(s -> toCardView(s, badges))
                 .toList();
 
         List<SubscriptionCardView> upcomingCards = filterUpcomingSubscriptions(activeUpcoming).stream()
                 .sorted(Comparator.comparing(Subscription::getReceiptStartDate, Comparator.nullsLast(Comparator.naturalOrder())))
-                .map(this::toCardView)
+                .map(s -> toCardView(s, badges))
                 .toList();
 
         return HomePageResult.builder()
@@ -77,35 +81,51 @@ public class SubscriptionSearchService {
     }
 
     public List<AnnouncedSubscriptionView> findAnnouncedSubscriptions(String area) {
-        Set<String> houseManageNosWithRates = new HashSet<>(competitionRateRepository.findDistinctHouseManageNos());
         LocalDate twoWeeksAgo = LocalDate.now().minusWeeks(2);
-
-        return findByAreaWithFilter(area).stream()
+        List<Subscription> recentlyClosed = findByAreaWithFilter(area).stream()
                 .filter(s -> s.getStatus() == SubscriptionStatus.CLOSED)
                 .filter(s -> s.getReceiptEndDate() != null && !s.getReceiptEndDate().isBefore(twoWeeksAgo))
-                .filter(s -> s.getHouseManageNo() != null && houseManageNosWithRates.contains(s.getHouseManageNo()))
-                .map(s -> {
-                    BigDecimal topRate = computeTopRate(s.getHouseManageNo());
-                    return AnnouncedSubscriptionView.builder()
-                            .subscription(s)
-                            .topRate(topRate)
-                            .build();
-                })
+                .filter(s -> s.getHouseManageNo() != null)
+                .toList();
+        if (recentlyClosed.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Optional<BigDecimal>> topRates = findTopRates(recentlyClosed.stream()
+                .map(Subscription::getHouseManageNo)
+                .collect(Collectors.toSet()));
+
+        return recentlyClosed.stream()
+                .filter(s -> topRates.containsKey(s.getHouseManageNo()))
+                .map(s -> AnnouncedSubscriptionView.builder()
+                        .subscription(s)
+                        .topRate(topRates.get(s.getHouseManageNo()).orElse(null))
+                        .build())
                 .sorted(Comparator.comparing(
                         v -> v.getSubscription().getReceiptStartDate(),
                         Comparator.nullsLast(Comparator.reverseOrder())))
                 .toList();
     }
 
-    private BigDecimal computeTopRate(String houseManageNo) {
-        List<CompetitionRateEntity> rates = competitionRateRepository.findByHouseManageNo(houseManageNo);
-        return rates.stream()
-                .filter(r -> r.getRank() != null && r.getRank() == 1)
-                .filter(r -> "해당지역".equals(r.getResidenceArea()))
-                .map(CompetitionRateEntity::getEffectiveRate)
-                .filter(rate -> rate != null)
-                .max(Comparator.naturalOrder())
-                .orElse(null);
+    /**
+     * 주택관리번호별 해당지역 1순위 최고 경쟁률을 한 번의 조회로 계산
+     * 경쟁률 행이 있는 번호만 결과에 포함 (1순위 해당지역 경쟁률이 없으면 빈 값)
+     */
+    private Map<String, Optional<BigDecimal>> findTopRates(Set<String> houseManageNos) {
+        Map<String, Optional<BigDecimal>> topRates = new HashMap<>();
+        for (CompetitionRateEntity rate : competitionRateRepository.findByHouseManageNoIn(houseManageNos)) {
+            Optional<BigDecimal> current = topRates.getOrDefault(rate.getHouseManageNo(), Optional.empty());
+            BigDecimal effective = isTopRateCandidate(rate) ? rate.getEffectiveRate() : null;
+            if (effective != null && current.map(c -> effective.compareTo(c) > 0).orElse(true)) {
+                current = Optional.of(effective);
+            }
+            topRates.put(rate.getHouseManageNo(), current);
+        }
+        return topRates;
+    }
+
+    private boolean isTopRateCandidate(CompetitionRateEntity rate) {
+        return rate.getRank() != null && rate.getRank() == 1 && "해당지역".equals(rate.getResidenceArea());
     }
 
     private List<Subscription> filterActiveSubscriptions(List<Subscription> subscriptions) {
@@ -133,7 +153,7 @@ public class SubscriptionSearchService {
     }
 
     public List<Subscription> findSubscriptionsForWeek(LocalDate weekStart, LocalDate weekEnd) {
-        return subscriptionQueryPort.findByReceiptPeriodOverlapping(weekStart, weekEnd).stream()
+        return subscriptionReadModel.findByReceiptPeriodOverlapping(weekStart, weekEnd).stream()
                 .filter(s -> s.getArea() != null && SUPPORTED_AREAS.stream()
                         .anyMatch(supported -> s.getArea().contains(supported)))
                 .sorted(Comparator.comparing(Subscription::getReceiptStartDate, Comparator.nullsLast(Comparator.naturalOrder())))
@@ -141,28 +161,26 @@ public class SubscriptionSearchService {
     }
 
     public List<SubscriptionCardView> getSubscriptionCardsForWeek(LocalDate weekStart, LocalDate weekEnd) {
-        return findSubscriptionsForWeek(weekStart, weekEnd).stream()
-                .map(this::toCardView)
-                .toList();
+        return toCardViews(findSubscriptionsForWeek(weekStart, weekEnd));
     }
 
     public List<Subscription> findByMonth(int year, int month) {
         YearMonth ym = YearMonth.of(year, month);
         LocalDate firstDay = ym.atDay(1);
         LocalDate lastDay = ym.atEndOfMonth();
-        return subscriptionQueryPort.findByReceiptStartDateBetween(firstDay, lastDay);
+        return subscriptionReadModel.findByReceiptStartDateBetween(firstDay, lastDay);
     }
 
     public List<Subscription> findAll() {
-        return subscriptionQueryPort.findAll();
+        return subscriptionReadModel.findAll();
     }
 
     private List<Subscription> findByAreaWithFilter(String area) {
         List<Subscription> subscriptions;
         if (area != null && !area.isBlank()) {
-            subscriptions = subscriptionQueryPort.findByAreaContaining(area);
+            subscriptions = subscriptionReadModel.findByAreaContaining(area);
         } else {
-            subscriptions = subscriptionQueryPort.findBySupportedAreas(SUPPORTED_AREAS);
+            subscriptions = subscriptionReadModel.findBySupportedAreas(SUPPORTED_AREAS);
         }
         return subscriptions.stream()
                 .filter(s -> s.getArea() != null && SUPPORTED_AREAS.stream()
@@ -170,10 +188,29 @@ public class SubscriptionSearchService {
                 .toList();
     }
 
-    private SubscriptionCardView toCardView(Subscription s) {
+    private List<SubscriptionCardView> toCardViews(List<Subscription> subscriptions) {
+        Map<String, PriceBadge> badges = findBadges(subscriptions);
+        return subscriptions.stream()
+                .map(s -> toCardView(s, badges))
+                .toList();
+    }
+
+    /**
+     * 사전 계산된 가격 배지를 한 번에 조회 (아직 계산되지 않은 청약은 UNKNOWN 처리)
+     */
+    private Map<String, PriceBadge> findBadges(List<Subscription> subscriptions) {
+        Set<String> houseManageNos = subscriptions.stream()
+                .map(Subscription::getHouseManageNo)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return priceBadgePort.findBadgesByHouseManageNos(houseManageNos);
+    }
+
+    private SubscriptionCardView toCardView(Subscription s, Map<String, PriceBadge> badges) {
+        PriceBadge badge = s.getHouseManageNo() != null ? badges.get(s.getHouseManageNo()) : null;
         return SubscriptionCardView.builder()
                 .subscription(s)
-                .priceBadge(priceBadgeCalculator.computePriceBadge(s))
+                .priceBadge(badge != null ? badge : PriceBadge.UNKNOWN)
                 .build();
     }
 }
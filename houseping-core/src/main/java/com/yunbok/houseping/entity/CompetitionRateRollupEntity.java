@@ -0,0 +1,105 @@
+package com.yunbok.houseping.entity;
+
+import com.yunbok.houseping.support.dto.CompetitionRateRollupCell;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 경쟁률 대시보드 집계 엔티티
+ * 경쟁률 저장 시 차원별 건수·합계를 증분 반영해 두고 대시보드는 집계 행만 읽는다.
+ */
+@Entity
+@Table(name = "competition_rate_rollup",
+       uniqueConstraints = @UniqueConstraint(
+           name = "uk_competition_rate_rollup",
+           columnNames = {"dimension", "dim_key"}
+       ))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompetitionRateRollupEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 집계 차원
+     */
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private CompetitionRateRollupCell.Dimension dimension;
+
+    /**
+     * 차원 내 키 (지역명, 지역|연도, 평수 등)
+     */
+    @Column(name = "dim_key", nullable = false, length = 100)
+    private String dimKey;
+
+    /**
+     * 행 건수
+     */
+    @Column(name = "row_count", nullable = false)
+    private long rowCount;
+
+    /**
+     * 경쟁률이 집계된 건수
+     */
+    @Column(name = "rate_count", nullable = false)
+    private long rateCount;
+
+    /**
+     * 경쟁률 합계
+     */
+    @Column(name = "rate_sum", nullable = false, precision = 20, scale = 2)
+    private BigDecimal rateSum;
+
+    @Column(name = "max_rate", precision = 10, scale = 2)
+    private BigDecimal maxRate;
+
+    @Column(name = "min_rate", precision = 10, scale = 2)
+    private BigDecimal minRate;
+
+    /**
+     * 마지막 반영 일시
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static CompetitionRateRollupEntity from(CompetitionRateRollupCell cell) {
+        return CompetitionRateRollupEntity.builder()
+                .dimension(cell.dimension())
+                .dimKey(cell.key())
+                .rowCount(cell.count())
+                .rateCount(cell.rateCount())
+                .rateSum(cell.rateSum())
+                .maxRate(cell.maxRate())
+                .minRate(cell.minRate())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public CompetitionRateRollupCell toCell() {
+        return new CompetitionRateRollupCell(dimension, dimKey, rowCount, rateCount, rateSum, maxRate, minRate);
+    }
+
+    /**
+     * 증분 반영
+     */
+    public void add(CompetitionRateRollupCell delta) {
+        CompetitionRateRollupCell merged = toCell().plus(delta);
+        this.rowCount = merged.count();
+        this.rateCount = merged.rateCount();
+        this.rateSum = merged.rateSum();
+        this.maxRate = merged.maxRate();
+        this.minRate = merged.minRate();
+        this.updatedAt = LocalDateTime.now();
+    }
+}
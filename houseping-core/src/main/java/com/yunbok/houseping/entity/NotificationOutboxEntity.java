@@ -0,0 +1,130 @@
+package com.yunbok.houseping.entity;
+
+import com.yunbok.houseping.core.domain.OutboxMessage;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 발송 대기열(outbox) 엔티티
+ * 채널·수신자별 메시지 1건과 그 발송 결과(시도 횟수, 마지막 오류, 발송 시각)를 기록
+ */
+@Entity
+@Table(name = "notification_outbox",
+        indexes = {
+                @Index(name = "idx_notification_outbox_due", columnList = "status, next_attempt_at")
+        })
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class NotificationOutboxEntity {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 발송 채널 (TELEGRAM, SLACK)
+     */
+    @Column(nullable = false, length = 20)
+    private String channel;
+
+    /**
+     * 수신자 (chat id 등)
+     */
+    @Column(nullable = false, length = 100)
+    private String recipient;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String message;
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    /**
+     * 발송 시도 횟수
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * 다음 발송 시도 시각
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 마지막 실패 사유
+     */
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    public static NotificationOutboxEntity pending(String channel, String recipient, String message, LocalDateTime now) {
+        return NotificationOutboxEntity.builder()
+                .channel(channel)
+                .recipient(recipient)
+                .message(message)
+                .status(Status.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .build();
+    }
+
+    public OutboxMessage toMessage() {
+        return new OutboxMessage(id, channel, recipient, message, attempts);
+    }
+
+    public void markSent(LocalDateTime sentAt) {
+        this.attempts++;
+        this.status = Status.SENT;
+        this.sentAt = sentAt;
+    }
+
+    public void markRetry(String error, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = truncate(error);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 다음 시도 시각만 변경 (선점, 순서 유지를 위한 지연)
+     */
+    public void reschedule(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void markFailed(String error) {
+        this.attempts++;
+        this.status = Status.FAILED;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    public enum Status {
+        PENDING, SENT, FAILED
+    }
+}
@@ -0,0 +1,88 @@
+package com.yunbok.houseping.entity;
+
+import com.yunbok.houseping.support.dto.PriceBadge;
+import com.yunbok.houseping.support.dto.PriceBadgeSnapshot;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가격 배지 사전 계산 엔티티
+ * 분양가·실거래가 수집 시점에 계산해 두고 홈 화면에서는 조회만 수행
+ */
+@Entity
+@Table(name = "price_badge",
+       uniqueConstraints = @UniqueConstraint(
+           name = "uk_price_badge_house_manage_no",
+           columnNames = {"house_manage_no"}
+       ))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceBadgeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 주택관리번호
+     */
+    @Column(name = "house_manage_no", nullable = false, length = 40)
+    private String houseManageNo;
+
+    /**
+     * 가격 배지
+     */
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private PriceBadge badge;
+
+    /**
+     * 대표 평형 분양가 (만원)
+     */
+    @Column(name = "supply_price")
+    private Long supplyPrice;
+
+    /**
+     * 주변 신축 시세 중앙값 (만원)
+     */
+    @Column(name = "median_market_price")
+    private Long medianMarketPrice;
+
+    /**
+     * 시세 산출에 사용된 거래 건수
+     */
+    @Column(name = "sample_size", nullable = false)
+    private int sampleSize;
+
+    /**
+     * 계산 일시
+     */
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+
+    public static PriceBadgeEntity from(PriceBadgeSnapshot snapshot) {
+        return PriceBadgeEntity.builder()
+                .houseManageNo(snapshot.houseManageNo())
+                .badge(snapshot.badge())
+                .supplyPrice(snapshot.supplyPrice())
+                .medianMarketPrice(snapshot.medianMarketPrice())
+                .sampleSize(snapshot.sampleSize())
+                .computedAt(snapshot.computedAt())
+                .build();
+    }
+
+    public void refresh(PriceBadgeSnapshot snapshot) {
+        this.badge = snapshot.badge();
+        this.supplyPrice = snapshot.supplyPrice();
+        this.medianMarketPrice = snapshot.medianMarketPrice();
+        this.sampleSize = snapshot.sampleSize();
+        this.computedAt = snapshot.computedAt();
+    }
+}
@@ -15,6 +15,8 @@ import java.time.LocalDateTime;
 /**
  * 아파트 실거래가 캐시 엔티티
  * 국토교통부 API 조회 결과를 캐싱
+ * PostgreSQL에서는 계약월 기준 연도별 파티션 테이블이며, 자연키
+ * (lawd_cd, deal_ymd, apt_name, jibun, floor, exclu_use_ar, deal_date, deal_amount)가 유일하다. (RealTransactionCachePartitions)
  */
 @Entity
 @Table(name = "real_transaction_cache",
@@ -22,7 +24,7 @@ import java.time.LocalDateTime;
            @Index(name = "idx_lawd_cd_deal_ymd", columnList = "lawd_cd, deal_ymd"),
            @Index(name = "idx_apt_name", columnList = "apt_name"),
            @Index(name = "idx_deal_date", columnList = "deal_date"),
-           @Index(name = "idx_cached_at", columnList = "cached_at")
+           @Index(name = "idx_real_transaction_cache_lawd_cd_umd_nm", columnList = "lawd_cd, umd_nm, exclu_use_ar")
        })
 @Getter
 @Builder
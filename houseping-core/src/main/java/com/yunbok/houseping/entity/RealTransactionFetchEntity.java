@@ -0,0 +1,94 @@
+package com.yunbok.houseping.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실거래가 수집 현황 엔티티 (법정동코드 + 계약월 단위)
+ * 마지막 수집 시각·건수·내용 체크섬을 기록하고, 신고 기간이 지난 계약월은 확정으로 표시해 다시 수집하지 않는다.
+ */
+@Entity
+@Table(name = "real_transaction_fetch",
+       uniqueConstraints = @UniqueConstraint(
+           name = "uk_real_transaction_fetch_lawd_cd_deal_ymd",
+           columnNames = {"lawd_cd", "deal_ymd"}
+       ))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RealTransactionFetchEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 법정동코드 5자리
+     */
+    @Column(name = "lawd_cd", nullable = false, length = 5)
+    private String lawdCd;
+
+    /**
+     * 계약월 (YYYYMM)
+     */
+    @Column(name = "deal_ymd", nullable = false, length = 6)
+    private String dealYmd;
+
+    /**
+     * 마지막 수집 시각
+     */
+    @Column(name = "fetched_at", nullable = false)
+    private LocalDateTime fetchedAt;
+
+    /**
+     * 마지막 수집 건수
+     */
+    @Column(name = "row_count", nullable = false)
+    private int rowCount;
+
+    /**
+     * 마지막 수집 내용 체크섬 (항목 순서와 무관)
+     */
+    @Column(nullable = false)
+    private long checksum;
+
+    /**
+     * 확정 여부 (신고 기간이 지난 뒤 수집된 계약월은 더 바뀌지 않음)
+     */
+    @Column(nullable = false)
+    private boolean finalized;
+
+    public static RealTransactionFetchEntity of(String lawdCd, String dealYmd) {
+        return RealTransactionFetchEntity.builder()
+                .lawdCd(lawdCd)
+                .dealYmd(dealYmd)
+                .build();
+    }
+
+    /**
+     * 직전 수집과 건수·내용이 같은지 확인
+     */
+    public boolean hasSameContent(int rowCount, long checksum) {
+        return this.rowCount == rowCount && this.checksum == checksum;
+    }
+
+    /**
+     * 다시 수집해야 하는지 확인 (확정되지 않았고 마지막 수집이 기준 시각 이전)
+     */
+    public boolean isStale(LocalDateTime threshold) {
+        return !finalized && (fetchedAt == null || fetchedAt.isBefore(threshold));
+    }
+
+    public void record(LocalDateTime fetchedAt, int rowCount, long checksum, boolean finalized) {
+        this.fetchedAt = fetchedAt;
+        this.rowCount = rowCount;
+        this.checksum = checksum;
+        this.finalized = finalized;
+    }
+}
@@ -4,8 +4,10 @@ import com.yunbok.houseping.entity.*;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -25,6 +27,14 @@ public interface CompetitionRateRepository extends JpaRepository<CompetitionRate
      */
     boolean existsByHouseManageNoAndPblancNo(String houseManageNo, String pblancNo);
 
+    /**
+     * 주택관리번호 목록에 해당하는 기존 행 키 조회 (주택관리번호|공고번호|주택형|순위|거주지역, 값이 없으면 빈 문자열)
+     */
+    @Query("SELECT CONCAT(c.houseManageNo, '|', c.pblancNo, '|', COALESCE(c.houseType, ''), '|', " +
+           "COALESCE(CAST(c.rank AS String), ''), '|', COALESCE(c.residenceArea, '')) FROM CompetitionRateEntity c " +
+           "WHERE c.houseManageNo IN :houseManageNos")
+    List<String> findRowKeysByHouseManageNoIn(@Param("houseManageNos") Collection<String> houseManageNos);
+
     /**
      * 고유한 주택형 목록
      */
@@ -32,13 +42,12 @@ public interface CompetitionRateRepository extends JpaRepository<CompetitionRate
     List<String> findDistinctHouseTypes();
 
     /**
-     * 경쟁률 데이터가 있는 고유한 houseManageNo 목록
+     * 특정 houseManageNo의 경쟁률 조회
      */
-    @Query("SELECT DISTINCT c.houseManageNo FROM CompetitionRateEntity c")
-    List<String> findDistinctHouseManageNos();
+    List<CompetitionRateEntity> findByHouseManageNo(String houseManageNo);
 
     /**
-     * 특정 houseManageNo의 경쟁률 조회
+     * 여러 houseManageNo의 경쟁률 일괄 조회
      */
-    List<CompetitionRateEntity> findByHouseManageNo(String houseManageNo);
+    List<CompetitionRateEntity> findByHouseManageNoIn(Collection<String> houseManageNos);
 }
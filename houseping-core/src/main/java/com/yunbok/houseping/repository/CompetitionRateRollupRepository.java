@@ -0,0 +1,25 @@
+package com.yunbok.houseping.repository;
+import com.yunbok.houseping.entity.*;
+
+import com.yunbok.houseping.support.dto.CompetitionRateRollupCell;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 경쟁률 대시보드 집계 Repository
+ */
+public interface CompetitionRateRollupRepository extends JpaRepository<CompetitionRateRollupEntity, Long> {
+
+    /**
+     * 차원과 키 목록으로 집계 행 조회
+     */
+    List<CompetitionRateRollupEntity> findByDimensionAndDimKeyIn(CompetitionRateRollupCell.Dimension dimension,
+                                                                 Collection<String> dimKeys);
+
+    /**
+     * 차원·키의 집계 행 존재 여부
+     */
+    boolean existsByDimensionAndDimKey(CompetitionRateRollupCell.Dimension dimension, String dimKey);
+}
@@ -0,0 +1,47 @@
+package com.yunbok.houseping.repository;
+import com.yunbok.houseping.entity.*;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 발송 대기열 Repository
+ */
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutboxEntity, Long> {
+
+    /**
+     * 발송 시각이 된 메시지를 잠그며 조회 (저장 순, FOR UPDATE SKIP LOCKED)
+     * 잠금 대기 시간 -2는 Hibernate에서 SKIP LOCKED를 뜻한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM NotificationOutboxEntity o " +
+           "WHERE o.status = :status AND o.nextAttemptAt <= :now ORDER BY o.id")
+    List<NotificationOutboxEntity> findDue(
+            @Param("status") NotificationOutboxEntity.Status status,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    /**
+     * 특정 시각 이전에 발송 완료된 메시지 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM NotificationOutboxEntity o WHERE o.status = :status AND o.sentAt < :cutoff")
+    int deleteByStatusAndSentAtBefore(
+            @Param("status") NotificationOutboxEntity.Status status,
+            @Param("cutoff") LocalDateTime cutoff
+    );
+}
@@ -1,10 +1,15 @@
 package com.yunbok.houseping.repository;
 import com.yunbok.houseping.entity.*;
 
+import com.yunbok.houseping.support.dto.NotificationTarget;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +33,42 @@ public interface NotificationSubscriptionRepository extends JpaRepository<Notifi
     @Query("SELECT n FROM NotificationSubscriptionEntity n WHERE n.enabled = true AND n.receiptEndNotified = false")
     List<NotificationSubscriptionEntity> findPendingReceiptEndNotifications();
 
+    /**
+     * 특정 접수 시작일의 접수 시작 알림 대상 조회 (활성화 + 미발송, 청약 정보 조인)
+     */
+    @Query("SELECT new com.yunbok.houseping.support.dto.NotificationTarget(" +
+           "n.id, s.id, s.houseName, s.area, s.receiptStartDate, s.receiptEndDate, s.totalSupplyCount, s.detailUrl) " +
+           "FROM NotificationSubscriptionEntity n JOIN SubscriptionEntity s ON s.id = n.subscriptionId " +
+           "WHERE s.receiptStartDate = :date AND n.enabled = true AND n.receiptStartNotified = false " +
+           "ORDER BY n.id")
+    List<NotificationTarget> findPendingReceiptStartTargets(@Param("date") LocalDate date);
+
+    /**
+     * 특정 접수 마감일의 접수 종료 알림 대상 조회 (활성화 + 미발송, 청약 정보 조인)
+     */
+    @Query("SELECT new com.yunbok.houseping.support.dto.NotificationTarget(" +
+           "n.id, s.id, s.houseName, s.area, s.receiptStartDate, s.receiptEndDate, s.totalSupplyCount, s.detailUrl) " +
+           "FROM NotificationSubscriptionEntity n JOIN SubscriptionEntity s ON s.id = n.subscriptionId " +
+           "WHERE s.receiptEndDate = :date AND n.enabled = true AND n.receiptEndNotified = false " +
+           "ORDER BY n.id")
+    List<NotificationTarget> findPendingReceiptEndTargets(@Param("date") LocalDate date);
+
+    /**
+     * 접수 시작 알림 발송 완료 일괄 처리
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE NotificationSubscriptionEntity n SET n.receiptStartNotified = true, n.updatedAt = :now " +
+           "WHERE n.id IN :ids")
+    int markReceiptStartNotified(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 접수 종료 알림 발송 완료 일괄 처리
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE NotificationSubscriptionEntity n SET n.receiptEndNotified = true, n.updatedAt = :now " +
+           "WHERE n.id IN :ids")
+    int markReceiptEndNotified(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
     /**
      * 활성화된 알림 구독 목록
      */
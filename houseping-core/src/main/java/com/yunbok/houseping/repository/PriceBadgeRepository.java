@@ -0,0 +1,18 @@
+package com.yunbok.houseping.repository;
+import com.yunbok.houseping.entity.*;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 가격 배지 Repository
+ */
+public interface PriceBadgeRepository extends JpaRepository<PriceBadgeEntity, Long> {
+
+    /**
+     * 주택관리번호 목록으로 배지 일괄 조회
+     */
+    List<PriceBadgeEntity> findByHouseManageNoIn(Collection<String> houseManageNos);
+}
@@ -7,7 +7,6 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -38,11 +37,11 @@ public interface RealTransactionCacheRepository extends JpaRepository<RealTransa
     boolean existsByLawdCdAndDealYmd(String lawdCd, String dealYmd);
 
     /**
-     * 오래된 캐시 삭제 (기본 7일)
+     * 지정 계약월 이전 캐시 삭제 (파티션이 없는 DB에서의 보관 기간 정리)
      */
     @Modifying
-    @Query("DELETE FROM RealTransactionCacheEntity r WHERE r.cachedAt < :threshold")
-    int deleteOldCache(@Param("threshold") LocalDateTime threshold);
+    @Query("DELETE FROM RealTransactionCacheEntity r WHERE r.dealYmd < :dealYmd")
+    int deleteByDealYmdBefore(@Param("dealYmd") String dealYmd);
 
     /**
      * 법정동코드와 전용면적 범위로 평균 거래가 조회
@@ -0,0 +1,31 @@
+package com.yunbok.houseping.repository;
+import com.yunbok.houseping.entity.*;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 실거래가 수집 현황 Repository
+ */
+public interface RealTransactionFetchRepository extends JpaRepository<RealTransactionFetchEntity, Long> {
+
+    Optional<RealTransactionFetchEntity> findByLawdCdAndDealYmd(String lawdCd, String dealYmd);
+
+    /**
+     * 법정동코드의 여러 계약월 수집 현황 일괄 조회
+     */
+    List<RealTransactionFetchEntity> findByLawdCdAndDealYmdIn(String lawdCd, Collection<String> dealYmds);
+
+    /**
+     * 지정 계약월 이전 수집 현황 삭제 (보관 기간 정리)
+     */
+    @Modifying
+    @Query("DELETE FROM RealTransactionFetchEntity f WHERE f.dealYmd < :dealYmd")
+    int deleteByDealYmdBefore(@Param("dealYmd") String dealYmd);
+}
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,15 +42,6 @@ public interface SubscriptionRepository extends JpaRepository<SubscriptionEntity
      */
     List<SubscriptionEntity> findByAreaAndReceiptStartDateGreaterThanEqual(String area, LocalDate fromDate);
 
-    /**
-     * 중복 체크용: source + houseName + receiptStartDate로 조회
-     */
-    Optional<SubscriptionEntity> findBySourceAndHouseNameAndReceiptStartDate(
-            String source,
-            String houseName,
-            LocalDate receiptStartDate
-    );
-
     /**
      * 특정 기간 내 청약 조회
      */
@@ -109,22 +101,45 @@ public interface SubscriptionRepository extends JpaRepository<SubscriptionEntity
     List<String> findHouseManageNosByAreaIn(@Param("areas") List<String> areas);
 
     /**
-     * 지역명 부분 일치로 청약 조회 (공개 페이지용)
+     * 주택관리번호 목록으로 청약 조회
      */
-    @Query("SELECT s FROM SubscriptionEntity s WHERE s.area LIKE %:area% ORDER BY s.receiptStartDate DESC")
-    List<SubscriptionEntity> findByAreaContaining(@Param("area") String area);
+    List<SubscriptionEntity> findByHouseManageNoIn(Collection<String> houseManageNos);
 
     /**
-     * 소스와 지역 목록으로 청약 조회
+     * 분양가가 아직 없는 청약 조회 (분양가 수집 대상, anti-join)
+     * 분양가는 청약 단위로 한 번에 저장되므로, 중단 후 재실행하면 남은 대상만 다시 조회된다.
+     * @param sourceKey 소스 식별자 (예: APPLYHOME, 대소문자 무시 부분 일치)
      */
-    @Query("SELECT s FROM SubscriptionEntity s WHERE s.source = :source AND s.area IN :areas ORDER BY s.receiptStartDate DESC")
-    List<SubscriptionEntity> findBySourceAndAreaIn(@Param("source") String source, @Param("areas") List<String> areas);
+    @Query("SELECT s FROM SubscriptionEntity s " +
+           "WHERE UPPER(s.source) LIKE CONCAT('%', :sourceKey, '%') " +
+           "AND s.houseManageNo IS NOT NULL AND s.houseManageNo <> '' " +
+           "AND NOT EXISTS (SELECT 1 FROM SubscriptionPriceEntity p WHERE p.houseManageNo = s.houseManageNo) " +
+           "ORDER BY s.receiptStartDate DESC")
+    List<SubscriptionEntity> findWithoutPrice(@Param("sourceKey") String sourceKey);
+
+    /**
+     * 특정 접수 시작일 이후 청약 중 분양가가 아직 없는 청약 조회
+     */
+    @Query("SELECT s FROM SubscriptionEntity s " +
+           "WHERE UPPER(s.source) LIKE CONCAT('%', :sourceKey, '%') " +
+           "AND s.houseManageNo IS NOT NULL AND s.houseManageNo <> '' " +
+           "AND s.receiptStartDate >= :fromDate " +
+           "AND NOT EXISTS (SELECT 1 FROM SubscriptionPriceEntity p WHERE p.houseManageNo = s.houseManageNo) " +
+           "ORDER BY s.receiptStartDate DESC")
+    List<SubscriptionEntity> findWithoutPriceFrom(@Param("sourceKey") String sourceKey,
+                                                  @Param("fromDate") LocalDate fromDate);
 
     /**
-     * 지역 목록으로 청약 조회 (모든 소스)
+     * 지역명 목록으로 청약 조회 (모든 소스, idx_area 사용)
      */
-    @Query("SELECT s FROM SubscriptionEntity s WHERE s.area LIKE %:area1% OR s.area LIKE %:area2% ORDER BY s.receiptStartDate DESC")
-    List<SubscriptionEntity> findByAreaLikeOrAreaLike(@Param("area1") String area1, @Param("area2") String area2);
+    @Query("SELECT s FROM SubscriptionEntity s WHERE s.area IN :areas ORDER BY s.receiptStartDate DESC")
+    List<SubscriptionEntity> findByAreaIn(@Param("areas") Collection<String> areas);
+
+    /**
+     * 소스와 지역 목록으로 청약 조회
+     */
+    @Query("SELECT s FROM SubscriptionEntity s WHERE s.source = :source AND s.area IN :areas ORDER BY s.receiptStartDate DESC")
+    List<SubscriptionEntity> findBySourceAndAreaIn(@Param("source") String source, @Param("areas") List<String> areas);
 
     /**
      * 접수 기간이 주어진 기간과 겹치는 청약 조회
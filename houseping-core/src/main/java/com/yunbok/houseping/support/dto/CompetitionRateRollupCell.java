@@ -0,0 +1,81 @@
+package com.yunbok.houseping.support.dto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 경쟁률 집계 단위 (차원 + 키별 건수·합계)
+ * 같은 차원·키의 셀은 {@link #plus}로 더해 증분 갱신한다.
+ *
+ * @param count     행 건수
+ * @param rateCount 경쟁률이 집계된 건수
+ * @param rateSum   경쟁률 합계
+ */
+public record CompetitionRateRollupCell(
+        Dimension dimension,
+        String key,
+        long count,
+        long rateCount,
+        BigDecimal rateSum,
+        BigDecimal maxRate,
+        BigDecimal minRate
+) {
+
+    public enum Dimension {
+        /** 전체 (키: ALL) */
+        TOTAL,
+        /** 청약 지역 */
+        AREA,
+        /** 주택형 원본 */
+        HOUSE_TYPE,
+        /** 청약 지역 + 연도 (키: 지역|연도) */
+        AREA_YEAR,
+        /** 거주지역 (해당지역/기타지역) */
+        RESIDENCE_AREA,
+        /** 주요 평수 (키: 84, 59 등) */
+        MAIN_SIZE,
+        /** 경쟁률 구간 */
+        RATE_BUCKET
+    }
+
+    public static final String TOTAL_KEY = "ALL";
+
+    public static CompetitionRateRollupCell counted(Dimension dimension, String key) {
+        return new CompetitionRateRollupCell(dimension, key, 1, 0, BigDecimal.ZERO, null, null);
+    }
+
+    public static CompetitionRateRollupCell rated(Dimension dimension, String key, BigDecimal rate) {
+        return new CompetitionRateRollupCell(dimension, key, 1, 1, rate, rate, rate);
+    }
+
+    public CompetitionRateRollupCell plus(CompetitionRateRollupCell other) {
+        return new CompetitionRateRollupCell(dimension, key,
+                count + other.count,
+                rateCount + other.rateCount,
+                rateSum.add(other.rateSum),
+                max(maxRate, other.maxRate),
+                min(minRate, other.minRate));
+    }
+
+    /**
+     * 평균 경쟁률 (소수 둘째 자리, 집계된 경쟁률이 없으면 null)
+     */
+    public BigDecimal avgRate() {
+        if (rateCount == 0) {
+            return null;
+        }
+        return rateSum.divide(BigDecimal.valueOf(rateCount), 2, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal max(BigDecimal a, BigDecimal b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    private static BigDecimal min(BigDecimal a, BigDecimal b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+}
@@ -0,0 +1,20 @@
+package com.yunbok.houseping.support.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가격 배지 계산 결과 (배지 + 산출 근거)
+ */
+public record PriceBadgeSnapshot(
+        String houseManageNo,
+        PriceBadge badge,
+        Long supplyPrice,
+        Long medianMarketPrice,
+        int sampleSize,
+        LocalDateTime computedAt
+) {
+
+    public static PriceBadgeSnapshot unknown(String houseManageNo) {
+        return new PriceBadgeSnapshot(houseManageNo, PriceBadge.UNKNOWN, null, null, 0, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,20 @@
+package com.yunbok.houseping.support.dto;
+
+import java.util.List;
+
+/**
+ * 분양가 수집 결과
+ * @param targetCount 수집 대상 건수
+ * @param collectedHouseManageNos 수집에 성공한 주택관리번호
+ * @param failCount 실패 건수
+ */
+public record PriceCollectionResult(int targetCount, List<String> collectedHouseManageNos, int failCount) {
+
+    public static PriceCollectionResult empty() {
+        return new PriceCollectionResult(0, List.of(), 0);
+    }
+
+    public int successCount() {
+        return collectedHouseManageNos.size();
+    }
+}
@@ -1,67 +0,0 @@
-package com.yunbok.houseping.support.external;
-
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper;
-import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
-import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlRootElement;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-
-import java.util.List;
-
-/**
- * 국토교통부 아파트 실거래가 API 응답
- */
-@Getter
-@NoArgsConstructor
-@JsonIgnoreProperties(ignoreUnknown = true)
-@JacksonXmlRootElement(localName = "response")
-public class RealTransactionApiResponse {
-
-    @JacksonXmlProperty(localName = "header")
-    private Header header;
-
-    @JacksonXmlProperty(localName = "body")
-    private Body body;
-
-    @Getter
-    @NoArgsConstructor
-    @JsonIgnoreProperties(ignoreUnknown = true)
-    public static class Header {
-        @JacksonXmlProperty(localName = "resultCode")
-        private String resultCode;
-
-        @JacksonXmlProperty(localName = "resultMsg")
-        private String resultMsg;
-    }
-
-    @Getter
-    @NoArgsConstructor
-    @JsonIgnoreProperties(ignoreUnknown = true)
-    public static class Body {
-        @JacksonXmlElementWrapper(localName = "items")
-        @JacksonXmlProperty(localName = "item")
-        private List<RealTransactionItem> items;
-
-        @JacksonXmlProperty(localName = "numOfRows")
-        private Integer numOfRows;
-
-        @JacksonXmlProperty(localName = "pageNo")
-        private Integer pageNo;
-
-        @JacksonXmlProperty(localName = "totalCount")
-        private Integer totalCount;
-    }
-
-    public boolean isSuccess() {
-        // 공공데이터포털 실거래가 API는 "000"을 반환
-        return header != null && "000".equals(header.getResultCode());
-    }
-
-    public List<RealTransactionItem> getItems() {
-        if (body == null || body.getItems() == null) {
-            return List.of();
-        }
-        return body.getItems();
-    }
-}
@@ -1,78 +1,69 @@
 package com.yunbok.houseping.support.external;
 
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
 
 /**
- * 아파트 실거래 상세 항목
+ * 아파트 실거래 상세 항목 (API 응답의 {@code <item>} 하나)
  */
 @Getter
+@Setter
 @NoArgsConstructor
-@JsonIgnoreProperties(ignoreUnknown = true)
 public class RealTransactionItem {
 
     /**
      * 아파트명
      */
-    @JacksonXmlProperty(localName = "aptNm")
     private String aptName;
 
     /**
      * 거래금액 (만원, 콤마 포함 문자열)
      */
-    @JacksonXmlProperty(localName = "dealAmount")
     private String dealAmount;
 
     /**
      * 거래년도
      */
-    @JacksonXmlProperty(localName = "dealYear")
     private Integer dealYear;
 
     /**
      * 거래월
      */
-    @JacksonXmlProperty(localName = "dealMonth")
     private Integer dealMonth;
 
     /**
      * 거래일
      */
-    @JacksonXmlProperty(localName = "dealDay")
     private Integer dealDay;
 
     /**
      * 전용면적 (㎡)
      */
-    @JacksonXmlProperty(localName = "excluUseAr")
     private BigDecimal excluUseAr;
 
     /**
      * 층
      */
-    @JacksonXmlProperty(localName = "floor")
     private Integer floor;
 
     /**
      * 건축년도
      */
-    @JacksonXmlProperty(localName = "buildYear")
     private Integer buildYear;
 
     /**
      * 법정동
      */
-    @JacksonXmlProperty(localName = "umdNm")
     private String umdNm;
 
     /**
      * 지번
      */
-    @JacksonXmlProperty(localName = "jibun")
     private String jibun;
 
     /**
@@ -88,4 +79,18 @@ public class RealTransactionItem {
             return null;
         }
     }
+
+    /**
+     * 거래년월일로 거래일 생성 (항목이 없거나 잘못된 날짜면 null)
+     */
+    public LocalDate getDealDate() {
+        if (dealYear == null || dealMonth == null || dealDay == null) {
+            return null;
+        }
+        try {
+            return LocalDate.of(dealYear, dealMonth, dealDay);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
 }
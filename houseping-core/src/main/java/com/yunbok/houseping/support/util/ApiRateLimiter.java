@@ -1,26 +1,93 @@
 package com.yunbok.houseping.support.util;
 
+import com.yunbok.houseping.config.RateLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 /**
- * API 호출 간 딜레이를 위한 유틸리티.
- * 추후 Resilience4j RateLimiter로 교체 가능.
+ * 외부 API별 호출 속도 제한.
+ * API 키(업스트림) 단위로 토큰 버킷을 하나씩 두고, 스케줄러·관리자 수동 실행이 같은 버킷을 공유한다.
+ * 호출 후 고정 시간 대기하던 방식과 달리, 응답이 느리면 그만큼 토큰이 쌓여 다음 호출이 바로 나간다.
  */
 @Slf4j
-public final class ApiRateLimiter {
+@Component
+public class ApiRateLimiter {
+
+    /** 청약홈 (odcloud) - 청약 정보, 분양가, 경쟁률 API 공용 키 */
+    public static final String APPLYHOME = "applyhome";
+
+    /** 국토교통부 실거래가 API */
+    public static final String REAL_TRANSACTION = "real-transaction";
+
+    /** 텔레그램 봇 전체 발송 */
+    public static final String TELEGRAM = "telegram";
+
+    /** 텔레그램 채팅방별 발송 */
+    public static final String TELEGRAM_CHAT = "telegram-chat";
+
+    /** Slack Webhook 발송 */
+    public static final String SLACK = "slack";
 
-    private ApiRateLimiter() {}
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public ApiRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
 
     /**
-     * API 호출 간 딜레이
-     * @param millis 대기 시간 (밀리초)
+     * 호출 허가를 받을 때까지 대기
+     * @param upstream 업스트림 이름 (예: {@link #APPLYHOME})
      */
-    public static void delay(int millis) {
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.warn("API rate limit delay interrupted");
+    public void acquire(String upstream) {
+        acquireFrom(upstream, buckets.computeIfAbsent(upstream, this::createBucket));
+    }
+
+    /**
+     * 업스트림 설정을 공유하되 키(채팅방 등)마다 별도 버킷으로 호출 허가를 받을 때까지 대기
+     * @param upstream 설정 이름 (예: {@link #TELEGRAM_CHAT})
+     * @param key 버킷 구분 키 (예: chat id)
+     */
+    public void acquire(String upstream, String key) {
+        acquireFrom(upstream, buckets.computeIfAbsent(upstream + ":" + key, k -> createBucket(upstream)));
+    }
+
+    private void acquireFrom(String upstream, TokenBucket bucket) {
+        long waitNanos = bucket.reserve();
+        meterRegistry.timer("houseping.api.ratelimit.wait", "upstream", upstream)
+                .record(waitNanos, TimeUnit.NANOSECONDS);
+        if (waitNanos > 0) {
+            meterRegistry.counter("houseping.api.ratelimit.throttled", "upstream", upstream).increment();
+            waitUntil(System.nanoTime() + waitNanos, upstream);
+        }
+    }
+
+    /**
+     * 대기 중 인터럽트되면 제한을 넘겨 호출하지 않도록 예외로 중단한다 (인터럽트 상태는 유지).
+     */
+    private void waitUntil(long deadlineNanos, String upstream) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                log.warn("[호출 제한] {} 대기 중 인터럽트 - 호출 중단", upstream);
+                throw new CancellationException(upstream + " 호출 제한 대기 중 인터럽트");
+            }
         }
     }
+
+    private TokenBucket createBucket(String upstream) {
+        RateLimitProperties.Bucket config = properties.bucketFor(upstream);
+        log.info("[호출 제한] {} 버킷 생성 - 초당 {}회, 버스트 {}", upstream, config.getPermitsPerSecond(), config.getBurst());
+        return new TokenBucket(config.getPermitsPerSecond(), config.getBurst());
+    }
 }
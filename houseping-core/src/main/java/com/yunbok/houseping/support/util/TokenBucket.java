@@ -0,0 +1,55 @@
+package com.yunbok.houseping.support.util;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷.
+ * 초당 permitsPerSecond개씩 토큰이 채워지고 최대 burst개까지 쌓인다.
+ * 토큰이 없으면 음수(예약)로 차감하여, 동시에 들어온 요청이 도착 순서대로 대기 시간을 나눠 갖는다.
+ */
+public final class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final double permitsPerSecond;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond와 burst는 0보다 커야 합니다.");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.capacity = burst;
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * 토큰 1개를 예약하고, 사용 가능해질 때까지 기다려야 하는 시간(나노초)을 반환한다.
+     * 0이면 즉시 호출 가능.
+     */
+    public synchronized long reserve() {
+        refill();
+        tokens -= 1;
+        if (tokens >= 0) {
+            return 0;
+        }
+        return (long) Math.ceil(-tokens / permitsPerSecond * NANOS_PER_SECOND);
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        double refilled = (now - lastRefillNanos) / NANOS_PER_SECOND * permitsPerSecond;
+        tokens = Math.min(capacity, tokens + refilled);
+        lastRefillNanos = now;
+    }
+}
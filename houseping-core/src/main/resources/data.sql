@@ -265,3 +265,13 @@ INSERT INTO region_code (sido_name, sigungu_name, region_name, lawd_cd, created_
 INSERT INTO region_code (sido_name, sigungu_name, region_name, lawd_cd, created_at) VALUES ('전북특별자치도', '순창군', '전북특별자치도 순창군', '52770', NOW()) ON CONFLICT (lawd_cd) DO NOTHING;
 INSERT INTO region_code (sido_name, sigungu_name, region_name, lawd_cd, created_at) VALUES ('전북특별자치도', '고창군', '전북특별자치도 고창군', '52790', NOW()) ON CONFLICT (lawd_cd) DO NOTHING;
 INSERT INTO region_code (sido_name, sigungu_name, region_name, lawd_cd, created_at) VALUES ('전북특별자치도', '부안군', '전북특별자치도 부안군', '52800', NOW()) ON CONFLICT (lawd_cd) DO NOTHING;
+
+-- 부분 일치 검색용 trigram 인덱스 (LIKE '%키워드%'는 B-tree를 쓰지 못함)
+-- 관리자 청약 검색: houseName.containsIgnoreCase → lower(house_name) LIKE
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_subscription_house_name_trgm ON subscription_info USING gin (lower(house_name) gin_trgm_ops);
+-- 실거래가 아파트명 검색: apt_name LIKE
+CREATE INDEX IF NOT EXISTS idx_real_transaction_apt_name_trgm ON real_transaction_cache USING gin (apt_name gin_trgm_ops);
+
+-- 접수 마감일 알림 대상 조회용 인덱스
+CREATE INDEX IF NOT EXISTS idx_receipt_end_date ON subscription_info (receipt_end_date);
@@ -0,0 +1,55 @@
+-- 엔티티 추가로 생긴 테이블 (프로덕션은 ddl-auto: validate라 Hibernate가 만들지 않음)
+-- 프로덕션 프로필은 스키마 검증 전에 이 스크립트를 실행하고, 로컬은 Hibernate가 만든 뒤 실행되어 아무 일도 하지 않는다.
+
+-- 가격 배지 사전 계산
+CREATE TABLE IF NOT EXISTS price_badge (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    house_manage_no VARCHAR(40) NOT NULL,
+    badge VARCHAR(20) NOT NULL,
+    supply_price BIGINT,
+    median_market_price BIGINT,
+    sample_size INTEGER NOT NULL,
+    computed_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_price_badge_house_manage_no UNIQUE (house_manage_no)
+);
+
+-- 경쟁률 대시보드 집계
+CREATE TABLE IF NOT EXISTS competition_rate_rollup (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    dimension VARCHAR(20) NOT NULL,
+    dim_key VARCHAR(100) NOT NULL,
+    row_count BIGINT NOT NULL,
+    rate_count BIGINT NOT NULL,
+    rate_sum NUMERIC(20, 2) NOT NULL,
+    max_rate NUMERIC(10, 2),
+    min_rate NUMERIC(10, 2),
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_competition_rate_rollup UNIQUE (dimension, dim_key)
+);
+
+-- 알림 발송 대기열
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    channel VARCHAR(20) NOT NULL,
+    recipient VARCHAR(100) NOT NULL,
+    message TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL,
+    next_attempt_at TIMESTAMP(6) NOT NULL,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP(6) NOT NULL,
+    sent_at TIMESTAMP(6)
+);
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_due ON notification_outbox (status, next_attempt_at);
+
+-- 실거래가 수집 현황 (법정동코드 + 계약월)
+CREATE TABLE IF NOT EXISTS real_transaction_fetch (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    lawd_cd VARCHAR(5) NOT NULL,
+    deal_ymd VARCHAR(6) NOT NULL,
+    fetched_at TIMESTAMP(6) NOT NULL,
+    row_count INTEGER NOT NULL,
+    checksum BIGINT NOT NULL,
+    finalized BOOLEAN NOT NULL,
+    CONSTRAINT uk_real_transaction_fetch_lawd_cd_deal_ymd UNIQUE (lawd_cd, deal_ymd)
+);
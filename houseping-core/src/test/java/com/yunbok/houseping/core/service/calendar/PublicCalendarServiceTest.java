@@ -1,7 +1,8 @@
 package com.yunbok.houseping.core.service.calendar;
 
-import com.yunbok.houseping.entity.SubscriptionEntity;
-import com.yunbok.houseping.repository.SubscriptionRepository;
+import com.yunbok.houseping.core.domain.Subscription;
+import com.yunbok.houseping.core.port.SubscriptionPersistencePort;
+import com.yunbok.houseping.core.service.subscription.SubscriptionReadModel;
 import com.yunbok.houseping.support.dto.PublicCalendarEventDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,7 +16,6 @@ import java.time.LocalDate;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 @DisplayName("PublicCalendarService - 공개 캘린더 서비스")
@@ -23,13 +23,13 @@ import static org.mockito.Mockito.when;
 class PublicCalendarServiceTest {
 
     @Mock
-    private SubscriptionRepository subscriptionRepository;
+    private SubscriptionPersistencePort subscriptionQueryPort;
 
     private PublicCalendarService service;
 
     @BeforeEach
     void setUp() {
-        service = new PublicCalendarService(subscriptionRepository);
+        service = new PublicCalendarService(new SubscriptionReadModel(subscriptionQueryPort));
     }
 
     @Nested
@@ -40,10 +40,10 @@ class PublicCalendarServiceTest {
         @DisplayName("접수 이벤트와 당첨 발표 이벤트를 모두 생성한다")
         void createsReceiptAndWinnerEvents() {
             // given
-            SubscriptionEntity entity = createEntity(1L, "테스트아파트", "ApplyHome",
+            Subscription entity = createEntity(1L, "테스트아파트", "ApplyHome",
                     LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 5),
                     LocalDate.of(2026, 3, 10), "http://test.com");
-            when(subscriptionRepository.findAll(any(com.querydsl.core.types.Predicate.class)))
+            when(subscriptionQueryPort.findAll())
                     .thenReturn(List.of(entity));
 
             // when
@@ -60,13 +60,13 @@ class PublicCalendarServiceTest {
         @DisplayName("detailUrl 기준으로 중복을 제거한다")
         void deduplicatesByDetailUrl() {
             // given
-            SubscriptionEntity entity1 = createEntity(1L, "아파트A", "ApplyHome",
+            Subscription entity1 = createEntity(1L, "아파트A", "ApplyHome",
                     LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 5),
                     null, "http://same-url.com");
-            SubscriptionEntity entity2 = createEntity(2L, "아파트A-dup", "ApplyHome",
+            Subscription entity2 = createEntity(2L, "아파트A-dup", "ApplyHome",
                     LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 5),
                     null, "http://same-url.com");
-            when(subscriptionRepository.findAll(any(com.querydsl.core.types.Predicate.class)))
+            when(subscriptionQueryPort.findAll())
                     .thenReturn(List.of(entity1, entity2));
 
             // when
@@ -81,10 +81,10 @@ class PublicCalendarServiceTest {
         @DisplayName("LH 청약은 LH 색상으로 표시한다")
         void usesLhColorsForLhSubscriptions() {
             // given
-            SubscriptionEntity entity = createEntity(1L, "LH아파트", "LH",
+            Subscription entity = createEntity(1L, "LH아파트", "LH",
                     LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 5),
                     null, "http://lh.com");
-            when(subscriptionRepository.findAll(any(com.querydsl.core.types.Predicate.class)))
+            when(subscriptionQueryPort.findAll())
                     .thenReturn(List.of(entity));
 
             // when
@@ -101,10 +101,10 @@ class PublicCalendarServiceTest {
         @DisplayName("ApplyHome 청약은 청약 색상으로 표시하고 분석 가능하다")
         void usesApplyHomeColorsAndHasAnalysis() {
             // given
-            SubscriptionEntity entity = createEntity(1L, "청약아파트", "ApplyHome",
+            Subscription entity = createEntity(1L, "청약아파트", "ApplyHome",
                     LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 5),
                     null, "http://applyhome.com");
-            when(subscriptionRepository.findAll(any(com.querydsl.core.types.Predicate.class)))
+            when(subscriptionQueryPort.findAll())
                     .thenReturn(List.of(entity));
 
             // when
@@ -121,10 +121,10 @@ class PublicCalendarServiceTest {
         @DisplayName("만료된 접수 이벤트를 expired로 표시한다")
         void marksExpiredReceiptEvents() {
             // given
-            SubscriptionEntity entity = createEntity(1L, "만료아파트", "ApplyHome",
+            Subscription entity = createEntity(1L, "만료아파트", "ApplyHome",
                     LocalDate.now().minusDays(10), LocalDate.now().minusDays(5),
                     null, "http://expired.com");
-            when(subscriptionRepository.findAll(any(com.querydsl.core.types.Predicate.class)))
+            when(subscriptionQueryPort.findAll())
                     .thenReturn(List.of(entity));
 
             // when
@@ -140,11 +140,11 @@ class PublicCalendarServiceTest {
         @DisplayName("당첨 발표일만 있고 접수 시작일이 없으면 접수 이벤트를 생성하지 않는다")
         void skipsReceiptEventWhenNoStartDate() {
             // given
-            SubscriptionEntity entity = SubscriptionEntity.builder()
+            Subscription entity = Subscription.builder()
                     .id(1L).houseName("발표전용").source("ApplyHome")
                     .winnerAnnounceDate(LocalDate.of(2026, 3, 10))
                     .detailUrl("http://test.com").build();
-            when(subscriptionRepository.findAll(any(com.querydsl.core.types.Predicate.class)))
+            when(subscriptionQueryPort.findAll())
                     .thenReturn(List.of(entity));
 
             // when
@@ -155,12 +155,33 @@ class PublicCalendarServiceTest {
             assertThat(events).hasSize(1);
             assertThat(events.get(0).extendedProps().eventType()).isEqualTo("winner");
         }
+
+        @Test
+        @DisplayName("조회 기간과 겹치지 않는 청약은 제외한다")
+        void excludesOutOfRangeSubscriptions() {
+            // given
+            Subscription inRange = createEntity(1L, "3월아파트", "ApplyHome",
+                    LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 5),
+                    null, "http://march.com");
+            Subscription outOfRange = createEntity(2L, "5월아파트", "ApplyHome",
+                    LocalDate.of(2026, 5, 1), LocalDate.of(2026, 5, 5),
+                    null, "http://may.com");
+            when(subscriptionQueryPort.findAll()).thenReturn(List.of(inRange, outOfRange));
+
+            // when
+            List<PublicCalendarEventDto> events = service.getCalendarEvents(
+                    LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31));
+
+            // then
+            assertThat(events).hasSize(1);
+            assertThat(events.get(0).extendedProps().houseName()).isEqualTo("3월아파트");
+        }
     }
 
-    private SubscriptionEntity createEntity(Long id, String houseName, String source,
+    private Subscription createEntity(Long id, String houseName, String source,
                                              LocalDate receiptStart, LocalDate receiptEnd,
                                              LocalDate winnerAnnounce, String detailUrl) {
-        return SubscriptionEntity.builder()
+        return Subscription.builder()
                 .id(id)
                 .houseName(houseName)
                 .source(source)
@@ -12,15 +12,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @DisplayName("CompetitionRateCollectorService - 경쟁률 수집 서비스")
@@ -36,6 +38,12 @@ class CompetitionRateCollectorServiceTest {
     @Mock
     private CompetitionRateProvider competitionRateProvider;
 
+    @Mock
+    private CompetitionRateRollupService rollupService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private SubscriptionConfig config;
 
     private CompetitionRateCollectorService service;
@@ -54,7 +62,7 @@ class CompetitionRateCollectorServiceTest {
         void returnsZeroWhenNoProvider() {
             // given
             service = new CompetitionRateCollectorService(
-                    competitionRatePort, subscriptionPort, Optional.empty(), config);
+                    competitionRatePort, subscriptionPort, Optional.empty(), config, rollupService, eventPublisher);
 
             // when
             int result = service.collect();
@@ -68,7 +76,7 @@ class CompetitionRateCollectorServiceTest {
         void returnsZeroWhenNoSubscriptions() {
             // given
             service = new CompetitionRateCollectorService(
-                    competitionRatePort, subscriptionPort, Optional.of(competitionRateProvider), config);
+                    competitionRatePort, subscriptionPort, Optional.of(competitionRateProvider), config, rollupService, eventPublisher);
             when(subscriptionPort.findHouseManageNosByAreas(config.targetAreas())).thenReturn(Set.of());
 
             // when
@@ -76,7 +84,7 @@ class CompetitionRateCollectorServiceTest {
 
             // then
             assertThat(result).isEqualTo(0);
-            verify(competitionRateProvider, never()).fetchAll();
+            verify(competitionRateProvider, never()).fetchAllPages(any());
         }
 
         @Test
@@ -84,7 +92,7 @@ class CompetitionRateCollectorServiceTest {
         void returnsZeroWhenNoNewData() {
             // given
             service = new CompetitionRateCollectorService(
-                    competitionRatePort, subscriptionPort, Optional.of(competitionRateProvider), config);
+                    competitionRatePort, subscriptionPort, Optional.of(competitionRateProvider), config, rollupService, eventPublisher);
 
             Set<String> houseManageNos = Set.of("H001", "H002");
             when(subscriptionPort.findHouseManageNosByAreas(config.targetAreas())).thenReturn(houseManageNos);
@@ -93,15 +101,15 @@ class CompetitionRateCollectorServiceTest {
                     createRate("H001", "P001"),
                     createRate("H003", "P003") // 대상 지역 아님
             );
-            when(competitionRateProvider.fetchAll()).thenReturn(allRates);
-            when(competitionRatePort.existsByHouseManageNoAndPblancNo("H001", "P001")).thenReturn(true); // 이미 존재
+            stubPages(allRates);
+            when(competitionRatePort.findRowKeys(houseManageNos)).thenReturn(Set.of("H001|P001|084T|1|해당지역")); // 이미 존재
 
             // when
             int result = service.collect();
 
             // then
             assertThat(result).isEqualTo(0);
-            verify(competitionRatePort, never()).saveAll(any());
+            verify(rollupService, never()).saveAll(any());
         }
 
         @Test
@@ -109,7 +117,7 @@ class CompetitionRateCollectorServiceTest {
         void savesOnlyNewData() {
             // given
             service = new CompetitionRateCollectorService(
-                    competitionRatePort, subscriptionPort, Optional.of(competitionRateProvider), config);
+                    competitionRatePort, subscriptionPort, Optional.of(competitionRateProvider), config, rollupService, eventPublisher);
 
             Set<String> houseManageNos = Set.of("H001", "H002", "H003");
             when(subscriptionPort.findHouseManageNosByAreas(config.targetAreas())).thenReturn(houseManageNos);
@@ -120,17 +128,15 @@ class CompetitionRateCollectorServiceTest {
                     createRate("H003", "P003"),
                     createRate("H004", "P004") // 대상 지역 아님
             );
-            when(competitionRateProvider.fetchAll()).thenReturn(allRates);
-            when(competitionRatePort.existsByHouseManageNoAndPblancNo("H001", "P001")).thenReturn(true);  // 이미 존재
-            when(competitionRatePort.existsByHouseManageNoAndPblancNo("H002", "P002")).thenReturn(false); // 신규
-            when(competitionRatePort.existsByHouseManageNoAndPblancNo("H003", "P003")).thenReturn(false); // 신규
+            stubPages(allRates);
+            when(competitionRatePort.findRowKeys(houseManageNos)).thenReturn(Set.of("H001|P001|084T|1|해당지역")); // 이미 존재
 
             // when
             int result = service.collect();
 
             // then
             assertThat(result).isEqualTo(2);
-            verify(competitionRatePort).saveAll(argThat(list -> list.size() == 2));
+            verify(rollupService).saveAll(argThat(list -> list.size() == 2));
         }
 
         @Test
@@ -138,7 +144,7 @@ class CompetitionRateCollectorServiceTest {
         void filtersTargetAreasOnly() {
             // given
             service = new CompetitionRateCollectorService(
-                    competitionRatePort, subscriptionPort, Optional.of(competitionRateProvider), config);
+                    competitionRatePort, subscriptionPort, Optional.of(competitionRateProvider), config, rollupService, eventPublisher);
 
             Set<String> houseManageNos = Set.of("H001"); // 서울/경기 지역
             when(subscriptionPort.findHouseManageNosByAreas(config.targetAreas())).thenReturn(houseManageNos);
@@ -148,24 +154,116 @@ class CompetitionRateCollectorServiceTest {
                     createRate("H002", "P002"), // 다른 지역
                     createRate("H003", "P003")  // 다른 지역
             );
-            when(competitionRateProvider.fetchAll()).thenReturn(allRates);
-            when(competitionRatePort.existsByHouseManageNoAndPblancNo(anyString(), anyString())).thenReturn(false);
+            stubPages(allRates);
+            when(competitionRatePort.findRowKeys(houseManageNos)).thenReturn(Set.of());
 
             // when
             int result = service.collect();
 
             // then
             assertThat(result).isEqualTo(1);
-            verify(competitionRatePort).saveAll(argThat(list ->
+            verify(rollupService).saveAll(argThat(list ->
                 list.size() == 1 && list.get(0).getHouseManageNo().equals("H001")));
         }
+
+        @Test
+        @DisplayName("여러 페이지를 받아도 고정 크기 단위로 나눠 저장한다")
+        void savesInFixedSizeBatches() {
+            // given
+            service = new CompetitionRateCollectorService(
+                    competitionRatePort, subscriptionPort, Optional.of(competitionRateProvider), config, rollupService, eventPublisher);
+
+            Set<String> houseManageNos = Set.of("H001");
+            when(subscriptionPort.findHouseManageNosByAreas(config.targetAreas())).thenReturn(houseManageNos);
+            when(competitionRatePort.findRowKeys(houseManageNos)).thenReturn(Set.of());
+
+            List<CompetitionRate> firstPage = IntStream.range(0, 300)
+                    .mapToObj(i -> createRate("H001", "P001", "T" + i))
+                    .toList();
+            List<CompetitionRate> secondPage = IntStream.range(300, 600)
+                    .mapToObj(i -> createRate("H001", "P001", "T" + i))
+                    .toList();
+            stubPages(firstPage, secondPage);
+
+            // when
+            int result = service.collect();
+
+            // then
+            assertThat(result).isEqualTo(600);
+            verify(rollupService).saveAll(argThat(list -> list.size() == 500));
+            verify(rollupService).saveAll(argThat(list -> list.size() == 100));
+        }
+    }
+
+    @Nested
+    @DisplayName("중복 판별")
+    class Dedupe {
+
+        @Test
+        @DisplayName("일부 행만 저장된 공고는 빠진 행만 저장한다")
+        void savesMissingRowsOfPartiallySavedAnnouncement() {
+            // given
+            service = new CompetitionRateCollectorService(
+                    competitionRatePort, subscriptionPort, Optional.of(competitionRateProvider), config, rollupService, eventPublisher);
+
+            Set<String> houseManageNos = Set.of("H001");
+            when(subscriptionPort.findHouseManageNosByAreas(config.targetAreas())).thenReturn(houseManageNos);
+            when(competitionRatePort.findRowKeys(houseManageNos)).thenReturn(Set.of("H001|P001|084T|1|해당지역"));
+            stubPages(List.of(
+                    createRate("H001", "P001", "084T"), // 이전 수집에서 저장됨
+                    createRate("H001", "P001", "059A")  // 이전 수집이 중간에 실패해 빠진 행
+            ));
+
+            // when
+            int result = service.collect();
+
+            // then
+            assertThat(result).isEqualTo(1);
+            verify(rollupService).saveAll(argThat(list ->
+                    list.size() == 1 && list.get(0).getHouseType().equals("059A")));
+        }
+
+        @Test
+        @DisplayName("같은 수집 안에서 다시 나온 행은 한 번만 저장한다")
+        void skipsRepeatedRowWithinRun() {
+            // given
+            service = new CompetitionRateCollectorService(
+                    competitionRatePort, subscriptionPort, Optional.of(competitionRateProvider), config, rollupService, eventPublisher);
+
+            Set<String> houseManageNos = Set.of("H001");
+            when(subscriptionPort.findHouseManageNosByAreas(config.targetAreas())).thenReturn(houseManageNos);
+            when(competitionRatePort.findRowKeys(houseManageNos)).thenReturn(Set.of());
+            stubPages(List.of(createRate("H001", "P001")), List.of(createRate("H001", "P001")));
+
+            // when
+            int result = service.collect();
+
+            // then
+            assertThat(result).isEqualTo(1);
+        }
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    private void stubPages(List<CompetitionRate>... pages) {
+        doAnswer(invocation -> {
+            Consumer<List<CompetitionRate>> consumer = invocation.getArgument(0);
+            for (List<CompetitionRate> page : pages) {
+                consumer.accept(page);
+            }
+            return null;
+        }).when(competitionRateProvider).fetchAllPages(any());
     }
 
     private CompetitionRate createRate(String houseManageNo, String pblancNo) {
+        return createRate(houseManageNo, pblancNo, "084T");
+    }
+
+    private CompetitionRate createRate(String houseManageNo, String pblancNo, String houseType) {
         return CompetitionRate.builder()
                 .houseManageNo(houseManageNo)
                 .pblancNo(pblancNo)
-                .houseType("084T")
+                .houseType(houseType)
                 .supplyCount(100)
                 .requestCount(500)
                 .competitionRate(new BigDecimal("5.0"))
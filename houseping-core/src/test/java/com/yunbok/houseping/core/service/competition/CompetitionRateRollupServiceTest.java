@@ -0,0 +1,195 @@
+package com.yunbok.houseping.core.service.competition;
+
+import com.yunbok.houseping.core.domain.CompetitionRate;
+import com.yunbok.houseping.core.domain.Subscription;
+import com.yunbok.houseping.core.port.CompetitionRatePersistencePort;
+import com.yunbok.houseping.core.port.CompetitionRateRollupPort;
+import com.yunbok.houseping.core.port.SubscriptionPersistencePort;
+import com.yunbok.houseping.support.dto.CompetitionRateRollupCell;
+import com.yunbok.houseping.support.dto.CompetitionRateRollupCell.Dimension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CompetitionRateRollupService - 경쟁률 대시보드 집계")
+@ExtendWith(MockitoExtension.class)
+class CompetitionRateRollupServiceTest {
+
+    @Mock
+    private CompetitionRateRollupPort rollupPort;
+
+    @Mock
+    private CompetitionRatePersistencePort competitionRatePort;
+
+    @Mock
+    private SubscriptionPersistencePort subscriptionPort;
+
+    private CompetitionRateRollupService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CompetitionRateRollupService(rollupPort, competitionRatePort, subscriptionPort);
+    }
+
+    @Nested
+    @DisplayName("saveAll() - 저장 후 증분 반영")
+    class SaveAll {
+
+        @Test
+        @DisplayName("저장된 배치를 차원별로 집계해 한 번에 더한다")
+        void mergesBatchCells() {
+            // given
+            when(rollupPort.isBuilt()).thenReturn(true);
+            when(subscriptionPort.findByHouseManageNos(Set.of("H001")))
+                    .thenReturn(List.of(createSubscription("H001", "서울", 2025)));
+
+            // when
+            service.saveAll(List.of(
+                    createRate("H001", "084.9543T", "해당지역", "10.0", 50),
+                    createRate("H001", "084.9543T", "기타지역", "30.0", 50)));
+
+            // then
+            verify(rollupPort).merge(argThat((Collection<CompetitionRateRollupCell> cells) -> {
+                CompetitionRateRollupCell total = find(cells, Dimension.TOTAL, CompetitionRateRollupCell.TOTAL_KEY);
+                CompetitionRateRollupCell areaYear = find(cells, Dimension.AREA_YEAR, "서울|2025");
+                return total.count() == 2
+                        && total.avgRate().compareTo(new BigDecimal("20.00")) == 0
+                        && areaYear.rateCount() == 2
+                        && find(cells, Dimension.MAIN_SIZE, "84").count() == 2;
+            }));
+        }
+
+        @Test
+        @DisplayName("배치를 저장한 뒤 집계에 더한다")
+        void savesBeforeMerging() {
+            // given
+            List<CompetitionRate> rates = List.of(createRate("H001", "084T", "해당지역", "10.0", 50));
+            when(rollupPort.isBuilt()).thenReturn(true);
+            when(subscriptionPort.findByHouseManageNos(Set.of("H001"))).thenReturn(List.of());
+
+            // when
+            service.saveAll(rates);
+
+            // then
+            InOrder inOrder = inOrder(competitionRatePort, rollupPort);
+            inOrder.verify(competitionRatePort).saveAll(rates);
+            inOrder.verify(rollupPort).merge(any());
+        }
+
+        @Test
+        @DisplayName("반영에 실패하면 집계를 비워 다음 조회 때 재집계되게 한다")
+        void resetsOnFailure() {
+            // given
+            when(rollupPort.isBuilt()).thenReturn(true);
+            when(subscriptionPort.findByHouseManageNos(any())).thenReturn(List.of());
+            doThrow(new RuntimeException("lock timeout")).when(rollupPort).merge(any());
+
+            // when
+            service.saveAll(List.of(createRate("H001", "084T", "해당지역", "10.0", 50)));
+
+            // then
+            verify(rollupPort).deleteAll();
+        }
+
+        @Test
+        @DisplayName("집계가 비어 있으면 더하지 않고 다음 조회 때 저장된 경쟁률까지 재집계한다")
+        void defersToRebuildWhenEmpty() {
+            // given
+            CompetitionRate saved = createRate("H001", "084T", "해당지역", "10.0", 50);
+            when(rollupPort.isBuilt()).thenReturn(false);
+            when(rollupPort.findAll()).thenReturn(List.of());
+            when(competitionRatePort.findAll()).thenReturn(List.of(saved));
+            when(subscriptionPort.findByHouseManageNos(Set.of("H001"))).thenReturn(List.of());
+
+            // when
+            service.saveAll(List.of(saved));
+            List<CompetitionRateRollupCell> result = service.cells();
+
+            // then
+            verify(rollupPort, never()).merge(any());
+            verify(rollupPort).replaceAll(result);
+            assertThat(find(result, Dimension.TOTAL, CompetitionRateRollupCell.TOTAL_KEY).count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("cells() - 집계 조회")
+    class Cells {
+
+        @Test
+        @DisplayName("집계가 있으면 그대로 반환한다")
+        void returnsStoredCells() {
+            // given
+            List<CompetitionRateRollupCell> stored = List.of(new CompetitionRateRollupCell(
+                    Dimension.TOTAL, CompetitionRateRollupCell.TOTAL_KEY, 3, 3, new BigDecimal("30"), null, null));
+            when(rollupPort.findAll()).thenReturn(stored);
+
+            // when
+            List<CompetitionRateRollupCell> result = service.cells();
+
+            // then
+            assertThat(result).isEqualTo(stored);
+            verifyNoInteractions(competitionRatePort);
+        }
+
+        @Test
+        @DisplayName("집계가 비어 있으면 전체 경쟁률로 재집계한다")
+        void rebuildsWhenEmpty() {
+            // given
+            when(rollupPort.findAll()).thenReturn(List.of());
+            when(competitionRatePort.findAll()).thenReturn(List.of());
+
+            // when
+            List<CompetitionRateRollupCell> result = service.cells();
+
+            // then
+            assertThat(result).singleElement()
+                    .satisfies(cell -> assertThat(cell.dimension()).isEqualTo(Dimension.TOTAL));
+            verify(rollupPort).replaceAll(result);
+        }
+    }
+
+    private CompetitionRateRollupCell find(Collection<CompetitionRateRollupCell> cells, Dimension dimension, String key) {
+        return cells.stream()
+                .filter(cell -> cell.dimension() == dimension && cell.key().equals(key))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private CompetitionRate createRate(String houseManageNo, String houseType, String residenceArea,
+                                       String rate, int supplyCount) {
+        return CompetitionRate.builder()
+                .houseManageNo(houseManageNo)
+                .pblancNo("P001")
+                .houseType(houseType)
+                .residenceArea(residenceArea)
+                .competitionRate(new BigDecimal(rate))
+                .supplyCount(supplyCount)
+                .rank(1)
+                .build();
+    }
+
+    private Subscription createSubscription(String houseManageNo, String area, int year) {
+        return Subscription.builder()
+                .houseManageNo(houseManageNo)
+                .area(area)
+                .winnerAnnounceDate(LocalDate.of(year, 6, 15))
+                .build();
+    }
+}
@@ -151,8 +151,8 @@ class DailyNotificationServiceTest {
             service.sendDailyReport();
 
             // then
-            verify(persistencePort).markReceiptEndNotified(1L);
-            verify(persistencePort).markReceiptStartNotified(2L);
+            verify(persistencePort).markReceiptEndNotified(List.of(1L));
+            verify(persistencePort).markReceiptStartNotified(List.of(2L));
         }
 
         @Test
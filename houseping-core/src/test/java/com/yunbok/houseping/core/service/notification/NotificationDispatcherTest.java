@@ -0,0 +1,230 @@
+package com.yunbok.houseping.core.service.notification;
+
+import com.yunbok.houseping.core.domain.OutboxMessage;
+import com.yunbok.houseping.core.port.NotificationChannel;
+import com.yunbok.houseping.core.port.NotificationOutboxPort;
+import com.yunbok.houseping.support.util.ApiRateLimiter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("NotificationDispatcher - 알림 발송 대기열 발송기")
+@ExtendWith(MockitoExtension.class)
+class NotificationDispatcherTest {
+
+    @Mock
+    private NotificationOutboxPort outboxPort;
+
+    @Mock
+    private NotificationChannel telegram;
+
+    @Mock
+    private ApiRateLimiter rateLimiter;
+
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        when(telegram.name()).thenReturn("TELEGRAM");
+        dispatcher = new NotificationDispatcher(outboxPort, List.of(telegram), rateLimiter, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    private void givenDue(OutboxMessage... messages) {
+        when(outboxPort.claimDue(any(LocalDateTime.class), anyInt(), any(LocalDateTime.class)))
+                .thenReturn(List.of(messages));
+    }
+
+    @Nested
+    @DisplayName("drain() - 대기열 처리")
+    class Drain {
+
+        @Test
+        @DisplayName("발송 시각이 된 메시지를 보내고 발송 완료로 기록한다")
+        void deliversAndMarksSent() {
+            // given
+            when(telegram.rateLimitKey()).thenReturn(ApiRateLimiter.TELEGRAM);
+            givenDue(new OutboxMessage(1L, "TELEGRAM", "111", "메시지1", 0),
+                    new OutboxMessage(2L, "TELEGRAM", "222", "메시지2", 0));
+
+            // when
+            int delivered = dispatcher.drain();
+
+            // then
+            assertThat(delivered).isEqualTo(2);
+            verify(telegram).deliver("111", "메시지1");
+            verify(telegram).deliver("222", "메시지2");
+            verify(outboxPort).markSent(eq(1L), any());
+            verify(outboxPort).markSent(eq(2L), any());
+            verify(rateLimiter, times(2)).acquire(ApiRateLimiter.TELEGRAM);
+        }
+
+        @Test
+        @DisplayName("수신자별 호출 제한 키가 있으면 수신자마다 허가를 받는다")
+        void acquiresPerRecipient() {
+            // given
+            when(telegram.rateLimitKey()).thenReturn(ApiRateLimiter.TELEGRAM);
+            when(telegram.recipientRateLimitKey()).thenReturn(ApiRateLimiter.TELEGRAM_CHAT);
+            givenDue(new OutboxMessage(1L, "TELEGRAM", "111", "메시지", 0));
+
+            // when
+            dispatcher.drain();
+
+            // then
+            verify(rateLimiter).acquire(ApiRateLimiter.TELEGRAM_CHAT, "111");
+        }
+
+        @Test
+        @DisplayName("같은 수신자의 메시지는 저장 순서대로 보낸다")
+        void keepsOrderPerRecipient() {
+            // given
+            when(telegram.rateLimitKey()).thenReturn(ApiRateLimiter.TELEGRAM);
+            givenDue(new OutboxMessage(1L, "TELEGRAM", "111", "첫번째", 0),
+                    new OutboxMessage(2L, "TELEGRAM", "111", "두번째", 0));
+
+            // when
+            dispatcher.drain();
+
+            // then
+            var inOrder = inOrder(telegram);
+            inOrder.verify(telegram).deliver("111", "첫번째");
+            inOrder.verify(telegram).deliver("111", "두번째");
+        }
+
+        @Test
+        @DisplayName("꺼낸 메시지는 선점 시간만큼 다음 시도 시각을 미뤄 둔다")
+        void claimsWithLease() {
+            // given
+            givenDue();
+
+            // when
+            dispatcher.drain();
+
+            // then
+            ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+            ArgumentCaptor<LocalDateTime> leaseUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(outboxPort).claimDue(now.capture(), eq(NotificationDispatcher.BATCH_SIZE), leaseUntil.capture());
+            assertThat(leaseUntil.getValue()).isEqualTo(now.getValue().plus(NotificationDispatcher.CLAIM_LEASE));
+        }
+
+        @Test
+        @DisplayName("대기 메시지가 없으면 아무 것도 보내지 않는다")
+        void doesNothingWhenEmpty() {
+            // given
+            givenDue();
+
+            // when
+            int delivered = dispatcher.drain();
+
+            // then
+            assertThat(delivered).isZero();
+            verify(telegram, never()).deliver(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 처리")
+    class Failure {
+
+        @Test
+        @DisplayName("전송에 실패하면 백오프 후 재시도로 기록한다")
+        void schedulesRetry() {
+            // given
+            when(telegram.rateLimitKey()).thenReturn(ApiRateLimiter.TELEGRAM);
+            givenDue(new OutboxMessage(1L, "TELEGRAM", "111", "메시지", 0));
+            doThrow(new RuntimeException("429 Too Many Requests")).when(telegram).deliver("111", "메시지");
+            LocalDateTime before = LocalDateTime.now();
+
+            // when
+            int delivered = dispatcher.drain();
+
+            // then
+            assertThat(delivered).isZero();
+            ArgumentCaptor<LocalDateTime> nextAttempt = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(outboxPort).markRetry(eq(1L), eq("429 Too Many Requests"), nextAttempt.capture());
+            assertThat(nextAttempt.getValue()).isAfterOrEqualTo(before.plusSeconds(30));
+            verify(outboxPort, never()).markSent(any(), any());
+        }
+
+        @Test
+        @DisplayName("재시도로 밀리면 같은 수신자의 뒤 메시지는 보내지 않고 같은 시각으로 미룬다")
+        void defersRestOfRecipientOnRetry() {
+            // given
+            when(telegram.rateLimitKey()).thenReturn(ApiRateLimiter.TELEGRAM);
+            givenDue(new OutboxMessage(1L, "TELEGRAM", "111", "첫번째", 0),
+                    new OutboxMessage(2L, "TELEGRAM", "111", "두번째", 0),
+                    new OutboxMessage(3L, "TELEGRAM", "111", "세번째", 0));
+            doThrow(new RuntimeException("502 Bad Gateway")).when(telegram).deliver("111", "첫번째");
+
+            // when
+            int delivered = dispatcher.drain();
+
+            // then
+            assertThat(delivered).isZero();
+            ArgumentCaptor<LocalDateTime> retryAt = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(outboxPort).markRetry(eq(1L), eq("502 Bad Gateway"), retryAt.capture());
+            verify(outboxPort).defer(List.of(2L, 3L), retryAt.getValue());
+            verify(telegram, never()).deliver("111", "두번째");
+            verify(telegram, never()).deliver("111", "세번째");
+        }
+
+        @Test
+        @DisplayName("최대 시도 횟수에 도달하면 실패로 기록한다")
+        void marksFailedAfterMaxAttempts() {
+            // given
+            when(telegram.rateLimitKey()).thenReturn(ApiRateLimiter.TELEGRAM);
+            givenDue(new OutboxMessage(1L, "TELEGRAM", "111", "메시지", NotificationDispatcher.MAX_ATTEMPTS - 1));
+            doThrow(new RuntimeException("timeout")).when(telegram).deliver("111", "메시지");
+
+            // when
+            dispatcher.drain();
+
+            // then
+            verify(outboxPort).markFailed(1L, "timeout");
+            verify(outboxPort, never()).markRetry(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("비활성화된 채널의 메시지는 보내지 않고 실패로 기록한다")
+        void failsUnknownChannel() {
+            // given
+            givenDue(new OutboxMessage(1L, "SLACK", "webhook", "메시지", 0));
+
+            // when
+            dispatcher.drain();
+
+            // then
+            verify(outboxPort).markFailed(1L, "비활성화된 채널: SLACK");
+            verify(telegram, never()).deliver(any(), any());
+        }
+
+        @Test
+        @DisplayName("재시도 간격은 30초부터 2배씩 늘고 30분을 넘지 않는다")
+        void backoffGrowsAndCaps() {
+            assertThat(NotificationDispatcher.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+            assertThat(NotificationDispatcher.backoff(2)).isEqualTo(Duration.ofSeconds(60));
+            assertThat(NotificationDispatcher.backoff(4)).isEqualTo(Duration.ofMinutes(4));
+            assertThat(NotificationDispatcher.backoff(10)).isEqualTo(Duration.ofMinutes(30));
+        }
+    }
+}
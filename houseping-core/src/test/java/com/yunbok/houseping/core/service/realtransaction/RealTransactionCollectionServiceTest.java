@@ -1,9 +1,13 @@
 package com.yunbok.houseping.core.service.realtransaction;
 
+import com.yunbok.houseping.core.domain.MonthRefreshResult;
 import com.yunbok.houseping.core.port.RealTransactionFetchPort;
+import com.yunbok.houseping.core.port.RealTransactionPersistencePort;
 import com.yunbok.houseping.core.service.region.RegionCodeService;
+import com.yunbok.houseping.core.service.subscription.PriceBadgeRefreshService;
 import com.yunbok.houseping.entity.SubscriptionEntity;
 import com.yunbok.houseping.repository.SubscriptionRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,6 +19,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -32,11 +37,23 @@ class RealTransactionCollectionServiceTest {
     @Mock
     private RealTransactionFetchPort realTransactionFetchPort;
 
+    @Mock
+    private RealTransactionPersistencePort realTransactionPersistencePort;
+
+    @Mock
+    private PriceBadgeRefreshService priceBadgeRefreshService;
+
     private RealTransactionCollectionService service;
 
     @BeforeEach
     void setUp() {
-        service = new RealTransactionCollectionService(subscriptionRepository, regionCodeService, realTransactionFetchPort);
+        service = new RealTransactionCollectionService(subscriptionRepository, regionCodeService, realTransactionFetchPort,
+                realTransactionPersistencePort, priceBadgeRefreshService, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
     }
 
     @Nested
@@ -52,14 +69,33 @@ class RealTransactionCollectionServiceTest {
             when(subscriptionRepository.findAll()).thenReturn(List.of(active));
             when(regionCodeService.findLawdCdByAddress("서울시 강남구 역삼동"))
                     .thenReturn(Optional.of("11680"));
-            when(realTransactionFetchPort.fetchAndCacheRecentTransactions("11680", 6))
-                    .thenReturn(List.of());
+            when(realTransactionFetchPort.findStaleDealYmds("11680", 6)).thenReturn(List.of("202501", "202412"));
+
+            // when
+            service.collectRealTransactions();
+
+            // then
+            verify(realTransactionFetchPort).refreshMonth("11680", "202501");
+            verify(realTransactionFetchPort).refreshMonth("11680", "202412");
+        }
+
+        @Test
+        @DisplayName("다시 수집할 계약월이 없으면 API를 호출하지 않는다")
+        void skipsUpToDateMonths() {
+            // given
+            SubscriptionEntity active = createEntity("ApplyHome", "서울시 강남구 역삼동",
+                    LocalDate.now(), LocalDate.now().plusDays(5));
+            when(subscriptionRepository.findAll()).thenReturn(List.of(active));
+            when(regionCodeService.findLawdCdByAddress("서울시 강남구 역삼동"))
+                    .thenReturn(Optional.of("11680"));
+            when(realTransactionFetchPort.findStaleDealYmds("11680", 6)).thenReturn(List.of());
 
             // when
             service.collectRealTransactions();
 
             // then
-            verify(realTransactionFetchPort).fetchAndCacheRecentTransactions("11680", 6);
+            verify(realTransactionFetchPort, never()).refreshMonth(anyString(), anyString());
+            verify(priceBadgeRefreshService).refreshByLawdCds(Set.of());
         }
 
         @Test
@@ -75,7 +111,7 @@ class RealTransactionCollectionServiceTest {
 
             // then
             verify(regionCodeService, never()).findLawdCdByAddress(anyString());
-            verify(realTransactionFetchPort, never()).fetchAndCacheRecentTransactions(anyString(), anyInt());
+            verify(realTransactionFetchPort, never()).findStaleDealYmds(anyString(), anyInt());
         }
 
         @Test
@@ -104,14 +140,14 @@ class RealTransactionCollectionServiceTest {
             when(subscriptionRepository.findAll()).thenReturn(List.of(sub1, sub2));
             when(regionCodeService.findLawdCdByAddress("서울시 강남구 역삼동")).thenReturn(Optional.of("11680"));
             when(regionCodeService.findLawdCdByAddress("서울시 강남구 삼성동")).thenReturn(Optional.of("11680")); // 같은 코드
-            when(realTransactionFetchPort.fetchAndCacheRecentTransactions(anyString(), eq(6)))
-                    .thenReturn(List.of());
+            when(realTransactionFetchPort.findStaleDealYmds(anyString(), eq(6))).thenReturn(List.of("202501"));
 
             // when
             service.collectRealTransactions();
 
             // then — 중복 제거되어 1회만 호출
-            verify(realTransactionFetchPort, times(1)).fetchAndCacheRecentTransactions("11680", 6);
+            verify(realTransactionFetchPort, times(1)).findStaleDealYmds("11680", 6);
+            verify(realTransactionFetchPort, times(1)).refreshMonth("11680", "202501");
         }
 
         @Test
@@ -125,17 +161,76 @@ class RealTransactionCollectionServiceTest {
             when(subscriptionRepository.findAll()).thenReturn(List.of(sub1, sub2));
             when(regionCodeService.findLawdCdByAddress("서울시 강남구 역삼동")).thenReturn(Optional.of("11680"));
             when(regionCodeService.findLawdCdByAddress("경기도 수원시 장안구")).thenReturn(Optional.of("41111"));
-            when(realTransactionFetchPort.fetchAndCacheRecentTransactions("11680", 6))
-                    .thenThrow(new RuntimeException("API 오류"));
-            when(realTransactionFetchPort.fetchAndCacheRecentTransactions("41111", 6))
-                    .thenReturn(List.of());
+            when(realTransactionFetchPort.findStaleDealYmds("11680", 6)).thenReturn(List.of("202501"));
+            when(realTransactionFetchPort.findStaleDealYmds("41111", 6)).thenReturn(List.of("202501"));
+            when(realTransactionFetchPort.refreshMonth("11680", "202501")).thenThrow(new RuntimeException("API 오류"));
+            when(realTransactionFetchPort.refreshMonth("41111", "202501")).thenReturn(MonthRefreshResult.CHANGED);
+
+            // when
+            service.collectRealTransactions();
+
+            // then — 한 작업이 실패해도 다른 작업은 수집됨
+            verify(realTransactionFetchPort).refreshMonth("11680", "202501");
+            verify(realTransactionFetchPort).refreshMonth("41111", "202501");
+        }
+
+        @Test
+        @DisplayName("수집으로 시세가 바뀐 지역만 가격 배지를 재계산한다")
+        void refreshesBadgesForSucceededLawdCodes() {
+            // given
+            SubscriptionEntity sub1 = createEntity("ApplyHome", "서울시 강남구 역삼동",
+                    LocalDate.now(), LocalDate.now().plusDays(5));
+            SubscriptionEntity sub2 = createEntity("ApplyHome", "경기도 수원시 장안구",
+                    LocalDate.now(), LocalDate.now().plusDays(5));
+            when(subscriptionRepository.findAll()).thenReturn(List.of(sub1, sub2));
+            when(regionCodeService.findLawdCdByAddress("서울시 강남구 역삼동")).thenReturn(Optional.of("11680"));
+            when(regionCodeService.findLawdCdByAddress("경기도 수원시 장안구")).thenReturn(Optional.of("41111"));
+            when(realTransactionFetchPort.findStaleDealYmds("11680", 6)).thenReturn(List.of("202501"));
+            when(realTransactionFetchPort.findStaleDealYmds("41111", 6)).thenReturn(List.of("202501"));
+            when(realTransactionFetchPort.refreshMonth("11680", "202501")).thenReturn(MonthRefreshResult.FAILED);
+            when(realTransactionFetchPort.refreshMonth("41111", "202501")).thenReturn(MonthRefreshResult.CHANGED);
+
+            // when
+            service.collectRealTransactions();
+
+            // then
+            verify(priceBadgeRefreshService).refreshByLawdCds(Set.of("41111"));
+        }
+
+        @Test
+        @DisplayName("수집 결과가 그대로인 지역은 가격 배지를 재계산하지 않는다")
+        void skipsBadgesForUnchangedLawdCodes() {
+            // given
+            SubscriptionEntity active = createEntity("ApplyHome", "서울시 강남구 역삼동",
+                    LocalDate.now(), LocalDate.now().plusDays(5));
+            when(subscriptionRepository.findAll()).thenReturn(List.of(active));
+            when(regionCodeService.findLawdCdByAddress("서울시 강남구 역삼동")).thenReturn(Optional.of("11680"));
+            when(realTransactionFetchPort.findStaleDealYmds("11680", 6)).thenReturn(List.of("202501"));
+            when(realTransactionFetchPort.refreshMonth("11680", "202501")).thenReturn(MonthRefreshResult.UNCHANGED);
 
             // when
             service.collectRealTransactions();
 
-            // then — 첫 번째 실패에도 두 번째가 호출됨
-            verify(realTransactionFetchPort).fetchAndCacheRecentTransactions("11680", 6);
-            verify(realTransactionFetchPort).fetchAndCacheRecentTransactions("41111", 6);
+            // then
+            verify(priceBadgeRefreshService).refreshByLawdCds(Set.of());
+        }
+    }
+
+    @Nested
+    @DisplayName("purgeExpired() - 보관 기간 정리")
+    class PurgeExpired {
+
+        @Test
+        @DisplayName("올해를 포함한 보관 연수 이전의 계약분을 정리한다")
+        void purgesBeforeRetentionYears() {
+            // given
+            int expectedYear = LocalDate.now().getYear() - RealTransactionCollectionService.RETENTION_YEARS + 1;
+
+            // when
+            service.purgeExpired();
+
+            // then
+            verify(realTransactionPersistencePort).purgeBefore(expectedYear);
         }
     }
 
@@ -0,0 +1,197 @@
+package com.yunbok.houseping.core.service.realtransaction;
+
+import com.yunbok.houseping.core.domain.RealTransaction;
+import com.yunbok.houseping.core.domain.RealTransactionsUpdatedEvent;
+import com.yunbok.houseping.core.port.RealTransactionPersistencePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RealTransactionIndex - 지역별 실거래가 인덱스")
+@ExtendWith(MockitoExtension.class)
+class RealTransactionIndexTest {
+
+    @Mock
+    private RealTransactionPersistencePort realTransactionQueryPort;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RealTransactionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RealTransactionIndex(realTransactionQueryPort, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("district() - 지역 인덱스 적재")
+    class LoadDistrict {
+
+        @Test
+        @DisplayName("한 번 적재한 지역은 다시 조회하지 않는다")
+        void loadsOnce() {
+            // given
+            when(realTransactionQueryPort.findByLawdCd("11680")).thenReturn(List.of(
+                    create(50000L, "84.00", 2024, "역삼동", LocalDate.of(2026, 1, 10))));
+
+            // when
+            index.district("11680");
+            index.district("11680");
+
+            // then
+            verify(realTransactionQueryPort, times(1)).findByLawdCd("11680");
+        }
+
+        @Test
+        @DisplayName("적중·미적중 횟수를 지표로 기록한다")
+        void recordsHitRatio() {
+            // given
+            when(realTransactionQueryPort.findByLawdCd("11680")).thenReturn(List.of(
+                    create(50000L, "84.00", 2024, "역삼동", LocalDate.of(2026, 1, 10))));
+
+            // when
+            index.district("11680");
+            index.district("11680");
+            index.district("11680");
+
+            // then
+            assertThat(meterRegistry.get("houseping.cache.gets")
+                    .tags("cache", RealTransactionIndex.CACHE_NAME, "result", "miss").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("houseping.cache.gets")
+                    .tags("cache", RealTransactionIndex.CACHE_NAME, "result", "hit").counter().count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("보관 한도를 넘으면 가장 오래 조회하지 않은 지역부터 내린다")
+        void evictsLeastRecentlyUsed() {
+            // given
+            index = new RealTransactionIndex(realTransactionQueryPort, meterRegistry, 2);
+            when(realTransactionQueryPort.findByLawdCd(anyString())).thenReturn(List.of(
+                    create(50000L, "84.00", 2024, "역삼동", LocalDate.of(2026, 1, 10))));
+
+            // when
+            index.district("11680");
+            index.district("11650");
+            index.district("11680");
+            index.district("11710");
+            index.district("11650");
+
+            // then
+            assertThat(index.size()).isEqualTo(2);
+            verify(realTransactionQueryPort, times(2)).findByLawdCd("11650");
+            verify(realTransactionQueryPort, times(1)).findByLawdCd("11680");
+        }
+
+        @Test
+        @DisplayName("적재 중에 무효화되면 읽은 거래를 보관하지 않는다")
+        void discardsLoadRacingInvalidation() {
+            // given
+            when(realTransactionQueryPort.findByLawdCd("11680")).thenAnswer(invocation -> {
+                index.onTransactionsUpdated(new RealTransactionsUpdatedEvent("11680"));
+                return List.of(create(50000L, "84.00", 2024, "역삼동", LocalDate.of(2026, 1, 10)));
+            });
+
+            // when
+            index.district("11680");
+
+            // then
+            assertThat(index.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("갱신 이벤트를 받으면 해당 지역을 다시 적재한다")
+        void reloadsAfterUpdate() {
+            // given
+            when(realTransactionQueryPort.findByLawdCd("11680"))
+                    .thenReturn(List.of(create(50000L, "84.00", 2024, "역삼동", LocalDate.of(2026, 1, 10))))
+                    .thenReturn(List.of(
+                            create(50000L, "84.00", 2024, "역삼동", LocalDate.of(2026, 1, 10)),
+                            create(52000L, "84.00", 2024, "역삼동", LocalDate.of(2026, 2, 10))));
+            index.district("11680");
+
+            // when
+            index.onTransactionsUpdated(new RealTransactionsUpdatedEvent("11680"));
+
+            // then
+            assertThat(index.district("11680").size()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("District - 구간 조회")
+    class DistrictQueries {
+
+        private final RealTransactionIndex.District district = RealTransactionIndex.District.of(List.of(
+                create(90000L, "84.97", 2025, "역삼1동", LocalDate.of(2026, 3, 1)),
+                create(70000L, "59.99", 2025, "역삼동", LocalDate.of(2026, 2, 1)),
+                create(80000L, "79.00", 2010, "역삼동", LocalDate.of(2026, 1, 20)),
+                create(85000L, "89.00", 2024, "역삼동", LocalDate.of(2026, 1, 10)),
+                create(99000L, "84.00", 2025, "삼성동", LocalDate.of(2026, 1, 5)),
+                create(60000L, null, 2025, "역삼동", LocalDate.of(2026, 1, 1))
+        ));
+
+        @Test
+        @DisplayName("동 이름은 숫자를 제거하여 비교한다")
+        void matchesNormalizedDong() {
+            // when
+            List<RealTransaction> result = district.transactions(
+                    district.dongId("역삼동"), RealTransactionIndex.District.ANY_BUILD_YEAR);
+
+            // then
+            assertThat(result).extracting(RealTransaction::getDealAmount)
+                    .containsExactly(90000L, 70000L, 80000L, 85000L, 60000L);
+        }
+
+        @Test
+        @DisplayName("면적 구간 양 끝을 포함하고 준공연도로 거른 금액을 오름차순으로 반환한다")
+        void returnsSortedAmountsInRange() {
+            // when
+            long[] amounts = district.sortedAmounts(district.dongId("역삼동"), 2020,
+                    new BigDecimal("79"), new BigDecimal("89"));
+
+            // then
+            assertThat(amounts).containsExactly(85000L, 90000L);
+        }
+
+        @Test
+        @DisplayName("면적 구간 내 최근 거래를 거래일 내림차순으로 limit건 반환한다")
+        void returnsMostRecent() {
+            // when
+            List<RealTransaction> result = district.mostRecent(RealTransactionIndex.District.ANY_DONG,
+                    RealTransactionIndex.District.ANY_BUILD_YEAR, new BigDecimal("79"), new BigDecimal("89"), 2);
+
+            // then
+            assertThat(result).extracting(RealTransaction::getDealAmount).containsExactly(90000L, 80000L);
+        }
+
+        @Test
+        @DisplayName("없는 동은 어떤 거래와도 일치하지 않는다")
+        void unknownDongMatchesNothing() {
+            // when & then
+            assertThat(district.count(district.dongId("대치동"), RealTransactionIndex.District.ANY_BUILD_YEAR)).isZero();
+        }
+    }
+
+    private RealTransaction create(Long amount, String area, int buildYear, String dongName, LocalDate dealDate) {
+        return RealTransaction.builder()
+                .dealAmount(amount)
+                .exclusiveArea(area != null ? new BigDecimal(area) : null)
+                .buildYear(buildYear)
+                .dongName(dongName)
+                .dealDate(dealDate)
+                .build();
+    }
+}
@@ -0,0 +1,153 @@
+package com.yunbok.houseping.core.service.region;
+
+import com.yunbok.houseping.core.domain.RegionCode;
+import com.yunbok.houseping.core.port.RegionCodePersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RegionCodeService - 주소 → 법정동코드")
+@ExtendWith(MockitoExtension.class)
+class RegionCodeServiceTest {
+
+    @Mock
+    private RegionCodePersistencePort regionCodeQueryPort;
+
+    private RegionCodeService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new RegionCodeService(regionCodeQueryPort);
+    }
+
+    private void givenRegionCodes() {
+        when(regionCodeQueryPort.findAll()).thenReturn(List.of(
+                new RegionCode("서울특별시", "중구", "11140"),
+                new RegionCode("서울특별시", "강남구", "11680"),
+                new RegionCode("부산광역시", "중구", "26110"),
+                new RegionCode("광주광역시", "북구", "29170"),
+                new RegionCode("세종특별자치시", "세종시", "36110"),
+                new RegionCode("경기도", "수원시", "41110"),
+                new RegionCode("경기도", "수원시장안구", "41111"),
+                new RegionCode("경기도", "안양시만안구", "41171"),
+                new RegionCode("경기도", "광주시", "41610"),
+                new RegionCode("강원특별자치도", "고성군", "51820"),
+                new RegionCode("경상남도", "고성군", "48820")
+        ));
+    }
+
+    @Nested
+    @DisplayName("findLawdCdByAddress() - 주소 해석")
+    class FindLawdCdByAddress {
+
+        @Test
+        @DisplayName("시도 약칭과 시군구로 조회한다")
+        void resolvesShortSido() {
+            givenRegionCodes();
+
+            assertThat(service.findLawdCdByAddress("서울시 강남구 역삼동 123")).hasValue("11680");
+            assertThat(service.findLawdCdByAddress("서울 강남구 역삼동")).hasValue("11680");
+        }
+
+        @Test
+        @DisplayName("복합 시군구는 가장 긴 이름이 우선한다")
+        void prefersCompositeSigungu() {
+            givenRegionCodes();
+
+            assertThat(service.findLawdCdByAddress("경기도 수원시 장안구 정자동")).hasValue("41111");
+            assertThat(service.findLawdCdByAddress("경기도 안양시 만안구 안양2동 841-5번지 일대")).hasValue("41171");
+            assertThat(service.findLawdCdByAddress("경기도 수원시 권선구")).hasValue("41110");
+        }
+
+        @Test
+        @DisplayName("같은 이름의 시군구는 시도로 구분한다")
+        void disambiguatesBySido() {
+            givenRegionCodes();
+
+            assertThat(service.findLawdCdByAddress("부산광역시 중구 중앙동")).hasValue("26110");
+            assertThat(service.findLawdCdByAddress("강원도 고성군 토성면")).hasValue("51820");
+            assertThat(service.findLawdCdByAddress("경남 고성군 고성읍")).hasValue("48820");
+        }
+
+        @Test
+        @DisplayName("시도 약칭과 같은 시군구명도 해석한다")
+        void resolvesSigunguNamedLikeSido() {
+            givenRegionCodes();
+
+            assertThat(service.findLawdCdByAddress("경기도 광주시 오포읍")).hasValue("41610");
+            assertThat(service.findLawdCdByAddress("광주 북구 용봉동")).hasValue("29170");
+        }
+
+        @Test
+        @DisplayName("시군구가 하나뿐인 시도는 시도만으로 조회한다")
+        void resolvesSingleSigunguSido() {
+            givenRegionCodes();
+
+            assertThat(service.findLawdCdByAddress("세종특별자치시 한솔동")).hasValue("36110");
+        }
+
+        @Test
+        @DisplayName("토큰 경계에서 끝나지 않는 이름은 일치로 보지 않는다")
+        void requiresTokenBoundary() {
+            givenRegionCodes();
+
+            assertThat(service.findLawdCdByAddress("서울특별시 강남구청역")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("알 수 없는 주소나 빈 주소는 빈 값을 반환한다")
+        void returnsEmptyForUnknown() {
+            givenRegionCodes();
+
+            assertThat(service.findLawdCdByAddress("알수없는주소")).isEmpty();
+            assertThat(service.findLawdCdByAddress(" ")).isEmpty();
+            assertThat(service.findLawdCdByAddress(null)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("적재 및 재사용")
+    class Loading {
+
+        @Test
+        @DisplayName("지역코드는 한 번만 적재한다")
+        void loadsOnce() {
+            // given
+            givenRegionCodes();
+
+            // when
+            service.warmUp();
+            service.findLawdCdByAddress("서울시 강남구 역삼동");
+            service.findLawdCdByAddress("경기도 수원시 장안구");
+
+            // then
+            verify(regionCodeQueryPort, times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("지역코드가 비어 있으면 다음 호출에서 다시 적재한다")
+        void retriesWhenEmpty() {
+            // given
+            when(regionCodeQueryPort.findAll())
+                    .thenReturn(List.of())
+                    .thenReturn(List.of(new RegionCode("서울특별시", "강남구", "11680")));
+
+            // when
+            var first = service.findLawdCdByAddress("서울시 강남구 역삼동");
+            var second = service.findLawdCdByAddress("서울시 강남구 역삼동");
+
+            // then
+            assertThat(first).isEmpty();
+            assertThat(second).hasValue("11680");
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.yunbok.houseping.core.service.subscription;
 
 import com.yunbok.houseping.core.domain.Subscription;
 import com.yunbok.houseping.core.port.SubscriptionProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -9,8 +10,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -27,6 +30,8 @@ class FallbackProviderChainTest {
     @Mock
     private SubscriptionProvider fallbackProvider;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @Nested
     @DisplayName("execute() - 체인 실행")
     class Execute {
@@ -40,7 +45,7 @@ class FallbackProviderChainTest {
             when(primaryProvider.getSourceName()).thenReturn("Primary");
 
             FallbackProviderChain chain = new FallbackProviderChain(
-                    List.of(primaryProvider, fallbackProvider), "TestChain"
+                    List.of(primaryProvider, fallbackProvider), "TestChain", ProviderChainPolicy.defaults(), meterRegistry
             );
 
             // when
@@ -64,7 +69,7 @@ class FallbackProviderChainTest {
             when(fallbackProvider.getSourceName()).thenReturn("Fallback");
 
             FallbackProviderChain chain = new FallbackProviderChain(
-                    List.of(primaryProvider, fallbackProvider), "TestChain"
+                    List.of(primaryProvider, fallbackProvider), "TestChain", ProviderChainPolicy.defaults(), meterRegistry
             );
 
             // when
@@ -86,7 +91,7 @@ class FallbackProviderChainTest {
             when(fallbackProvider.getSourceName()).thenReturn("Fallback");
 
             FallbackProviderChain chain = new FallbackProviderChain(
-                    List.of(primaryProvider, fallbackProvider), "TestChain"
+                    List.of(primaryProvider, fallbackProvider), "TestChain", ProviderChainPolicy.defaults(), meterRegistry
             );
 
             // when
@@ -108,7 +113,7 @@ class FallbackProviderChainTest {
             when(fallbackProvider.getSourceName()).thenReturn("Fallback");
 
             FallbackProviderChain chain = new FallbackProviderChain(
-                    List.of(primaryProvider, fallbackProvider), "TestChain"
+                    List.of(primaryProvider, fallbackProvider), "TestChain", ProviderChainPolicy.defaults(), meterRegistry
             );
 
             // when
@@ -127,7 +132,7 @@ class FallbackProviderChainTest {
             when(primaryProvider.getSourceName()).thenReturn("Primary");
 
             FallbackProviderChain chain = new FallbackProviderChain(
-                    List.of(primaryProvider, fallbackProvider), "TestChain"
+                    List.of(primaryProvider, fallbackProvider), "TestChain", ProviderChainPolicy.defaults(), meterRegistry
             );
 
             // when
@@ -142,7 +147,9 @@ class FallbackProviderChainTest {
         @DisplayName("Provider가 없으면 빈 리스트를 반환한다")
         void returnsEmptyWhenNoProviders() {
             // given
-            FallbackProviderChain chain = new FallbackProviderChain(List.of(), "TestChain");
+            FallbackProviderChain chain = new FallbackProviderChain(
+                    List.of(), "TestChain", ProviderChainPolicy.defaults(), meterRegistry
+            );
 
             // when
             List<Subscription> result = chain.execute("서울", LocalDate.now());
@@ -152,6 +159,211 @@ class FallbackProviderChainTest {
         }
     }
 
+    @Nested
+    @DisplayName("지표 기록")
+    class Metrics {
+
+        @Test
+        @DisplayName("Provider별 호출 시간과 결과를 낸 Provider를 기록한다")
+        void recordsFetchTimersAndServedProvider() {
+            // given
+            when(primaryProvider.fetch(anyString(), any())).thenThrow(new RuntimeException("실패"));
+            when(primaryProvider.getSourceName()).thenReturn("Primary");
+            when(fallbackProvider.fetch(anyString(), any())).thenReturn(List.of(createSubscription("아파트1")));
+            when(fallbackProvider.getSourceName()).thenReturn("Fallback");
+
+            FallbackProviderChain chain = new FallbackProviderChain(
+                    List.of(primaryProvider, fallbackProvider), "TestChain", ProviderChainPolicy.defaults(), meterRegistry
+            );
+
+            // when
+            chain.execute("서울", LocalDate.now());
+
+            // then
+            assertThat(meterRegistry.get("houseping.provider.fetch")
+                    .tags("provider", "Primary", "outcome", "failure").timer().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("houseping.provider.fetch")
+                    .tags("provider", "Fallback", "outcome", "success").timer().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("houseping.provider.chain.requests")
+                    .tags("chain", "TestChain", "served_by", "Fallback", "fallback", "true").counter().count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("모든 Provider가 실패하면 served_by=none으로 기록한다")
+        void recordsNoneWhenAllFail() {
+            // given
+            when(primaryProvider.fetch(anyString(), any())).thenThrow(new RuntimeException("실패"));
+            when(primaryProvider.getSourceName()).thenReturn("Primary");
+
+            FallbackProviderChain chain = new FallbackProviderChain(
+                    List.of(primaryProvider), "TestChain", ProviderChainPolicy.defaults(), meterRegistry
+            );
+
+            // when
+            chain.execute("서울", LocalDate.now());
+
+            // then
+            assertThat(meterRegistry.get("houseping.provider.chain.requests")
+                    .tags("served_by", "none").counter().count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("회로 차단")
+    class CircuitBreaker {
+
+        private final AtomicLong now = new AtomicLong(0);
+
+        private final ProviderChainPolicy policy = new ProviderChainPolicy(4, 2, 0.5, Duration.ofMinutes(1),
+                false, 0.95, Duration.ofSeconds(2), Duration.ofSeconds(10), 5);
+
+        @Test
+        @DisplayName("실패가 반복되어 회로가 열리면 해당 Provider를 호출하지 않고 건너뛴다")
+        void skipsProviderWhenCircuitOpen() {
+            // given
+            when(primaryProvider.fetch(anyString(), any())).thenThrow(new RuntimeException("타임아웃"));
+            when(primaryProvider.getSourceName()).thenReturn("Primary");
+            when(fallbackProvider.fetch(anyString(), any())).thenReturn(List.of(createSubscription("아파트1")));
+            when(fallbackProvider.getSourceName()).thenReturn("Fallback");
+
+            FallbackProviderChain chain = new FallbackProviderChain(
+                    List.of(primaryProvider, fallbackProvider), "TestChain", policy, meterRegistry, now::get
+            );
+
+            // when
+            for (int i = 0; i < 3; i++) {
+                chain.execute("서울", LocalDate.now());
+            }
+
+            // then
+            verify(primaryProvider, times(2)).fetch(anyString(), any());
+            verify(fallbackProvider, times(3)).fetch(anyString(), any());
+            assertThat(meterRegistry.get("houseping.provider.circuit.state")
+                    .tags("provider", "Primary").gauge().value()).isEqualTo(ProviderHealth.State.OPEN.ordinal());
+            assertThat(meterRegistry.get("houseping.provider.skipped")
+                    .tags("provider", "Primary").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("열림 시간이 지나 시험 호출이 성공하면 다시 첫 Provider를 사용한다")
+        void closesCircuitAfterSuccessfulProbe() {
+            // given
+            List<Subscription> expected = List.of(createSubscription("아파트1"));
+            when(primaryProvider.fetch(anyString(), any()))
+                    .thenThrow(new RuntimeException("타임아웃"))
+                    .thenThrow(new RuntimeException("타임아웃"))
+                    .thenReturn(expected);
+            when(primaryProvider.getSourceName()).thenReturn("Primary");
+            when(fallbackProvider.fetch(anyString(), any())).thenReturn(List.of());
+            when(fallbackProvider.getSourceName()).thenReturn("Fallback");
+
+            FallbackProviderChain chain = new FallbackProviderChain(
+                    List.of(primaryProvider, fallbackProvider), "TestChain", policy, meterRegistry, now::get
+            );
+            chain.execute("서울", LocalDate.now());
+            chain.execute("서울", LocalDate.now());
+
+            // when
+            now.addAndGet(Duration.ofMinutes(1).toNanos());
+            List<Subscription> result = chain.execute("서울", LocalDate.now());
+
+            // then
+            assertThat(result).isEqualTo(expected);
+            assertThat(meterRegistry.get("houseping.provider.circuit.state")
+                    .tags("provider", "Primary").gauge().value()).isEqualTo(ProviderHealth.State.CLOSED.ordinal());
+        }
+    }
+
+    @Nested
+    @DisplayName("헤징")
+    class Hedging {
+
+        private final ProviderChainPolicy policy = new ProviderChainPolicy(20, 4, 0.5, Duration.ofMinutes(30),
+                true, 0.95, Duration.ofMillis(10), Duration.ofMillis(50), 5);
+
+        @Test
+        @DisplayName("외부 Provider가 늦으면 다음 외부 Provider를 함께 호출하고 먼저 성공한 결과를 반환한다")
+        void hedgesToNextExternalProvider() {
+            // given
+            when(primaryProvider.isExternalSource()).thenReturn(true);
+            when(primaryProvider.getSourceName()).thenReturn("Primary");
+            when(primaryProvider.fetch(anyString(), any())).thenAnswer(invocation -> {
+                Thread.sleep(500);
+                return List.of(createSubscription("느린 아파트"));
+            });
+            List<Subscription> expected = List.of(createSubscription("아파트1"));
+            when(fallbackProvider.isExternalSource()).thenReturn(true);
+            when(fallbackProvider.getSourceName()).thenReturn("Fallback");
+            when(fallbackProvider.fetch(anyString(), any())).thenReturn(expected);
+
+            FallbackProviderChain chain = new FallbackProviderChain(
+                    List.of(primaryProvider, fallbackProvider), "TestChain", policy, meterRegistry
+            );
+
+            // when
+            List<Subscription> result = chain.execute("서울", LocalDate.now());
+
+            // then
+            assertThat(result).isEqualTo(expected);
+            assertThat(meterRegistry.get("houseping.provider.hedges")
+                    .tags("provider", "Primary", "hedge", "Fallback").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("houseping.provider.chain.requests")
+                    .tags("served_by", "Fallback", "fallback", "true").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("헤징한 Provider가 먼저 실패하고 첫 Provider가 늦게 성공하면 첫 Provider 결과를 반환한다")
+        void returnsLatePrimaryWhenHedgeFailsFast() {
+            // given
+            List<Subscription> expected = List.of(createSubscription("느린 아파트"));
+            when(primaryProvider.isExternalSource()).thenReturn(true);
+            when(primaryProvider.getSourceName()).thenReturn("Primary");
+            when(primaryProvider.fetch(anyString(), any())).thenAnswer(invocation -> {
+                Thread.sleep(300);
+                return expected;
+            });
+            when(fallbackProvider.isExternalSource()).thenReturn(true);
+            when(fallbackProvider.getSourceName()).thenReturn("Fallback");
+            when(fallbackProvider.fetch(anyString(), any())).thenThrow(new RuntimeException("API 오류"));
+
+            FallbackProviderChain chain = new FallbackProviderChain(
+                    List.of(primaryProvider, fallbackProvider), "TestChain", policy, meterRegistry
+            );
+
+            // when
+            List<Subscription> result = chain.execute("서울", LocalDate.now());
+
+            // then
+            assertThat(result).isEqualTo(expected);
+            assertThat(meterRegistry.get("houseping.provider.chain.requests")
+                    .tags("served_by", "Primary", "fallback", "false").counter().count()).isEqualTo(1);
+            chain.shutdown();
+        }
+
+        @Test
+        @DisplayName("첫 Provider가 제때 응답하면 헤징하지 않는다")
+        void doesNotHedgeFastProvider() {
+            // given
+            List<Subscription> expected = List.of(createSubscription("아파트1"));
+            when(primaryProvider.isExternalSource()).thenReturn(true);
+            when(primaryProvider.getSourceName()).thenReturn("Primary");
+            when(primaryProvider.fetch(anyString(), any())).thenReturn(expected);
+            when(fallbackProvider.isExternalSource()).thenReturn(true);
+
+            FallbackProviderChain chain = new FallbackProviderChain(
+                    List.of(primaryProvider, fallbackProvider), "TestChain", ProviderChainPolicy.defaults(), meterRegistry
+            );
+
+            // when
+            List<Subscription> result = chain.execute("서울", LocalDate.now());
+
+            // then
+            assertThat(result).isEqualTo(expected);
+            verify(fallbackProvider, never()).fetch(anyString(), any());
+        }
+    }
+
     private Subscription createSubscription(String name) {
         return Subscription.builder()
                 .houseName(name)
@@ -5,8 +5,11 @@ import com.yunbok.houseping.core.domain.Subscription;
 import com.yunbok.houseping.core.domain.SubscriptionPrice;
 import com.yunbok.houseping.core.port.RealTransactionPersistencePort;
 import com.yunbok.houseping.core.port.SubscriptionPricePersistencePort;
+import com.yunbok.houseping.core.service.realtransaction.RealTransactionIndex;
+import com.yunbok.houseping.core.service.region.RegionCodeService;
 import com.yunbok.houseping.support.dto.PriceBadge;
 import com.yunbok.houseping.support.util.AddressHelper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,6 +21,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -33,6 +37,9 @@ class PriceBadgeCalculatorTest {
     @Mock
     private RealTransactionPersistencePort realTransactionQueryPort;
 
+    @Mock
+    private RegionCodeService regionCodeService;
+
     @Mock
     private AddressHelper addressHelper;
 
@@ -42,7 +49,8 @@ class PriceBadgeCalculatorTest {
     @BeforeEach
     void setUp() {
         comparisonBuilder = new HouseTypeComparisonBuilder();
-        calculator = new PriceBadgeCalculator(subscriptionPriceQueryPort, realTransactionQueryPort, addressHelper, comparisonBuilder);
+        calculator = new PriceBadgeCalculator(subscriptionPriceQueryPort,
+                new RealTransactionIndex(realTransactionQueryPort, new SimpleMeterRegistry()), regionCodeService, addressHelper, comparisonBuilder);
     }
 
     @Nested
@@ -58,13 +66,12 @@ class PriceBadgeCalculatorTest {
             int currentYear = LocalDate.now().getYear();
 
             when(subscriptionPriceQueryPort.findByHouseManageNo("H001")).thenReturn(List.of(price));
-            when(addressHelper.extractLawdCd("서울시 강남구 역삼동 123")).thenReturn("11680");
+            when(regionCodeService.findLawdCdByAddress("서울시 강남구 역삼동 123")).thenReturn(Optional.of("11680"));
             when(addressHelper.extractDongName("서울시 강남구 역삼동 123")).thenReturn("역삼동");
             when(realTransactionQueryPort.findByLawdCd("11680")).thenReturn(List.of(
                     createTransaction(60000L, new BigDecimal("84.0"), currentYear),
                     createTransaction(65000L, new BigDecimal("83.0"), currentYear)
             ));
-            when(addressHelper.filterByDongName(anyList(), eq("역삼동"))).thenAnswer(inv -> inv.getArgument(0));
 
             // when
             PriceBadge result = calculator.computePriceBadge(sub);
@@ -82,13 +89,12 @@ class PriceBadgeCalculatorTest {
             int currentYear = LocalDate.now().getYear();
 
             when(subscriptionPriceQueryPort.findByHouseManageNo("H001")).thenReturn(List.of(price));
-            when(addressHelper.extractLawdCd("서울시 강남구 역삼동 123")).thenReturn("11680");
+            when(regionCodeService.findLawdCdByAddress("서울시 강남구 역삼동 123")).thenReturn(Optional.of("11680"));
             when(addressHelper.extractDongName("서울시 강남구 역삼동 123")).thenReturn("역삼동");
             when(realTransactionQueryPort.findByLawdCd("11680")).thenReturn(List.of(
                     createTransaction(50000L, new BigDecimal("84.0"), currentYear),
                     createTransaction(55000L, new BigDecimal("83.0"), currentYear)
             ));
-            when(addressHelper.filterByDongName(anyList(), eq("역삼동"))).thenAnswer(inv -> inv.getArgument(0));
 
             // when
             PriceBadge result = calculator.computePriceBadge(sub);
@@ -162,7 +168,7 @@ class PriceBadgeCalculatorTest {
             Subscription sub = createSubscription("H001", "알수없는주소", "ApplyHome");
             SubscriptionPrice price = createPrice("084.9543T", 50000L, 100);
             when(subscriptionPriceQueryPort.findByHouseManageNo("H001")).thenReturn(List.of(price));
-            when(addressHelper.extractLawdCd("알수없는주소")).thenReturn(null);
+            when(regionCodeService.findLawdCdByAddress("알수없는주소")).thenReturn(Optional.empty());
 
             // when
             PriceBadge result = calculator.computePriceBadge(sub);
@@ -179,12 +185,11 @@ class PriceBadgeCalculatorTest {
             SubscriptionPrice price = createPrice("084.9543T", 50000L, 100);
 
             when(subscriptionPriceQueryPort.findByHouseManageNo("H001")).thenReturn(List.of(price));
-            when(addressHelper.extractLawdCd(anyString())).thenReturn("11680");
+            when(regionCodeService.findLawdCdByAddress(anyString())).thenReturn(Optional.of("11680"));
             when(addressHelper.extractDongName(anyString())).thenReturn("역삼동");
             when(realTransactionQueryPort.findByLawdCd("11680")).thenReturn(List.of(
                     createTransaction(50000L, new BigDecimal("84.0"), 2000)  // 매우 오래된 건물
             ));
-            when(addressHelper.filterByDongName(anyList(), eq("역삼동"))).thenAnswer(inv -> inv.getArgument(0));
 
             // when
             PriceBadge result = calculator.computePriceBadge(sub);
@@ -202,12 +207,11 @@ class PriceBadgeCalculatorTest {
             int currentYear = LocalDate.now().getYear();
 
             when(subscriptionPriceQueryPort.findByHouseManageNo("H001")).thenReturn(List.of(price));
-            when(addressHelper.extractLawdCd(anyString())).thenReturn("11680");
+            when(regionCodeService.findLawdCdByAddress(anyString())).thenReturn(Optional.of("11680"));
             when(addressHelper.extractDongName(anyString())).thenReturn("역삼동");
             when(realTransactionQueryPort.findByLawdCd("11680")).thenReturn(List.of(
                     createTransaction(50000L, new BigDecimal("30.0"), currentYear)  // 면적 차이 큼
             ));
-            when(addressHelper.filterByDongName(anyList(), eq("역삼동"))).thenAnswer(inv -> inv.getArgument(0));
 
             // when
             PriceBadge result = calculator.computePriceBadge(sub);
@@ -225,14 +229,13 @@ class PriceBadgeCalculatorTest {
             int currentYear = LocalDate.now().getYear();
 
             when(subscriptionPriceQueryPort.findByHouseManageNo("H001")).thenReturn(List.of(price));
-            when(addressHelper.extractLawdCd(anyString())).thenReturn("11680");
+            when(regionCodeService.findLawdCdByAddress(anyString())).thenReturn(Optional.of("11680"));
             when(addressHelper.extractDongName(anyString())).thenReturn("역삼동");
             // 중앙값 = (50000 + 60000) / 2 = 55000, 40000 < 55000 * 0.95 = 52250 → CHEAP
             when(realTransactionQueryPort.findByLawdCd("11680")).thenReturn(List.of(
                     createTransaction(50000L, new BigDecimal("84.0"), currentYear),
                     createTransaction(60000L, new BigDecimal("83.0"), currentYear)
             ));
-            when(addressHelper.filterByDongName(anyList(), eq("역삼동"))).thenAnswer(inv -> inv.getArgument(0));
 
             // when
             PriceBadge result = calculator.computePriceBadge(sub);
@@ -311,6 +314,7 @@ class PriceBadgeCalculatorTest {
                 .exclusiveArea(exclusiveArea)
                 .buildYear(buildYear)
                 .dealDate(LocalDate.now())
+                .dongName("역삼동")
                 .build();
     }
 }
@@ -0,0 +1,177 @@
+package com.yunbok.houseping.core.service.subscription;
+
+import com.yunbok.houseping.core.domain.PublicDataChangedEvent;
+import com.yunbok.houseping.core.domain.Subscription;
+import com.yunbok.houseping.core.port.PriceBadgePersistencePort;
+import com.yunbok.houseping.core.port.SubscriptionPersistencePort;
+import com.yunbok.houseping.core.service.region.RegionCodeService;
+import com.yunbok.houseping.support.dto.PriceBadge;
+import com.yunbok.houseping.support.dto.PriceBadgeSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PriceBadgeRefreshService - 가격 배지 사전 계산")
+@ExtendWith(MockitoExtension.class)
+class PriceBadgeRefreshServiceTest {
+
+    @Mock
+    private SubscriptionPersistencePort subscriptionQueryPort;
+
+    @Mock
+    private PriceBadgePersistencePort priceBadgePort;
+
+    @Mock
+    private PriceBadgeCalculator priceBadgeCalculator;
+
+    @Mock
+    private RegionCodeService regionCodeService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private PriceBadgeRefreshService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PriceBadgeRefreshService(subscriptionQueryPort, priceBadgePort, priceBadgeCalculator, regionCodeService, eventPublisher);
+    }
+
+    @Nested
+    @DisplayName("refreshByHouseManageNos() - 주택관리번호 기준 재계산")
+    class RefreshByHouseManageNos {
+
+        @Test
+        @DisplayName("지정된 청약만 재계산하여 저장한다")
+        void refreshesOnlyTargets() {
+            // given
+            Subscription target = createSubscription("H001", "서울시 강남구 역삼동", LocalDate.now().plusDays(3));
+            Subscription other = createSubscription("H002", "서울시 강남구 삼성동", LocalDate.now().plusDays(3));
+            PriceBadgeSnapshot snapshot = new PriceBadgeSnapshot("H001", PriceBadge.CHEAP,
+                    80000L, 100000L, 5, LocalDateTime.now());
+            when(subscriptionQueryPort.findAll()).thenReturn(List.of(target, other));
+            when(priceBadgeCalculator.computeSnapshot(target)).thenReturn(snapshot);
+
+            // when
+            int count = service.refreshByHouseManageNos(List.of("H001"));
+
+            // then
+            assertThat(count).isEqualTo(1);
+            verify(priceBadgePort).saveAll(List.of(snapshot));
+            verify(priceBadgeCalculator, never()).computeSnapshot(other);
+            verify(eventPublisher).publishEvent(any(PublicDataChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("대상이 없으면 조회하지 않는다")
+        void skipsWhenEmpty() {
+            // when
+            int count = service.refreshByHouseManageNos(List.of());
+
+            // then
+            assertThat(count).isZero();
+            verifyNoInteractions(subscriptionQueryPort, priceBadgePort);
+        }
+
+        @Test
+        @DisplayName("마감된 청약은 재계산하지 않는다")
+        void excludesClosedSubscriptions() {
+            // given
+            Subscription closed = createSubscription("H001", "서울시 강남구 역삼동", LocalDate.now().minusDays(1));
+            when(subscriptionQueryPort.findAll()).thenReturn(List.of(closed));
+
+            // when
+            int count = service.refreshByHouseManageNos(List.of("H001"));
+
+            // then
+            assertThat(count).isZero();
+            verify(priceBadgeCalculator, never()).computeSnapshot(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("refreshByLawdCds() - 지역 기준 재계산")
+    class RefreshByLawdCds {
+
+        @Test
+        @DisplayName("시세가 갱신된 지역의 청약만 재계산한다")
+        void refreshesSubscriptionsInLawdCd() {
+            // given
+            Subscription gangnam = createSubscription("H001", "서울시 강남구 역삼동", LocalDate.now().plusDays(3));
+            Subscription suwon = createSubscription("H002", "경기도 수원시 장안구", LocalDate.now().plusDays(3));
+            when(subscriptionQueryPort.findAll()).thenReturn(List.of(gangnam, suwon));
+            when(regionCodeService.findLawdCdByAddress("서울시 강남구 역삼동")).thenReturn(Optional.of("11680"));
+            when(regionCodeService.findLawdCdByAddress("경기도 수원시 장안구")).thenReturn(Optional.of("41111"));
+            when(priceBadgeCalculator.computeSnapshot(gangnam)).thenReturn(PriceBadgeSnapshot.unknown("H001"));
+
+            // when
+            int count = service.refreshByLawdCds(List.of("11680"));
+
+            // then
+            assertThat(count).isEqualTo(1);
+            verify(priceBadgeCalculator, never()).computeSnapshot(suwon);
+        }
+    }
+
+    @Nested
+    @DisplayName("refreshAllIfEmpty() - 기동 시 전체 재계산")
+    class RefreshAllIfEmpty {
+
+        @Test
+        @DisplayName("저장된 배지가 없으면 진행중·예정 청약 전체를 재계산한다")
+        void refreshesAllWhenEmpty() {
+            // given
+            Subscription gangnam = createSubscription("H001", "서울시 강남구 역삼동", LocalDate.now().plusDays(3));
+            Subscription suwon = createSubscription("H002", "경기도 수원시 장안구", LocalDate.now().plusDays(3));
+            when(priceBadgePort.isEmpty()).thenReturn(true);
+            when(subscriptionQueryPort.findAll()).thenReturn(List.of(gangnam, suwon));
+            when(priceBadgeCalculator.computeSnapshot(any())).thenAnswer(invocation ->
+                    PriceBadgeSnapshot.unknown(invocation.<Subscription>getArgument(0).getHouseManageNo()));
+
+            // when
+            service.refreshAllIfEmpty();
+
+            // then
+            verify(priceBadgePort).saveAll(argThat(list -> list.size() == 2));
+        }
+
+        @Test
+        @DisplayName("저장된 배지가 있으면 재계산하지 않는다")
+        void skipsWhenBadgesExist() {
+            // given
+            when(priceBadgePort.isEmpty()).thenReturn(false);
+
+            // when
+            service.refreshAllIfEmpty();
+
+            // then
+            verifyNoInteractions(subscriptionQueryPort, priceBadgeCalculator);
+        }
+    }
+
+    private Subscription createSubscription(String houseManageNo, String address, LocalDate receiptEnd) {
+        return Subscription.builder()
+                .houseManageNo(houseManageNo)
+                .address(address)
+                .area("서울")
+                .houseName("테스트아파트")
+                .receiptStartDate(receiptEnd.minusDays(5))
+                .receiptEndDate(receiptEnd)
+                .source("ApplyHome")
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.yunbok.houseping.core.service.subscription;
+
+import com.yunbok.houseping.core.port.SubscriptionPriceFetchPort;
+import com.yunbok.houseping.entity.SubscriptionEntity;
+import com.yunbok.houseping.repository.SubscriptionRepository;
+import com.yunbok.houseping.support.dto.PriceCollectionResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PriceCollectionService - 분양가 수집")
+@ExtendWith(MockitoExtension.class)
+class PriceCollectionServiceTest {
+
+    @Mock
+    private SubscriptionRepository subscriptionRepository;
+
+    @Mock
+    private SubscriptionPriceFetchPort priceFetchPort;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Nested
+    @DisplayName("collectMissing() - 분양가 없는 청약 수집")
+    class CollectMissing {
+
+        @Test
+        @DisplayName("대상별로 조회하고 성공한 주택관리번호만 반환한다")
+        void collectsEachTarget() {
+            // given
+            PriceCollectionService service = new PriceCollectionService(subscriptionRepository, Optional.of(priceFetchPort), eventPublisher);
+            when(subscriptionRepository.findWithoutPrice("APPLYHOME")).thenReturn(List.of(
+                    createEntity("H001"), createEntity("H002"), createEntity("H003")));
+            when(priceFetchPort.fetchAndSavePriceDetails("H002", "P-H002", "APT"))
+                    .thenThrow(new RuntimeException("timeout"));
+
+            // when
+            PriceCollectionResult result = service.collectMissing();
+
+            // then
+            assertThat(result.targetCount()).isEqualTo(3);
+            assertThat(result.collectedHouseManageNos()).containsExactlyInAnyOrder("H001", "H003");
+            assertThat(result.failCount()).isEqualTo(1);
+            verify(priceFetchPort, times(3)).fetchAndSavePriceDetails(anyString(), anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("접수 시작일 기준이 있으면 해당 조건으로 대상을 조회한다")
+        void usesFromDateQuery() {
+            // given
+            PriceCollectionService service = new PriceCollectionService(subscriptionRepository, Optional.of(priceFetchPort), eventPublisher);
+            LocalDate fromDate = LocalDate.of(2025, 1, 1);
+            when(subscriptionRepository.findWithoutPriceFrom("APPLYHOME", fromDate)).thenReturn(List.of());
+
+            // when
+            PriceCollectionResult result = service.collectMissing(fromDate);
+
+            // then
+            assertThat(result.targetCount()).isZero();
+            verifyNoInteractions(priceFetchPort);
+        }
+
+        @Test
+        @DisplayName("분양가 API가 비활성화면 아무것도 수집하지 않는다")
+        void skipsWhenPortMissing() {
+            // given
+            PriceCollectionService service = new PriceCollectionService(subscriptionRepository, Optional.empty(), eventPublisher);
+            when(subscriptionRepository.findWithoutPrice("APPLYHOME")).thenReturn(List.of(createEntity("H001")));
+
+            // when
+            PriceCollectionResult result = service.collectMissing();
+
+            // then
+            assertThat(result.successCount()).isZero();
+        }
+    }
+
+    private SubscriptionEntity createEntity(String houseManageNo) {
+        return SubscriptionEntity.builder()
+                .houseManageNo(houseManageNo)
+                .pblancNo("P-" + houseManageNo)
+                .houseType("APT")
+                .houseName("아파트" + houseManageNo)
+                .source("ApplyHome")
+                .build();
+    }
+}
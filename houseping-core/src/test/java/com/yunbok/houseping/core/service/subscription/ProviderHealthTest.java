@@ -0,0 +1,128 @@
+package com.yunbok.houseping.core.service.subscription;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProviderHealth - Provider 회로 상태")
+class ProviderHealthTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+
+    private final ProviderChainPolicy policy = new ProviderChainPolicy(4, 2, 0.5, Duration.ofMinutes(1),
+            true, 0.5, Duration.ofMillis(100), Duration.ofSeconds(5), 3);
+
+    @Test
+    @DisplayName("최소 호출 수 전에는 실패해도 회로를 열지 않는다")
+    void staysClosedBelowMinimumCalls() {
+        ProviderHealth health = new ProviderHealth("test", policy, now::get);
+
+        health.onFailure();
+
+        assertThat(health.state()).isEqualTo(ProviderHealth.State.CLOSED);
+        assertThat(health.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("실패율이 기준 이상이면 회로를 열고 호출을 막는다")
+    void opensOnFailureRate() {
+        ProviderHealth health = new ProviderHealth("test", policy, now::get);
+
+        health.onSuccess(1);
+        health.onFailure();
+
+        assertThat(health.state()).isEqualTo(ProviderHealth.State.OPEN);
+        assertThat(health.tryAcquire()).isFalse();
+        assertThat(health.score()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("열림 시간이 지나면 시험 호출 1건만 허용한다")
+    void allowsSingleProbeAfterOpenDuration() {
+        ProviderHealth health = new ProviderHealth("test", policy, now::get);
+        health.onFailure();
+        health.onFailure();
+
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        assertThat(health.tryAcquire()).isTrue();
+        assertThat(health.tryAcquire()).isFalse();
+        assertThat(health.state()).isEqualTo(ProviderHealth.State.HALF_OPEN);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 성공하면 기록을 비우고 회로를 닫는다")
+    void closesOnProbeSuccess() {
+        ProviderHealth health = new ProviderHealth("test", policy, now::get);
+        health.onFailure();
+        health.onFailure();
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+        health.tryAcquire();
+
+        health.onSuccess(1);
+
+        assertThat(health.state()).isEqualTo(ProviderHealth.State.CLOSED);
+        assertThat(health.score()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 연다")
+    void reopensOnProbeFailure() {
+        ProviderHealth health = new ProviderHealth("test", policy, now::get);
+        health.onFailure();
+        health.onFailure();
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+        health.tryAcquire();
+
+        health.onFailure();
+
+        assertThat(health.state()).isEqualTo(ProviderHealth.State.OPEN);
+        assertThat(health.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("오래된 실패는 윈도우에서 밀려나 실패율에 반영되지 않는다")
+    void evictsOldOutcomes() {
+        ProviderHealth health = new ProviderHealth("test", new ProviderChainPolicy(4, 4, 0.5, Duration.ofMinutes(1),
+                false, 0.5, Duration.ofMillis(100), Duration.ofSeconds(5), 3), now::get);
+        health.onFailure();
+
+        for (int i = 0; i < 4; i++) {
+            health.onSuccess(1);
+        }
+
+        assertThat(health.score()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("성공 표본이 부족하면 헤징 대기 시간 상한을 쓴다")
+    void usesMaxDelayWithoutSamples() {
+        ProviderHealth health = new ProviderHealth("test", policy, now::get);
+        health.onSuccess(TimeUnit.MILLISECONDS.toNanos(300));
+
+        assertThat(health.hedgeDelayNanos()).isEqualTo(TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    @DisplayName("성공 응답 시간 분위수를 하한·상한 사이로 맞춰 헤징 대기 시간으로 쓴다")
+    void usesLatencyQuantile() {
+        ProviderHealth health = new ProviderHealth("test", policy, now::get);
+        health.onSuccess(TimeUnit.MILLISECONDS.toNanos(300));
+        health.onSuccess(TimeUnit.MILLISECONDS.toNanos(200));
+        health.onSuccess(TimeUnit.MILLISECONDS.toNanos(10));
+        health.onSuccess(TimeUnit.MILLISECONDS.toNanos(50));
+
+        assertThat(health.hedgeDelayNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+
+        for (int i = 0; i < 3; i++) {
+            health.onSuccess(TimeUnit.SECONDS.toNanos(30));
+        }
+
+        assertThat(health.hedgeDelayNanos()).isEqualTo(TimeUnit.SECONDS.toNanos(5));
+    }
+}
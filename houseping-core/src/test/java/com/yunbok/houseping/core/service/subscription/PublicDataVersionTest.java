@@ -0,0 +1,80 @@
+package com.yunbok.houseping.core.service.subscription;
+
+import com.yunbok.houseping.core.domain.PublicDataChangedEvent;
+import com.yunbok.houseping.core.domain.RealTransactionsUpdatedEvent;
+import com.yunbok.houseping.core.port.SubscriptionPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PublicDataVersion - 공개 페이지 데이터 버전")
+@ExtendWith(MockitoExtension.class)
+class PublicDataVersionTest {
+
+    @Mock
+    private SubscriptionPersistencePort subscriptionQueryPort;
+
+    private SubscriptionReadModel readModel;
+    private PublicDataVersion dataVersion;
+
+    @BeforeEach
+    void setUp() {
+        readModel = new SubscriptionReadModel(subscriptionQueryPort);
+        dataVersion = new PublicDataVersion(readModel);
+        when(subscriptionQueryPort.findAll()).thenReturn(List.of());
+    }
+
+    @Nested
+    @DisplayName("tag() - 버전 문자열")
+    class Tag {
+
+        @Test
+        @DisplayName("변경이 없으면 같은 버전을 돌려준다")
+        void staysSameWithoutChange() {
+            // when
+            String first = dataVersion.tag();
+            String second = dataVersion.tag();
+
+            // then
+            assertThat(second).isEqualTo(first);
+        }
+
+        @Test
+        @DisplayName("공개 데이터 변경·실거래가 갱신 이벤트를 받으면 버전이 바뀐다")
+        void changesOnEvents() {
+            // given
+            String initial = dataVersion.tag();
+
+            // when
+            dataVersion.onPublicDataChanged(PublicDataChangedEvent.all(PublicDataChangedEvent.Kind.PRICE));
+            String afterPrice = dataVersion.tag();
+            dataVersion.onRealTransactionsUpdated(new RealTransactionsUpdatedEvent("11680"));
+
+            // then
+            assertThat(afterPrice).isNotEqualTo(initial);
+            assertThat(dataVersion.tag()).isNotEqualTo(afterPrice);
+        }
+
+        @Test
+        @DisplayName("청약 스냅샷이 교체되면 버전이 바뀐다")
+        void changesWhenSnapshotReloads() {
+            // given
+            String initial = dataVersion.tag();
+
+            // when
+            readModel.reload();
+
+            // then
+            assertThat(dataVersion.tag()).isNotEqualTo(initial);
+        }
+    }
+}
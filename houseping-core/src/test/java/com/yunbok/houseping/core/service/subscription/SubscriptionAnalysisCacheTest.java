@@ -0,0 +1,206 @@
+package com.yunbok.houseping.core.service.subscription;
+
+import com.yunbok.houseping.core.domain.PublicDataChangedEvent;
+import com.yunbok.houseping.core.domain.RealTransactionsUpdatedEvent;
+import com.yunbok.houseping.core.domain.SubscriptionChangedEvent;
+import com.yunbok.houseping.support.dto.SubscriptionAnalysisResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SubscriptionAnalysisCache - 청약 분석 결과 캐시")
+class SubscriptionAnalysisCacheTest {
+
+    private final SubscriptionAnalysisCache cache = new SubscriptionAnalysisCache(2);
+    private final AtomicInteger computations = new AtomicInteger();
+
+    private Supplier<SubscriptionAnalysisCache.Analyzed> loader(String houseManageNo, String lawdCd) {
+        return () -> {
+            computations.incrementAndGet();
+            return new SubscriptionAnalysisCache.Analyzed(
+                    SubscriptionAnalysisResult.builder().prices(List.of()).build(), houseManageNo, lawdCd);
+        };
+    }
+
+    @Nested
+    @DisplayName("get() - 조회")
+    class Get {
+
+        @Test
+        @DisplayName("같은 청약은 한 번만 계산한다")
+        void computesOnce() {
+            // when
+            SubscriptionAnalysisResult first = cache.get(1L, loader("H001", "11680"));
+            SubscriptionAnalysisResult second = cache.get(1L, loader("H001", "11680"));
+
+            // then
+            assertThat(second).isSameAs(first);
+            assertThat(computations).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("동시에 처음 조회해도 계산은 한 번만 수행한다")
+        void coalescesConcurrentMisses() throws Exception {
+            // given
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Supplier<SubscriptionAnalysisCache.Analyzed> slowLoader = () -> {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return loader("H001", "11680").get();
+            };
+
+            // when
+            CompletableFuture<SubscriptionAnalysisResult> owner = CompletableFuture.supplyAsync(() -> cache.get(1L, slowLoader));
+            started.await(5, TimeUnit.SECONDS);
+            CompletableFuture<SubscriptionAnalysisResult> waiter = CompletableFuture.supplyAsync(() -> cache.get(1L, slowLoader));
+            release.countDown();
+
+            // then
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isSameAs(owner.get(5, TimeUnit.SECONDS));
+            assertThat(computations).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("계산이 실패하면 보관하지 않고 다음 조회에서 다시 계산한다")
+        void doesNotCacheFailures() {
+            // when & then
+            assertThatThrownBy(() -> cache.get(1L, () -> {
+                throw new IllegalArgumentException("청약 정보를 찾을 수 없습니다: 1");
+            })).isInstanceOf(IllegalArgumentException.class);
+
+            cache.get(1L, loader("H001", "11680"));
+            assertThat(computations).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("최대 건수를 넘으면 가장 오래 조회하지 않은 항목을 버린다")
+        void evictsLeastRecentlyUsed() {
+            // given
+            cache.get(1L, loader("H001", "11680"));
+            cache.get(2L, loader("H002", "11680"));
+            cache.get(1L, loader("H001", "11680"));
+
+            // when
+            cache.get(3L, loader("H003", "11680"));
+            cache.get(1L, loader("H001", "11680"));
+            cache.get(2L, loader("H002", "11680"));
+
+            // then
+            assertThat(cache.size()).isEqualTo(2);
+            assertThat(computations).hasValue(4);
+        }
+    }
+
+    @Nested
+    @DisplayName("무효화")
+    class Invalidation {
+
+        @Test
+        @DisplayName("실거래가가 갱신되면 해당 지역 청약만 다시 계산한다")
+        void evictsByLawdCd() {
+            // given
+            cache.get(1L, loader("H001", "11680"));
+            cache.get(2L, loader("H002", "41111"));
+
+            // when
+            cache.onTransactionsUpdated(new RealTransactionsUpdatedEvent("11680"));
+            cache.get(1L, loader("H001", "11680"));
+            cache.get(2L, loader("H002", "41111"));
+
+            // then
+            assertThat(computations).hasValue(3);
+        }
+
+        @Test
+        @DisplayName("처음 계산하는 중에 실거래가를 수집해 갱신 이벤트가 나도 결과를 보관한다")
+        void keepsColdLoadThatFetchesTransactions() {
+            // given
+            Supplier<SubscriptionAnalysisCache.Analyzed> fetchingLoader = () -> {
+                cache.onTransactionsUpdated(new RealTransactionsUpdatedEvent("11680"));
+                return loader("H001", "11680").get();
+            };
+
+            // when
+            SubscriptionAnalysisResult first = cache.get(1L, fetchingLoader);
+            SubscriptionAnalysisResult second = cache.get(1L, fetchingLoader);
+
+            // then
+            assertThat(second).isSameAs(first);
+            assertThat(computations).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("계산 중에 다른 곳에서 데이터가 바뀌면 결과는 돌려주되 보관하지 않는다")
+        void discardsResultComputedBeforeConcurrentUpdate() throws Exception {
+            // given
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Supplier<SubscriptionAnalysisCache.Analyzed> slowLoader = () -> {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return loader("H001", "11680").get();
+            };
+
+            // when
+            CompletableFuture<SubscriptionAnalysisResult> owner = CompletableFuture.supplyAsync(() -> cache.get(1L, slowLoader));
+            started.await(5, TimeUnit.SECONDS);
+            cache.onPublicDataChanged(PublicDataChangedEvent.of(PublicDataChangedEvent.Kind.PRICE, List.of("H001")));
+            release.countDown();
+
+            // then
+            assertThat(owner.get(5, TimeUnit.SECONDS)).isNotNull();
+            assertThat(cache.size()).isZero();
+            cache.get(1L, loader("H001", "11680"));
+            assertThat(computations).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("분양가·경쟁률이 바뀐 청약만 다시 계산하고, 가격 배지 변경은 무시한다")
+        void evictsByHouseManageNo() {
+            // given
+            cache.get(1L, loader("H001", "11680"));
+            cache.get(2L, loader("H002", "11680"));
+
+            // when
+            cache.onPublicDataChanged(PublicDataChangedEvent.of(PublicDataChangedEvent.Kind.PRICE, List.of("H001")));
+            cache.onPublicDataChanged(PublicDataChangedEvent.all(PublicDataChangedEvent.Kind.PRICE_BADGE));
+            cache.get(1L, loader("H001", "11680"));
+            cache.get(2L, loader("H002", "11680"));
+
+            // then
+            assertThat(computations).hasValue(3);
+        }
+
+        @Test
+        @DisplayName("청약 데이터가 동기화되면 전체를 비운다")
+        void clearsOnSubscriptionChange() {
+            // given
+            cache.get(1L, loader("H001", "11680"));
+
+            // when
+            cache.onSubscriptionChanged(new SubscriptionChangedEvent("sync"));
+
+            // then
+            assertThat(cache.size()).isZero();
+        }
+    }
+}
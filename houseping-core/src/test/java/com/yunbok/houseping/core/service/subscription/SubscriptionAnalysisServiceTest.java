@@ -7,11 +7,14 @@ import com.yunbok.houseping.core.port.RealTransactionFetchPort;
 import com.yunbok.houseping.core.port.RealTransactionPersistencePort;
 import com.yunbok.houseping.core.port.SubscriptionPersistencePort;
 import com.yunbok.houseping.core.port.SubscriptionPricePersistencePort;
+import com.yunbok.houseping.core.service.realtransaction.RealTransactionIndex;
+import com.yunbok.houseping.core.service.region.RegionCodeService;
 import com.yunbok.houseping.entity.CompetitionRateEntity;
 import com.yunbok.houseping.repository.CompetitionRateRepository;
 import com.yunbok.houseping.support.dto.MarketAnalysis;
 import com.yunbok.houseping.support.dto.SubscriptionAnalysisResult;
 import com.yunbok.houseping.support.util.AddressHelper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -49,6 +52,9 @@ class SubscriptionAnalysisServiceTest {
     @Mock
     private CompetitionRateRepository competitionRateRepository;
 
+    @Mock
+    private RegionCodeService regionCodeService;
+
     @Mock
     private AddressHelper addressParser;
 
@@ -58,14 +64,18 @@ class SubscriptionAnalysisServiceTest {
     @Mock
     private MarketAnalyzer marketAnalyzer;
 
+    @Mock
+    private PriceBadgeRefreshService priceBadgeRefreshService;
+
     private SubscriptionAnalysisService service;
 
     @BeforeEach
     void setUp() {
         service = new SubscriptionAnalysisService(
                 subscriptionQueryPort, subscriptionPriceQueryPort,
-                realTransactionQueryPort, realTransactionFetchPort,
-                competitionRateRepository, addressParser, comparisonBuilder, marketAnalyzer);
+                new RealTransactionIndex(realTransactionQueryPort, new SimpleMeterRegistry()), realTransactionFetchPort,
+                competitionRateRepository, regionCodeService, addressParser, comparisonBuilder, marketAnalyzer, new SubscriptionAnalysisCache(),
+                priceBadgeRefreshService);
     }
 
     @Nested
@@ -81,14 +91,14 @@ class SubscriptionAnalysisServiceTest {
             RealTransaction tx = createTransaction(60000L, new BigDecimal("84.0"), currentYear);
 
             when(subscriptionQueryPort.findById(1L)).thenReturn(Optional.of(sub));
-            when(addressParser.extractLawdCd("서울시 강남구 역삼동 123")).thenReturn("11680");
+            when(regionCodeService.findLawdCdByAddress("서울시 강남구 역삼동 123")).thenReturn(Optional.of("11680"));
             when(addressParser.extractDongName("서울시 강남구 역삼동 123")).thenReturn("역삼동");
             when(realTransactionQueryPort.findByLawdCd("11680")).thenReturn(List.of(tx));
-            when(addressParser.filterByDongName(anyList(), eq("역삼동"))).thenReturn(List.of(tx));
 
             SubscriptionPrice price = SubscriptionPrice.builder().houseType("084T").topAmount(50000L).build();
             when(subscriptionPriceQueryPort.findByHouseManageNo("H001")).thenReturn(List.of(price));
-            when(comparisonBuilder.build(anyList(), anyList())).thenReturn(List.of());
+            when(comparisonBuilder.build(anyList(), any(RealTransactionIndex.District.class), anyInt(), anyInt()))
+                    .thenReturn(List.of());
             when(marketAnalyzer.analyze(anyList())).thenReturn(
                     MarketAnalysis.builder().transactionCount(1).averageAmount(60000L).build());
             when(competitionRateRepository.findByHouseManageNo("H001")).thenReturn(List.of(
@@ -131,11 +141,10 @@ class SubscriptionAnalysisServiceTest {
             RealTransaction tx = createTransaction(50000L, new BigDecimal("84.0"), 2020);
 
             when(subscriptionQueryPort.findById(1L)).thenReturn(Optional.of(sub));
-            when(addressParser.extractLawdCd(anyString())).thenReturn("11680");
+            when(regionCodeService.findLawdCdByAddress(anyString())).thenReturn(Optional.of("11680"));
             when(addressParser.extractDongName(anyString())).thenReturn("역삼동");
             when(realTransactionQueryPort.findByLawdCd("11680")).thenReturn(List.of());  // 캐시 없음
             when(realTransactionFetchPort.fetchAndCacheRecentTransactions("11680", 6)).thenReturn(List.of(tx));
-            when(addressParser.filterByDongName(anyList(), eq("역삼동"))).thenReturn(List.of(tx));
             when(subscriptionPriceQueryPort.findByHouseManageNo("H001")).thenReturn(List.of());
             when(marketAnalyzer.analyze(anyList())).thenReturn(null);
             when(competitionRateRepository.findByHouseManageNo("H001")).thenReturn(List.of());
@@ -145,6 +154,7 @@ class SubscriptionAnalysisServiceTest {
 
             // then
             verify(realTransactionFetchPort).fetchAndCacheRecentTransactions("11680", 6);
+            verify(priceBadgeRefreshService).refreshByLawdCds(List.of("11680"));
             assertThat(result.getRecentTransactions()).hasSize(1);
         }
 
@@ -154,9 +164,8 @@ class SubscriptionAnalysisServiceTest {
             // given
             Subscription sub = createSubscription(1L, "H001", "알수없는주소");
             when(subscriptionQueryPort.findById(1L)).thenReturn(Optional.of(sub));
-            when(addressParser.extractLawdCd("알수없는주소")).thenReturn(null);
+            when(regionCodeService.findLawdCdByAddress("알수없는주소")).thenReturn(Optional.empty());
             when(addressParser.extractDongName("알수없는주소")).thenReturn(null);
-            when(addressParser.filterByDongName(anyList(), isNull())).thenReturn(List.of());
             when(subscriptionPriceQueryPort.findByHouseManageNo("H001")).thenReturn(List.of());
             when(marketAnalyzer.analyze(anyList())).thenReturn(null);
             when(competitionRateRepository.findByHouseManageNo("H001")).thenReturn(List.of());
@@ -178,10 +187,9 @@ class SubscriptionAnalysisServiceTest {
             RealTransaction oldTx = createTransaction(50000L, new BigDecimal("84.0"), 2000);
 
             when(subscriptionQueryPort.findById(1L)).thenReturn(Optional.of(sub));
-            when(addressParser.extractLawdCd(anyString())).thenReturn("11680");
+            when(regionCodeService.findLawdCdByAddress(anyString())).thenReturn(Optional.of("11680"));
             when(addressParser.extractDongName(anyString())).thenReturn("역삼동");
             when(realTransactionQueryPort.findByLawdCd("11680")).thenReturn(List.of(oldTx));
-            when(addressParser.filterByDongName(anyList(), eq("역삼동"))).thenReturn(List.of(oldTx));
             when(subscriptionPriceQueryPort.findByHouseManageNo("H001")).thenReturn(List.of());
             when(marketAnalyzer.analyze(anyList())).thenReturn(null);
             when(competitionRateRepository.findByHouseManageNo("H001")).thenReturn(List.of());
@@ -202,9 +210,8 @@ class SubscriptionAnalysisServiceTest {
                     .id(1L).houseName("테스트").area("서울").address("서울시 강남구").build();
 
             when(subscriptionQueryPort.findById(1L)).thenReturn(Optional.of(sub));
-            when(addressParser.extractLawdCd(anyString())).thenReturn(null);
+            when(regionCodeService.findLawdCdByAddress(anyString())).thenReturn(Optional.empty());
             when(addressParser.extractDongName(anyString())).thenReturn(null);
-            when(addressParser.filterByDongName(anyList(), isNull())).thenReturn(List.of());
             when(marketAnalyzer.analyze(anyList())).thenReturn(null);
 
             // when
@@ -222,9 +229,8 @@ class SubscriptionAnalysisServiceTest {
             Subscription sub = createSubscription(1L, "H001", "서울시 강남구 역삼동 123");
 
             when(subscriptionQueryPort.findById(1L)).thenReturn(Optional.of(sub));
-            when(addressParser.extractLawdCd(anyString())).thenReturn(null);
+            when(regionCodeService.findLawdCdByAddress(anyString())).thenReturn(Optional.empty());
             when(addressParser.extractDongName(anyString())).thenReturn(null);
-            when(addressParser.filterByDongName(anyList(), isNull())).thenReturn(List.of());
             when(subscriptionPriceQueryPort.findByHouseManageNo("H001")).thenReturn(List.of());
             when(marketAnalyzer.analyze(anyList())).thenReturn(null);
             when(competitionRateRepository.findByHouseManageNo("H001")).thenReturn(List.of(
@@ -263,6 +269,7 @@ class SubscriptionAnalysisServiceTest {
                 .exclusiveArea(exclusiveArea)
                 .buildYear(buildYear)
                 .dealDate(LocalDate.now())
+                .dongName("역삼동")
                 .build();
     }
 }
@@ -1,6 +1,7 @@
 package com.yunbok.houseping.core.service.subscription;
 
 import com.yunbok.houseping.core.domain.Subscription;
+import com.yunbok.houseping.core.domain.SubscriptionChangedEvent;
 import com.yunbok.houseping.core.domain.SubscriptionConfig;
 import com.yunbok.houseping.core.port.SubscriptionPersistencePort;
 import com.yunbok.houseping.support.dto.SyncResult;
@@ -11,10 +12,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -33,6 +34,9 @@ class SubscriptionManagementServiceTest {
     @Mock
     private SubscriptionProviderChain chain2;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private SubscriptionConfig config;
 
     private SubscriptionManagementService service;
@@ -47,55 +51,55 @@ class SubscriptionManagementServiceTest {
     class Sync {
 
         @Test
-        @DisplayName("신규 청약을 저장한다")
-        void insertsNewSubscriptions() {
+        @DisplayName("소스별로 일괄 upsert하고 결과를 합산한다")
+        void upsertsPerSource() {
             // given
-            service = new SubscriptionManagementService(subscriptionStore, List.of(chain1), config);
-            Subscription sub = createSubscription("신규아파트");
+            service = new SubscriptionManagementService(subscriptionStore, List.of(chain1), config, eventPublisher);
+            Subscription seoul = createSubscription("서울아파트");
+            Subscription gyeonggi = createSubscription("경기아파트");
 
             when(chain1.getSourceName()).thenReturn("ApplyHome");
-            when(chain1.executeAll("서울")).thenReturn(List.of(sub));
-            when(chain1.executeAll("경기")).thenReturn(List.of());
-            when(subscriptionStore.findBySourceAndHouseNameAndReceiptStartDate(
-                    eq("ApplyHome"), eq("신규아파트"), any())).thenReturn(Optional.empty());
+            when(chain1.executeAll("서울")).thenReturn(List.of(seoul));
+            when(chain1.executeAll("경기")).thenReturn(List.of(gyeonggi));
+            when(subscriptionStore.upsertAll(List.of(seoul), "ApplyHome")).thenReturn(new SyncResult(1, 0, 0));
+            when(subscriptionStore.upsertAll(List.of(gyeonggi), "ApplyHome")).thenReturn(new SyncResult(0, 1, 0));
 
             // when
             SyncResult result = service.sync();
 
             // then
             assertThat(result.inserted()).isEqualTo(1);
-            assertThat(result.updated()).isEqualTo(0);
-            verify(subscriptionStore).save(eq(sub), eq("ApplyHome"));
+            assertThat(result.updated()).isEqualTo(1);
+            verify(eventPublisher).publishEvent(any(SubscriptionChangedEvent.class));
         }
 
         @Test
-        @DisplayName("기존 청약을 업데이트한다")
-        void updatesExistingSubscriptions() {
+        @DisplayName("변경 없는 청약은 skipped로 집계하고 이벤트를 발행하지 않는다")
+        void countsSkippedWithoutEvent() {
             // given
-            service = new SubscriptionManagementService(subscriptionStore, List.of(chain1), config);
+            service = new SubscriptionManagementService(subscriptionStore, List.of(chain1), config, eventPublisher);
             Subscription sub = createSubscription("기존아파트");
-            Subscription existing = createSubscription("기존아파트");
 
             when(chain1.getSourceName()).thenReturn("ApplyHome");
             when(chain1.executeAll("서울")).thenReturn(List.of(sub));
             when(chain1.executeAll("경기")).thenReturn(List.of());
-            when(subscriptionStore.findBySourceAndHouseNameAndReceiptStartDate(
-                    eq("ApplyHome"), eq("기존아파트"), any())).thenReturn(Optional.of(existing));
+            when(subscriptionStore.upsertAll(List.of(sub), "ApplyHome")).thenReturn(new SyncResult(0, 0, 1));
+            when(subscriptionStore.upsertAll(List.of(), "ApplyHome")).thenReturn(SyncResult.empty());
 
             // when
             SyncResult result = service.sync();
 
             // then
-            assertThat(result.inserted()).isEqualTo(0);
-            assertThat(result.updated()).isEqualTo(1);
-            verify(subscriptionStore).update(eq(sub), eq("ApplyHome"));
+            assertThat(result.skipped()).isEqualTo(1);
+            assertThat(result.hasChanges()).isFalse();
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
         }
 
         @Test
         @DisplayName("멀티 체인으로 여러 소스를 동기화한다")
         void syncsMultipleChains() {
             // given
-            service = new SubscriptionManagementService(subscriptionStore, List.of(chain1, chain2), config);
+            service = new SubscriptionManagementService(subscriptionStore, List.of(chain1, chain2), config, eventPublisher);
             Subscription sub1 = createSubscription("ApplyHome아파트");
             Subscription sub2 = createSubscription("LH아파트");
 
@@ -107,8 +111,9 @@ class SubscriptionManagementServiceTest {
             when(chain2.executeAll(anyString())).thenReturn(List.of());
             when(chain2.executeAll("서울")).thenReturn(List.of(sub2));
 
-            when(subscriptionStore.findBySourceAndHouseNameAndReceiptStartDate(
-                    anyString(), anyString(), any())).thenReturn(Optional.empty());
+            when(subscriptionStore.upsertAll(anyList(), anyString())).thenReturn(SyncResult.empty());
+            when(subscriptionStore.upsertAll(List.of(sub1), "ApplyHome")).thenReturn(new SyncResult(1, 0, 0));
+            when(subscriptionStore.upsertAll(List.of(sub2), "LH")).thenReturn(new SyncResult(1, 0, 0));
 
             // when
             SyncResult result = service.sync();
@@ -121,8 +126,9 @@ class SubscriptionManagementServiceTest {
         @DisplayName("빈 결과면 0건을 반환한다")
         void returnsEmptyForNoResults() {
             // given
-            service = new SubscriptionManagementService(subscriptionStore, List.of(chain1), config);
+            service = new SubscriptionManagementService(subscriptionStore, List.of(chain1), config, eventPublisher);
             when(chain1.executeAll(anyString())).thenReturn(List.of());
+            when(subscriptionStore.upsertAll(anyList(), any())).thenReturn(SyncResult.empty());
 
             // when
             SyncResult result = service.sync();
@@ -130,7 +136,7 @@ class SubscriptionManagementServiceTest {
             // then
             assertThat(result.inserted()).isEqualTo(0);
             assertThat(result.updated()).isEqualTo(0);
-            verify(subscriptionStore, never()).save(any(), anyString());
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
         }
     }
 
@@ -142,7 +148,7 @@ class SubscriptionManagementServiceTest {
         @DisplayName("삭제된 건수를 반환한다")
         void returnsDeletedCount() {
             // given
-            service = new SubscriptionManagementService(subscriptionStore, List.of(), config);
+            service = new SubscriptionManagementService(subscriptionStore, List.of(), config, eventPublisher);
             when(subscriptionStore.deleteOldSubscriptions(any(LocalDate.class))).thenReturn(5);
 
             // when
@@ -0,0 +1,136 @@
+package com.yunbok.houseping.core.service.subscription;
+
+import com.yunbok.houseping.core.domain.Subscription;
+import com.yunbok.houseping.core.domain.SubscriptionChangedEvent;
+import com.yunbok.houseping.core.port.SubscriptionPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SubscriptionReadModel - 공개 페이지 조회 스냅샷")
+@ExtendWith(MockitoExtension.class)
+class SubscriptionReadModelTest {
+
+    @Mock
+    private SubscriptionPersistencePort subscriptionQueryPort;
+
+    private SubscriptionReadModel readModel;
+
+    @BeforeEach
+    void setUp() {
+        readModel = new SubscriptionReadModel(subscriptionQueryPort);
+    }
+
+    @Nested
+    @DisplayName("스냅샷 적재")
+    class Loading {
+
+        @Test
+        @DisplayName("최초 조회 시 한 번만 DB에서 적재한다")
+        void loadsOnceLazily() {
+            // given
+            when(subscriptionQueryPort.findAll()).thenReturn(List.of(
+                    create(1L, "서울", LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 5))));
+
+            // when
+            readModel.findAll();
+            readModel.findByAreaContaining("서울");
+
+            // then
+            verify(subscriptionQueryPort, times(1)).findAll();
+            assertThat(readModel.version()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("변경 이벤트를 받으면 새 버전으로 교체한다")
+        void swapsSnapshotOnChange() {
+            // given
+            when(subscriptionQueryPort.findAll())
+                    .thenReturn(List.of())
+                    .thenReturn(List.of(create(1L, "서울", LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 5))));
+            assertThat(readModel.findAll()).isEmpty();
+
+            // when
+            readModel.onSubscriptionChanged(new SubscriptionChangedEvent("sync"));
+
+            // then
+            assertThat(readModel.findAll()).hasSize(1);
+            assertThat(readModel.version()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("인덱스 조회")
+    class IndexedQueries {
+
+        @Test
+        @DisplayName("지역명 부분 일치로 조회하고 접수 시작일 내림차순으로 정렬한다")
+        void findsByAreaContaining() {
+            // given
+            Subscription seoul = create(1L, "서울", LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 5));
+            Subscription seoulFull = create(2L, "서울특별시", LocalDate.of(2026, 3, 10), LocalDate.of(2026, 3, 12));
+            Subscription gyeonggi = create(3L, "경기", LocalDate.of(2026, 3, 3), LocalDate.of(2026, 3, 6));
+            when(subscriptionQueryPort.findAll()).thenReturn(List.of(seoul, seoulFull, gyeonggi));
+
+            // when
+            List<Subscription> result = readModel.findByAreaContaining("서울");
+
+            // then
+            assertThat(result).extracting(Subscription::getId).containsExactly(2L, 1L);
+        }
+
+        @Test
+        @DisplayName("접수 시작일 범위로 조회한다")
+        void findsByReceiptStartDateBetween() {
+            // given
+            Subscription march = create(1L, "서울", LocalDate.of(2026, 3, 31), LocalDate.of(2026, 4, 2));
+            Subscription april = create(2L, "서울", LocalDate.of(2026, 4, 1), LocalDate.of(2026, 4, 3));
+            when(subscriptionQueryPort.findAll()).thenReturn(List.of(march, april));
+
+            // when
+            List<Subscription> result = readModel.findByReceiptStartDateBetween(
+                    LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31));
+
+            // then
+            assertThat(result).extracting(Subscription::getId).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("접수 기간이 겹치는 청약을 조회한다")
+        void findsOverlapping() {
+            // given
+            Subscription overlapping = create(1L, "서울", LocalDate.of(2026, 2, 20), LocalDate.of(2026, 2, 24));
+            Subscription ended = create(2L, "서울", LocalDate.of(2026, 2, 10), LocalDate.of(2026, 2, 12));
+            Subscription later = create(3L, "서울", LocalDate.of(2026, 3, 10), LocalDate.of(2026, 3, 12));
+            when(subscriptionQueryPort.findAll()).thenReturn(List.of(overlapping, ended, later));
+
+            // when
+            List<Subscription> result = readModel.findByReceiptPeriodOverlapping(
+                    LocalDate.of(2026, 2, 23), LocalDate.of(2026, 3, 1));
+
+            // then
+            assertThat(result).extracting(Subscription::getId).containsExactly(1L);
+        }
+    }
+
+    private Subscription create(Long id, String area, LocalDate receiptStart, LocalDate receiptEnd) {
+        return Subscription.builder()
+                .id(id)
+                .area(area)
+                .houseName("아파트" + id)
+                .receiptStartDate(receiptStart)
+                .receiptEndDate(receiptEnd)
+                .source("ApplyHome")
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.yunbok.houseping.core.service.subscription;
 
 import com.yunbok.houseping.core.domain.Subscription;
+import com.yunbok.houseping.core.port.PriceBadgePersistencePort;
 import com.yunbok.houseping.core.port.SubscriptionPersistencePort;
 import com.yunbok.houseping.entity.CompetitionRateEntity;
 import com.yunbok.houseping.repository.CompetitionRateRepository;
@@ -16,7 +17,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -29,17 +32,21 @@ class SubscriptionSearchServiceTest {
     @Mock
     private SubscriptionPersistencePort subscriptionQueryPort;
 
+    @Mock
+    private SubscriptionReadModel subscriptionReadModel;
+
     @Mock
     private CompetitionRateRepository competitionRateRepository;
 
     @Mock
-    private PriceBadgeCalculator priceBadgeCalculator;
+    private PriceBadgePersistencePort priceBadgePort;
 
     private SubscriptionSearchService service;
 
     @BeforeEach
     void setUp() {
-        service = new SubscriptionSearchService(subscriptionQueryPort, competitionRateRepository, priceBadgeCalculator);
+        service = new SubscriptionSearchService(subscriptionQueryPort, subscriptionReadModel,
+                competitionRateRepository, priceBadgePort);
     }
 
     @Nested
@@ -86,14 +93,14 @@ class SubscriptionSearchServiceTest {
             // given
             Subscription active = createSubscription(1L, "서울", "서울아파트",
                     LocalDate.now().minusDays(1), LocalDate.now().plusDays(5));
-            when(subscriptionQueryPort.findByAreaContaining("서울")).thenReturn(List.of(active));
+            when(subscriptionReadModel.findByAreaContaining("서울")).thenReturn(List.of(active));
 
             // when
             List<Subscription> result = service.findActiveAndUpcomingSubscriptions("서울");
 
             // then
             assertThat(result).hasSize(1);
-            verify(subscriptionQueryPort).findByAreaContaining("서울");
+            verify(subscriptionReadModel).findByAreaContaining("서울");
         }
 
         @Test
@@ -104,7 +111,7 @@ class SubscriptionSearchServiceTest {
                     LocalDate.now().minusDays(1), LocalDate.now().plusDays(5));
             Subscription gyeonggi = createSubscription(2L, "경기", "경기아파트",
                     LocalDate.now().plusDays(1), LocalDate.now().plusDays(10));
-            when(subscriptionQueryPort.findBySupportedAreas(List.of("서울", "경기")))
+            when(subscriptionReadModel.findBySupportedAreas(List.of("서울", "경기")))
                     .thenReturn(List.of(seoul, gyeonggi));
 
             // when
@@ -118,7 +125,7 @@ class SubscriptionSearchServiceTest {
         @DisplayName("빈 결과를 반환한다")
         void returnsEmptyList() {
             // given
-            when(subscriptionQueryPort.findBySupportedAreas(any())).thenReturn(List.of());
+            when(subscriptionReadModel.findBySupportedAreas(any())).thenReturn(List.of());
 
             // when
             List<Subscription> result = service.findActiveAndUpcomingSubscriptions(null);
@@ -133,7 +140,7 @@ class SubscriptionSearchServiceTest {
             // given
             Subscription closed = createSubscription(1L, "서울", "마감아파트",
                     LocalDate.now().minusDays(10), LocalDate.now().minusDays(1));
-            when(subscriptionQueryPort.findBySupportedAreas(any())).thenReturn(List.of(closed));
+            when(subscriptionReadModel.findBySupportedAreas(any())).thenReturn(List.of(closed));
 
             // when
             List<Subscription> result = service.findActiveAndUpcomingSubscriptions(null);
@@ -151,10 +158,11 @@ class SubscriptionSearchServiceTest {
         @DisplayName("청약에 가격 배지를 포함한 카드뷰를 반환한다")
         void returnsCardsWithBadge() {
             // given
-            Subscription sub = createSubscription(1L, "서울", "테스트아파트",
-                    LocalDate.now().minusDays(1), LocalDate.now().plusDays(5));
-            when(subscriptionQueryPort.findBySupportedAreas(any())).thenReturn(List.of(sub));
-            when(priceBadgeCalculator.computePriceBadge(any())).thenReturn(PriceBadge.CHEAP);
+            Subscription sub = createSubscriptionWithHouseManageNo(1L, "서울", "테스트아파트",
+                    LocalDate.now().minusDays(1), LocalDate.now().plusDays(5), "H001");
+            when(subscriptionReadModel.findBySupportedAreas(any())).thenReturn(List.of(sub));
+            when(priceBadgePort.findBadgesByHouseManageNos(Set.of("H001")))
+                    .thenReturn(Map.of("H001", PriceBadge.CHEAP));
 
             // when
             List<SubscriptionCardView> result = service.getAllActiveAndUpcoming();
@@ -163,6 +171,22 @@ class SubscriptionSearchServiceTest {
             assertThat(result).hasSize(1);
             assertThat(result.get(0).getPriceBadge()).isEqualTo(PriceBadge.CHEAP);
         }
+
+        @Test
+        @DisplayName("사전 계산된 배지가 없으면 UNKNOWN으로 표시한다")
+        void defaultsToUnknownWhenBadgeMissing() {
+            // given
+            Subscription sub = createSubscriptionWithHouseManageNo(1L, "서울", "테스트아파트",
+                    LocalDate.now().minusDays(1), LocalDate.now().plusDays(5), "H001");
+            when(subscriptionReadModel.findBySupportedAreas(any())).thenReturn(List.of(sub));
+            when(priceBadgePort.findBadgesByHouseManageNos(any())).thenReturn(Map.of());
+
+            // when
+            List<SubscriptionCardView> result = service.getAllActiveAndUpcoming();
+
+            // then
+            assertThat(result.get(0).getPriceBadge()).isEqualTo(PriceBadge.UNKNOWN);
+        }
     }
 
     @Nested
@@ -177,9 +201,8 @@ class SubscriptionSearchServiceTest {
                     LocalDate.now().minusDays(1), LocalDate.now().plusDays(5));
             Subscription upcoming = createSubscription(2L, "경기", "예정아파트",
                     LocalDate.now().plusDays(1), LocalDate.now().plusDays(10));
-            when(subscriptionQueryPort.findBySupportedAreas(any())).thenReturn(List.of(active, upcoming));
-            when(priceBadgeCalculator.computePriceBadge(any())).thenReturn(PriceBadge.UNKNOWN);
-            when(competitionRateRepository.findDistinctHouseManageNos()).thenReturn(List.of());
+            when(subscriptionReadModel.findBySupportedAreas(any())).thenReturn(List.of(active, upcoming));
+            when(priceBadgePort.findBadgesByHouseManageNos(any())).thenReturn(Map.of());
 
             // when
             HomePageResult result = service.getHomeData(null);
@@ -188,6 +211,7 @@ class SubscriptionSearchServiceTest {
             assertThat(result.getActiveSubscriptions()).hasSize(1);
             assertThat(result.getUpcomingSubscriptions()).hasSize(1);
             assertThat(result.getAreas()).containsExactly("서울", "경기");
+            verify(priceBadgePort, times(1)).findBadgesByHouseManageNos(any());
         }
     }
 
@@ -201,14 +225,19 @@ class SubscriptionSearchServiceTest {
             // given
             Subscription closed = createSubscriptionWithHouseManageNo(1L, "서울", "발표아파트",
                     LocalDate.now().minusDays(5), LocalDate.now().minusDays(1), "H001");
-            when(subscriptionQueryPort.findBySupportedAreas(any())).thenReturn(List.of(closed));
-            when(competitionRateRepository.findDistinctHouseManageNos()).thenReturn(List.of("H001"));
-            when(competitionRateRepository.findByHouseManageNo("H001")).thenReturn(List.of(
+            when(subscriptionReadModel.findBySupportedAreas(any())).thenReturn(List.of(closed));
+            when(competitionRateRepository.findByHouseManageNoIn(Set.of("H001"))).thenReturn(List.of(
                     CompetitionRateEntity.builder()
                             .houseManageNo("H001")
                             .rank(1)
                             .residenceArea("해당지역")
                             .competitionRate(new BigDecimal("5.0"))
+                            .build(),
+                    CompetitionRateEntity.builder()
+                            .houseManageNo("H001")
+                            .rank(1)
+                            .residenceArea("기타지역")
+                            .competitionRate(new BigDecimal("12.0"))
                             .build()
             ));
 
@@ -226,14 +255,41 @@ class SubscriptionSearchServiceTest {
             // given
             Subscription oldClosed = createSubscriptionWithHouseManageNo(1L, "서울", "오래된아파트",
                     LocalDate.now().minusDays(30), LocalDate.now().minusDays(20), "H001");
-            when(subscriptionQueryPort.findBySupportedAreas(any())).thenReturn(List.of(oldClosed));
-            when(competitionRateRepository.findDistinctHouseManageNos()).thenReturn(List.of("H001"));
+            when(subscriptionReadModel.findBySupportedAreas(any())).thenReturn(List.of(oldClosed));
 
             // when
             List<AnnouncedSubscriptionView> result = service.findAnnouncedSubscriptions(null);
 
             // then
             assertThat(result).isEmpty();
+            verifyNoInteractions(competitionRateRepository);
+        }
+
+        @Test
+        @DisplayName("경쟁률이 없는 청약은 제외하고 전체를 한 번에 조회한다")
+        void fetchesRatesOnceForAllCandidates() {
+            // given
+            Subscription withRates = createSubscriptionWithHouseManageNo(1L, "서울", "발표아파트",
+                    LocalDate.now().minusDays(5), LocalDate.now().minusDays(1), "H001");
+            Subscription withoutRates = createSubscriptionWithHouseManageNo(2L, "경기", "미발표아파트",
+                    LocalDate.now().minusDays(6), LocalDate.now().minusDays(2), "H002");
+            when(subscriptionReadModel.findBySupportedAreas(any())).thenReturn(List.of(withRates, withoutRates));
+            when(competitionRateRepository.findByHouseManageNoIn(Set.of("H001", "H002"))).thenReturn(List.of(
+                    CompetitionRateEntity.builder()
+                            .houseManageNo("H001")
+                            .rank(2)
+                            .residenceArea("해당지역")
+                            .competitionRate(new BigDecimal("3.0"))
+                            .build()
+            ));
+
+            // when
+            List<AnnouncedSubscriptionView> result = service.findAnnouncedSubscriptions(null);
+
+            // then
+            assertThat(result).extracting(v -> v.getSubscription().getHouseManageNo()).containsExactly("H001");
+            assertThat(result.get(0).getTopRate()).isNull();
+            verify(competitionRateRepository, times(1)).findByHouseManageNoIn(any());
         }
     }
 
@@ -251,7 +307,7 @@ class SubscriptionSearchServiceTest {
                     LocalDate.of(2026, 2, 25), LocalDate.of(2026, 2, 27));
             Subscription sub2 = createSubscription(2L, "경기", "먼저아파트",
                     LocalDate.of(2026, 2, 23), LocalDate.of(2026, 2, 25));
-            when(subscriptionQueryPort.findByReceiptPeriodOverlapping(weekStart, weekEnd))
+            when(subscriptionReadModel.findByReceiptPeriodOverlapping(weekStart, weekEnd))
                     .thenReturn(List.of(sub1, sub2));
 
             // when
@@ -271,7 +327,7 @@ class SubscriptionSearchServiceTest {
         @DisplayName("해당 월의 첫날부터 마지막날까지 청약을 조회한다")
         void queriesMonthRange() {
             // given
-            when(subscriptionQueryPort.findByReceiptStartDateBetween(
+            when(subscriptionReadModel.findByReceiptStartDateBetween(
                     LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 28)))
                     .thenReturn(List.of());
 
@@ -279,7 +335,7 @@ class SubscriptionSearchServiceTest {
             List<Subscription> result = service.findByMonth(2026, 2);
 
             // then
-            verify(subscriptionQueryPort).findByReceiptStartDateBetween(
+            verify(subscriptionReadModel).findByReceiptStartDateBetween(
                     LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 28));
         }
     }
@@ -292,7 +348,7 @@ class SubscriptionSearchServiceTest {
         @DisplayName("전체 청약 목록을 반환한다")
         void returnsAll() {
             // given
-            when(subscriptionQueryPort.findAll()).thenReturn(List.of(
+            when(subscriptionReadModel.findAll()).thenReturn(List.of(
                     createSubscription(1L, "서울", "아파트1", LocalDate.now(), LocalDate.now().plusDays(5)),
                     createSubscription(2L, "경기", "아파트2", LocalDate.now(), LocalDate.now().plusDays(5))
             ));
@@ -0,0 +1,51 @@
+package com.yunbok.houseping.support.util;
+
+import com.yunbok.houseping.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CancellationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ApiRateLimiter - 외부 API 호출 속도 제한")
+class ApiRateLimiterTest {
+
+    private final ApiRateLimiter rateLimiter = new ApiRateLimiter(new RateLimitProperties(), new SimpleMeterRegistry());
+
+    @AfterEach
+    void clearInterrupt() {
+        Thread.interrupted();
+    }
+
+    @Test
+    @DisplayName("대기 중 인터럽트되면 호출을 허가하지 않고 인터럽트 상태를 유지한다")
+    void abortsWhenInterruptedWhileWaiting() {
+        // given: 기본 버스트(10)를 모두 사용
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.acquire("test");
+        }
+        Thread.currentThread().interrupt();
+
+        // when & then
+        assertThatThrownBy(() -> rateLimiter.acquire("test"))
+                .isInstanceOf(CancellationException.class);
+        assertThat(Thread.currentThread().isInterrupted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("대기할 필요가 없으면 인터럽트 상태와 무관하게 바로 허가한다")
+    void grantsWithoutWaiting() {
+        // given
+        Thread.currentThread().interrupt();
+
+        // when
+        rateLimiter.acquire("test");
+
+        // then
+        assertThat(Thread.currentThread().isInterrupted()).isTrue();
+    }
+}
@@ -0,0 +1,66 @@
+package com.yunbok.houseping.support.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TokenBucket - 토큰 버킷")
+class TokenBucketTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+
+    @Test
+    @DisplayName("burst 개수까지는 대기 없이 허용한다")
+    void allowsBurstWithoutWaiting() {
+        TokenBucket bucket = new TokenBucket(10, 3, now::get);
+
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isZero();
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 도착 순서대로 대기 시간이 늘어난다")
+    void queuesReservationsWhenEmpty() {
+        TokenBucket bucket = new TokenBucket(10, 1, now::get);
+        bucket.reserve();
+
+        assertThat(bucket.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(bucket.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 다시 채워진다")
+    void refillsOverTime() {
+        TokenBucket bucket = new TokenBucket(10, 1, now::get);
+        bucket.reserve();
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+
+        assertThat(bucket.reserve()).isZero();
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 burst 이상 쌓이지 않는다")
+    void capsTokensAtBurst() {
+        TokenBucket bucket = new TokenBucket(10, 2, now::get);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isPositive();
+    }
+
+    @Test
+    @DisplayName("0 이하 설정은 허용하지 않는다")
+    void rejectsInvalidConfig() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
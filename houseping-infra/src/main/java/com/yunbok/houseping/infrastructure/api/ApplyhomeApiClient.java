@@ -5,6 +5,7 @@ import com.yunbok.houseping.infrastructure.dto.ApplyHomeSubscriptionInfo;
 import com.yunbok.houseping.core.domain.HouseType;
 import com.yunbok.houseping.core.domain.Subscription;
 import com.yunbok.houseping.core.domain.SubscriptionSource;
+import com.yunbok.houseping.core.port.SubscriptionPriceFetchPort;
 import com.yunbok.houseping.core.port.SubscriptionProvider;
 import com.yunbok.houseping.config.SubscriptionProperties;
 import com.yunbok.houseping.support.external.ApplyhomeAptResponse;
@@ -15,20 +16,27 @@ import com.yunbok.houseping.support.external.ApplyhomePriceDetailItem;
 import com.yunbok.houseping.support.external.ApplyhomePriceDetailResponse;
 import com.yunbok.houseping.entity.SubscriptionPriceEntity;
 import com.yunbok.houseping.repository.SubscriptionPriceRepository;
+import com.yunbok.houseping.support.util.ApiRateLimiter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Supplier;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -36,7 +44,7 @@ import java.util.function.Supplier;
         name = "feature.subscription.applyhome-api-enabled",
         havingValue = "true"
 )
-public class ApplyhomeApiClient implements SubscriptionProvider {
+public class ApplyhomeApiClient implements SubscriptionProvider, SubscriptionPriceFetchPort {
 
     private static final String SOURCE_NAME = SubscriptionSource.APPLYHOME.getValue();
     private static final int PRICE_DETAIL_PAGE_SIZE = 100;
@@ -56,14 +64,34 @@ public class ApplyhomeApiClient implements SubscriptionProvider {
     private final WebClient webClient;
     private final SubscriptionProperties properties;
     private final SubscriptionPriceRepository priceRepository;
+    private final ApiRateLimiter rateLimiter;
+    private final Duration typeTimeout;
+    private final int maxConcurrency;
+
+    /**
+     * 청약Home 호스트 동시 요청 상한 (지역·유형 호출이 여러 스레드에서 겹쳐도 이 개수를 넘지 않음)
+     */
+    private final Scheduler hostScheduler;
 
     public ApplyhomeApiClient(
             @Qualifier(value = "applyHomeWebClient") WebClient webClient,
             SubscriptionProperties properties,
-            SubscriptionPriceRepository priceRepository) {
+            SubscriptionPriceRepository priceRepository,
+            ApiRateLimiter rateLimiter,
+            @Value("${applyhome.api.max-concurrency:4}") int maxConcurrency,
+            @Value("${applyhome.api.type-timeout:30s}") Duration typeTimeout) {
         this.webClient = webClient;
         this.properties = properties;
         this.priceRepository = priceRepository;
+        this.rateLimiter = rateLimiter;
+        this.maxConcurrency = maxConcurrency;
+        this.typeTimeout = typeTimeout;
+        this.hostScheduler = Schedulers.newBoundedElastic(maxConcurrency, Integer.MAX_VALUE, "applyhome-api");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hostScheduler.dispose();
     }
 
     public String getSourceName() {
@@ -73,12 +101,7 @@ public class ApplyhomeApiClient implements SubscriptionProvider {
     public List<Subscription> fetch(String areaName, LocalDate targetDate) {
         log.info("[청약Home API] {} 지역 데이터 수집 시작 (날짜: {})", areaName, targetDate);
 
-        List<ApplyHomeSubscriptionInfo> allDtos = new ArrayList<>();
-        for (int i = 0; i < FETCH_TYPES.size(); i++) {
-            HouseType type = FETCH_TYPES.get(i);
-            String label = FETCH_TYPE_LABELS.get(i);
-            allDtos.addAll(fetchSafely(() -> fetchSubscriptions(type, areaName, targetDate), label));
-        }
+        List<ApplyHomeSubscriptionInfo> allDtos = fetchAllTypes(areaName, targetDate);
 
         log.info("[청약Home API] {} 지역에서 {}개 데이터 수집 완료", areaName, allDtos.size());
         return allDtos.stream().map(ApplyHomeSubscriptionInfo::toSubscription).toList();
@@ -87,28 +110,53 @@ public class ApplyhomeApiClient implements SubscriptionProvider {
     public List<Subscription> fetchAll(String areaName) {
         log.info("[청약Home API] {} 지역 전체 데이터 수집 시작 (DB 동기화용)", areaName);
 
-        List<ApplyHomeSubscriptionInfo> allDtos = new ArrayList<>();
-        for (int i = 0; i < FETCH_TYPES.size(); i++) {
-            HouseType type = FETCH_TYPES.get(i);
-            String label = FETCH_TYPE_LABELS.get(i);
-            allDtos.addAll(fetchSafely(() -> fetchSubscriptions(type, areaName, null), label));
-        }
+        List<ApplyHomeSubscriptionInfo> allDtos = fetchAllTypes(areaName, null);
 
         log.info("[청약Home API] {} 지역에서 총 {}개 데이터 수집 완료", areaName, allDtos.size());
         return allDtos.stream().map(ApplyHomeSubscriptionInfo::toSubscription).toList();
     }
 
     /**
-     * 개별 API 호출을 안전하게 실행 (실패해도 다른 API 수집 계속)
+     * 5개 유형 API를 동시에 호출 (실패한 유형은 건너뛰고 나머지 결과 사용)
+     * 전체 소요 시간은 가장 느린 유형 호출 시간에 수렴
      */
-    private List<ApplyHomeSubscriptionInfo> fetchSafely(
-            Supplier<List<ApplyHomeSubscriptionInfo>> fetcher, String type) {
-        try {
-            return fetcher.get();
-        } catch (Exception e) {
-            log.warn("[청약Home API] {} 수집 실패 (계속 진행): {}", type, e.getMessage());
+    private List<ApplyHomeSubscriptionInfo> fetchAllTypes(String areaName, LocalDate targetDate) {
+        List<TypeResult> results = Flux.range(0, FETCH_TYPES.size())
+                .flatMap(i -> fetchType(FETCH_TYPES.get(i), FETCH_TYPE_LABELS.get(i), areaName, targetDate),
+                        maxConcurrency)
+                .collectList()
+                .block();
+        if (results == null) {
             return Collections.emptyList();
         }
+
+        List<String> failedLabels = results.stream()
+                .filter(TypeResult::failed)
+                .map(TypeResult::label)
+                .toList();
+        if (!failedLabels.isEmpty()) {
+            log.warn("[청약Home API] {} 지역 유형별 수집 - 성공 {}/{}, 실패: {}",
+                    areaName, results.size() - failedLabels.size(), results.size(), failedLabels);
+        }
+
+        return results.stream()
+                .flatMap(r -> r.items().stream())
+                .toList();
+    }
+
+    /**
+     * 개별 유형 API 호출 (실패해도 다른 유형 수집 계속)
+     */
+    private Mono<TypeResult> fetchType(HouseType type, String label, String areaName, LocalDate targetDate) {
+        return Mono.fromCallable(() -> new TypeResult(label, fetchSubscriptions(type, areaName, targetDate), false))
+                .subscribeOn(hostScheduler)
+                .onErrorResume(e -> {
+                    log.warn("[청약Home API] {} 수집 실패 (계속 진행): {}", label, e.getMessage());
+                    return Mono.just(new TypeResult(label, Collections.emptyList(), true));
+                });
+    }
+
+    private record TypeResult(String label, List<ApplyHomeSubscriptionInfo> items, boolean failed) {
     }
 
     /**
@@ -123,6 +171,7 @@ public class ApplyhomeApiClient implements SubscriptionProvider {
      * HouseType별 API 호출 및 아이템 목록 반환
      */
     private List<? extends ApplyhomeSubscriptionItem> fetchItems(HouseType houseType, String areaName) {
+        rateLimiter.acquire(ApiRateLimiter.APPLYHOME);
         if (houseType.usesHouseSecd()) {
             ApplyhomeAptResponse response = webClient.get()
                     .uri(uriBuilder -> uriBuilder
@@ -135,7 +184,7 @@ public class ApplyhomeApiClient implements SubscriptionProvider {
                             .build())
                     .retrieve()
                     .bodyToMono(ApplyhomeAptResponse.class)
-                    .block();
+                    .block(typeTimeout);
             return response != null ? response.getData() : Collections.emptyList();
         }
 
@@ -150,7 +199,7 @@ public class ApplyhomeApiClient implements SubscriptionProvider {
                             .build())
                     .retrieve()
                     .bodyToMono(ApplyhomeRemainingResponse.class)
-                    .block();
+                    .block(typeTimeout);
             return response != null ? response.getData() : Collections.emptyList();
         }
 
@@ -165,7 +214,7 @@ public class ApplyhomeApiClient implements SubscriptionProvider {
                         .build())
                 .retrieve()
                 .bodyToMono(ApplyhomeArbitraryResponse.class)
-                .block();
+                .block(typeTimeout);
         return response != null ? response.getData() : Collections.emptyList();
     }
 
@@ -222,42 +271,52 @@ public class ApplyhomeApiClient implements SubscriptionProvider {
 
     /**
      * 분양가 상세 정보 조회 및 저장
+     * 기존 모델을 한 번에 조회한 뒤 신규 모델만 saveAll로 일괄 저장 (청약 단위 단일 트랜잭션)
      */
-    public void fetchAndSavePriceDetails(String houseManageNo, String pblancNo, String houseType) {
-        try {
-            HouseType type = HouseType.fromDisplayName(houseType);
-            List<ApplyhomePriceDetailItem> priceDetails = fetchPriceDetails(
-                    type.getPricePath(), houseManageNo, pblancNo);
-
-            for (ApplyhomePriceDetailItem item : priceDetails) {
-                if (priceRepository.findByHouseManageNoAndPblancNoAndModelNo(
-                        item.houseManageNo(), item.pblancNo(), item.modelNo()).isEmpty()) {
-
-                    SubscriptionPriceEntity entity = SubscriptionPriceEntity.builder()
-                            .houseManageNo(item.houseManageNo())
-                            .pblancNo(item.pblancNo())
-                            .modelNo(item.modelNo())
-                            .houseType(item.houseType())
-                            .supplyArea(item.supplyArea())
-                            .supplyCount(item.supplyCount())
-                            .specialSupplyCount(item.specialSupplyCount())
-                            .topAmount(item.topAmount())
-                            .build();
-                    entity.calculatePricePerPyeong();
-                    priceRepository.save(entity);
-                }
-            }
-
-            log.info("[분양가] {}({}) 분양가 {}건 저장 완료", houseManageNo, houseType, priceDetails.size());
-        } catch (Exception e) {
-            log.warn("[분양가] {}({}) 분양가 조회 실패: {}", houseManageNo, houseType, e.getMessage());
-        }
+    @Override
+    public int fetchAndSavePriceDetails(String houseManageNo, String pblancNo, String houseType) {
+        HouseType type = HouseType.fromDisplayName(houseType);
+        List<ApplyhomePriceDetailItem> priceDetails = fetchPriceDetails(
+                type.getPricePath(), houseManageNo, pblancNo);
+
+        Set<String> existingKeys = priceRepository.findByHouseManageNo(houseManageNo).stream()
+                .map(p -> priceKey(p.getPblancNo(), p.getModelNo()))
+                .collect(Collectors.toSet());
+
+        List<SubscriptionPriceEntity> newEntities = priceDetails.stream()
+                .filter(item -> existingKeys.add(priceKey(item.pblancNo(), item.modelNo())))
+                .map(this::toPriceEntity)
+                .toList();
+        priceRepository.saveAll(newEntities);
+
+        log.info("[분양가] {}({}) 분양가 {}건 저장 완료", houseManageNo, houseType, newEntities.size());
+        return newEntities.size();
+    }
+
+    private static String priceKey(String pblancNo, String modelNo) {
+        return pblancNo + "|" + modelNo;
+    }
+
+    private SubscriptionPriceEntity toPriceEntity(ApplyhomePriceDetailItem item) {
+        SubscriptionPriceEntity entity = SubscriptionPriceEntity.builder()
+                .houseManageNo(item.houseManageNo())
+                .pblancNo(item.pblancNo())
+                .modelNo(item.modelNo())
+                .houseType(item.houseType())
+                .supplyArea(item.supplyArea())
+                .supplyCount(item.supplyCount())
+                .specialSupplyCount(item.specialSupplyCount())
+                .topAmount(item.topAmount())
+                .build();
+        entity.calculatePricePerPyeong();
+        return entity;
     }
 
     /**
      * 분양가 상세 조회
      */
     private List<ApplyhomePriceDetailItem> fetchPriceDetails(String path, String houseManageNo, String pblancNo) {
+        rateLimiter.acquire(ApiRateLimiter.APPLYHOME);
         ApplyhomePriceDetailResponse response = webClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path(path)
@@ -12,12 +12,18 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import jakarta.annotation.PreDestroy;
 import java.math.BigDecimal;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * 청약홈 경쟁률 API 어댑터
@@ -31,67 +37,93 @@ import java.util.List;
 )
 public class ApplyhomeCompetitionRateClient implements CompetitionRateProvider {
 
-    private static final int API_RATE_LIMIT_MS = 100;
+    private static final String APT_PATH = "/getAPTLttotPblancCmpet";
 
     private final WebClient webClient;
     private final SubscriptionProperties properties;
+    private final ApiRateLimiter rateLimiter;
     private final String apiKey;
+    private final int maxConcurrency;
+
+    /**
+     * 페이지 동시 조회용 스케줄러 (block 호출과 호출 제한 대기가 이벤트 루프를 막지 않도록 분리)
+     */
+    private final Scheduler pageScheduler;
 
     public ApplyhomeCompetitionRateClient(
             @Qualifier("competitionRateWebClient") WebClient webClient,
             SubscriptionProperties properties,
-            @Value("${applyhome.api.key}") String apiKey) {
+            ApiRateLimiter rateLimiter,
+            @Value("${applyhome.api.key}") String apiKey,
+            @Value("${applyhome.api.max-concurrency:4}") int maxConcurrency) {
         this.webClient = webClient;
         this.properties = properties;
+        this.rateLimiter = rateLimiter;
         this.apiKey = apiKey;
+        this.maxConcurrency = maxConcurrency;
+        this.pageScheduler = Schedulers.newBoundedElastic(maxConcurrency, Integer.MAX_VALUE, "competition-rate-api");
     }
 
-    public List<CompetitionRate> fetchAll() {
-        log.info("[경쟁률 API] 전체 조회 시작");
-
-        // APT 경쟁률만 조회 (잔여세대는 경쟁률이 미달 표시로 와서 제외)
-        List<CompetitionRate> allRates = new ArrayList<>(fetchAptCompetitionRates());
-
-        log.info("[경쟁률 API] 전체 조회 완료 - {}건", allRates.size());
-        return allRates;
+    @PreDestroy
+    void shutdown() {
+        pageScheduler.dispose();
     }
 
     /**
      * APT 분양정보/경쟁률 전체 조회 (모든 페이지)
+     * 첫 페이지로 totalCount를 확인한 뒤 나머지 페이지를 최대 maxConcurrency개씩 동시에 조회한다.
+     * 받은 페이지는 즉시 pageConsumer로 넘기므로 전체 결과를 메모리에 모으지 않는다.
+     * (잔여세대는 경쟁률이 미달 표시로 와서 제외)
      */
-    private List<CompetitionRate> fetchAptCompetitionRates() {
-        List<CompetitionRate> allRates = new ArrayList<>();
+    @Override
+    public void fetchAllPages(Consumer<List<CompetitionRate>> pageConsumer) {
+        log.info("[경쟁률 API] 전체 조회 시작");
         int pageSize = properties.getApi().getPageSize();
+        AtomicInteger fetchedCount = new AtomicInteger();
 
+        // 첫 페이지 조회하여 totalCount 확인 (API 오류만 잡고, pageConsumer의 저장 오류는 호출 측으로 전파)
+        List<CompetitionRate> firstRates;
+        int totalPages;
         try {
-            // 첫 페이지 조회하여 totalCount 확인
-            CompetitionRateResponse firstResponse = fetchPage("/getAPTLttotPblancCmpet", 1, pageSize);
-            int totalCount = firstResponse.totalCount() != null ? firstResponse.totalCount() : 0;
-            allRates.addAll(parseResponse(firstResponse));
-
-            int totalPages = (totalCount + pageSize - 1) / pageSize;
-            log.info("[경쟁률 API] APT 경쟁률 페이지 1/{} 조회 - {}건 (총 {}건)",
-                    totalPages, firstResponse.currentCount(), totalCount);
-
-            // 나머지 페이지 조회
-            for (int page = 2; page <= totalPages; page++) {
-                try {
-                    CompetitionRateResponse response = fetchPage("/getAPTLttotPblancCmpet", page, pageSize);
-                    allRates.addAll(parseResponse(response));
-                    log.info("[경쟁률 API] APT 경쟁률 페이지 {}/{} 조회 - {}건",
-                            page, totalPages, response.currentCount());
-                } catch (WebClientResponseException e) {
-                    log.warn("[경쟁률 API] 페이지 {} 조회 실패 - status: {}", page, e.getStatusCode());
-                }
-                ApiRateLimiter.delay(API_RATE_LIMIT_MS);
+            CompetitionRateResponse firstResponse = fetchPage(APT_PATH, 1, pageSize);
+            int totalCount = firstResponse != null && firstResponse.totalCount() != null ? firstResponse.totalCount() : 0;
+            totalPages = (totalCount + pageSize - 1) / pageSize;
+            firstRates = parseResponse(firstResponse);
+            log.info("[경쟁률 API] APT 경쟁률 페이지 1/{} 조회 (총 {}건)", totalPages, totalCount);
+        } catch (Exception e) {
+            log.warn("[경쟁률 API] APT 경쟁률 조회 중 오류 - {}", e.getMessage());
+            return;
+        }
+        deliver(firstRates, pageConsumer, fetchedCount);
+
+        // 나머지 페이지 동시 조회 (페이지 조회 실패는 fetchPageAsync에서 건너뜀)
+        if (totalPages > 1) {
+            try (Stream<List<CompetitionRate>> pages = Flux.range(2, totalPages - 1)
+                    .flatMap(page -> fetchPageAsync(page, pageSize, totalPages), maxConcurrency)
+                    .toStream(maxConcurrency)) {
+                pages.forEach(rates -> deliver(rates, pageConsumer, fetchedCount));
             }
+        }
+
+        log.info("[경쟁률 API] 전체 조회 완료 - {}건", fetchedCount.get());
+    }
 
-            log.info("[경쟁률 API] APT 경쟁률 전체 조회 완료 - 총 {}건", allRates.size());
-            return allRates;
+    private Mono<List<CompetitionRate>> fetchPageAsync(int page, int pageSize, int totalPages) {
+        return Mono.fromCallable(() -> parseResponse(fetchPage(APT_PATH, page, pageSize)))
+                .subscribeOn(pageScheduler)
+                .doOnNext(rates -> log.debug("[경쟁률 API] APT 경쟁률 페이지 {}/{} 조회 - {}건",
+                        page, totalPages, rates.size()))
+                .onErrorResume(e -> {
+                    log.warn("[경쟁률 API] 페이지 {} 조회 실패 - {}", page, e.getMessage());
+                    return Mono.empty();
+                });
+    }
 
-        } catch (Exception e) {
-            log.warn("[경쟁률 API] APT 경쟁률 조회 중 오류 - {}", e.getMessage());
-            return allRates;
+    private void deliver(List<CompetitionRate> rates, Consumer<List<CompetitionRate>> pageConsumer,
+                         AtomicInteger fetchedCount) {
+        if (!rates.isEmpty()) {
+            fetchedCount.addAndGet(rates.size());
+            pageConsumer.accept(rates);
         }
     }
 
@@ -99,6 +131,7 @@ public class ApplyhomeCompetitionRateClient implements CompetitionRateProvider {
      * 단일 페이지 조회
      */
     private CompetitionRateResponse fetchPage(String path, int page, int pageSize) {
+        rateLimiter.acquire(ApiRateLimiter.APPLYHOME);
         return webClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path(path)
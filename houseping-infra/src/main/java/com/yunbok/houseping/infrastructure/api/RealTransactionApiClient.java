@@ -1,51 +1,94 @@
 package com.yunbok.houseping.infrastructure.api;
 
-import com.yunbok.houseping.support.external.RealTransactionApiResponse;
-import com.yunbok.houseping.support.external.RealTransactionItem;
+import com.yunbok.houseping.core.domain.MonthRefreshResult;
 import com.yunbok.houseping.core.domain.RealTransaction;
+import com.yunbok.houseping.core.domain.RealTransactionsUpdatedEvent;
 import com.yunbok.houseping.core.port.RealTransactionFetchPort;
 import com.yunbok.houseping.entity.RealTransactionCacheEntity;
+import com.yunbok.houseping.entity.RealTransactionFetchEntity;
+import com.yunbok.houseping.infrastructure.persistence.RealTransactionCacheWriter;
 import com.yunbok.houseping.repository.RealTransactionCacheRepository;
+import com.yunbok.houseping.repository.RealTransactionFetchRepository;
+import com.yunbok.houseping.support.external.RealTransactionItem;
+import com.yunbok.houseping.support.util.ApiRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * 국토교통부 아파트 실거래가 API 어댑터
+ * 응답 XML을 StAX로 스트리밍 파싱해 모든 페이지를 JDBC 배치로 캐시에 저장한다. (메모리 사용은 페이지 크기와 무관)
+ * 계약월 단위 캐시 적중률은 houseping.cache.gets(cache=realtransaction-month, result=hit/miss)로 기록한다.
  */
 @Slf4j
 @Component
 public class RealTransactionApiClient implements RealTransactionFetchPort {
 
     private static final int CACHE_VALIDITY_DAYS = 1;
+    /** 계약월부터 확정까지의 개월 수 (예: 2025-01 계약분은 2025-04부터 확정) */
+    static final int FINAL_AFTER_MONTHS = 3;
     private static final int MAX_ROWS_PER_PAGE = 1000;
     private static final int FIRST_PAGE = 1;
+    /** 한 (법정동코드, 계약월)에서 읽을 최대 페이지 (totalCount가 비정상일 때의 안전장치) */
+    private static final int MAX_PAGES = 100;
+    /** 응답 본문을 InputStream으로 읽을 때 미리 요청할 버퍼 수 */
+    private static final int STREAM_DEMAND = 16;
+    static final String CACHE_NAME = "realtransaction-month";
 
     @Value("${realtransaction.api.key:}")
     private String apiKey;
 
     private final WebClient webClient;
     private final RealTransactionCacheRepository cacheRepository;
+    private final RealTransactionFetchRepository fetchRepository;
+    private final RealTransactionCacheWriter cacheWriter;
+    private final ApiRateLimiter rateLimiter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
 
     public RealTransactionApiClient(
             @Qualifier("realTransactionWebClient") WebClient webClient,
-            RealTransactionCacheRepository cacheRepository) {
+            RealTransactionCacheRepository cacheRepository,
+            RealTransactionFetchRepository fetchRepository,
+            RealTransactionCacheWriter cacheWriter,
+            ApiRateLimiter rateLimiter,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry) {
         this.webClient = webClient;
         this.cacheRepository = cacheRepository;
+        this.fetchRepository = fetchRepository;
+        this.cacheWriter = cacheWriter;
+        this.rateLimiter = rateLimiter;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
     }
 
     /**
      * 법정동코드와 계약월로 실거래가 조회
-     * 캐시가 있으면 캐시에서, 없으면 API 호출 후 캐싱
+     * 수집 현황상 확정됐거나 유효하면 캐시에서, 아니면 API 호출 후 캐싱
      */
     public List<RealTransactionCacheEntity> fetchTransactions(String lawdCd, String dealYmd) {
         if (apiKey == null || apiKey.isBlank()) {
@@ -53,102 +96,190 @@ public class RealTransactionApiClient implements RealTransactionFetchPort {
             return Collections.emptyList();
         }
 
-        // 캐시 확인
-        List<RealTransactionCacheEntity> cached = cacheRepository.findByLawdCdAndDealYmd(lawdCd, dealYmd);
-        if (!cached.isEmpty()) {
-            // 캐시 유효성 확인 (1일)
-            LocalDateTime threshold = LocalDateTime.now().minusDays(CACHE_VALIDITY_DAYS);
-            if (cached.getFirst().getCachedAt().isAfter(threshold)) {
-                log.debug("[실거래가 API] 캐시 사용: lawdCd={}, dealYmd={}, count={}", lawdCd, dealYmd, cached.size());
-                return cached;
-            }
+        Optional<RealTransactionFetchEntity> manifest = fetchRepository.findByLawdCdAndDealYmd(lawdCd, dealYmd);
+        if (needsFetch(manifest)) {
+            recordCacheGets("miss", 1);
+            refreshLocked(lawdCd, dealYmd);
+        } else {
+            recordCacheGets("hit", 1);
+            log.debug("[실거래가 API] 캐시 사용: lawdCd={}, dealYmd={}", lawdCd, dealYmd);
         }
-
-        // API 호출
-        return fetchFromApi(lawdCd, dealYmd);
+        return cacheRepository.findByLawdCdAndDealYmd(lawdCd, dealYmd);
     }
 
     /**
      * 최근 N개월 실거래가 조회
-     * 실거래 데이터는 1-2개월 지연 공개되므로 2개월 전부터 조회
+     * 확정된 계약월은 건너뛰므로 매일 다시 받는 것은 신고 기간 안의 최근 계약월뿐이다.
      */
     public List<RealTransactionCacheEntity> fetchRecentTransactions(String lawdCd, int months) {
+        for (String dealYmd : findStaleDealYmds(lawdCd, months)) {
+            refreshMonth(lawdCd, dealYmd);
+        }
+        return cacheRepository.findRecentByLawdCd(lawdCd);
+    }
+
+    /**
+     * 실거래 데이터는 1-2개월 지연 공개되므로 2개월 전부터 N개월 중, 수집 이력이 없거나 오래된 계약월
+     */
+    @Override
+    public List<String> findStaleDealYmds(String lawdCd, int months) {
+        if (apiKey == null || apiKey.isBlank()) {
+            log.warn("[실거래가 API] API 키가 설정되지 않음");
+            return Collections.emptyList();
+        }
+
         LocalDate now = LocalDate.now().minusMonths(2); // 2개월 전부터 시작
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMM");
+        List<String> dealYmds = IntStream.range(0, months)
+                .mapToObj(i -> now.minusMonths(i).format(formatter))
+                .toList();
+
+        Map<String, RealTransactionFetchEntity> manifests = fetchRepository.findByLawdCdAndDealYmdIn(lawdCd, dealYmds).stream()
+                .collect(Collectors.toMap(RealTransactionFetchEntity::getDealYmd, Function.identity()));
+        List<String> stale = dealYmds.stream()
+                .filter(dealYmd -> needsFetch(Optional.ofNullable(manifests.get(dealYmd))))
+                .toList();
+        recordCacheGets("hit", dealYmds.size() - stale.size());
+        recordCacheGets("miss", stale.size());
+        return stale;
+    }
+
+    private void recordCacheGets(String result, int count) {
+        meterRegistry.counter("houseping.cache.gets", "cache", CACHE_NAME, "result", result).increment(count);
+    }
+
+    @Override
+    public MonthRefreshResult refreshMonth(String lawdCd, String dealYmd) {
+        if (apiKey == null || apiKey.isBlank()) {
+            log.warn("[실거래가 API] API 키가 설정되지 않음");
+            return MonthRefreshResult.FAILED;
+        }
+        return refreshLocked(lawdCd, dealYmd);
+    }
 
-        for (int i = 0; i < months; i++) {
-            String dealYmd = now.minusMonths(i).format(formatter);
-            fetchTransactions(lawdCd, dealYmd);
+    /**
+     * 계약월 단위 잠금 안에서 수집 (같은 계약월을 동시에 갱신하지 않음)
+     * 잠금을 기다리는 동안 다른 갱신이 끝났으면 다시 받지 않는다.
+     */
+    private MonthRefreshResult refreshLocked(String lawdCd, String dealYmd) {
+        try {
+            return cacheWriter.withMonthLock(lawdCd, dealYmd, () -> {
+                Optional<RealTransactionFetchEntity> previous = fetchRepository.findByLawdCdAndDealYmd(lawdCd, dealYmd);
+                if (!needsFetch(previous)) {
+                    log.debug("[실거래가 API] 다른 수집이 먼저 갱신함: lawdCd={}, dealYmd={}", lawdCd, dealYmd);
+                    return MonthRefreshResult.UNCHANGED;
+                }
+                return fetchFromApi(lawdCd, dealYmd, previous);
+            });
+        } catch (Exception e) {
+            log.error("[실거래가 API] 수집 트랜잭션 실패: lawdCd={}, dealYmd={}, error={}", lawdCd, dealYmd, e.getMessage());
+            return MonthRefreshResult.FAILED;
         }
+    }
 
-        return cacheRepository.findRecentByLawdCd(lawdCd);
+    /**
+     * 수집 필요 여부 (수집 이력이 없거나, 확정되지 않았고 1일이 지남)
+     */
+    private boolean needsFetch(Optional<RealTransactionFetchEntity> manifest) {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(CACHE_VALIDITY_DAYS);
+        return manifest.map(m -> m.isStale(threshold)).orElse(true);
     }
 
-    private List<RealTransactionCacheEntity> fetchFromApi(String lawdCd, String dealYmd) {
+    /**
+     * 계약월이 확정됐는지 확인
+     * 계약 후 30일 내 신고와 이후 해제·정정 신고를 감안해, 계약월이 끝나고 2개월이 지난 뒤 받은 데이터는 더 바뀌지 않는 것으로 본다.
+     */
+    static boolean isClosedMonth(String dealYmd, LocalDate today) {
+        YearMonth dealMonth = YearMonth.parse(dealYmd, DateTimeFormatter.ofPattern("yyyyMM"));
+        return !dealMonth.plusMonths(FINAL_AFTER_MONTHS).isAfter(YearMonth.from(today));
+    }
+
+    /**
+     * 모든 페이지를 읽어 캐시에 저장(자연키 upsert)하고 수집 현황을 기록
+     * 다 쓴 뒤에는 이번 응답에 없던 이전 캐시(해제·정정된 거래)만 지운다.
+     * 도중에 실패하면 이미 있던 거래의 저장 시점만 갱신된 상태라 이전 캐시가 그대로 남는다.
+     * @return 변경 / 변경 없음 / 수집 실패 (실패는 예외 대신 결과로 알림)
+     */
+    private MonthRefreshResult fetchFromApi(String lawdCd, String dealYmd, Optional<RealTransactionFetchEntity> previous) {
         log.info("[실거래가 API] API 호출: lawdCd={}, dealYmd={}", lawdCd, dealYmd);
 
+        // DB 타임스탬프 정밀도(마이크로초)에 맞춰 이전/이번 캐시 구분 기준이 어긋나지 않도록 함
+        LocalDateTime cachedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        RealTransactionCacheWriter.Batch batch = cacheWriter.open(lawdCd, dealYmd, cachedAt);
+
         try {
-            RealTransactionApiResponse response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/getRTMSDataSvcAptTradeDev")
-                            .queryParam("serviceKey", apiKey)
-                            .queryParam("LAWD_CD", lawdCd)
-                            .queryParam("DEAL_YMD", dealYmd)
-                            .queryParam("numOfRows", MAX_ROWS_PER_PAGE)
-                            .queryParam("pageNo", FIRST_PAGE)
-                            .build())
-                    .accept(MediaType.APPLICATION_XML)
-                    .retrieve()
-                    .bodyToMono(RealTransactionApiResponse.class)
-                    .block();
-
-            if (response == null || !response.isSuccess()) {
-                log.warn("[실거래가 API] API 응답 실패: lawdCd={}, dealYmd={}", lawdCd, dealYmd);
-                return Collections.emptyList();
+            int pageNo = FIRST_PAGE;
+            while (true) {
+                RealTransactionXmlReader.Page page = fetchPage(lawdCd, dealYmd, pageNo, batch::add);
+                if (!page.isSuccess()) {
+                    log.warn("[실거래가 API] API 응답 실패: lawdCd={}, dealYmd={}, pageNo={}, resultCode={}, resultMsg={}",
+                            lawdCd, dealYmd, pageNo, page.resultCode(), page.resultMsg());
+                    return MonthRefreshResult.FAILED;
+                }
+                if (page.itemCount() == 0 || (long) pageNo * MAX_ROWS_PER_PAGE >= page.totalCount()) {
+                    break;
+                }
+                if (pageNo >= MAX_PAGES) {
+                    log.warn("[실거래가 API] 최대 페이지 도달: lawdCd={}, dealYmd={}, totalCount={}",
+                            lawdCd, dealYmd, page.totalCount());
+                    break;
+                }
+                pageNo++;
             }
+            batch.flush();
 
-            List<RealTransactionItem> items = response.getItems();
-            if (items.isEmpty()) {
-                log.debug("[실거래가 API] 데이터 없음: lawdCd={}, dealYmd={}", lawdCd, dealYmd);
-                return Collections.emptyList();
+            RealTransactionFetchEntity manifest = previous.orElseGet(() -> RealTransactionFetchEntity.of(lawdCd, dealYmd));
+            boolean unchanged = manifest.hasSameContent(batch.written(), batch.checksum());
+            if (!unchanged && batch.written() == 0) {
+                // 있던 거래가 한꺼번에 사라지는 경우는 API 일시 오류로 보고 이전 캐시 유지 (다음 수집 때 재시도)
+                log.warn("[실거래가 API] 빈 응답, 이전 캐시 {}건 유지: lawdCd={}, dealYmd={}",
+                        manifest.getRowCount(), lawdCd, dealYmd);
+                return MonthRefreshResult.FAILED;
             }
 
-            // 캐시에 저장
-            List<RealTransactionCacheEntity> entities = items.stream()
-                    .filter(item -> item.getDealAmountAsLong() != null)
-                    .map(item -> toEntity(item, lawdCd, dealYmd))
-                    .toList();
+            manifest.record(cachedAt, batch.written(), batch.checksum(), isClosedMonth(dealYmd, cachedAt.toLocalDate()));
+            fetchRepository.save(manifest);
 
-            cacheRepository.saveAll(entities);
-            log.info("[실거래가 API] {}건 캐싱 완료: lawdCd={}, dealYmd={}", entities.size(), lawdCd, dealYmd);
+            int removed = cacheWriter.deleteCachedBefore(lawdCd, dealYmd, cachedAt);
+            if (unchanged) {
+                log.info("[실거래가 API] 변경 없음 ({}건{}): lawdCd={}, dealYmd={}",
+                        batch.written(), manifest.isFinalized() ? ", 확정" : "", lawdCd, dealYmd);
+                return MonthRefreshResult.UNCHANGED;
+            }
 
-            return entities;
+            eventPublisher.publishEvent(new RealTransactionsUpdatedEvent(lawdCd));
+            log.info("[실거래가 API] {}건 캐싱 완료 ({}페이지, 사라진 거래 {}건 삭제{}): lawdCd={}, dealYmd={}",
+                    batch.written(), pageNo, removed, manifest.isFinalized() ? ", 확정" : "", lawdCd, dealYmd);
+            return MonthRefreshResult.CHANGED;
 
         } catch (Exception e) {
             log.error("[실거래가 API] API 호출 실패: lawdCd={}, dealYmd={}, error={}", lawdCd, dealYmd, e.getMessage());
-            return Collections.emptyList();
+            return MonthRefreshResult.FAILED;
         }
     }
 
-    private RealTransactionCacheEntity toEntity(RealTransactionItem item, String lawdCd, String dealYmd) {
-        LocalDate dealDate = null;
-        if (item.getDealYear() != null && item.getDealMonth() != null && item.getDealDay() != null) {
-            dealDate = LocalDate.of(item.getDealYear(), item.getDealMonth(), item.getDealDay());
-        }
+    /**
+     * 한 페이지를 요청해 응답 본문을 버퍼링 없이 파싱
+     */
+    private RealTransactionXmlReader.Page fetchPage(String lawdCd, String dealYmd, int pageNo,
+                                                    Consumer<RealTransactionItem> onItem) throws Exception {
+        rateLimiter.acquire(ApiRateLimiter.REAL_TRANSACTION);
+        Flux<DataBuffer> body = webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/getRTMSDataSvcAptTradeDev")
+                        .queryParam("serviceKey", apiKey)
+                        .queryParam("LAWD_CD", lawdCd)
+                        .queryParam("DEAL_YMD", dealYmd)
+                        .queryParam("numOfRows", MAX_ROWS_PER_PAGE)
+                        .queryParam("pageNo", pageNo)
+                        .build())
+                .accept(MediaType.APPLICATION_XML)
+                .retrieve()
+                .bodyToFlux(DataBuffer.class);
 
-        return RealTransactionCacheEntity.builder()
-                .lawdCd(lawdCd)
-                .dealYmd(dealYmd)
-                .aptName(item.getAptName())
-                .dealAmount(item.getDealAmountAsLong())
-                .excluUseAr(item.getExcluUseAr())
-                .floor(item.getFloor())
-                .buildYear(item.getBuildYear())
-                .dealDate(dealDate)
-                .dealDay(item.getDealDay())
-                .umdNm(item.getUmdNm())
-                .jibun(item.getJibun())
-                .build();
+        try (InputStream in = DataBufferUtils.subscriberInputStream(body, STREAM_DEMAND)) {
+            return RealTransactionXmlReader.read(in, onItem);
+        }
     }
 
     @Override
@@ -0,0 +1,126 @@
+package com.yunbok.houseping.infrastructure.api;
+
+import com.yunbok.houseping.support.external.RealTransactionItem;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.function.Consumer;
+
+/**
+ * 국토교통부 실거래가 API XML 응답 스트리밍 파서 (StAX)
+ * 응답 전체를 메모리에 올리지 않고 {@code <item>}을 하나씩 읽어 바로 넘긴다.
+ */
+final class RealTransactionXmlReader {
+
+    /** 공공데이터포털 실거래가 API 정상 응답 코드 */
+    static final String SUCCESS_CODE = "000";
+
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    private RealTransactionXmlReader() {
+    }
+
+    /**
+     * 한 페이지의 응답 요약
+     * @param itemCount 이 페이지에서 읽은 항목 수
+     * @param totalCount 전체 페이지의 항목 수
+     */
+    record Page(String resultCode, String resultMsg, int itemCount, int totalCount) {
+
+        boolean isSuccess() {
+            return SUCCESS_CODE.equals(resultCode);
+        }
+    }
+
+    /**
+     * 응답을 읽으며 {@code <item>}마다 onItem을 호출
+     */
+    static Page read(InputStream in, Consumer<RealTransactionItem> onItem) throws XMLStreamException {
+        XMLStreamReader reader = FACTORY.createXMLStreamReader(in);
+        try {
+            String resultCode = null;
+            String resultMsg = null;
+            int itemCount = 0;
+            int totalCount = 0;
+            RealTransactionItem item = null;
+
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if ("item".equals(name)) {
+                        item = new RealTransactionItem();
+                    } else if (item != null) {
+                        setField(item, name, reader.getElementText().trim());
+                    } else {
+                        switch (name) {
+                            case "resultCode" -> resultCode = reader.getElementText().trim();
+                            case "resultMsg" -> resultMsg = reader.getElementText().trim();
+                            case "totalCount" -> totalCount = parseInt(reader.getElementText().trim(), 0);
+                            default -> { }
+                        }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && item != null && "item".equals(reader.getLocalName())) {
+                    onItem.accept(item);
+                    itemCount++;
+                    item = null;
+                }
+            }
+            return new Page(resultCode, resultMsg, itemCount, totalCount);
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static void setField(RealTransactionItem item, String name, String text) {
+        String value = text.isEmpty() ? null : text;
+        switch (name) {
+            case "aptNm" -> item.setAptName(value);
+            case "dealAmount" -> item.setDealAmount(value);
+            case "dealYear" -> item.setDealYear(parseInt(value, null));
+            case "dealMonth" -> item.setDealMonth(parseInt(value, null));
+            case "dealDay" -> item.setDealDay(parseInt(value, null));
+            case "excluUseAr" -> item.setExcluUseAr(parseDecimal(value));
+            case "floor" -> item.setFloor(parseInt(value, null));
+            case "buildYear" -> item.setBuildYear(parseInt(value, null));
+            case "umdNm" -> item.setUmdNm(value);
+            case "jibun" -> item.setJibun(value);
+            default -> { }
+        }
+    }
+
+    private static Integer parseInt(String value, Integer defaultValue) {
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static BigDecimal parseDecimal(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // 외부 엔티티·DTD 처리 차단 (XXE)
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+}
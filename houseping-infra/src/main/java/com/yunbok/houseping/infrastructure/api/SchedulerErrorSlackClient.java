@@ -3,6 +3,7 @@ package com.yunbok.houseping.infrastructure.api;
 import com.yunbok.houseping.infrastructure.api.dto.SlackWebhookRequest;
 import com.yunbok.houseping.infrastructure.formatter.SchedulerErrorFormatter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -28,11 +29,12 @@ public class SchedulerErrorSlackClient {
     private final SchedulerErrorFormatter messageFormatter;
 
     public SchedulerErrorSlackClient(
+            @Qualifier("slackWebClient") WebClient webClient,
             @Value("${slack.webhook.error-url:}") String errorWebhookUrl,
             SchedulerErrorFormatter messageFormatter) {
         this.errorWebhookUrl = errorWebhookUrl;
         this.messageFormatter = messageFormatter;
-        this.webClient = WebClient.create();
+        this.webClient = webClient;
     }
 
     public void sendError(String schedulerName, Exception e) {
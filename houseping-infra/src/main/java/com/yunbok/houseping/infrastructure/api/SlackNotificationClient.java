@@ -3,8 +3,12 @@ package com.yunbok.houseping.infrastructure.api;
 import com.yunbok.houseping.core.domain.Subscription;
 import com.yunbok.houseping.infrastructure.formatter.SlackMessageFormatter;
 import com.yunbok.houseping.support.dto.DailyNotificationReport;
+import com.yunbok.houseping.core.port.NotificationChannel;
 import com.yunbok.houseping.core.port.NotificationSender;
+import com.yunbok.houseping.core.service.notification.NotificationOutbox;
+import com.yunbok.houseping.support.util.ApiRateLimiter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
@@ -12,11 +16,13 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 import com.yunbok.houseping.infrastructure.api.dto.SlackWebhookRequest;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
  * Slack 알림 어댑터
  * feature.notification.slack-enabled=true 일 때만 활성화
+ * 메시지는 발송 대기열에 적재되고, 실제 전송은 발송기가 {@link #deliver}로 수행
  */
 @Slf4j
 @Component
@@ -24,18 +30,28 @@ import java.util.List;
     name = "feature.notification.slack-enabled",
     havingValue = "true"
 )
-public class SlackNotificationClient implements NotificationSender {
+public class SlackNotificationClient implements NotificationSender, NotificationChannel {
+
+    public static final String CHANNEL = "SLACK";
+
+    /** Webhook은 하나이므로 대기열 수신자는 고정값 (URL은 저장하지 않음) */
+    private static final String WEBHOOK_RECIPIENT = "webhook";
+    private static final Duration DELIVERY_TIMEOUT = Duration.ofSeconds(10);
 
     private final WebClient webClient;
     private final String webhookUrl;
     private final SlackMessageFormatter messageFormatter;
+    private final NotificationOutbox notificationOutbox;
 
     public SlackNotificationClient(
+            @Qualifier("slackWebClient") WebClient webClient,
             @Value("${slack.webhook.url}") String webhookUrl,
-            SlackMessageFormatter messageFormatter) {
+            SlackMessageFormatter messageFormatter,
+            NotificationOutbox notificationOutbox) {
         this.webhookUrl = webhookUrl;
-        this.webClient = WebClient.create();
+        this.webClient = webClient;
         this.messageFormatter = messageFormatter;
+        this.notificationOutbox = notificationOutbox;
     }
 
     public void sendNewSubscriptions(List<Subscription> subscriptions) {
@@ -72,23 +88,40 @@ public class SlackNotificationClient implements NotificationSender {
     }
 
     /**
-     * Slack Webhook으로 메시지 발송
+     * Slack 메시지 발송 대기열 적재
      */
     private void sendSlackMessage(String message) {
-        try {
-            log.info("[Slack] 메시지 발송 시도");
+        notificationOutbox.enqueue(this, message);
+    }
 
-            webClient.post()
-                    .uri(webhookUrl)
-                    .bodyValue(SlackWebhookRequest.of(message))
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
+    // ── NotificationChannel ──
 
-            log.info("[Slack] 메시지 발송 완료");
+    @Override
+    public String name() {
+        return CHANNEL;
+    }
 
-        } catch (Exception e) {
-            log.error("[Slack] 메시지 발송 실패: {}", e.getMessage(), e);
-        }
+    @Override
+    public List<String> recipients() {
+        return List.of(WEBHOOK_RECIPIENT);
+    }
+
+    @Override
+    public String rateLimitKey() {
+        return ApiRateLimiter.SLACK;
+    }
+
+    /**
+     * Slack Webhook으로 메시지 발송
+     */
+    @Override
+    public void deliver(String recipient, String message) {
+        log.debug("[Slack] 메시지 발송");
+        webClient.post()
+                .uri(webhookUrl)
+                .bodyValue(SlackWebhookRequest.of(message))
+                .retrieve()
+                .bodyToMono(String.class)
+                .block(DELIVERY_TIMEOUT);
     }
 }
@@ -5,7 +5,10 @@ import com.yunbok.houseping.infrastructure.formatter.TelegramMessageFormatter;
 import com.yunbok.houseping.support.dto.DailyNotificationReport;
 import com.yunbok.houseping.support.external.TelegramResponseDto;
 import com.yunbok.houseping.support.external.TelegramSendMessageRequest;
+import com.yunbok.houseping.core.port.NotificationChannel;
 import com.yunbok.houseping.core.port.NotificationSender;
+import com.yunbok.houseping.core.service.notification.NotificationOutbox;
+import com.yunbok.houseping.support.util.ApiRateLimiter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,11 +16,13 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
  * 텔레그램 알림 어댑터
  * feature.notification.telegram-enabled=true 일 때만 활성화
+ * 메시지는 발송 대기열에 적재되고, 실제 전송은 발송기가 {@link #deliver}로 수행
  */
 @Slf4j
 @Component
@@ -25,19 +30,25 @@ import java.util.List;
     name = "feature.notification.telegram-enabled",
     havingValue = "true"
 )
-public class TelegramNotificationClient implements NotificationSender {
+public class TelegramNotificationClient implements NotificationSender, NotificationChannel {
+
+    public static final String CHANNEL = "TELEGRAM";
+    private static final Duration DELIVERY_TIMEOUT = Duration.ofSeconds(10);
 
     private final WebClient webClient;
     private final TelegramMessageFormatter messageFormatter;
+    private final NotificationOutbox notificationOutbox;
 
     @Value("${telegram.admin.chat.id}")
     private List<String> chatIds;
 
     public TelegramNotificationClient(
             @Qualifier("telegramWebClient") WebClient webClient,
-            TelegramMessageFormatter messageFormatter) {
+            TelegramMessageFormatter messageFormatter,
+            NotificationOutbox notificationOutbox) {
         this.webClient = webClient;
         this.messageFormatter = messageFormatter;
+        this.notificationOutbox = notificationOutbox;
     }
 
     public void sendNewSubscriptions(List<Subscription> subscriptions) {
@@ -74,25 +85,42 @@ public class TelegramNotificationClient implements NotificationSender {
     }
 
     /**
-     * 텔레그램 메시지 발송
+     * 텔레그램 메시지 발송 대기열 적재
      */
     private void sendTelegramMessage(String message) {
-        for (String chatId : chatIds) {
-            try {
-                log.info("[Telegram] 메시지 발송 시도 - chatId: {}", chatId);
-
-                webClient.post()
-                        .uri("/sendMessage")
-                        .bodyValue(TelegramSendMessageRequest.html(chatId, message))
-                        .retrieve()
-                        .bodyToMono(TelegramResponseDto.class)
-                        .block();
-
-                log.info("[Telegram] 메시지 발송 완료");
-
-            } catch (Exception e) {
-                log.error("[Telegram] 메시지 발송 실패: {}", e.getMessage());
-            }
-        }
+        notificationOutbox.enqueue(this, message);
+    }
+
+    // ── NotificationChannel ──
+
+    @Override
+    public String name() {
+        return CHANNEL;
+    }
+
+    @Override
+    public List<String> recipients() {
+        return chatIds;
+    }
+
+    @Override
+    public String rateLimitKey() {
+        return ApiRateLimiter.TELEGRAM;
+    }
+
+    @Override
+    public String recipientRateLimitKey() {
+        return ApiRateLimiter.TELEGRAM_CHAT;
+    }
+
+    @Override
+    public void deliver(String chatId, String message) {
+        log.debug("[Telegram] 메시지 발송 - chatId: {}", chatId);
+        webClient.post()
+                .uri("/sendMessage")
+                .bodyValue(TelegramSendMessageRequest.html(chatId, message))
+                .retrieve()
+                .bodyToMono(TelegramResponseDto.class)
+                .block(DELIVERY_TIMEOUT);
     }
 }
@@ -8,7 +8,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 경쟁률 DB 어댑터
@@ -17,6 +20,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CompetitionRateDbStore implements CompetitionRatePersistencePort {
 
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
     private final CompetitionRateRepository repository;
 
     public void save(CompetitionRate competitionRate) {
@@ -31,6 +36,12 @@ public class CompetitionRateDbStore implements CompetitionRatePersistencePort {
         repository.saveAll(entities);
     }
 
+    public List<CompetitionRate> findAll() {
+        return repository.findAll().stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
     public List<CompetitionRate> findByHouseManageNoAndPblancNo(String houseManageNo, String pblancNo) {
         return repository.findByHouseManageNoAndPblancNo(houseManageNo, pblancNo).stream()
                 .map(this::toDomain)
@@ -41,6 +52,16 @@ public class CompetitionRateDbStore implements CompetitionRatePersistencePort {
         return repository.existsByHouseManageNoAndPblancNo(houseManageNo, pblancNo);
     }
 
+    public Set<String> findRowKeys(Collection<String> houseManageNos) {
+        List<String> nos = List.copyOf(houseManageNos);
+        Set<String> keys = new HashSet<>();
+        for (int from = 0; from < nos.size(); from += LOOKUP_CHUNK_SIZE) {
+            keys.addAll(repository.findRowKeysByHouseManageNoIn(
+                    nos.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, nos.size()))));
+        }
+        return keys;
+    }
+
     private CompetitionRateEntity toEntity(CompetitionRate domain) {
         return CompetitionRateEntity.builder()
                 .houseManageNo(domain.getHouseManageNo())
@@ -0,0 +1,84 @@
+package com.yunbok.houseping.infrastructure.persistence;
+
+import com.yunbok.houseping.core.port.CompetitionRateRollupPort;
+import com.yunbok.houseping.entity.CompetitionRateRollupEntity;
+import com.yunbok.houseping.repository.CompetitionRateRollupRepository;
+import com.yunbok.houseping.support.dto.CompetitionRateRollupCell;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 경쟁률 대시보드 집계 저장소 어댑터
+ */
+@Component
+@RequiredArgsConstructor
+public class CompetitionRateRollupStore implements CompetitionRateRollupPort {
+
+    private final CompetitionRateRollupRepository rollupRepository;
+
+    // ── Query ──
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CompetitionRateRollupCell> findAll() {
+        return rollupRepository.findAll().stream()
+                .map(CompetitionRateRollupEntity::toCell)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isBuilt() {
+        return rollupRepository.existsByDimensionAndDimKey(
+                CompetitionRateRollupCell.Dimension.TOTAL, CompetitionRateRollupCell.TOTAL_KEY);
+    }
+
+    // ── Command ──
+
+    @Override
+    @Transactional
+    public void merge(Collection<CompetitionRateRollupCell> deltas) {
+        Map<CompetitionRateRollupCell.Dimension, List<CompetitionRateRollupCell>> byDimension = deltas.stream()
+                .collect(Collectors.groupingBy(CompetitionRateRollupCell::dimension));
+
+        List<CompetitionRateRollupEntity> toInsert = new ArrayList<>();
+        byDimension.forEach((dimension, cells) -> {
+            List<String> keys = cells.stream().map(CompetitionRateRollupCell::key).toList();
+            Map<String, CompetitionRateRollupEntity> existing = rollupRepository
+                    .findByDimensionAndDimKeyIn(dimension, keys).stream()
+                    .collect(Collectors.toMap(CompetitionRateRollupEntity::getDimKey, Function.identity()));
+            for (CompetitionRateRollupCell cell : cells) {
+                CompetitionRateRollupEntity entity = existing.get(cell.key());
+                if (entity != null) {
+                    entity.add(cell);
+                } else {
+                    toInsert.add(CompetitionRateRollupEntity.from(cell));
+                }
+            }
+        });
+        rollupRepository.saveAll(toInsert);
+    }
+
+    @Override
+    @Transactional
+    public void replaceAll(Collection<CompetitionRateRollupCell> cells) {
+        rollupRepository.deleteAllInBatch();
+        rollupRepository.saveAll(cells.stream()
+                .map(CompetitionRateRollupEntity::from)
+                .toList());
+    }
+
+    @Override
+    @Transactional
+    public void deleteAll() {
+        rollupRepository.deleteAllInBatch();
+    }
+}
@@ -0,0 +1,75 @@
+package com.yunbok.houseping.infrastructure.persistence;
+
+import com.yunbok.houseping.core.domain.OutboxMessage;
+import com.yunbok.houseping.core.port.NotificationOutboxPort;
+import com.yunbok.houseping.entity.NotificationOutboxEntity;
+import com.yunbok.houseping.repository.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 발송 대기열 저장소 어댑터
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxStore implements NotificationOutboxPort {
+
+    private final NotificationOutboxRepository outboxRepository;
+
+    // ── Command ──
+
+    @Override
+    @Transactional
+    public List<OutboxMessage> claimDue(LocalDateTime now, int limit, LocalDateTime leaseUntil) {
+        List<NotificationOutboxEntity> due =
+                outboxRepository.findDue(NotificationOutboxEntity.Status.PENDING, now, PageRequest.of(0, limit));
+        due.forEach(entity -> entity.reschedule(leaseUntil));
+        return due.stream()
+                .map(NotificationOutboxEntity::toMessage)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void enqueue(String channel, List<String> recipients, String message) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.saveAll(recipients.stream()
+                .map(recipient -> NotificationOutboxEntity.pending(channel, recipient, message, now))
+                .toList());
+    }
+
+    @Override
+    @Transactional
+    public void markSent(Long id, LocalDateTime sentAt) {
+        outboxRepository.findById(id).ifPresent(entity -> entity.markSent(sentAt));
+    }
+
+    @Override
+    @Transactional
+    public void markRetry(Long id, String error, LocalDateTime nextAttemptAt) {
+        outboxRepository.findById(id).ifPresent(entity -> entity.markRetry(error, nextAttemptAt));
+    }
+
+    @Override
+    @Transactional
+    public void markFailed(Long id, String error) {
+        outboxRepository.findById(id).ifPresent(entity -> entity.markFailed(error));
+    }
+
+    @Override
+    @Transactional
+    public void defer(List<Long> ids, LocalDateTime nextAttemptAt) {
+        outboxRepository.findAllById(ids).forEach(entity -> entity.reschedule(nextAttemptAt));
+    }
+
+    @Override
+    @Transactional
+    public int deleteSentBefore(LocalDateTime cutoff) {
+        return outboxRepository.deleteByStatusAndSentAtBefore(NotificationOutboxEntity.Status.SENT, cutoff);
+    }
+}
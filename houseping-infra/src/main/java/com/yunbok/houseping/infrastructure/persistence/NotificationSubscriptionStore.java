@@ -2,94 +2,52 @@ package com.yunbok.houseping.infrastructure.persistence;
 
 import com.yunbok.houseping.core.port.NotificationSubscriptionPersistencePort;
 import com.yunbok.houseping.support.dto.NotificationTarget;
-import com.yunbok.houseping.entity.NotificationSubscriptionEntity;
 import com.yunbok.houseping.repository.NotificationSubscriptionRepository;
-import com.yunbok.houseping.entity.SubscriptionEntity;
-import com.yunbok.houseping.repository.SubscriptionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.BiConsumer;
 
 @Component
 @RequiredArgsConstructor
 public class NotificationSubscriptionStore implements NotificationSubscriptionPersistencePort {
 
-    private final NotificationSubscriptionRepository notificationSubscriptionRepository;
-    private final SubscriptionRepository subscriptionRepository;
-
-    public List<NotificationTarget> findPendingReceiptStartTargets(LocalDate receiptStartDate) {
-        List<NotificationSubscriptionEntity> pendingNotifications =
-                notificationSubscriptionRepository.findPendingReceiptStartNotifications();
+    private static final int UPDATE_CHUNK_SIZE = 1000;
 
-        if (pendingNotifications.isEmpty()) {
-            return List.of();
-        }
+    private final NotificationSubscriptionRepository notificationSubscriptionRepository;
 
-        Map<Long, SubscriptionEntity> subscriptionMap = getSubscriptionMap(pendingNotifications);
+    // ── Query ──
 
-        return pendingNotifications.stream()
-                .filter(n -> {
-                    SubscriptionEntity sub = subscriptionMap.get(n.getSubscriptionId());
-                    return sub != null && receiptStartDate.equals(sub.getReceiptStartDate());
-                })
-                .map(n -> toNotificationTarget(n, subscriptionMap.get(n.getSubscriptionId())))
-                .toList();
+    public List<NotificationTarget> findPendingReceiptStartTargets(LocalDate receiptStartDate) {
+        return notificationSubscriptionRepository.findPendingReceiptStartTargets(receiptStartDate);
     }
 
     public List<NotificationTarget> findPendingReceiptEndTargets(LocalDate receiptEndDate) {
-        List<NotificationSubscriptionEntity> pendingNotifications =
-                notificationSubscriptionRepository.findPendingReceiptEndNotifications();
-
-        if (pendingNotifications.isEmpty()) {
-            return List.of();
-        }
-
-        Map<Long, SubscriptionEntity> subscriptionMap = getSubscriptionMap(pendingNotifications);
-
-        return pendingNotifications.stream()
-                .filter(n -> {
-                    SubscriptionEntity sub = subscriptionMap.get(n.getSubscriptionId());
-                    return sub != null && receiptEndDate.equals(sub.getReceiptEndDate());
-                })
-                .map(n -> toNotificationTarget(n, subscriptionMap.get(n.getSubscriptionId())))
-                .toList();
+        return notificationSubscriptionRepository.findPendingReceiptEndTargets(receiptEndDate);
     }
 
-    public void markReceiptStartNotified(Long notificationId) {
-        notificationSubscriptionRepository.findById(notificationId)
-                .ifPresent(NotificationSubscriptionEntity::markReceiptStartNotified);
-    }
+    // ── Command ──
 
-    public void markReceiptEndNotified(Long notificationId) {
-        notificationSubscriptionRepository.findById(notificationId)
-                .ifPresent(NotificationSubscriptionEntity::markReceiptEndNotified);
+    @Transactional
+    public void markReceiptStartNotified(Collection<Long> notificationIds) {
+        updateInChunks(notificationIds, notificationSubscriptionRepository::markReceiptStartNotified);
     }
 
-    private Map<Long, SubscriptionEntity> getSubscriptionMap(List<NotificationSubscriptionEntity> notifications) {
-        List<Long> subscriptionIds = notifications.stream()
-                .map(NotificationSubscriptionEntity::getSubscriptionId)
-                .toList();
-
-        return subscriptionRepository.findAllById(subscriptionIds)
-                .stream()
-                .collect(Collectors.toMap(SubscriptionEntity::getId, Function.identity()));
+    @Transactional
+    public void markReceiptEndNotified(Collection<Long> notificationIds) {
+        updateInChunks(notificationIds, notificationSubscriptionRepository::markReceiptEndNotified);
     }
 
-    private NotificationTarget toNotificationTarget(NotificationSubscriptionEntity notification, SubscriptionEntity subscription) {
-        return new NotificationTarget(
-                notification.getId(),
-                subscription.getId(),
-                subscription.getHouseName(),
-                subscription.getArea(),
-                subscription.getReceiptStartDate(),
-                subscription.getReceiptEndDate(),
-                subscription.getTotalSupplyCount(),
-                subscription.getDetailUrl()
-        );
+    private void updateInChunks(Collection<Long> notificationIds, BiConsumer<List<Long>, LocalDateTime> update) {
+        List<Long> ids = List.copyOf(notificationIds);
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < ids.size(); from += UPDATE_CHUNK_SIZE) {
+            update.accept(ids.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, ids.size())), now);
+        }
     }
 }
@@ -0,0 +1,76 @@
+package com.yunbok.houseping.infrastructure.persistence;
+
+import com.yunbok.houseping.core.port.PriceBadgePersistencePort;
+import com.yunbok.houseping.entity.PriceBadgeEntity;
+import com.yunbok.houseping.repository.PriceBadgeRepository;
+import com.yunbok.houseping.support.dto.PriceBadge;
+import com.yunbok.houseping.support.dto.PriceBadgeSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 가격 배지 사전 계산 저장소 어댑터
+ */
+@Component
+@RequiredArgsConstructor
+public class PriceBadgeStore implements PriceBadgePersistencePort {
+
+    private final PriceBadgeRepository priceBadgeRepository;
+
+    // ── Query ──
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, PriceBadge> findBadgesByHouseManageNos(Collection<String> houseManageNos) {
+        if (houseManageNos.isEmpty()) {
+            return Map.of();
+        }
+        return priceBadgeRepository.findByHouseManageNoIn(houseManageNos).stream()
+                .collect(Collectors.toMap(PriceBadgeEntity::getHouseManageNo, PriceBadgeEntity::getBadge));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isEmpty() {
+        return priceBadgeRepository.count() == 0;
+    }
+
+    // ── Command ──
+
+    /**
+     * 주택관리번호 기준 upsert (기존 행은 갱신, 없으면 신규 저장)
+     */
+    @Override
+    @Transactional
+    public void saveAll(List<PriceBadgeSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        List<String> houseManageNos = snapshots.stream()
+                .map(PriceBadgeSnapshot::houseManageNo)
+                .toList();
+        Map<String, PriceBadgeEntity> existing = priceBadgeRepository.findByHouseManageNoIn(houseManageNos).stream()
+                .collect(Collectors.toMap(PriceBadgeEntity::getHouseManageNo, Function.identity()));
+
+        List<PriceBadgeEntity> toInsert = new ArrayList<>();
+        for (PriceBadgeSnapshot snapshot : snapshots) {
+            PriceBadgeEntity entity = existing.get(snapshot.houseManageNo());
+            if (entity != null) {
+                entity.refresh(snapshot);
+            } else {
+                PriceBadgeEntity created = PriceBadgeEntity.from(snapshot);
+                existing.put(snapshot.houseManageNo(), created);
+                toInsert.add(created);
+            }
+        }
+        priceBadgeRepository.saveAll(toInsert);
+    }
+}
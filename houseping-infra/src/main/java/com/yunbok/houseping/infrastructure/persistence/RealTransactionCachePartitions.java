@@ -0,0 +1,218 @@
+package com.yunbok.houseping.infrastructure.persistence;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.time.Year;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 실거래가 캐시 테이블 파티션 관리 (PostgreSQL)
+ * real_transaction_cache를 계약월(deal_ymd) 기준 연도별 RANGE 파티션으로 운영한다.
+ * - 자연키 (lawd_cd, deal_ymd, apt_name, jibun, floor, exclu_use_ar, deal_date, deal_amount)에 유니크 제약을 두어 중복 행을 막는다.
+ * - 보관 기간 정리는 DELETE 대신 연도 파티션을 통째로 지운다.
+ * Hibernate(ddl-auto)가 만든 일반 테이블이 있으면 기동 시(요청·스케줄 처리 전) 한 번 파티션 테이블로 옮긴다. (중복 행은 이때 정리)
+ * 옮기지 못하면(PostgreSQL 15 미만, 다른 DB, 이전 실패) 일반 테이블 그대로 두고,
+ * 캐시 저장은 {@link #hasNaturalKey()}를 보고 자연키 upsert 대신 단순 INSERT로 동작한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RealTransactionCachePartitions {
+
+    static final String NATURAL_KEY = "uk_real_transaction_cache_natural_key";
+
+    private static final String TABLE = "real_transaction_cache";
+    private static final Pattern YEAR_PARTITION = Pattern.compile(TABLE + "_(\\d{4})");
+
+    /**
+     * 일반 테이블 → 파티션 테이블 이전 (한 문장으로 실행되어 원자적으로 적용됨)
+     */
+    private static final String MIGRATE_SQL = """
+            DO $$
+            DECLARE
+                y INT;
+            BEGIN
+                IF NOT EXISTS (SELECT 1 FROM pg_class WHERE oid = to_regclass('real_transaction_cache') AND relkind = 'r') THEN
+                    RETURN;
+                END IF;
+                -- UNIQUE NULLS NOT DISTINCT는 PostgreSQL 15부터 지원
+                IF current_setting('server_version_num')::INT < 150000 THEN
+                    RETURN;
+                END IF;
+
+                ALTER TABLE real_transaction_cache RENAME TO real_transaction_cache_legacy;
+                ALTER TABLE real_transaction_cache_legacy DROP CONSTRAINT IF EXISTS real_transaction_cache_pkey;
+                DROP INDEX IF EXISTS idx_lawd_cd_deal_ymd, idx_apt_name, idx_deal_date, idx_cached_at,
+                    idx_real_transaction_cache_lawd_cd_umd_nm, idx_real_transaction_apt_name_trgm;
+
+                CREATE TABLE real_transaction_cache (
+                    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+                    lawd_cd VARCHAR(5) NOT NULL,
+                    deal_ymd VARCHAR(6) NOT NULL,
+                    apt_name VARCHAR(200) NOT NULL,
+                    deal_amount BIGINT NOT NULL,
+                    exclu_use_ar NUMERIC(10, 4),
+                    floor INTEGER,
+                    build_year INTEGER,
+                    deal_date DATE,
+                    deal_day INTEGER,
+                    umd_nm VARCHAR(100),
+                    jibun VARCHAR(50),
+                    cached_at TIMESTAMP(6) NOT NULL,
+                    PRIMARY KEY (id, deal_ymd),
+                    CONSTRAINT uk_real_transaction_cache_natural_key UNIQUE NULLS NOT DISTINCT
+                        (lawd_cd, deal_ymd, apt_name, jibun, floor, exclu_use_ar, deal_date, deal_amount)
+                ) PARTITION BY RANGE (deal_ymd);
+
+                CREATE TABLE real_transaction_cache_default PARTITION OF real_transaction_cache DEFAULT;
+                FOR y IN SELECT DISTINCT LEFT(deal_ymd, 4)::INT FROM real_transaction_cache_legacy WHERE deal_ymd ~ '^[0-9]{6}$' LOOP
+                    EXECUTE format('CREATE TABLE %I PARTITION OF real_transaction_cache FOR VALUES FROM (%L) TO (%L)',
+                            'real_transaction_cache_' || y, y || '01', (y + 1) || '01');
+                END LOOP;
+
+                CREATE INDEX idx_lawd_cd_deal_ymd ON real_transaction_cache (lawd_cd, deal_ymd);
+                CREATE INDEX idx_apt_name ON real_transaction_cache (apt_name);
+                CREATE INDEX idx_deal_date ON real_transaction_cache (deal_date);
+                CREATE INDEX idx_real_transaction_cache_lawd_cd_umd_nm ON real_transaction_cache (lawd_cd, umd_nm, exclu_use_ar)
+                    INCLUDE (deal_amount, deal_date);
+                IF EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm') THEN
+                    CREATE INDEX idx_real_transaction_apt_name_trgm ON real_transaction_cache USING gin (apt_name gin_trgm_ops);
+                END IF;
+
+                INSERT INTO real_transaction_cache
+                    (lawd_cd, deal_ymd, apt_name, deal_amount, exclu_use_ar, floor, build_year,
+                     deal_date, deal_day, umd_nm, jibun, cached_at)
+                SELECT DISTINCT ON (lawd_cd, deal_ymd, apt_name, jibun, floor, exclu_use_ar, deal_date, deal_amount)
+                       lawd_cd, deal_ymd, apt_name, deal_amount, exclu_use_ar, floor, build_year,
+                       deal_date, deal_day, umd_nm, jibun, cached_at
+                FROM real_transaction_cache_legacy
+                ORDER BY lawd_cd, deal_ymd, apt_name, jibun, floor, exclu_use_ar, deal_date, deal_amount, cached_at DESC;
+
+                DROP TABLE real_transaction_cache_legacy;
+            END $$
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean postgres;
+    private volatile boolean partitioned;
+    private volatile boolean naturalKey;
+
+    @PostConstruct
+    void prepare() {
+        postgres = isSupported();
+        if (!postgres) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute(MIGRATE_SQL);
+        } catch (DataAccessException e) {
+            log.error("[실거래가 캐시] 파티션 테이블 이전 실패", e);
+        }
+
+        partitioned = Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_class WHERE oid = to_regclass(?) AND relkind = 'p')",
+                Boolean.class, TABLE));
+        naturalKey = Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = ? AND conrelid = to_regclass(?))",
+                Boolean.class, NATURAL_KEY, TABLE));
+        if (!naturalKey) {
+            log.warn("[실거래가 캐시] 자연키 제약이 없어 단순 INSERT로 저장 (중복 행은 이전 캐시 정리 때 지워짐)");
+        }
+
+        if (partitioned) {
+            try {
+                int currentYear = Year.now().getValue();
+                ensureYears(currentYear - 1, currentYear + 1);
+            } catch (DataAccessException e) {
+                log.error("[실거래가 캐시] 연도 파티션 준비 실패", e);
+            }
+        }
+    }
+
+    /**
+     * 연도 파티션으로 운영 중인지 (기동 시 확인)
+     */
+    public boolean isPartitioned() {
+        return partitioned;
+    }
+
+    /**
+     * 자연키 유니크 제약({@link #NATURAL_KEY})이 있는지 (기동 시 확인)
+     */
+    public boolean hasNaturalKey() {
+        return naturalKey;
+    }
+
+    /**
+     * PostgreSQL인지 (기동 시 확인, 권고 잠금 사용 여부)
+     */
+    boolean isPostgres() {
+        return postgres;
+    }
+
+    /**
+     * 연도 파티션 생성 (이미 있으면 건너뜀)
+     * 기본 파티션에 해당 연도 행이 이미 있으면 만들 수 없으므로 그 연도는 기본 파티션에 그대로 둔다.
+     */
+    public void ensureYears(int fromYear, int toYear) {
+        for (int year = fromYear; year <= toYear; year++) {
+            String from = year + "01";
+            String to = (year + 1) + "01";
+            Boolean occupied = jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM " + TABLE + "_default WHERE deal_ymd >= ? AND deal_ymd < ?)",
+                    Boolean.class, from, to);
+            if (Boolean.TRUE.equals(occupied)) {
+                log.warn("[실거래가 캐시] 기본 파티션에 {}년 데이터가 있어 파티션을 만들지 않음", year);
+                continue;
+            }
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS %s_%d PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')"
+                    .formatted(TABLE, year, TABLE, from, to));
+        }
+    }
+
+    /**
+     * 지정 연도 이전의 연도 파티션 삭제
+     * @return 삭제한 파티션 수
+     */
+    public int dropYearsBefore(int year) {
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = to_regclass('real_transaction_cache')
+                """, String.class);
+
+        int dropped = 0;
+        for (String partition : partitions) {
+            Matcher matcher = YEAR_PARTITION.matcher(partition);
+            if (matcher.matches() && Integer.parseInt(matcher.group(1)) < year) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+                log.info("[실거래가 캐시] 파티션 삭제: {}", partition);
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    /**
+     * 파티션 사용 가능 여부 (PostgreSQL)
+     */
+    private boolean isSupported() {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                    DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equals(product);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
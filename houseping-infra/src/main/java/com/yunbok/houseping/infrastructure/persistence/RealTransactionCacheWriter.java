@@ -0,0 +1,157 @@
+package com.yunbok.houseping.infrastructure.persistence;
+
+import com.yunbok.houseping.support.external.RealTransactionItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 실거래가 캐시 JDBC 배치 저장
+ * IDENTITY 키라 JPA saveAll은 한 건씩 INSERT되므로, API에서 스트리밍으로 읽은 항목을 JDBC 배치로 바로 쓴다.
+ * 자연키({@link RealTransactionCachePartitions#NATURAL_KEY})가 같은 행은 새로 넣지 않고 저장 시점만 갱신하므로,
+ * 갱신이 끝난 뒤 이번 저장 시점보다 오래된 행(더 이상 응답에 없는 거래)만 지우면 된다.
+ * 자연키 제약이 없는 DB(파티션 이전 전·실패)에서는 단순 INSERT로 쓰고, 겹친 이전 행은 같은 정리 단계에서 지워진다.
+ * 같은 계약월을 두 곳(정기 수집, 요청 스레드의 즉시 조회)에서 동시에 갱신하면 먼저 시작한 쪽이 저장 시점을 과거로 되돌려
+ * 나중 쪽의 정리 단계에서 행이 지워질 수 있으므로, 갱신은 {@link #withMonthLock}으로 계약월 단위로 직렬화하고
+ * upsert도 저장 시점을 앞당기지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RealTransactionCacheWriter {
+
+    static final int BATCH_SIZE = 500;
+
+    static final String INSERT_SQL = """
+            INSERT INTO real_transaction_cache
+                (lawd_cd, deal_ymd, apt_name, deal_amount, exclu_use_ar, floor, build_year,
+                 deal_date, deal_day, umd_nm, jibun, cached_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    static final String UPSERT_SQL = INSERT_SQL + """
+            ON CONFLICT ON CONSTRAINT %s DO UPDATE SET
+                build_year = EXCLUDED.build_year,
+                deal_day = EXCLUDED.deal_day,
+                umd_nm = EXCLUDED.umd_nm,
+                cached_at = GREATEST(real_transaction_cache.cached_at, EXCLUDED.cached_at)
+            """.formatted(RealTransactionCachePartitions.NATURAL_KEY);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RealTransactionCachePartitions partitions;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 한 (법정동코드, 계약월) 갱신을 트랜잭션 안에서 단독으로 실행
+     * PostgreSQL에서는 트랜잭션 단위 권고 잠금(pg_advisory_xact_lock)으로 다른 인스턴스의 같은 계약월 갱신도 기다린다.
+     */
+    public <T> T withMonthLock(String lawdCd, String dealYmd, Supplier<T> refresh) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            if (partitions.isPostgres()) {
+                jdbcTemplate.query("SELECT pg_advisory_xact_lock(?, ?)", rs -> null, lawdCd.hashCode(), dealYmd.hashCode());
+            }
+            return refresh.get();
+        });
+    }
+
+    /**
+     * 한 (법정동코드, 계약월) 갱신분을 쓰는 배치 생성
+     * @param cachedAt 이번 갱신분의 캐시 저장 시점 (이전 캐시 구분에 사용)
+     */
+    public Batch open(String lawdCd, String dealYmd, LocalDateTime cachedAt) {
+        return new Batch(lawdCd, dealYmd, Timestamp.valueOf(cachedAt));
+    }
+
+    /**
+     * 이번 갱신분보다 먼저 저장된 캐시 삭제 (갱신 완료 후, 응답에서 사라진 거래 정리)
+     */
+    public int deleteCachedBefore(String lawdCd, String dealYmd, LocalDateTime cachedAt) {
+        return jdbcTemplate.update(
+                "DELETE FROM real_transaction_cache WHERE lawd_cd = ? AND deal_ymd = ? AND cached_at < ?",
+                lawdCd, dealYmd, Timestamp.valueOf(cachedAt));
+    }
+
+    public class Batch {
+
+        private final String lawdCd;
+        private final String dealYmd;
+        private final Timestamp cachedAt;
+        private final List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        private int written;
+        private long checksum;
+
+        private Batch(String lawdCd, String dealYmd, Timestamp cachedAt) {
+            this.lawdCd = lawdCd;
+            this.dealYmd = dealYmd;
+            this.cachedAt = cachedAt;
+        }
+
+        /**
+         * 항목 추가 (아파트명·거래금액이 없으면 건너뜀), BATCH_SIZE마다 저장
+         */
+        public void add(RealTransactionItem item) {
+            Long dealAmount = item.getDealAmountAsLong();
+            if (dealAmount == null || item.getAptName() == null) {
+                return;
+            }
+            LocalDate dealDate = item.getDealDate();
+            checksum += fingerprint(item, dealAmount, dealDate);
+            rows.add(new Object[]{
+                    lawdCd, dealYmd, item.getAptName(), dealAmount, item.getExcluUseAr(), item.getFloor(),
+                    item.getBuildYear(), dealDate != null ? Date.valueOf(dealDate) : null,
+                    item.getDealDay(), item.getUmdNm(), item.getJibun(), cachedAt
+            });
+            if (rows.size() >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        /**
+         * 남은 항목 저장
+         */
+        public void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate(partitions.hasNaturalKey() ? UPSERT_SQL : INSERT_SQL, rows);
+            written += rows.size();
+            rows.clear();
+        }
+
+        /**
+         * 지금까지 저장된 건수
+         */
+        public int written() {
+            return written;
+        }
+
+        /**
+         * 추가된 항목 내용의 체크섬 (항목 순서와 무관한 합산)
+         */
+        public long checksum() {
+            return checksum;
+        }
+    }
+
+    private static long fingerprint(RealTransactionItem item, Long dealAmount, LocalDate dealDate) {
+        long hash = Objects.hash(item.getAptName(), dealAmount, item.getExcluUseAr(), item.getFloor(),
+                item.getBuildYear(), dealDate, item.getUmdNm(), item.getJibun());
+        // 32비트 해시를 64비트로 퍼뜨려 합산 시 충돌을 줄임 (MurmurHash3 fmix64)
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -4,21 +4,28 @@ import com.yunbok.houseping.core.domain.RealTransaction;
 import com.yunbok.houseping.core.port.RealTransactionPersistencePort;
 import com.yunbok.houseping.entity.RealTransactionCacheEntity;
 import com.yunbok.houseping.repository.RealTransactionCacheRepository;
+import com.yunbok.houseping.repository.RealTransactionFetchRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 /**
  * 실거래가 조회 어댑터
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class RealTransactionStore implements RealTransactionPersistencePort {
 
     private final RealTransactionCacheRepository realTransactionCacheRepository;
+    private final RealTransactionFetchRepository realTransactionFetchRepository;
+    private final RealTransactionCachePartitions partitions;
 
     public List<RealTransaction> findByLawdCdAndDongName(String lawdCd, String dongName) {
         return realTransactionCacheRepository.findByLawdCdAndUmdNmOrderByDealDateDesc(lawdCd, dongName).stream()
@@ -46,6 +53,24 @@ public class RealTransactionStore implements RealTransactionPersistencePort {
         return false;
     }
 
+    /**
+     * 연도 파티션을 통째로 삭제하고 다음 해 파티션을 미리 만들어 둠
+     * 파티션이 없는 DB나 기본 파티션에 남은 행은 행 단위로 삭제한다.
+     */
+    @Transactional
+    public void purgeBefore(int year) {
+        int droppedPartitions = 0;
+        if (partitions.isPartitioned()) {
+            droppedPartitions = partitions.dropYearsBefore(year);
+            int currentYear = Year.now().getValue();
+            partitions.ensureYears(currentYear, currentYear + 1);
+        }
+        String dealYmd = year + "01";
+        int deletedRows = realTransactionCacheRepository.deleteByDealYmdBefore(dealYmd);
+        realTransactionFetchRepository.deleteByDealYmdBefore(dealYmd);
+        log.info("[실거래가 캐시] {}년 이전 계약분 정리 - 파티션 {}개, 행 {}건 삭제", year, droppedPartitions, deletedRows);
+    }
+
     /**
      * Entity -> Domain Model 변환
      */
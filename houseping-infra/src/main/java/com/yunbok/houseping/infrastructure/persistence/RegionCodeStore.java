@@ -1,13 +1,14 @@
 package com.yunbok.houseping.infrastructure.persistence;
 
+import com.yunbok.houseping.core.domain.RegionCode;
 import com.yunbok.houseping.core.port.RegionCodePersistencePort;
 import com.yunbok.houseping.entity.RegionCodeEntity;
 import com.yunbok.houseping.repository.RegionCodeRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * 지역코드 조회 어댑터
@@ -18,16 +19,14 @@ public class RegionCodeStore implements RegionCodePersistencePort {
 
     private final RegionCodeRepository regionCodeRepository;
 
-    public Optional<String> findLawdCd(String sidoName, String sigunguName) {
-        return regionCodeRepository.findBySidoNameAndSigunguName(sidoName, sigunguName)
-                .map(RegionCodeEntity::getLawdCd);
+    public List<RegionCode> findAll() {
+        return regionCodeRepository.findAll().stream()
+                .map(this::toDomain)
+                .sorted(Comparator.comparing(RegionCode::lawdCd))
+                .toList();
     }
 
-    public Optional<String> findLawdCdByContaining(String sigunguName) {
-        List<RegionCodeEntity> candidates = regionCodeRepository.findBySigunguNameContaining(sigunguName);
-        if (candidates.isEmpty()) {
-            return Optional.empty();
-        }
-        return Optional.of(candidates.get(0).getLawdCd());
+    private RegionCode toDomain(RegionCodeEntity entity) {
+        return new RegionCode(entity.getSidoName(), entity.getSigunguName(), entity.getLawdCd());
     }
 }
@@ -4,23 +4,37 @@ import com.yunbok.houseping.core.domain.Subscription;
 import com.yunbok.houseping.core.port.SubscriptionPersistencePort;
 import com.yunbok.houseping.entity.SubscriptionEntity;
 import com.yunbok.houseping.repository.SubscriptionRepository;
+import com.yunbok.houseping.support.dto.SyncResult;
+import com.yunbok.houseping.support.util.AreaNormalizer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class SubscriptionStore implements SubscriptionPersistencePort {
 
+    /** 기존 데이터 조회 시 IN 절 최대 크기 */
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
     private final SubscriptionRepository subscriptionRepository;
+    private final SubscriptionUpsertWriter upsertWriter;
 
     // ── Query ──
 
@@ -30,9 +44,7 @@ public class SubscriptionStore implements SubscriptionPersistencePort {
     }
 
     public List<Subscription> findByAreaContaining(String area) {
-        return subscriptionRepository.findByAreaContaining(area).stream()
-                .map(this::toDomain)
-                .toList();
+        return findByAreaAliases(AreaNormalizer.expand(area));
     }
 
     public List<Subscription> findBySourceAndAreas(String source, List<String> areas) {
@@ -42,16 +54,22 @@ public class SubscriptionStore implements SubscriptionPersistencePort {
     }
 
     public List<Subscription> findBySupportedAreas(List<String> areas) {
-        if (areas.size() >= 2) {
-            return subscriptionRepository.findByAreaLikeOrAreaLike(areas.get(0), areas.get(1)).stream()
-                    .map(this::toDomain)
-                    .toList();
-        } else if (areas.size() == 1) {
-            return subscriptionRepository.findByAreaContaining(areas.get(0)).stream()
-                    .map(this::toDomain)
-                    .toList();
+        return findByAreaAliases(areas.stream()
+                .flatMap(area -> AreaNormalizer.expand(area).stream())
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+    }
+
+    /**
+     * 지역명은 "서울" / "서울특별시"처럼 정해진 별칭으로만 저장되므로
+     * LIKE '%서울%' 대신 별칭 IN 조건으로 조회해 idx_area를 탄다.
+     */
+    private List<Subscription> findByAreaAliases(Collection<String> aliases) {
+        if (aliases.isEmpty()) {
+            return List.of();
         }
-        return List.of();
+        return subscriptionRepository.findByAreaIn(aliases).stream()
+                .map(this::toDomain)
+                .toList();
     }
 
     public List<Subscription> findByReceiptStartDateBetween(LocalDate startDate, LocalDate endDate) {
@@ -79,13 +97,6 @@ public class SubscriptionStore implements SubscriptionPersistencePort {
                 .toList();
     }
 
-    public Optional<Subscription> findBySourceAndHouseNameAndReceiptStartDate(
-            String source, String houseName, LocalDate receiptStartDate) {
-        return subscriptionRepository
-                .findBySourceAndHouseNameAndReceiptStartDate(source, houseName, receiptStartDate)
-                .map(this::toDomain);
-    }
-
     public List<Subscription> findByAreaAndReceiptStartDate(String area, LocalDate receiptStartDate) {
         return subscriptionRepository.findByAreaAndReceiptStartDate(area, receiptStartDate)
                 .stream()
@@ -100,6 +111,16 @@ public class SubscriptionStore implements SubscriptionPersistencePort {
         return new HashSet<>(subscriptionRepository.findHouseManageNosByAreaIn(areas));
     }
 
+    public List<Subscription> findByHouseManageNos(Collection<String> houseManageNos) {
+        List<String> nos = List.copyOf(houseManageNos);
+        List<Subscription> result = new ArrayList<>();
+        for (int from = 0; from < nos.size(); from += LOOKUP_CHUNK_SIZE) {
+            subscriptionRepository.findByHouseManageNoIn(nos.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, nos.size())))
+                    .forEach(entity -> result.add(toDomain(entity)));
+        }
+        return result;
+    }
+
     // ── Command ──
 
     public void save(Subscription subscription, String source) {
@@ -107,17 +128,23 @@ public class SubscriptionStore implements SubscriptionPersistencePort {
         subscriptionRepository.save(entity);
     }
 
-    public void update(Subscription subscription, String source) {
-        subscriptionRepository
-                .findBySourceAndHouseNameAndReceiptStartDate(
-                        source, subscription.getHouseName(), subscription.getReceiptStartDate())
-                .ifPresent(existing -> {
-                    SubscriptionEntity updated = toEntity(subscription, source);
-                    if (existing.needsUpdate(updated)) {
-                        existing.updateFrom(updated);
-                        subscriptionRepository.save(existing);
-                    }
-                });
+    /**
+     * 소스 단위 일괄 upsert
+     * 같은 배치 안의 중복 키((source, house_name, receipt_start_date) 유니크 키 기준)는 첫 행만 쓰고 건너뜀으로 집계
+     */
+    @Transactional
+    public SyncResult upsertAll(List<Subscription> subscriptions, String source) {
+        Map<String, Subscription> uniqueByKey = new LinkedHashMap<>();
+        for (Subscription subscription : subscriptions) {
+            uniqueByKey.putIfAbsent(uniqueKey(subscription.getHouseName(), subscription.getReceiptStartDate()), subscription);
+        }
+        int duplicates = subscriptions.size() - uniqueByKey.size();
+        return upsertWriter.upsert(List.copyOf(uniqueByKey.values()), source)
+                .merge(new SyncResult(0, 0, duplicates));
+    }
+
+    private String uniqueKey(String houseName, LocalDate receiptStartDate) {
+        return houseName + "|" + Objects.toString(receiptStartDate, "");
     }
 
     public int deleteOldSubscriptions(LocalDate cutoffDate) {
@@ -0,0 +1,120 @@
+package com.yunbok.houseping.infrastructure.persistence;
+
+import com.yunbok.houseping.core.domain.Subscription;
+import com.yunbok.houseping.support.dto.SyncResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 청약 정보 일괄 upsert (uk_subscription 기준 INSERT ... ON CONFLICT)
+ * IDENTITY 키라 JPA saveAll은 한 건씩 INSERT되므로, 여러 행을 한 문장으로 쓴다.
+ * 기존 행은 비교 대상 컬럼(SubscriptionEntity.needsUpdate와 동일)이 달라졌을 때만 갱신하고,
+ * RETURNING의 xmax = 0으로 신규/갱신을 구분한다. 반환되지 않은 행은 값이 같아 건너뛴 행이다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SubscriptionUpsertWriter {
+
+    /** 한 문장에 넣는 행 수 (바인드 변수 상한 65535 이내) */
+    static final int CHUNK_SIZE = 500;
+
+    private static final String COLUMNS = """
+            source, house_manage_no, pblanc_no, house_name, house_type, area, announce_date,
+            receipt_start_date, receipt_end_date, winner_announce_date, detail_url, homepage_url, contact,
+            total_supply_count, address, zip_code, collected_at, created_at, updated_at""";
+
+    private static final int COLUMN_COUNT = 19;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO subscription_info (%s)
+            VALUES %%s
+            ON CONFLICT ON CONSTRAINT uk_subscription DO UPDATE SET
+                house_manage_no = EXCLUDED.house_manage_no,
+                pblanc_no = EXCLUDED.pblanc_no,
+                house_type = EXCLUDED.house_type,
+                area = EXCLUDED.area,
+                announce_date = EXCLUDED.announce_date,
+                receipt_end_date = EXCLUDED.receipt_end_date,
+                winner_announce_date = EXCLUDED.winner_announce_date,
+                detail_url = EXCLUDED.detail_url,
+                homepage_url = EXCLUDED.homepage_url,
+                contact = EXCLUDED.contact,
+                total_supply_count = EXCLUDED.total_supply_count,
+                address = EXCLUDED.address,
+                zip_code = EXCLUDED.zip_code,
+                collected_at = EXCLUDED.collected_at,
+                updated_at = EXCLUDED.updated_at
+            WHERE (subscription_info.house_manage_no, subscription_info.pblanc_no,
+                   subscription_info.receipt_end_date, subscription_info.winner_announce_date,
+                   subscription_info.detail_url, subscription_info.total_supply_count,
+                   subscription_info.address, subscription_info.zip_code)
+                IS DISTINCT FROM
+                  (EXCLUDED.house_manage_no, EXCLUDED.pblanc_no,
+                   EXCLUDED.receipt_end_date, EXCLUDED.winner_announce_date,
+                   EXCLUDED.detail_url, EXCLUDED.total_supply_count,
+                   EXCLUDED.address, EXCLUDED.zip_code)
+            RETURNING (xmax = 0) AS inserted
+            """.formatted(COLUMNS);
+
+    private static final String ROW_PLACEHOLDER = "(" + String.join(", ", Collections.nCopies(COLUMN_COUNT, "?")) + ")";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 한 소스의 청약 정보를 CHUNK_SIZE 단위로 upsert
+     * 같은 문장 안에서 같은 키가 두 번 나오면 ON CONFLICT가 실패하므로 호출 측에서 중복을 제거해 넘긴다.
+     */
+    public SyncResult upsert(List<Subscription> subscriptions, String source) {
+        SyncResult result = SyncResult.empty();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < subscriptions.size(); from += CHUNK_SIZE) {
+            List<Subscription> chunk = subscriptions.subList(from, Math.min(from + CHUNK_SIZE, subscriptions.size()));
+            result = result.merge(upsertChunk(chunk, source, now));
+        }
+        return result;
+    }
+
+    private SyncResult upsertChunk(List<Subscription> chunk, String source, Timestamp now) {
+        String sql = UPSERT_SQL.formatted(String.join(", ", Collections.nCopies(chunk.size(), ROW_PLACEHOLDER)));
+        List<Object> args = new ArrayList<>(chunk.size() * COLUMN_COUNT);
+        for (Subscription subscription : chunk) {
+            args.add(source);
+            args.add(subscription.getHouseManageNo());
+            args.add(subscription.getPblancNo());
+            args.add(subscription.getHouseName());
+            args.add(subscription.getHouseType());
+            args.add(subscription.getArea());
+            args.add(toDate(subscription.getAnnounceDate()));
+            args.add(toDate(subscription.getReceiptStartDate()));
+            args.add(toDate(subscription.getReceiptEndDate()));
+            args.add(toDate(subscription.getWinnerAnnounceDate()));
+            args.add(subscription.getDetailUrl());
+            args.add(subscription.getHomepageUrl());
+            args.add(subscription.getContact());
+            args.add(subscription.getTotalSupplyCount());
+            args.add(subscription.getAddress());
+            args.add(subscription.getZipCode());
+            args.add(now);
+            args.add(now);
+            args.add(now);
+        }
+
+        List<Boolean> written = jdbcTemplate.queryForList(sql, Boolean.class, args.toArray());
+        int inserted = (int) written.stream().filter(Boolean.TRUE::equals).count();
+        int updated = written.size() - inserted;
+        return new SyncResult(inserted, updated, chunk.size() - written.size());
+    }
+
+    private static Date toDate(LocalDate date) {
+        return date != null ? Date.valueOf(date) : null;
+    }
+}
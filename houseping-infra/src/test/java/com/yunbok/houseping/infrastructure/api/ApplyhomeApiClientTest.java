@@ -7,6 +7,9 @@ import com.yunbok.houseping.support.external.ApplyhomeRemainingResponse;
 import com.yunbok.houseping.core.domain.Subscription;
 import com.yunbok.houseping.config.SubscriptionProperties;
 import com.yunbok.houseping.repository.SubscriptionPriceRepository;
+import com.yunbok.houseping.config.RateLimitProperties;
+import com.yunbok.houseping.support.util.ApiRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,6 +21,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.function.Function;
@@ -56,7 +60,8 @@ class ApplyhomeApiClientTest {
 
     @BeforeEach
     void setUp() {
-        adapter = new ApplyhomeApiClient(webClient, properties, priceRepository);
+        adapter = new ApplyhomeApiClient(webClient, properties, priceRepository,
+                new ApiRateLimiter(new RateLimitProperties(), new SimpleMeterRegistry()), 4, Duration.ofSeconds(5));
         ReflectionTestUtils.setField(adapter, "apiKey", "test-api-key");
 
         when(properties.getApi()).thenReturn(apiProperties);
@@ -147,6 +152,22 @@ class ApplyhomeApiClientTest {
             // then
             assertThat(result).isEmpty();
         }
+
+        @Test
+        @DisplayName("일부 유형이 실패해도 나머지 유형 결과를 반환한다")
+        void returnsPartialResultsWhenSomeTypesFail() {
+            // given
+            mockWebClientGetSuccess(createMockAptResponse(LocalDate.now()));
+            when(responseSpec.bodyToMono(ApplyhomeRemainingResponse.class))
+                    .thenReturn(Mono.error(new RuntimeException("잔여세대 API 오류")));
+
+            // when
+            List<Subscription> result = adapter.fetchAll("서울");
+
+            // then
+            assertThat(result).isNotEmpty();
+            verify(webClient, times(5)).get();
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -4,6 +4,9 @@ import com.yunbok.houseping.support.external.CompetitionRateItem;
 import com.yunbok.houseping.support.external.CompetitionRateResponse;
 import com.yunbok.houseping.core.domain.CompetitionRate;
 import com.yunbok.houseping.config.SubscriptionProperties;
+import com.yunbok.houseping.config.RateLimitProperties;
+import com.yunbok.houseping.support.util.ApiRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,10 +17,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -48,7 +53,8 @@ class ApplyhomeCompetitionRateClientTest {
 
     @BeforeEach
     void setUp() {
-        adapter = new ApplyhomeCompetitionRateClient(webClient, properties, "test-api-key");
+        adapter = new ApplyhomeCompetitionRateClient(webClient, properties,
+                new ApiRateLimiter(new RateLimitProperties(), new SimpleMeterRegistry()), "test-api-key", 4);
 
         when(properties.getApi()).thenReturn(apiProperties);
         when(apiProperties.getPageSize()).thenReturn(100);
@@ -104,18 +110,45 @@ class ApplyhomeCompetitionRateClientTest {
         @DisplayName("여러 페이지의 데이터를 수집한다")
         void collectsMultiplePages() {
             // given
-            CompetitionRateResponse firstPage = new CompetitionRateResponse(
+            CompetitionRateResponse page = new CompetitionRateResponse(
                     1,
-                    100,
+                    250,
                     List.of(createMockItem())
             );
-            mockWebClientGetSuccess(firstPage);
+            mockWebClientGetSuccess(page);
 
             // when
             List<CompetitionRate> result = adapter.fetchAll();
 
             // then
-            assertThat(result).isNotEmpty();
+            assertThat(result).hasSize(3);
+            verify(webClient, times(3)).get();
+        }
+
+        @Test
+        @DisplayName("페이지별로 consumer에 전달한다")
+        void deliversEachPage() {
+            // given
+            mockWebClientGetSuccess(new CompetitionRateResponse(1, 200, List.of(createMockItem())));
+            List<Integer> pageSizes = new ArrayList<>();
+
+            // when
+            adapter.fetchAllPages(rates -> pageSizes.add(rates.size()));
+
+            // then
+            assertThat(pageSizes).containsExactly(1, 1);
+        }
+
+        @Test
+        @DisplayName("consumer에서 발생한 저장 오류는 삼키지 않고 전파한다")
+        void propagatesConsumerFailure() {
+            // given
+            mockWebClientGetSuccess(createMockResponse());
+
+            // when & then
+            assertThatThrownBy(() -> adapter.fetchAllPages(rates -> {
+                throw new IllegalStateException("DB 오류");
+            })).isInstanceOf(IllegalStateException.class).hasMessage("DB 오류");
         }
     }
 
@@ -1,8 +1,16 @@
 package com.yunbok.houseping.infrastructure.api;
 
-import com.yunbok.houseping.support.external.RealTransactionApiResponse;
+import com.yunbok.houseping.core.domain.MonthRefreshResult;
+import com.yunbok.houseping.core.domain.RealTransactionsUpdatedEvent;
 import com.yunbok.houseping.entity.RealTransactionCacheEntity;
+import com.yunbok.houseping.entity.RealTransactionFetchEntity;
+import com.yunbok.houseping.infrastructure.persistence.RealTransactionCacheWriter;
 import com.yunbok.houseping.repository.RealTransactionCacheRepository;
+import com.yunbok.houseping.repository.RealTransactionFetchRepository;
+import com.yunbok.houseping.support.external.RealTransactionItem;
+import com.yunbok.houseping.config.RateLimitProperties;
+import com.yunbok.houseping.support.util.ApiRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,18 +18,31 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
+import reactor.core.publisher.Flux;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @DisplayName("RealTransactionApiClient - 실거래가 API 어댑터")
@@ -44,12 +65,30 @@ class RealTransactionApiClientTest {
     @Mock
     private RealTransactionCacheRepository cacheRepository;
 
+    @Mock
+    private RealTransactionFetchRepository fetchRepository;
+
+    @Mock
+    private RealTransactionCacheWriter cacheWriter;
+
+    @Mock
+    private RealTransactionCacheWriter.Batch batch;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private RealTransactionApiClient adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new RealTransactionApiClient(webClient, cacheRepository);
+        adapter = new RealTransactionApiClient(webClient, cacheRepository, fetchRepository, cacheWriter,
+                new ApiRateLimiter(new RateLimitProperties(), new SimpleMeterRegistry()), eventPublisher, meterRegistry);
         ReflectionTestUtils.setField(adapter, "apiKey", "test-api-key");
+        when(cacheWriter.open(anyString(), anyString(), any(LocalDateTime.class))).thenReturn(batch);
+        when(cacheWriter.withMonthLock(anyString(), anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
     }
 
     @Nested
@@ -66,6 +105,7 @@ class RealTransactionApiClientTest {
                     createCacheEntity(lawdCd, dealYmd, "테스트아파트", 100000L)
             );
 
+            givenManifest(lawdCd, dealYmd, LocalDateTime.now(), false);
             when(cacheRepository.findByLawdCdAndDealYmd(lawdCd, dealYmd)).thenReturn(cachedData);
 
             // when
@@ -75,6 +115,8 @@ class RealTransactionApiClientTest {
             assertThat(result).hasSize(1);
             assertThat(result.get(0).getAptName()).isEqualTo("테스트아파트");
             verify(webClient, never()).get();
+            assertThat(meterRegistry.get("houseping.cache.gets")
+                    .tags("cache", RealTransactionApiClient.CACHE_NAME, "result", "hit").counter().count()).isEqualTo(1);
         }
 
         @Test
@@ -85,7 +127,7 @@ class RealTransactionApiClientTest {
             String dealYmd = "202501";
 
             when(cacheRepository.findByLawdCdAndDealYmd(lawdCd, dealYmd)).thenReturn(Collections.emptyList());
-            mockWebClientGetSuccess(createMockApiResponse());
+            mockWebClientGetSuccess(responseXml("000", 0, 0));
 
             // when
             List<RealTransactionCacheEntity> result = adapter.fetchTransactions(lawdCd, dealYmd);
@@ -128,13 +170,8 @@ class RealTransactionApiClientTest {
             // given
             String lawdCd = "11680";
             String dealYmd = "202501";
-            List<RealTransactionCacheEntity> expiredCache = List.of(
-                    createCacheEntityWithTime(lawdCd, dealYmd, "테스트아파트", 100000L,
-                            LocalDateTime.now().minusDays(2))
-            );
-
-            when(cacheRepository.findByLawdCdAndDealYmd(lawdCd, dealYmd)).thenReturn(expiredCache);
-            mockWebClientGetSuccess(createMockApiResponse());
+            givenManifest(lawdCd, dealYmd, LocalDateTime.now().minusDays(2), false);
+            mockWebClientGetSuccess(responseXml("000", 0, 0));
 
             // when
             adapter.fetchTransactions(lawdCd, dealYmd);
@@ -143,6 +180,22 @@ class RealTransactionApiClientTest {
             verify(webClient).get();
         }
 
+        @Test
+        @DisplayName("확정된 계약월은 오래됐어도 API를 호출하지 않는다")
+        void skipsFinalizedMonth() {
+            // given
+            String lawdCd = "11680";
+            String dealYmd = "202401";
+            givenManifest(lawdCd, dealYmd, LocalDateTime.now().minusMonths(6), true);
+
+            // when
+            adapter.fetchTransactions(lawdCd, dealYmd);
+
+            // then
+            verify(webClient, never()).get();
+            verify(cacheRepository).findByLawdCdAndDealYmd(lawdCd, dealYmd);
+        }
+
         @Test
         @DisplayName("API 호출 실패 시 빈 리스트를 반환한다")
         void returnsEmptyWhenApiCallFails() {
@@ -161,20 +214,206 @@ class RealTransactionApiClientTest {
         }
 
         @Test
-        @DisplayName("API 응답이 null이면 빈 리스트를 반환한다")
-        void returnsEmptyWhenResponseIsNull() {
+        @DisplayName("API 응답 본문이 비어 있으면 빈 리스트를 반환한다")
+        void returnsEmptyWhenResponseIsEmpty() {
             // given
             String lawdCd = "11680";
             String dealYmd = "202501";
 
             when(cacheRepository.findByLawdCdAndDealYmd(lawdCd, dealYmd)).thenReturn(Collections.emptyList());
-            mockWebClientGetSuccess(null);
+            mockWebClientGetSuccess("");
 
             // when
             List<RealTransactionCacheEntity> result = adapter.fetchTransactions(lawdCd, dealYmd);
 
             // then
             assertThat(result).isEmpty();
+            verify(cacheWriter, never()).deleteCachedBefore(any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("API 수집 - 스트리밍 파싱과 페이지 순회")
+    class Collect {
+
+        @Test
+        @DisplayName("totalCount만큼 모든 페이지를 읽어 항목을 배치로 저장한다")
+        void readsAllPages() {
+            // given
+            String lawdCd = "11680";
+            String dealYmd = "202501";
+            when(cacheRepository.findByLawdCdAndDealYmd(lawdCd, dealYmd)).thenReturn(Collections.emptyList());
+            when(batch.written()).thenReturn(1500);
+            mockWebClientGetSuccess(responseXml("000", 1000, 1500), responseXml("000", 500, 1500));
+
+            // when
+            adapter.fetchTransactions(lawdCd, dealYmd);
+
+            // then
+            verify(webClient, times(2)).get();
+            verify(batch, times(1500)).add(any(RealTransactionItem.class));
+            verify(batch).flush();
+            verify(cacheWriter).deleteCachedBefore(eq(lawdCd), eq(dealYmd), any(LocalDateTime.class));
+            verify(eventPublisher).publishEvent(new RealTransactionsUpdatedEvent(lawdCd));
+        }
+
+        @Test
+        @DisplayName("마지막 페이지가 totalCount에 닿으면 더 요청하지 않는다")
+        void stopsAtLastPage() {
+            // given
+            String lawdCd = "11680";
+            String dealYmd = "202501";
+            when(cacheRepository.findByLawdCdAndDealYmd(lawdCd, dealYmd)).thenReturn(Collections.emptyList());
+            when(batch.written()).thenReturn(3);
+            mockWebClientGetSuccess(responseXml("000", 3, 3));
+
+            // when
+            adapter.fetchTransactions(lawdCd, dealYmd);
+
+            // then
+            verify(webClient, times(1)).get();
+            verify(batch, times(3)).add(any(RealTransactionItem.class));
+        }
+
+        @Test
+        @DisplayName("중간 페이지가 실패하면 이전 캐시를 지우지 않고 수집 현황도 갱신하지 않는다")
+        void keepsPreviousCacheOnFailure() {
+            // given
+            String lawdCd = "11680";
+            String dealYmd = "202501";
+            when(cacheRepository.findByLawdCdAndDealYmd(lawdCd, dealYmd)).thenReturn(Collections.emptyList());
+            mockWebClientGetSuccess(responseXml("000", 1000, 1500), responseXml("99", 0, 0));
+
+            // when
+            List<RealTransactionCacheEntity> result = adapter.fetchTransactions(lawdCd, dealYmd);
+
+            // then
+            assertThat(result).isEmpty();
+            verify(cacheWriter, never()).deleteCachedBefore(any(), any(), any());
+            verify(fetchRepository, never()).save(any());
+            verify(eventPublisher, never()).publishEvent(any(RealTransactionsUpdatedEvent.class));
+        }
+
+        @Test
+        @DisplayName("수집 결과가 직전과 같으면 갱신 이벤트를 발행하지 않는다")
+        void keepsPreviousCacheWhenUnchanged() {
+            // given
+            String lawdCd = "11680";
+            String dealYmd = "202501";
+            RealTransactionFetchEntity manifest = givenManifest(lawdCd, dealYmd, LocalDateTime.now().minusDays(2), false);
+            manifest.record(manifest.getFetchedAt(), 3, 42L, false);
+            when(batch.written()).thenReturn(3);
+            when(batch.checksum()).thenReturn(42L);
+            mockWebClientGetSuccess(responseXml("000", 3, 3));
+
+            // when
+            adapter.fetchTransactions(lawdCd, dealYmd);
+
+            // then
+            verify(cacheWriter).deleteCachedBefore(eq(lawdCd), eq(dealYmd), any(LocalDateTime.class));
+            verify(eventPublisher, never()).publishEvent(any(RealTransactionsUpdatedEvent.class));
+            verify(fetchRepository).save(manifest);
+            assertThat(manifest.getFetchedAt()).isAfter(LocalDateTime.now().minusMinutes(1));
+        }
+
+        @Test
+        @DisplayName("있던 거래가 빈 응답으로 바뀌면 이전 캐시를 유지하고 수집 현황도 갱신하지 않는다")
+        void keepsPreviousCacheOnEmptyResponse() {
+            // given
+            String lawdCd = "11680";
+            String dealYmd = "202501";
+            RealTransactionFetchEntity manifest = givenManifest(lawdCd, dealYmd, LocalDateTime.now().minusDays(2), false);
+            manifest.record(manifest.getFetchedAt(), 10, 42L, false);
+            mockWebClientGetSuccess(responseXml("000", 0, 0));
+
+            // when
+            adapter.fetchTransactions(lawdCd, dealYmd);
+
+            // then
+            verify(cacheWriter, never()).deleteCachedBefore(any(), any(), any());
+            verify(fetchRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("수집 현황에 건수·체크섬과 확정 여부를 기록한다")
+        void recordsManifest() {
+            // given
+            String lawdCd = "11680";
+            String dealYmd = "202001";
+            when(batch.written()).thenReturn(3);
+            when(batch.checksum()).thenReturn(7L);
+            mockWebClientGetSuccess(responseXml("000", 3, 3));
+
+            // when
+            adapter.fetchTransactions(lawdCd, dealYmd);
+
+            // then
+            verify(fetchRepository).save(argThat(m -> m.getLawdCd().equals(lawdCd)
+                    && m.getDealYmd().equals(dealYmd)
+                    && m.getRowCount() == 3
+                    && m.getChecksum() == 7L
+                    && m.isFinalized()));
+        }
+    }
+
+    @Nested
+    @DisplayName("refreshMonth() - 계약월 수집 결과")
+    class RefreshMonth {
+
+        @Test
+        @DisplayName("캐시 내용이 바뀌면 CHANGED를 반환한다")
+        void returnsChanged() {
+            // given
+            when(batch.written()).thenReturn(3);
+            mockWebClientGetSuccess(responseXml("000", 3, 3));
+
+            // when
+            MonthRefreshResult result = adapter.refreshMonth("11680", "202501");
+
+            // then
+            assertThat(result).isEqualTo(MonthRefreshResult.CHANGED);
+        }
+
+        @Test
+        @DisplayName("잠금을 기다리는 동안 다른 수집이 갱신했으면 다시 받지 않는다")
+        void skipsWhenRefreshedWhileWaiting() {
+            // given
+            givenManifest("11680", "202501", LocalDateTime.now(), false);
+
+            // when
+            MonthRefreshResult result = adapter.refreshMonth("11680", "202501");
+
+            // then
+            assertThat(result).isEqualTo(MonthRefreshResult.UNCHANGED);
+            verify(cacheWriter).withMonthLock(eq("11680"), eq("202501"), any());
+            verify(webClient, never()).get();
+        }
+
+        @Test
+        @DisplayName("API 호출이 실패하면 FAILED를 반환한다")
+        void returnsFailedOnApiError() {
+            // given
+            when(webClient.get()).thenThrow(new RuntimeException("API Error"));
+
+            // when
+            MonthRefreshResult result = adapter.refreshMonth("11680", "202501");
+
+            // then
+            assertThat(result).isEqualTo(MonthRefreshResult.FAILED);
+            verify(fetchRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("isClosedMonth() - 계약월 확정 여부")
+    class IsClosedMonth {
+
+        @Test
+        @DisplayName("계약월로부터 3개월째부터 확정으로 본다")
+        void closesThreeMonthsLater() {
+            assertThat(RealTransactionApiClient.isClosedMonth("202501", LocalDate.of(2025, 3, 31))).isFalse();
+            assertThat(RealTransactionApiClient.isClosedMonth("202501", LocalDate.of(2025, 4, 1))).isTrue();
+            assertThat(RealTransactionApiClient.isClosedMonth("202412", LocalDate.of(2025, 4, 1))).isTrue();
         }
     }
 
@@ -187,33 +426,82 @@ class RealTransactionApiClientTest {
         void fetchesLastThreeMonths() {
             // given
             String lawdCd = "11680";
-            when(cacheRepository.findByLawdCdAndDealYmd(anyString(), anyString())).thenReturn(Collections.emptyList());
             when(cacheRepository.findRecentByLawdCd(lawdCd)).thenReturn(List.of(
                     createCacheEntity(lawdCd, "202501", "아파트1", 100000L),
                     createCacheEntity(lawdCd, "202412", "아파트2", 95000L)
             ));
-            mockWebClientGetSuccess(createMockApiResponse());
+            mockWebClientGetSuccess(responseXml("000", 0, 0));
 
             // when
             List<RealTransactionCacheEntity> result = adapter.fetchRecentTransactions(lawdCd, 3);
 
             // then
             assertThat(result).hasSize(2);
+            verify(webClient, times(3)).get();
             verify(cacheRepository).findRecentByLawdCd(lawdCd);
+            verify(cacheRepository, never()).findByLawdCdAndDealYmd(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("확정된 계약월은 건너뛰고 나머지만 API를 호출한다")
+        void skipsFinalizedMonths() {
+            // given
+            String lawdCd = "11680";
+            String recentYmd = LocalDate.now().minusMonths(2).format(DateTimeFormatter.ofPattern("yyyyMM"));
+            String olderYmd = LocalDate.now().minusMonths(3).format(DateTimeFormatter.ofPattern("yyyyMM"));
+            when(fetchRepository.findByLawdCdAndDealYmdIn(eq(lawdCd), any())).thenReturn(List.of(
+                    RealTransactionFetchEntity.builder().lawdCd(lawdCd).dealYmd(recentYmd)
+                            .fetchedAt(LocalDateTime.now().minusDays(2)).finalized(false).build(),
+                    RealTransactionFetchEntity.builder().lawdCd(lawdCd).dealYmd(olderYmd)
+                            .fetchedAt(LocalDateTime.now().minusDays(2)).finalized(true).build()
+            ));
+            mockWebClientGetSuccess(responseXml("000", 0, 0));
+
+            // when
+            adapter.fetchRecentTransactions(lawdCd, 2);
+
+            // then
+            verify(webClient, times(1)).get();
+            verify(cacheWriter).open(eq(lawdCd), eq(recentYmd), any(LocalDateTime.class));
         }
     }
 
     @SuppressWarnings("unchecked")
-    private void mockWebClientGetSuccess(RealTransactionApiResponse response) {
+    private void mockWebClientGetSuccess(String... pages) {
         when(webClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(any(Function.class))).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.accept(any())).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.bodyToMono(RealTransactionApiResponse.class)).thenReturn(Mono.justOrEmpty(response));
+        List<Flux<DataBuffer>> bodies = Arrays.stream(pages).map(this::body).toList();
+        when(responseSpec.bodyToFlux(DataBuffer.class)).thenReturn(bodies.getFirst(),
+                bodies.subList(1, bodies.size()).toArray(Flux[]::new));
     }
 
-    private RealTransactionApiResponse createMockApiResponse() {
-        return new RealTransactionApiResponse();
+    private Flux<DataBuffer> body(String xml) {
+        if (xml.isEmpty()) {
+            return Flux.empty();
+        }
+        return Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(xml.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private String responseXml(String resultCode, int itemCount, int totalCount) {
+        String items = IntStream.range(0, itemCount)
+                .mapToObj(i -> "<item><aptNm>아파트" + i + "</aptNm><dealAmount>100,000</dealAmount></item>")
+                .collect(Collectors.joining());
+        return "<response><header><resultCode>" + resultCode + "</resultCode><resultMsg>OK</resultMsg></header>"
+                + "<body><items>" + items + "</items><numOfRows>1000</numOfRows><pageNo>1</pageNo>"
+                + "<totalCount>" + totalCount + "</totalCount></body></response>";
+    }
+
+    private RealTransactionFetchEntity givenManifest(String lawdCd, String dealYmd, LocalDateTime fetchedAt, boolean finalized) {
+        RealTransactionFetchEntity manifest = RealTransactionFetchEntity.builder()
+                .lawdCd(lawdCd)
+                .dealYmd(dealYmd)
+                .fetchedAt(fetchedAt)
+                .finalized(finalized)
+                .build();
+        when(fetchRepository.findByLawdCdAndDealYmd(lawdCd, dealYmd)).thenReturn(Optional.of(manifest));
+        return manifest;
     }
 
     private RealTransactionCacheEntity createCacheEntity(String lawdCd, String dealYmd, String aptName, Long amount) {
@@ -0,0 +1,136 @@
+package com.yunbok.houseping.infrastructure.api;
+
+import com.yunbok.houseping.support.external.RealTransactionItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RealTransactionXmlReader - 실거래가 XML 스트리밍 파서")
+class RealTransactionXmlReaderTest {
+
+    private static final String RESPONSE = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <response>
+              <header><resultCode>000</resultCode><resultMsg>OK</resultMsg></header>
+              <body>
+                <items>
+                  <item>
+                    <aptDong> </aptDong>
+                    <aptNm>래미안대치팰리스</aptNm>
+                    <buildYear>2015</buildYear>
+                    <dealAmount>   285,000</dealAmount>
+                    <dealDay>7</dealDay>
+                    <dealMonth>1</dealMonth>
+                    <dealYear>2025</dealYear>
+                    <excluUseAr>84.97</excluUseAr>
+                    <floor>12</floor>
+                    <jibun>1027</jibun>
+                    <umdNm>대치동</umdNm>
+                  </item>
+                  <item>
+                    <aptNm>은마</aptNm>
+                    <dealAmount>250,000</dealAmount>
+                    <floor></floor>
+                  </item>
+                </items>
+                <numOfRows>1000</numOfRows>
+                <pageNo>1</pageNo>
+                <totalCount>1234</totalCount>
+              </body>
+            </response>
+            """;
+
+    private RealTransactionXmlReader.Page read(String xml, List<RealTransactionItem> items) throws XMLStreamException {
+        return RealTransactionXmlReader.read(
+                new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), items::add);
+    }
+
+    @Nested
+    @DisplayName("read() - 응답 파싱")
+    class Read {
+
+        @Test
+        @DisplayName("item을 하나씩 넘기고 결과 코드와 전체 건수를 반환한다")
+        void readsItemsAndSummary() throws XMLStreamException {
+            // given
+            List<RealTransactionItem> items = new ArrayList<>();
+
+            // when
+            RealTransactionXmlReader.Page page = read(RESPONSE, items);
+
+            // then
+            assertThat(page.isSuccess()).isTrue();
+            assertThat(page.itemCount()).isEqualTo(2);
+            assertThat(page.totalCount()).isEqualTo(1234);
+            assertThat(items).hasSize(2);
+
+            RealTransactionItem first = items.get(0);
+            assertThat(first.getAptName()).isEqualTo("래미안대치팰리스");
+            assertThat(first.getDealAmountAsLong()).isEqualTo(285000L);
+            assertThat(first.getDealDate()).isEqualTo(LocalDate.of(2025, 1, 7));
+            assertThat(first.getExcluUseAr()).isEqualByComparingTo(new BigDecimal("84.97"));
+            assertThat(first.getFloor()).isEqualTo(12);
+            assertThat(first.getBuildYear()).isEqualTo(2015);
+            assertThat(first.getUmdNm()).isEqualTo("대치동");
+            assertThat(first.getJibun()).isEqualTo("1027");
+        }
+
+        @Test
+        @DisplayName("비어 있거나 없는 항목은 null로 남긴다")
+        void leavesMissingFieldsNull() throws XMLStreamException {
+            // given
+            List<RealTransactionItem> items = new ArrayList<>();
+
+            // when
+            read(RESPONSE, items);
+
+            // then
+            RealTransactionItem second = items.get(1);
+            assertThat(second.getFloor()).isNull();
+            assertThat(second.getDealDate()).isNull();
+            assertThat(second.getExcluUseAr()).isNull();
+        }
+
+        @Test
+        @DisplayName("오류 응답이면 성공이 아니고 항목도 없다")
+        void readsErrorResponse() throws XMLStreamException {
+            // given
+            String xml = "<response><header><resultCode>30</resultCode><resultMsg>SERVICE KEY IS NOT REGISTERED</resultMsg></header></response>";
+            List<RealTransactionItem> items = new ArrayList<>();
+
+            // when
+            RealTransactionXmlReader.Page page = read(xml, items);
+
+            // then
+            assertThat(page.isSuccess()).isFalse();
+            assertThat(page.resultMsg()).isEqualTo("SERVICE KEY IS NOT REGISTERED");
+            assertThat(items).isEmpty();
+        }
+
+        @Test
+        @DisplayName("외부 엔티티를 선언한 문서는 거부한다")
+        void rejectsExternalEntities() {
+            // given
+            String xml = """
+                    <?xml version="1.0"?>
+                    <!DOCTYPE response [<!ENTITY xxe SYSTEM "file:///etc/passwd">]>
+                    <response><header><resultCode>&xxe;</resultCode></header></response>
+                    """;
+
+            // when & then
+            assertThatThrownBy(() -> read(xml, new ArrayList<>()))
+                    .isInstanceOf(XMLStreamException.class);
+        }
+    }
+}
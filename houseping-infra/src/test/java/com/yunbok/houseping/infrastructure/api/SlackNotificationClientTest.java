@@ -3,6 +3,7 @@ package com.yunbok.houseping.infrastructure.api;
 import com.yunbok.houseping.infrastructure.formatter.SlackMessageFormatter;
 import com.yunbok.houseping.infrastructure.dto.ApplyHomeSubscriptionInfo;
 import com.yunbok.houseping.core.domain.Subscription;
+import com.yunbok.houseping.core.service.notification.NotificationOutbox;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,10 +11,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.reactive.function.client.WebClient;
 
 import java.time.LocalDate;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -24,12 +27,15 @@ class SlackNotificationClientTest {
     @Mock
     private SlackMessageFormatter messageFormatter;
 
+    @Mock
+    private NotificationOutbox notificationOutbox;
+
     private SlackNotificationClient adapter;
 
     @BeforeEach
     void setUp() {
         // 테스트용으로 유효하지 않은 URL 사용 (실제 발송 안됨)
-        adapter = new SlackNotificationClient("https://hooks.slack.com/test", messageFormatter);
+        adapter = new SlackNotificationClient(WebClient.create(), "https://hooks.slack.com/test", messageFormatter, notificationOutbox);
     }
 
     @Nested
@@ -123,13 +129,21 @@ class SlackNotificationClientTest {
     class SendNotification {
 
         @Test
-        @DisplayName("메시지를 그대로 전송한다")
-        void sendsMessageDirectly() {
+        @DisplayName("메시지를 발송 대기열에 적재한다")
+        void enqueuesMessage() {
             // when
             adapter.sendNotification("테스트 메시지");
 
-            // then - WebClient 호출 확인은 통합 테스트에서 수행
-            // 단위 테스트에서는 예외가 발생하지 않는지만 확인
+            // then
+            verify(notificationOutbox).enqueue(adapter, "테스트 메시지");
+        }
+
+        @Test
+        @DisplayName("Webhook URL 대신 고정 수신자로 적재한다")
+        void usesFixedRecipient() {
+            // when & then
+            assertThat(adapter.recipients()).containsExactly("webhook");
+            assertThat(adapter.name()).isEqualTo(SlackNotificationClient.CHANNEL);
         }
     }
 
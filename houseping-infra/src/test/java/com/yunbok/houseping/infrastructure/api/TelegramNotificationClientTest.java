@@ -3,6 +3,8 @@ package com.yunbok.houseping.infrastructure.api;
 import com.yunbok.houseping.infrastructure.formatter.TelegramMessageFormatter;
 import com.yunbok.houseping.infrastructure.dto.ApplyHomeSubscriptionInfo;
 import com.yunbok.houseping.core.domain.Subscription;
+import com.yunbok.houseping.core.service.notification.NotificationOutbox;
+import com.yunbok.houseping.support.external.TelegramResponseDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,10 +18,12 @@ import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @DisplayName("TelegramNotificationClient - 텔레그램 알림 어댑터")
@@ -45,11 +49,14 @@ class TelegramNotificationClientTest {
     @Mock
     private TelegramMessageFormatter messageFormatter;
 
+    @Mock
+    private NotificationOutbox notificationOutbox;
+
     private TelegramNotificationClient adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new TelegramNotificationClient(webClient, messageFormatter);
+        adapter = new TelegramNotificationClient(webClient, messageFormatter, notificationOutbox);
         ReflectionTestUtils.setField(adapter, "chatIds", List.of("123456789"));
     }
 
@@ -74,7 +81,6 @@ class TelegramNotificationClientTest {
             List<Subscription> subscriptions = List.of(createSubscription("테스트 아파트"));
             when(messageFormatter.formatBatchSummary(subscriptions)).thenReturn("요약 메시지");
             when(messageFormatter.formatSubscription(any())).thenReturn("상세 메시지");
-            mockWebClientPost();
 
             // when
             adapter.sendNewSubscriptions(subscriptions);
@@ -93,13 +99,13 @@ class TelegramNotificationClientTest {
             );
             when(messageFormatter.formatBatchSummary(any())).thenReturn("요약");
             when(messageFormatter.formatSubscription(any())).thenReturn("상세");
-            mockWebClientPost();
 
             // when
             adapter.sendNewSubscriptions(subscriptions);
 
             // then
             verify(messageFormatter, times(2)).formatSubscription(any());
+            verify(notificationOutbox, times(3)).enqueue(eq(adapter), anyString());
         }
     }
 
@@ -113,7 +119,6 @@ class TelegramNotificationClientTest {
             // given
             Subscription subscription = createSubscription("테스트 아파트");
             when(messageFormatter.formatSubscription(subscription)).thenReturn("포맷된 메시지");
-            mockWebClientPost();
 
             // when
             adapter.sendSubscription(subscription);
@@ -133,7 +138,6 @@ class TelegramNotificationClientTest {
             // given
             String errorMessage = "API 호출 실패";
             when(messageFormatter.formatErrorMessage(errorMessage)).thenReturn("포맷된 에러 메시지");
-            mockWebClientPost();
 
             // when
             adapter.sendErrorNotification(errorMessage);
@@ -148,42 +152,55 @@ class TelegramNotificationClientTest {
     class SendNotification {
 
         @Test
-        @DisplayName("메시지를 그대로 전송한다")
-        void sendsMessageDirectly() {
-            // given
-            mockWebClientPost();
-
+        @DisplayName("메시지를 바로 보내지 않고 발송 대기열에 적재한다")
+        void enqueuesMessage() {
             // when
             adapter.sendNotification("테스트 메시지");
 
             // then
-            verify(webClient).post();
+            verify(notificationOutbox).enqueue(adapter, "테스트 메시지");
+            verify(webClient, never()).post();
         }
+    }
+
+    @Nested
+    @DisplayName("NotificationChannel - 발송기용 전송")
+    class Deliver {
 
         @Test
-        @DisplayName("전송 실패해도 예외가 발생하지 않는다")
-        void handlesExceptionGracefully() {
+        @DisplayName("설정된 chat ID 목록을 수신자로 제공한다")
+        void exposesChatIdsAsRecipients() {
             // given
-            when(webClient.post()).thenThrow(new RuntimeException("전송 실패"));
-
-            // when
-            adapter.sendNotification("테스트 메시지");
+            ReflectionTestUtils.setField(adapter, "chatIds", List.of("111", "222", "333"));
 
-            // then - 예외 처리됨
+            // when & then
+            assertThat(adapter.recipients()).containsExactly("111", "222", "333");
+            assertThat(adapter.name()).isEqualTo(TelegramNotificationClient.CHANNEL);
         }
 
         @Test
-        @DisplayName("여러 chat ID에 메시지를 전송한다")
-        void sendsToMultipleChatIds() {
+        @DisplayName("한 chat ID로 메시지를 전송한다")
+        void deliversToChatId() {
             // given
-            ReflectionTestUtils.setField(adapter, "chatIds", List.of("111", "222", "333"));
             mockWebClientPost();
 
             // when
-            adapter.sendNotification("테스트 메시지");
+            adapter.deliver("111", "테스트 메시지");
 
             // then
-            verify(webClient, times(3)).post();
+            verify(webClient, times(1)).post();
+        }
+
+        @Test
+        @DisplayName("전송 실패는 발송기가 재시도하도록 예외로 전달한다")
+        void propagatesFailure() {
+            // given
+            when(webClient.post()).thenThrow(new RuntimeException("전송 실패"));
+
+            // when & then
+            assertThatThrownBy(() -> adapter.deliver("111", "테스트 메시지"))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessage("전송 실패");
         }
     }
 
@@ -193,7 +210,7 @@ class TelegramNotificationClientTest {
         when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
         when(requestBodySpec.bodyValue(any())).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.bodyToMono(Map.class)).thenReturn(Mono.just(Map.of("ok", true)));
+        when(responseSpec.bodyToMono(TelegramResponseDto.class)).thenReturn(Mono.empty());
     }
 
     private Subscription createSubscription(String houseName) {
@@ -16,9 +16,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 @DisplayName("CompetitionRateDbStore - 경쟁률 DB 어댑터")
@@ -183,6 +186,30 @@ class CompetitionRateDbStoreTest {
         }
     }
 
+    @Nested
+    @DisplayName("findRowKeys() - 기존 행 키 일괄 조회")
+    class FindRowKeys {
+
+        @Test
+        @DisplayName("주택관리번호를 청크 단위로 나눠 조회한 키를 합친다")
+        void mergesChunkedLookups() {
+            // given
+            List<String> houseManageNos = IntStream.range(0, 1500)
+                    .mapToObj(i -> "H" + i)
+                    .toList();
+            when(repository.findRowKeysByHouseManageNoIn(anyCollection()))
+                    .thenReturn(List.of("H1|P1|084T|1|해당지역"))
+                    .thenReturn(List.of("H1200|P1200|084T|1|해당지역"));
+
+            // when
+            Set<String> result = adapter.findRowKeys(houseManageNos);
+
+            // then
+            assertThat(result).containsExactlyInAnyOrder("H1|P1|084T|1|해당지역", "H1200|P1200|084T|1|해당지역");
+            verify(repository, times(2)).findRowKeysByHouseManageNoIn(anyCollection());
+        }
+    }
+
     private CompetitionRate createDomainRate(String houseManageNo, String pblancNo) {
         return CompetitionRate.builder()
                 .houseManageNo(houseManageNo)
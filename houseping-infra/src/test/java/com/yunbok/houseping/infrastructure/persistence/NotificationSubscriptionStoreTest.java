@@ -1,10 +1,7 @@
 package com.yunbok.houseping.infrastructure.persistence;
 
 import com.yunbok.houseping.support.dto.NotificationTarget;
-import com.yunbok.houseping.entity.NotificationSubscriptionEntity;
 import com.yunbok.houseping.repository.NotificationSubscriptionRepository;
-import com.yunbok.houseping.entity.SubscriptionEntity;
-import com.yunbok.houseping.repository.SubscriptionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,12 +11,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @DisplayName("NotificationSubscriptionStore - 알림 구독 영속성 어댑터")
@@ -29,16 +26,11 @@ class NotificationSubscriptionStoreTest {
     @Mock
     private NotificationSubscriptionRepository notificationSubscriptionRepository;
 
-    @Mock
-    private SubscriptionRepository subscriptionRepository;
-
     private NotificationSubscriptionStore adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new NotificationSubscriptionStore(
-                notificationSubscriptionRepository, subscriptionRepository
-        );
+        adapter = new NotificationSubscriptionStore(notificationSubscriptionRepository);
     }
 
     @Nested
@@ -46,73 +38,28 @@ class NotificationSubscriptionStoreTest {
     class FindPendingReceiptStartTargets {
 
         @Test
-        @DisplayName("대기 중인 알림이 없으면 빈 리스트를 반환한다")
-        void returnsEmptyWhenNoPending() {
-            // given
-            when(notificationSubscriptionRepository.findPendingReceiptStartNotifications())
-                    .thenReturn(List.of());
-
-            // when
-            List<NotificationTarget> result = adapter.findPendingReceiptStartTargets(LocalDate.now());
-
-            // then
-            assertThat(result).isEmpty();
-        }
-
-        @Test
-        @DisplayName("접수 시작일이 일치하는 대상만 반환한다")
-        void returnsOnlyMatchingDates() {
+        @DisplayName("접수 시작일로 조인 조회한 대상을 반환한다")
+        void returnsTargetsForDate() {
             // given
             LocalDate targetDate = LocalDate.of(2025, 1, 15);
-
-            NotificationSubscriptionEntity notification = createNotificationEntity(1L, 100L);
-            SubscriptionEntity subscription = createSubscriptionEntity(100L, targetDate, LocalDate.of(2025, 1, 25));
-
-            when(notificationSubscriptionRepository.findPendingReceiptStartNotifications())
-                    .thenReturn(List.of(notification));
-            when(subscriptionRepository.findAllById(List.of(100L)))
-                    .thenReturn(List.of(subscription));
+            NotificationTarget target = createTarget(1L, 100L, targetDate, LocalDate.of(2025, 1, 25));
+            when(notificationSubscriptionRepository.findPendingReceiptStartTargets(targetDate))
+                    .thenReturn(List.of(target));
 
             // when
             List<NotificationTarget> result = adapter.findPendingReceiptStartTargets(targetDate);
 
             // then
-            assertThat(result).hasSize(1);
-            assertThat(result.get(0).houseName()).isEqualTo("테스트 아파트");
+            assertThat(result).containsExactly(target);
+            verify(notificationSubscriptionRepository, never()).findPendingReceiptStartNotifications();
         }
 
         @Test
-        @DisplayName("접수 시작일이 일치하지 않으면 빈 리스트를 반환한다")
-        void returnsEmptyWhenDateNotMatching() {
+        @DisplayName("대상이 없으면 빈 리스트를 반환한다")
+        void returnsEmptyWhenNoTargets() {
             // given
             LocalDate targetDate = LocalDate.of(2025, 1, 15);
-            LocalDate differentDate = LocalDate.of(2025, 1, 20);
-
-            NotificationSubscriptionEntity notification = createNotificationEntity(1L, 100L);
-            SubscriptionEntity subscription = createSubscriptionEntity(100L, differentDate, LocalDate.of(2025, 1, 25));
-
-            when(notificationSubscriptionRepository.findPendingReceiptStartNotifications())
-                    .thenReturn(List.of(notification));
-            when(subscriptionRepository.findAllById(List.of(100L)))
-                    .thenReturn(List.of(subscription));
-
-            // when
-            List<NotificationTarget> result = adapter.findPendingReceiptStartTargets(targetDate);
-
-            // then
-            assertThat(result).isEmpty();
-        }
-
-        @Test
-        @DisplayName("청약 정보가 없으면 필터링된다")
-        void filtersOutMissingSubscriptions() {
-            // given
-            LocalDate targetDate = LocalDate.of(2025, 1, 15);
-            NotificationSubscriptionEntity notification = createNotificationEntity(1L, 999L);
-
-            when(notificationSubscriptionRepository.findPendingReceiptStartNotifications())
-                    .thenReturn(List.of(notification));
-            when(subscriptionRepository.findAllById(List.of(999L)))
+            when(notificationSubscriptionRepository.findPendingReceiptStartTargets(targetDate))
                     .thenReturn(List.of());
 
             // when
@@ -128,126 +75,82 @@ class NotificationSubscriptionStoreTest {
     class FindPendingReceiptEndTargets {
 
         @Test
-        @DisplayName("대기 중인 알림이 없으면 빈 리스트를 반환한다")
-        void returnsEmptyWhenNoPending() {
-            // given
-            when(notificationSubscriptionRepository.findPendingReceiptEndNotifications())
-                    .thenReturn(List.of());
-
-            // when
-            List<NotificationTarget> result = adapter.findPendingReceiptEndTargets(LocalDate.now());
-
-            // then
-            assertThat(result).isEmpty();
-        }
-
-        @Test
-        @DisplayName("접수 종료일이 일치하는 대상만 반환한다")
-        void returnsOnlyMatchingDates() {
+        @DisplayName("접수 종료일로 조인 조회한 대상을 반환한다")
+        void returnsTargetsForDate() {
             // given
             LocalDate targetDate = LocalDate.of(2025, 1, 25);
-
-            NotificationSubscriptionEntity notification = createNotificationEntity(1L, 100L);
-            SubscriptionEntity subscription = createSubscriptionEntity(100L, LocalDate.of(2025, 1, 15), targetDate);
-
-            when(notificationSubscriptionRepository.findPendingReceiptEndNotifications())
-                    .thenReturn(List.of(notification));
-            when(subscriptionRepository.findAllById(List.of(100L)))
-                    .thenReturn(List.of(subscription));
+            NotificationTarget target = createTarget(1L, 100L, LocalDate.of(2025, 1, 15), targetDate);
+            when(notificationSubscriptionRepository.findPendingReceiptEndTargets(targetDate))
+                    .thenReturn(List.of(target));
 
             // when
             List<NotificationTarget> result = adapter.findPendingReceiptEndTargets(targetDate);
 
             // then
-            assertThat(result).hasSize(1);
+            assertThat(result).containsExactly(target);
         }
     }
 
     @Nested
-    @DisplayName("markReceiptStartNotified() - 접수 시작 알림 완료 처리")
+    @DisplayName("markReceiptStartNotified() - 접수 시작 알림 완료 일괄 처리")
     class MarkReceiptStartNotified {
 
         @Test
-        @DisplayName("알림을 찾으면 접수 시작 알림 완료로 표시한다")
-        void marksNotificationWhenFound() {
-            // given
-            NotificationSubscriptionEntity notification = mock(NotificationSubscriptionEntity.class);
-            when(notificationSubscriptionRepository.findById(1L))
-                    .thenReturn(Optional.of(notification));
-
+        @DisplayName("한 번의 UPDATE로 완료 처리한다")
+        void updatesInOneStatement() {
             // when
-            adapter.markReceiptStartNotified(1L);
+            adapter.markReceiptStartNotified(List.of(1L, 2L, 3L));
 
             // then
-            verify(notification).markReceiptStartNotified();
+            verify(notificationSubscriptionRepository).markReceiptStartNotified(eq(List.of(1L, 2L, 3L)), any());
+            verify(notificationSubscriptionRepository, never()).findById(any());
         }
 
         @Test
-        @DisplayName("알림이 없으면 아무 것도 하지 않는다")
-        void doesNothingWhenNotFound() {
+        @DisplayName("대상이 많으면 1000건씩 나눠 처리한다")
+        void updatesInChunks() {
             // given
-            when(notificationSubscriptionRepository.findById(999L))
-                    .thenReturn(Optional.empty());
+            List<Long> ids = LongStream.rangeClosed(1, 2500).boxed().toList();
 
             // when
-            adapter.markReceiptStartNotified(999L);
+            adapter.markReceiptStartNotified(ids);
 
-            // then - 예외 없이 완료
+            // then
+            verify(notificationSubscriptionRepository, times(2))
+                    .markReceiptStartNotified(argThat(chunk -> chunk.size() == 1000), any());
+            verify(notificationSubscriptionRepository)
+                    .markReceiptStartNotified(argThat(chunk -> chunk.size() == 500), any());
         }
-    }
-
-    @Nested
-    @DisplayName("markReceiptEndNotified() - 접수 종료 알림 완료 처리")
-    class MarkReceiptEndNotified {
 
         @Test
-        @DisplayName("알림을 찾으면 접수 종료 알림 완료로 표시한다")
-        void marksNotificationWhenFound() {
-            // given
-            NotificationSubscriptionEntity notification = mock(NotificationSubscriptionEntity.class);
-            when(notificationSubscriptionRepository.findById(1L))
-                    .thenReturn(Optional.of(notification));
-
+        @DisplayName("대상이 없으면 UPDATE하지 않는다")
+        void doesNothingWhenEmpty() {
             // when
-            adapter.markReceiptEndNotified(1L);
+            adapter.markReceiptStartNotified(List.of());
 
             // then
-            verify(notification).markReceiptEndNotified();
+            verifyNoInteractions(notificationSubscriptionRepository);
         }
+    }
 
-        @Test
-        @DisplayName("알림이 없으면 아무 것도 하지 않는다")
-        void doesNothingWhenNotFound() {
-            // given
-            when(notificationSubscriptionRepository.findById(999L))
-                    .thenReturn(Optional.empty());
+    @Nested
+    @DisplayName("markReceiptEndNotified() - 접수 종료 알림 완료 일괄 처리")
+    class MarkReceiptEndNotified {
 
+        @Test
+        @DisplayName("한 번의 UPDATE로 완료 처리한다")
+        void updatesInOneStatement() {
             // when
-            adapter.markReceiptEndNotified(999L);
+            adapter.markReceiptEndNotified(List.of(1L, 2L));
 
-            // then - 예외 없이 완료
+            // then
+            verify(notificationSubscriptionRepository).markReceiptEndNotified(eq(List.of(1L, 2L)), any());
         }
     }
 
-    private NotificationSubscriptionEntity createNotificationEntity(Long id, Long subscriptionId) {
-        return NotificationSubscriptionEntity.builder()
-                .id(id)
-                .subscriptionId(subscriptionId)
-                .enabled(true)
-                .build();
-    }
-
-    private SubscriptionEntity createSubscriptionEntity(Long id, LocalDate receiptStartDate, LocalDate receiptEndDate) {
-        return SubscriptionEntity.builder()
-                .id(id)
-                .source("ApplyHome")
-                .houseName("테스트 아파트")
-                .area("서울")
-                .receiptStartDate(receiptStartDate)
-                .receiptEndDate(receiptEndDate)
-                .totalSupplyCount(100)
-                .detailUrl("https://example.com")
-                .collectedAt(LocalDateTime.now())
-                .build();
+    private NotificationTarget createTarget(Long notificationId, Long subscriptionId,
+                                            LocalDate receiptStartDate, LocalDate receiptEndDate) {
+        return new NotificationTarget(notificationId, subscriptionId, "테스트 아파트", "서울",
+                receiptStartDate, receiptEndDate, 100, "https://example.com");
     }
 }
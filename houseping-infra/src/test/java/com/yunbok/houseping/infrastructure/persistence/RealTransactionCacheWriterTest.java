@@ -0,0 +1,172 @@
+package com.yunbok.houseping.infrastructure.persistence;
+
+import com.yunbok.houseping.support.external.RealTransactionItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RealTransactionCacheWriter - 실거래가 캐시 배치 저장")
+@ExtendWith(MockitoExtension.class)
+class RealTransactionCacheWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private RealTransactionCachePartitions partitions;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RealTransactionCacheWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new RealTransactionCacheWriter(jdbcTemplate, partitions, transactionManager);
+    }
+
+    @Nested
+    @DisplayName("Batch - 항목 배치 저장")
+    class AddAndFlush {
+
+        @Test
+        @DisplayName("BATCH_SIZE마다 한 번씩 배치로 저장한다")
+        void flushesEveryBatchSize() {
+            // given
+            RealTransactionCacheWriter.Batch batch = writer.open("11680", "202501", LocalDateTime.now());
+
+            // when
+            for (int i = 0; i < RealTransactionCacheWriter.BATCH_SIZE + 1; i++) {
+                batch.add(item("아파트" + i, "100,000"));
+            }
+
+            // then
+            verify(jdbcTemplate).batchUpdate(anyString(),
+                    argThat((List<Object[]> rows) -> rows.size() == RealTransactionCacheWriter.BATCH_SIZE));
+            assertThat(batch.written()).isEqualTo(RealTransactionCacheWriter.BATCH_SIZE);
+
+            batch.flush();
+            assertThat(batch.written()).isEqualTo(RealTransactionCacheWriter.BATCH_SIZE + 1);
+        }
+
+        @Test
+        @DisplayName("아파트명이나 거래금액이 없는 항목은 건너뛴다")
+        void skipsInvalidItems() {
+            // given
+            RealTransactionCacheWriter.Batch batch = writer.open("11680", "202501", LocalDateTime.now());
+
+            // when
+            batch.add(item(null, "100,000"));
+            batch.add(item("아파트", "미공개"));
+            batch.flush();
+
+            // then
+            assertThat(batch.written()).isZero();
+            verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("저장 문장 선택")
+    class Statement {
+
+        @Test
+        @DisplayName("자연키 제약이 있으면 자연키 upsert로 저장한다")
+        void upsertsWithNaturalKey() {
+            // given
+            when(partitions.hasNaturalKey()).thenReturn(true);
+            RealTransactionCacheWriter.Batch batch = writer.open("11680", "202501", LocalDateTime.now());
+
+            // when
+            batch.add(item("아파트", "100,000"));
+            batch.flush();
+
+            // then
+            verify(jdbcTemplate).batchUpdate(eq(RealTransactionCacheWriter.UPSERT_SQL), anyList());
+        }
+
+        @Test
+        @DisplayName("자연키 제약이 없으면 단순 INSERT로 저장한다")
+        void insertsWithoutNaturalKey() {
+            // given
+            when(partitions.hasNaturalKey()).thenReturn(false);
+            RealTransactionCacheWriter.Batch batch = writer.open("11680", "202501", LocalDateTime.now());
+
+            // when
+            batch.add(item("아파트", "100,000"));
+            batch.flush();
+
+            // then
+            verify(jdbcTemplate).batchUpdate(eq(RealTransactionCacheWriter.INSERT_SQL), anyList());
+        }
+
+        @Test
+        @DisplayName("upsert는 저장 시점을 과거로 되돌리지 않는다")
+        void upsertKeepsLatestCachedAt() {
+            // then
+            assertThat(RealTransactionCacheWriter.UPSERT_SQL)
+                    .contains("cached_at = GREATEST(real_transaction_cache.cached_at, EXCLUDED.cached_at)");
+        }
+    }
+
+    @Nested
+    @DisplayName("withMonthLock() - 계약월 갱신 직렬화")
+    class WithMonthLock {
+
+        @Test
+        @DisplayName("PostgreSQL이면 권고 잠금을 얻은 뒤 트랜잭션 안에서 갱신한다")
+        void locksMonthOnPostgres() {
+            // given
+            when(partitions.isPostgres()).thenReturn(true);
+
+            // when
+            String result = writer.withMonthLock("11680", "202501", () -> "done");
+
+            // then
+            assertThat(result).isEqualTo("done");
+            verify(jdbcTemplate).query(eq("SELECT pg_advisory_xact_lock(?, ?)"), any(ResultSetExtractor.class),
+                    eq("11680".hashCode()), eq("202501".hashCode()));
+            verify(transactionManager).getTransaction(any());
+            verify(transactionManager).commit(any());
+        }
+
+        @Test
+        @DisplayName("PostgreSQL이 아니면 잠금 없이 트랜잭션 안에서 갱신한다")
+        void skipsLockOnOtherDatabases() {
+            // given
+            when(partitions.isPostgres()).thenReturn(false);
+
+            // when
+            String result = writer.withMonthLock("11680", "202501", () -> "done");
+
+            // then
+            assertThat(result).isEqualTo("done");
+            verifyNoInteractions(jdbcTemplate);
+        }
+    }
+
+    private RealTransactionItem item(String aptName, String dealAmount) {
+        RealTransactionItem item = new RealTransactionItem();
+        item.setAptName(aptName);
+        item.setDealAmount(dealAmount);
+        return item;
+    }
+}
@@ -4,6 +4,7 @@ import com.yunbok.houseping.infrastructure.dto.ApplyHomeSubscriptionInfo;
 import com.yunbok.houseping.core.domain.Subscription;
 import com.yunbok.houseping.entity.SubscriptionEntity;
 import com.yunbok.houseping.repository.SubscriptionRepository;
+import com.yunbok.houseping.support.dto.SyncResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,7 +17,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -30,48 +30,43 @@ class SubscriptionStoreTest {
     @Mock
     private SubscriptionRepository subscriptionRepository;
 
+    @Mock
+    private SubscriptionUpsertWriter upsertWriter;
+
     private SubscriptionStore adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new SubscriptionStore(subscriptionRepository);
+        adapter = new SubscriptionStore(subscriptionRepository, upsertWriter);
     }
 
     @Nested
-    @DisplayName("findBySourceAndHouseNameAndReceiptStartDate() - 조건으로 조회")
-    class FindByConditions {
+    @DisplayName("findBySupportedAreas() - 지역명 조회")
+    class FindBySupportedAreas {
 
         @Test
-        @DisplayName("존재하는 데이터를 찾으면 Subscription로 변환하여 반환한다")
-        void returnsSubscriptionWhenFound() {
+        @DisplayName("지역명 별칭을 모두 펼쳐 IN 조건으로 조회한다")
+        void queriesByExpandedAliases() {
             // given
-            SubscriptionEntity entity = createEntity();
-            when(subscriptionRepository.findBySourceAndHouseNameAndReceiptStartDate(
-                    "APPLYHOME", "테스트 아파트", LocalDate.of(2025, 6, 1)))
-                    .thenReturn(Optional.of(entity));
+            when(subscriptionRepository.findByAreaIn(any())).thenReturn(List.of(createEntity()));
 
             // when
-            Optional<Subscription> result = adapter.findBySourceAndHouseNameAndReceiptStartDate(
-                    "APPLYHOME", "테스트 아파트", LocalDate.of(2025, 6, 1));
+            List<Subscription> result = adapter.findBySupportedAreas(List.of("서울", "경기"));
 
             // then
-            assertThat(result).isPresent();
-            assertThat(result.get().getHouseName()).isEqualTo("테스트 아파트");
+            assertThat(result).hasSize(1);
+            verify(subscriptionRepository).findByAreaIn(Set.of("서울", "서울특별시", "경기", "경기도"));
         }
 
         @Test
-        @DisplayName("존재하지 않으면 빈 Optional을 반환한다")
-        void returnsEmptyWhenNotFound() {
-            // given
-            when(subscriptionRepository.findBySourceAndHouseNameAndReceiptStartDate(
-                    any(), any(), any())).thenReturn(Optional.empty());
-
+        @DisplayName("지역이 없으면 조회하지 않는다")
+        void skipsWhenNoAreas() {
             // when
-            Optional<Subscription> result = adapter.findBySourceAndHouseNameAndReceiptStartDate(
-                    "APPLYHOME", "없는아파트", LocalDate.now());
+            List<Subscription> result = adapter.findBySupportedAreas(List.of());
 
             // then
             assertThat(result).isEmpty();
+            verifyNoInteractions(subscriptionRepository);
         }
     }
 
@@ -100,41 +95,25 @@ class SubscriptionStoreTest {
     }
 
     @Nested
-    @DisplayName("update() - 청약 정보 업데이트")
-    class Update {
+    @DisplayName("upsertAll() - 일괄 upsert")
+    class UpsertAll {
 
         @Test
-        @DisplayName("기존 데이터가 있고 변경이 필요하면 업데이트한다")
-        void updatesWhenExistsAndNeedsUpdate() {
+        @DisplayName("중복 키를 제거한 행만 writer에 넘기고 중복 건수는 건너뜀으로 합산한다")
+        void dedupesKeysBeforeUpsert() {
             // given
             Subscription info = createSubscription();
-            SubscriptionEntity existing = createEntity();
-            when(subscriptionRepository.findBySourceAndHouseNameAndReceiptStartDate(
-                    "APPLYHOME", info.getHouseName(), info.getReceiptStartDate()))
-                    .thenReturn(Optional.of(existing));
+            Subscription other = toSubscription(createEntity());
+            when(upsertWriter.upsert(List.of(info, other), "APPLYHOME")).thenReturn(new SyncResult(1, 1, 0));
 
-            // needsUpdate가 true를 반환하도록 가정 (실제 로직은 Entity에 있음)
             // when
-            adapter.update(info, "APPLYHOME");
+            SyncResult result = adapter.upsertAll(List.of(info, other, info), "APPLYHOME");
 
             // then
-            verify(subscriptionRepository).findBySourceAndHouseNameAndReceiptStartDate(
-                    "APPLYHOME", info.getHouseName(), info.getReceiptStartDate());
-        }
-
-        @Test
-        @DisplayName("기존 데이터가 없으면 아무 것도 하지 않는다")
-        void doesNothingWhenNotExists() {
-            // given
-            Subscription info = createSubscription();
-            when(subscriptionRepository.findBySourceAndHouseNameAndReceiptStartDate(
-                    any(), any(), any())).thenReturn(Optional.empty());
-
-            // when
-            adapter.update(info, "APPLYHOME");
-
-            // then
-            verify(subscriptionRepository, never()).save(any());
+            assertThat(result.inserted()).isEqualTo(1);
+            assertThat(result.updated()).isEqualTo(1);
+            assertThat(result.skipped()).isEqualTo(1);
+            verifyNoInteractions(subscriptionRepository);
         }
     }
 
@@ -215,6 +194,21 @@ class SubscriptionStoreTest {
                 .build();
     }
 
+    private Subscription toSubscription(SubscriptionEntity entity) {
+        return ApplyHomeSubscriptionInfo.builder()
+                .houseManageNo(entity.getHouseManageNo())
+                .pblancNo(entity.getPblancNo())
+                .houseName(entity.getHouseName())
+                .houseType(entity.getHouseType())
+                .area(entity.getArea())
+                .announceDate(entity.getAnnounceDate())
+                .receiptStartDate(entity.getReceiptStartDate())
+                .receiptEndDate(entity.getReceiptEndDate())
+                .winnerAnnounceDate(entity.getWinnerAnnounceDate())
+                .detailUrl(entity.getDetailUrl())
+                .build().toSubscription();
+    }
+
     private Subscription createSubscription() {
         return ApplyHomeSubscriptionInfo.builder()
                 .houseManageNo("H001")
@@ -0,0 +1,99 @@
+package com.yunbok.houseping.infrastructure.persistence;
+
+import com.yunbok.houseping.core.domain.Subscription;
+import com.yunbok.houseping.infrastructure.dto.ApplyHomeSubscriptionInfo;
+import com.yunbok.houseping.support.dto.SyncResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SubscriptionUpsertWriter - 청약 일괄 upsert")
+@ExtendWith(MockitoExtension.class)
+class SubscriptionUpsertWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SubscriptionUpsertWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new SubscriptionUpsertWriter(jdbcTemplate);
+    }
+
+    @Nested
+    @DisplayName("upsert() - 일괄 upsert")
+    class Upsert {
+
+        @Test
+        @DisplayName("RETURNING 결과로 신규/갱신을 나누고 반환되지 않은 행은 건너뜀으로 집계한다")
+        void countsFromReturnedRows() {
+            // given
+            when(jdbcTemplate.queryForList(anyString(), eq(Boolean.class), any(Object[].class)))
+                    .thenReturn(List.of(true, false));
+
+            // when
+            SyncResult result = writer.upsert(List.of(subscription("A"), subscription("B"), subscription("C")), "APPLYHOME");
+
+            // then
+            assertThat(result).isEqualTo(new SyncResult(1, 1, 1));
+        }
+
+        @Test
+        @DisplayName("CHUNK_SIZE마다 한 문장으로 나눠 저장한다")
+        void splitsIntoChunks() {
+            // given
+            List<Subscription> subscriptions = new ArrayList<>();
+            for (int i = 0; i < SubscriptionUpsertWriter.CHUNK_SIZE + 1; i++) {
+                subscriptions.add(subscription("아파트" + i));
+            }
+            when(jdbcTemplate.queryForList(anyString(), eq(Boolean.class), any(Object[].class)))
+                    .thenReturn(List.of());
+
+            // when
+            SyncResult result = writer.upsert(subscriptions, "APPLYHOME");
+
+            // then
+            verify(jdbcTemplate, times(2)).queryForList(
+                    argThat((String sql) -> sql.contains("ON CONFLICT ON CONSTRAINT uk_subscription")),
+                    eq(Boolean.class), any(Object[].class));
+            assertThat(result.skipped()).isEqualTo(SubscriptionUpsertWriter.CHUNK_SIZE + 1);
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 쿼리하지 않는다")
+        void skipsEmpty() {
+            // when
+            SyncResult result = writer.upsert(List.of(), "APPLYHOME");
+
+            // then
+            assertThat(result).isEqualTo(SyncResult.empty());
+            verifyNoInteractions(jdbcTemplate);
+        }
+    }
+
+    private Subscription subscription(String houseName) {
+        return ApplyHomeSubscriptionInfo.builder()
+                .houseManageNo("H-" + houseName)
+                .houseName(houseName)
+                .area("서울")
+                .receiptStartDate(LocalDate.of(2025, 6, 1))
+                .build().toSubscription();
+    }
+}
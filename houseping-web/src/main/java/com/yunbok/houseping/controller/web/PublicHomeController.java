@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -25,6 +26,7 @@ import java.util.List;
 /**
  * 공개 홈페이지 컨트롤러
  * 비로그인 사용자도 접근 가능
+ * 데이터에 따라 바뀌는 페이지는 {@link PublicPageCache}로 조건부 응답하여, 바뀐 것이 없으면 조회·렌더링 없이 304를 돌려준다.
  */
 @Controller
 @RequestMapping("/home")
@@ -34,6 +36,7 @@ public class PublicHomeController {
     private final SubscriptionSearchService subscriptionSearchService;
     private final SubscriptionAnalysisService subscriptionAnalysisService;
     private final PublicCalendarService publicCalendarService;
+    private final PublicPageCache publicPageCache;
 
     @Value("${kakao.map.app-key:}")
     private String kakaoMapAppKey;
@@ -44,7 +47,11 @@ public class PublicHomeController {
     @GetMapping
     public String index(
             @RequestParam(required = false) String area,
-            Model model) {
+            Model model,
+            ServletWebRequest request) {
+        if (publicPageCache.notModified(request)) {
+            return null;
+        }
 
         model.addAttribute("home", subscriptionSearchService.getHomeData(area));
         model.addAttribute("kakaoMapAppKey", kakaoMapAppKey);
@@ -58,10 +65,13 @@ public class PublicHomeController {
      * 월별 청약 일정 (SEO 페이지)
      */
     @GetMapping("/{year}/{month}")
-    public String monthly(@PathVariable int year, @PathVariable int month, Model model) {
+    public String monthly(@PathVariable int year, @PathVariable int month, Model model, ServletWebRequest request) {
         if (month < 1 || month > 12) {
             return "redirect:/home";
         }
+        if (publicPageCache.notModified(request)) {
+            return null;
+        }
 
         model.addAttribute("monthly", subscriptionSearchService.getMonthlyData(year, month));
 
@@ -82,7 +92,11 @@ public class PublicHomeController {
     @ResponseBody
     public ResponseEntity<List<PublicCalendarEventDto>> getCalendarEvents(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            ServletWebRequest request) {
+        if (publicPageCache.notModified(request)) {
+            return null;
+        }
         return ResponseEntity.ok(publicCalendarService.getCalendarEvents(start, end));
     }
 
@@ -138,7 +152,10 @@ public class PublicHomeController {
      * 청약 분석 페이지
      */
     @GetMapping("/analysis/{id}")
-    public String analysis(@PathVariable Long id, Model model) {
+    public String analysis(@PathVariable Long id, Model model, ServletWebRequest request) {
+        if (publicPageCache.notModified(request)) {
+            return null;
+        }
         SubscriptionAnalysisResult analysis = subscriptionAnalysisService.analyze(id);
         Subscription subscription = analysis.getSubscription();
 
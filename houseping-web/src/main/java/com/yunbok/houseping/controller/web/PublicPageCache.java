@@ -0,0 +1,50 @@
+package com.yunbok.houseping.controller.web;
+
+import com.yunbok.houseping.core.service.subscription.PublicDataVersion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 공개 페이지 조건부 응답 (ETag / Last-Modified / Cache-Control)
+ * ETag는 공개 데이터 버전과 날짜(진행중·예정 구분이 날짜에 따라 바뀜)로 만들어, 같은 버전이면 조회·렌더링 없이 304로 끝낸다.
+ * 브라우저는 매번 재검증하고, 리버스 프록시는 잠시 보관한 뒤 재검증하는 동안 이전 응답을 내려줄 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+class PublicPageCache {
+
+    static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ZERO)
+            .sMaxAge(Duration.ofMinutes(1))
+            .staleWhileRevalidate(Duration.ofMinutes(10))
+            .cachePublic();
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final PublicDataVersion publicDataVersion;
+
+    /**
+     * 캐시 헤더를 붙이고, 클라이언트가 가진 응답이 최신이면 304로 표시
+     * @return true면 304 응답이므로 컨트롤러는 본문 없이 끝내야 함
+     */
+    boolean notModified(ServletWebRequest request) {
+        LocalDate today = LocalDate.now(ZONE);
+        String etag = "\"" + publicDataVersion.tag() + "-" + today.format(DateTimeFormatter.BASIC_ISO_DATE) + "\"";
+        Instant startOfDay = today.atStartOfDay(ZONE).toInstant();
+        Instant changedAt = publicDataVersion.changedAt();
+        Instant lastModified = changedAt.isAfter(startOfDay) ? changedAt : startOfDay;
+
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL.getHeaderValue());
+        }
+        return request.checkNotModified(etag, lastModified.toEpochMilli());
+    }
+}
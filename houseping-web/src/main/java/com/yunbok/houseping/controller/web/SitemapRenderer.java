@@ -0,0 +1,223 @@
+package com.yunbok.houseping.controller.web;
+
+import com.yunbok.houseping.core.domain.Subscription;
+import com.yunbok.houseping.core.service.subscription.SubscriptionReadModel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 사이트맵 생성 및 캐시
+ * 청약 조회 스냅샷 버전(동기화)과 날짜가 바뀔 때만 다시 만들고, 그 사이 요청에는 미리 만든 본문(원문·gzip)을 그대로 내려준다.
+ * URL 수가 한도에 가까워지면 사이트맵 인덱스 + 고정 페이지 / 연도별 분석 페이지 사이트맵으로 나눈다.
+ */
+@Slf4j
+@Component
+class SitemapRenderer {
+
+    static final String BASE_URL = "https://house-ping.com";
+    static final String INDEX = "index";
+    static final String PAGES = "pages";
+
+    /** 사이트맵 1개당 URL 한도는 50,000개, 여유를 두고 이 수를 넘으면 분할 */
+    private static final int DEFAULT_SPLIT_THRESHOLD = 45_000;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final SubscriptionReadModel subscriptionReadModel;
+    private final int splitThreshold;
+    private volatile Rendered rendered;
+
+    @Autowired
+    SitemapRenderer(SubscriptionReadModel subscriptionReadModel) {
+        this(subscriptionReadModel, DEFAULT_SPLIT_THRESHOLD);
+    }
+
+    SitemapRenderer(SubscriptionReadModel subscriptionReadModel, int splitThreshold) {
+        this.subscriptionReadModel = subscriptionReadModel;
+        this.splitThreshold = splitThreshold;
+    }
+
+    /**
+     * 이름별 사이트맵 조회 ({@link #INDEX}는 /sitemap.xml, 그 외는 /sitemap-{name}.xml)
+     */
+    Optional<Document> find(String name) {
+        return Optional.ofNullable(current().documents().get(name));
+    }
+
+    private Rendered current() {
+        long version = subscriptionReadModel.version();
+        LocalDate today = LocalDate.now(ZONE);
+        Rendered cached = rendered;
+        if (cached != null && cached.version() == version && cached.date().equals(today)) {
+            return cached;
+        }
+        synchronized (this) {
+            cached = rendered;
+            if (cached == null || cached.version() != version || !cached.date().equals(today)) {
+                cached = render(version, today);
+                rendered = cached;
+            }
+            return cached;
+        }
+    }
+
+    private Rendered render(long version, LocalDate today) {
+        List<Subscription> subscriptions = subscriptionReadModel.findAll();
+        // 스냅샷 적재 시각은 시스템 기본 시간대의 LocalDateTime (PublicDataVersion.changedAt과 같은 변환)
+        Instant loadedAt = subscriptionReadModel.loadedAt().atZone(ZoneId.systemDefault()).toInstant();
+        Instant startOfDay = today.atStartOfDay(ZONE).toInstant();
+        // 고정 페이지 lastmod가 오늘 날짜이므로 자정 이후로 보정
+        Instant lastModified = loadedAt.isAfter(startOfDay) ? loadedAt : startOfDay;
+        String etag = "sitemap-" + version + "-" + today;
+
+        List<UrlEntry> pages = pageEntries(today);
+        Map<Integer, List<UrlEntry>> analysisByYear = analysisEntriesByYear(subscriptions, today);
+        int total = pages.size() + analysisByYear.values().stream().mapToInt(List::size).sum();
+
+        Map<String, Document> documents = new LinkedHashMap<>();
+        if (total <= splitThreshold) {
+            List<UrlEntry> all = new ArrayList<>(pages);
+            analysisByYear.values().forEach(all::addAll);
+            documents.put(INDEX, document(writer -> writeUrlSet(writer, all), etag, lastModified));
+        } else {
+            List<String> children = new ArrayList<>();
+            children.add(PAGES);
+            documents.put(PAGES, document(writer -> writeUrlSet(writer, pages), etag, lastModified));
+            analysisByYear.forEach((year, entries) -> {
+                String name = String.valueOf(year);
+                children.add(name);
+                documents.put(name, document(writer -> writeUrlSet(writer, entries), etag, lastModified));
+            });
+            documents.put(INDEX, document(writer -> writeIndex(writer, children, today), etag, lastModified));
+        }
+
+        log.info("[사이트맵] v{} 생성 완료: URL {}건, 문서 {}개", version, total, documents.size());
+        return new Rendered(version, today, Collections.unmodifiableMap(documents));
+    }
+
+    private List<UrlEntry> pageEntries(LocalDate today) {
+        List<UrlEntry> entries = new ArrayList<>();
+
+        // 홈페이지
+        entries.add(new UrlEntry("/home", today, "daily", "1.0"));
+        entries.add(new UrlEntry("/home/calendar", today, "weekly", "0.8"));
+        entries.add(new UrlEntry("/home/calculator", today, "monthly", "0.8"));
+
+        // 개인정보처리방침
+        entries.add(new UrlEntry("/home/privacy", today, "yearly", "0.3"));
+
+        // 가이드 페이지
+        entries.add(new UrlEntry("/home/guide", today, "weekly", "0.8"));
+        for (GuideSlug guide : GuideSlug.values()) {
+            entries.add(new UrlEntry("/home/guide/" + guide.getSlug(), today, "monthly", "0.7"));
+        }
+
+        // 월별 페이지: 최근 12개월
+        YearMonth now = YearMonth.from(today);
+        for (int i = -6; i <= 6; i++) {
+            YearMonth ym = now.plusMonths(i);
+            String path = String.format("/home/%d/%d", ym.getYear(), ym.getMonthValue());
+            entries.add(new UrlEntry(path, today, "weekly", "0.8"));
+        }
+        return entries;
+    }
+
+    /**
+     * 분석 페이지: 전체 청약 (접수 시작일 연도별, 최신 연도 우선)
+     */
+    private Map<Integer, List<UrlEntry>> analysisEntriesByYear(List<Subscription> subscriptions, LocalDate today) {
+        Map<Integer, List<UrlEntry>> byYear = new TreeMap<>(Collections.reverseOrder());
+        for (Subscription s : subscriptions) {
+            if (s.getId() == null) {
+                continue;
+            }
+            LocalDate lastmod = s.getReceiptStartDate() != null ? s.getReceiptStartDate() : today;
+            byYear.computeIfAbsent(lastmod.getYear(), k -> new ArrayList<>())
+                    .add(new UrlEntry("/home/analysis/" + s.getId(), lastmod, "weekly", "0.6"));
+        }
+        return byYear;
+    }
+
+    private void writeUrlSet(Writer writer, List<UrlEntry> entries) throws IOException {
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        writer.write("<urlset xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n");
+        for (UrlEntry entry : entries) {
+            writer.write("  <url>\n");
+            writer.write("    <loc>" + BASE_URL + entry.path() + "</loc>\n");
+            writer.write("    <lastmod>" + entry.lastmod() + "</lastmod>\n");
+            writer.write("    <changefreq>" + entry.changefreq() + "</changefreq>\n");
+            writer.write("    <priority>" + entry.priority() + "</priority>\n");
+            writer.write("  </url>\n");
+        }
+        writer.write("</urlset>");
+    }
+
+    private void writeIndex(Writer writer, List<String> children, LocalDate today) throws IOException {
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        writer.write("<sitemapindex xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n");
+        for (String child : children) {
+            writer.write("  <sitemap>\n");
+            writer.write("    <loc>" + BASE_URL + "/sitemap-" + child + ".xml</loc>\n");
+            writer.write("    <lastmod>" + today + "</lastmod>\n");
+            writer.write("  </sitemap>\n");
+        }
+        writer.write("</sitemapindex>");
+    }
+
+    /**
+     * 원문과 gzip 본문을 한 번에 생성 (문자열 전체를 만들지 않고 바로 바이트로 기록)
+     * 두 본문은 바이트가 다르므로 강한 ETag도 인코딩별로 따로 둔다.
+     */
+    private Document document(XmlBody body, String etag, Instant lastModified) {
+        try {
+            ByteArrayOutputStream plain = new ByteArrayOutputStream();
+            try (Writer writer = new OutputStreamWriter(plain, StandardCharsets.UTF_8)) {
+                body.writeTo(writer);
+            }
+            ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+                plain.writeTo(gzip);
+            }
+            return new Document(plain.toByteArray(), gzipped.toByteArray(),
+                    "\"" + etag + "\"", "\"" + etag + "-gzip\"", lastModified);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface XmlBody {
+        void writeTo(Writer writer) throws IOException;
+    }
+
+    private record UrlEntry(String path, LocalDate lastmod, String changefreq, String priority) {
+    }
+
+    private record Rendered(long version, LocalDate date, Map<String, Document> documents) {
+    }
+
+    /**
+     * 생성된 사이트맵 문서
+     */
+    record Document(byte[] body, byte[] gzipBody, String etag, String gzipEtag, Instant lastModified) {
+    }
+}
@@ -4,7 +4,9 @@ import com.yunbok.houseping.core.service.subscription.SubscriptionSearchService;
 import com.yunbok.houseping.core.service.subscription.SubscriptionAnalysisService;
 import com.yunbok.houseping.core.service.calendar.PublicCalendarService;
 import com.yunbok.houseping.core.domain.Subscription;
+import com.yunbok.houseping.core.service.subscription.PublicDataVersion;
 import com.yunbok.houseping.support.dto.HomePageResult;
+import com.yunbok.houseping.support.dto.PublicCalendarEventDto;
 import com.yunbok.houseping.support.dto.SubscriptionAnalysisResult;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,13 +16,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.ui.Model;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @DisplayName("PublicHomeController - 공개 홈페이지 컨트롤러")
@@ -36,6 +45,9 @@ class PublicHomeControllerTest {
     @Mock
     private PublicCalendarService publicCalendarService;
 
+    @Mock
+    private PublicDataVersion publicDataVersion;
+
     @Mock
     private Model model;
 
@@ -43,7 +55,10 @@ class PublicHomeControllerTest {
 
     @BeforeEach
     void setUp() {
-        controller = new PublicHomeController(subscriptionSearchService, subscriptionAnalysisUseCase, publicCalendarService);
+        controller = new PublicHomeController(subscriptionSearchService, subscriptionAnalysisUseCase, publicCalendarService,
+                new PublicPageCache(publicDataVersion));
+        when(publicDataVersion.tag()).thenReturn("v1");
+        when(publicDataVersion.changedAt()).thenReturn(Instant.EPOCH);
     }
 
     @Nested
@@ -62,7 +77,7 @@ class PublicHomeControllerTest {
                             .build());
 
             // when
-            String viewName = controller.index(null, model);
+            String viewName = controller.index(null, model, request());
 
             // then
             assertThat(viewName).isEqualTo("home/index");
@@ -80,7 +95,7 @@ class PublicHomeControllerTest {
             when(subscriptionSearchService.getHomeData(null)).thenReturn(homeData);
 
             // when
-            controller.index(null, model);
+            controller.index(null, model, request());
 
             // then
             verify(model).addAttribute("home", homeData);
@@ -99,7 +114,7 @@ class PublicHomeControllerTest {
                             .build());
 
             // when
-            controller.index("서울", model);
+            controller.index("서울", model, request());
 
             // then
             verify(subscriptionSearchService).getHomeData("서울");
@@ -122,7 +137,7 @@ class PublicHomeControllerTest {
             when(subscriptionAnalysisUseCase.analyze(1L)).thenReturn(analysis);
 
             // when
-            String viewName = controller.analysis(1L, model);
+            String viewName = controller.analysis(1L, model, request());
 
             // then
             assertThat(viewName).isEqualTo("home/analysis");
@@ -140,7 +155,7 @@ class PublicHomeControllerTest {
             when(subscriptionAnalysisUseCase.analyze(1L)).thenReturn(analysis);
 
             // when
-            controller.analysis(1L, model);
+            controller.analysis(1L, model, request());
 
             // then
             verify(model).addAttribute("analysis", analysis);
@@ -155,11 +170,89 @@ class PublicHomeControllerTest {
                     .thenThrow(new IllegalArgumentException("청약 정보를 찾을 수 없습니다"));
 
             // when & then
-            assertThatThrownBy(() -> controller.analysis(999L, model))
+            assertThatThrownBy(() -> controller.analysis(999L, model, request()))
                     .isInstanceOf(IllegalArgumentException.class);
         }
     }
 
+    @Nested
+    @DisplayName("조건부 응답 - ETag / 304")
+    class ConditionalGet {
+
+        @Test
+        @DisplayName("응답에 ETag와 공유 캐시용 Cache-Control을 붙인다")
+        void addsCacheHeaders() {
+            // given
+            when(publicCalendarService.getCalendarEvents(any(), any())).thenReturn(List.of());
+            ServletWebRequest request = request();
+
+            // when
+            ResponseEntity<List<PublicCalendarEventDto>> response = controller.getCalendarEvents(
+                    LocalDate.now(), LocalDate.now().plusMonths(1), request);
+
+            // then
+            assertThat(response.getStatusCode().value()).isEqualTo(200);
+            MockHttpServletResponse servletResponse = (MockHttpServletResponse) request.getResponse();
+            assertThat(servletResponse.getHeader(HttpHeaders.ETAG)).contains("v1");
+            assertThat(servletResponse.getHeader(HttpHeaders.CACHE_CONTROL)).contains("stale-while-revalidate");
+        }
+
+        @Test
+        @DisplayName("같은 ETag로 다시 요청하면 조회 없이 304로 끝낸다")
+        void returnsNotModifiedForSameEtag() {
+            // given
+            ServletWebRequest first = request();
+            when(subscriptionSearchService.getHomeData(null)).thenReturn(HomePageResult.builder()
+                    .activeSubscriptions(List.of())
+                    .upcomingSubscriptions(List.of())
+                    .areas(List.of())
+                    .build());
+            controller.index(null, model, first);
+            String etag = ((MockHttpServletResponse) first.getResponse()).getHeader(HttpHeaders.ETAG);
+
+            MockHttpServletRequest conditional = new MockHttpServletRequest("GET", "/home");
+            conditional.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            String viewName = controller.index(null, model, new ServletWebRequest(conditional, response));
+
+            // then
+            assertThat(viewName).isNull();
+            assertThat(response.getStatus()).isEqualTo(304);
+            verify(subscriptionSearchService, times(1)).getHomeData(null);
+        }
+
+        @Test
+        @DisplayName("데이터 버전이 바뀌면 새 응답을 만든다")
+        void rendersAgainAfterVersionChange() {
+            // given
+            when(subscriptionAnalysisUseCase.analyze(1L)).thenReturn(SubscriptionAnalysisResult.builder()
+                    .subscription(createSubscription(1L, "테스트 아파트", LocalDate.now(), LocalDate.now().plusDays(5)))
+                    .prices(List.of())
+                    .build());
+            ServletWebRequest first = request();
+            controller.analysis(1L, model, first);
+            String etag = ((MockHttpServletResponse) first.getResponse()).getHeader(HttpHeaders.ETAG);
+            when(publicDataVersion.tag()).thenReturn("v2");
+
+            MockHttpServletRequest conditional = new MockHttpServletRequest("GET", "/home/analysis/1");
+            conditional.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+
+            // when
+            String viewName = controller.analysis(1L, model,
+                    new ServletWebRequest(conditional, new MockHttpServletResponse()));
+
+            // then
+            assertThat(viewName).isEqualTo("home/analysis");
+            verify(subscriptionAnalysisUseCase, times(2)).analyze(1L);
+        }
+    }
+
+    private ServletWebRequest request() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/home"), new MockHttpServletResponse());
+    }
+
     private Subscription createSubscription(Long id, String name, LocalDate startDate, LocalDate endDate) {
         return Subscription.builder()
                 .id(id)
@@ -0,0 +1,166 @@
+package com.yunbok.houseping.controller.web;
+
+import com.yunbok.houseping.core.domain.Subscription;
+import com.yunbok.houseping.core.service.subscription.SubscriptionReadModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SitemapRenderer - 사이트맵 생성")
+@ExtendWith(MockitoExtension.class)
+class SitemapRendererTest {
+
+    @Mock
+    private SubscriptionReadModel subscriptionReadModel;
+
+    private void givenSnapshot(long version, List<Subscription> subscriptions) {
+        when(subscriptionReadModel.version()).thenReturn(version);
+        when(subscriptionReadModel.findAll()).thenReturn(subscriptions);
+        when(subscriptionReadModel.loadedAt()).thenReturn(LocalDateTime.now());
+    }
+
+    @Nested
+    @DisplayName("문서 구성")
+    class Layout {
+
+        @Test
+        @DisplayName("한도 이하면 단일 urlset에 분석 페이지를 포함한다")
+        void rendersSingleUrlSet() {
+            // given
+            givenSnapshot(1L, List.of(create(1L, LocalDate.of(2025, 5, 1)), create(2L, null)));
+            SitemapRenderer renderer = new SitemapRenderer(subscriptionReadModel);
+
+            // when
+            String xml = text(renderer.find(SitemapRenderer.INDEX).orElseThrow().body());
+
+            // then
+            assertThat(xml).contains("<urlset")
+                    .contains("<loc>https://house-ping.com/home/analysis/1</loc>")
+                    .contains("<lastmod>2025-05-01</lastmod>")
+                    .contains("<loc>https://house-ping.com/home/analysis/2</loc>");
+            assertThat(renderer.find(SitemapRenderer.PAGES)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("한도를 넘으면 인덱스와 연도별 사이트맵으로 나눈다")
+        void splitsIntoIndexAndYears() {
+            // given
+            givenSnapshot(1L, List.of(create(1L, LocalDate.of(2024, 3, 1)), create(2L, LocalDate.of(2025, 5, 1))));
+            SitemapRenderer renderer = new SitemapRenderer(subscriptionReadModel, 1);
+
+            // when
+            String index = text(renderer.find(SitemapRenderer.INDEX).orElseThrow().body());
+            String year2024 = text(renderer.find("2024").orElseThrow().body());
+
+            // then
+            assertThat(index).contains("<sitemapindex")
+                    .contains("<loc>https://house-ping.com/sitemap-pages.xml</loc>")
+                    .contains("<loc>https://house-ping.com/sitemap-2025.xml</loc>")
+                    .contains("<loc>https://house-ping.com/sitemap-2024.xml</loc>");
+            assertThat(year2024).contains("/home/analysis/1").doesNotContain("/home/analysis/2");
+            assertThat(text(renderer.find(SitemapRenderer.PAGES).orElseThrow().body())).contains("/home/guide");
+        }
+
+        @Test
+        @DisplayName("gzip 본문은 원문과 같은 내용이다")
+        void gzipMatchesPlain() throws IOException {
+            // given
+            givenSnapshot(1L, List.of(create(1L, LocalDate.of(2025, 5, 1))));
+            SitemapRenderer renderer = new SitemapRenderer(subscriptionReadModel);
+
+            // when
+            SitemapRenderer.Document document = renderer.find(SitemapRenderer.INDEX).orElseThrow();
+
+            // then
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(document.gzipBody()))) {
+                assertThat(in.readAllBytes()).isEqualTo(document.body());
+            }
+            assertThat(document.gzipEtag()).isNotEqualTo(document.etag());
+        }
+
+        @Test
+        @DisplayName("스냅샷 적재 시각을 시스템 시간대로 해석해 Last-Modified로 쓴다")
+        void usesLoadedAtInSystemZone() {
+            // given
+            LocalDateTime loadedAt = LocalDateTime.now();
+            when(subscriptionReadModel.version()).thenReturn(1L);
+            when(subscriptionReadModel.findAll()).thenReturn(List.of());
+            when(subscriptionReadModel.loadedAt()).thenReturn(loadedAt);
+            SitemapRenderer renderer = new SitemapRenderer(subscriptionReadModel);
+
+            // when
+            SitemapRenderer.Document document = renderer.find(SitemapRenderer.INDEX).orElseThrow();
+
+            // then
+            assertThat(document.lastModified()).isEqualTo(loadedAt.atZone(ZoneId.systemDefault()).toInstant());
+        }
+    }
+
+    @Nested
+    @DisplayName("캐시")
+    class Caching {
+
+        @Test
+        @DisplayName("스냅샷 버전이 같으면 다시 만들지 않는다")
+        void reusesWhileVersionUnchanged() {
+            // given
+            givenSnapshot(1L, List.of(create(1L, LocalDate.of(2025, 5, 1))));
+            SitemapRenderer renderer = new SitemapRenderer(subscriptionReadModel);
+
+            // when
+            SitemapRenderer.Document first = renderer.find(SitemapRenderer.INDEX).orElseThrow();
+            SitemapRenderer.Document second = renderer.find(SitemapRenderer.INDEX).orElseThrow();
+
+            // then
+            assertThat(second).isSameAs(first);
+            verify(subscriptionReadModel, times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("스냅샷 버전이 바뀌면 새 ETag로 다시 만든다")
+        void rerendersOnNewVersion() {
+            // given
+            when(subscriptionReadModel.version()).thenReturn(1L).thenReturn(2L);
+            when(subscriptionReadModel.findAll()).thenReturn(List.of(create(1L, LocalDate.of(2025, 5, 1))));
+            when(subscriptionReadModel.loadedAt()).thenReturn(LocalDateTime.now());
+            SitemapRenderer renderer = new SitemapRenderer(subscriptionReadModel);
+
+            // when
+            SitemapRenderer.Document first = renderer.find(SitemapRenderer.INDEX).orElseThrow();
+            SitemapRenderer.Document second = renderer.find(SitemapRenderer.INDEX).orElseThrow();
+
+            // then
+            assertThat(second.etag()).isNotEqualTo(first.etag());
+            verify(subscriptionReadModel, times(2)).findAll();
+        }
+    }
+
+    private String text(byte[] body) {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    private Subscription create(Long id, LocalDate receiptStart) {
+        return Subscription.builder()
+                .id(id)
+                .area("서울")
+                .houseName("아파트" + id)
+                .receiptStartDate(receiptStart)
+                .source("ApplyHome")
+                .build();
+    }
+}